@@ -0,0 +1,53 @@
+package com.linked.classbridge.service;
+
+import java.util.Collection;
+import java.util.List;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * 호출 한 번에 실행한 SQL 수를 JMH 보조 지표({@code ·queries.norm})로 기록하는 프로파일러
+ * <p>
+ * 벤치마크가 준비 단계에서 {@link #register(Statistics)}로 Hibernate 통계를 넘기면, iteration 마다 준비된 statement 수의 차이를
+ * 측정한 호출 수로 나눈다. 통계를 넘기지 않은 벤치마크에서는 아무것도 기록하지 않는다.
+ */
+public class QueryCountProfiler implements InternalProfiler {
+
+    private static volatile Statistics statistics;
+
+    private long before = -1;
+
+    public static void register(Statistics hibernateStatistics) {
+        statistics = hibernateStatistics;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Hibernate prepared statements per operation";
+    }
+
+    // 첫 iteration 은 준비 단계(데이터 생성)보다 먼저 호출되므로 통계가 없으면 건너뜀
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        Statistics current = statistics;
+        before = current != null ? current.getPrepareStatementCount() : -1;
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+                                                       IterationParams iterationParams, IterationResult result) {
+        Statistics current = statistics;
+        long operations = result.getMetadata().getMeasuredOps();
+        if (current == null || before < 0 || operations == 0) {
+            return List.of();
+        }
+        double queries = (double) (current.getPrepareStatementCount() - before) / operations;
+        return List.of(new ScalarResult("queries.norm", queries, "queries/op", AggregationPolicy.AVG));
+    }
+}
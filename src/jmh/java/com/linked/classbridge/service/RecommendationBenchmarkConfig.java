@@ -0,0 +1,86 @@
+package com.linked.classbridge.service;
+
+import com.linked.classbridge.config.ClassLeaderboardProperties;
+import com.linked.classbridge.config.JpaAuditingConfiguration;
+import com.linked.classbridge.config.RecommendationProperties;
+import com.linked.classbridge.config.RecommendationSegmentProperties;
+import com.linked.classbridge.config.SimilarClassProperties;
+import com.linked.classbridge.config.WishCacheProperties;
+import com.linked.classbridge.domain.User;
+import com.linked.classbridge.repository.CategoryRepository;
+import com.linked.classbridge.repository.ClassImageRepository;
+import com.linked.classbridge.repository.ClassTagRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.repository.RelatedClassRepository;
+import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassFeatureStore;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.recommendation.RecommendationSegmentCache;
+import com.linked.classbridge.service.recommendation.RelatedClassStore;
+import com.linked.classbridge.service.recommendation.SimilarClassIndex;
+import com.linked.classbridge.service.wish.UserWishCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 추천 벤치마크용 최소 애플리케이션 컨텍스트
+ * <p>
+ * 전체 애플리케이션은 MySQL, MongoDB, Kafka, OpenSearch 가 필요하므로 추천 경로에 필요한 빈과 JPA 저장소만 H2(MySQL 모드) 위에
+ * 올린다. 실행한 SQL 수를 세기 위해 Hibernate 통계를 켠다.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class})
+@EntityScan(basePackageClasses = User.class)
+@EnableJpaRepositories(basePackageClasses = UserRepository.class, includeFilters = @Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = {UserRepository.class, OneDayClassRepository.class,
+        CategoryRepository.class, ClassImageRepository.class, ClassTagRepository.class, WishRepository.class,
+        RelatedClassRepository.class}))
+@EnableConfigurationProperties
+@Import({JpaAuditingConfiguration.class, RecommendationProperties.class, RecommendationSegmentProperties.class,
+        ClassLeaderboardProperties.class, SimilarClassProperties.class, WishCacheProperties.class,
+        RecommendationService.class, ClassFeatureStore.class, RecommendationSegmentCache.class,
+        ClassLeaderboard.class, RelatedClassStore.class, SimilarClassIndex.class, ClassDtoHydrator.class,
+        UserWishCache.class})
+public class RecommendationBenchmarkConfig {
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    // application-local.yml 은 local 프로필에서만 읽으므로 여기서 준 설정만 사용됨, SQL 로그는 측정에 영향을 주므로 끔
+    public static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(RecommendationBenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:recommendation;MODE=MySQL;DB_CLOSE_DELAY=-1;"
+                                + "NON_KEYWORDS=USER",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,133 @@
+package com.linked.classbridge.service;
+
+import com.linked.classbridge.config.ClassLeaderboardProperties;
+import com.linked.classbridge.config.RecommendationSegmentProperties;
+import com.linked.classbridge.dto.oneDayClass.ClassDto;
+import com.linked.classbridge.service.SyntheticRecommendationData.SyntheticUser;
+import com.linked.classbridge.service.recommendation.ClassFeatureStore;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.recommendation.RecommendationSegmentCache;
+import com.linked.classbridge.util.AgeUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 추천({@link RecommendationService#recommendClassesForUser}) 지연 시간, 할당량, 쿼리 수 측정
+ * <p>
+ * {@link SyntheticRecommendationData}로 만든 사용자/클래스를 H2 에 넣고 두 가지 경로를 잰다.
+ * <ul>
+ *     <li>endToEnd: 사용자 조회부터 응답 DTO 를 채우기까지 전체 경로. 운영처럼 엔티티 지연 로딩이 되도록 읽기 전용 트랜잭션 안에서 호출한다.</li>
+ *     <li>inMemoryScoring: DB 를 거치지 않는 순위 계산만 (세그먼트 캐시 또는 점수 계산, 프로필이 빈 사용자는 순위표).</li>
+ * </ul>
+ * 사용자를 돌아가며 호출하므로 세그먼트 캐시와 찜 캐시는 측정 중 대부분 채워진 상태다. 지연 시간은 SampleTime 분포(p50, p99),
+ * 할당량은 gc 프로파일러의 {@code ·gc.alloc.rate.norm}, 쿼리 수는 {@link QueryCountProfiler}의 {@code ·queries.norm}으로 결과
+ * JSON 에 함께 기록된다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=RecommendationServiceBenchmark -Pjmh.resultsFile=build/results/jmh/recommendation.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DUSER_HOME=build/tmp/jmh")
+public class RecommendationServiceBenchmark {
+
+    private static final long SEED = 42L;
+
+    @Param({"2000"})
+    private int userCount;
+
+    @Param({"1000", "10000"})
+    private int classCount;
+
+    @Param({"true", "false"})
+    private boolean segmentCache;
+
+    private ConfigurableApplicationContext context;
+    private RecommendationService recommendationService;
+    private RecommendationSegmentCache recommendationSegmentCache;
+    private ClassLeaderboard classLeaderboard;
+    private int leaderboardTopN;
+    private TransactionTemplate readOnlyTransaction;
+    private List<SyntheticUser> users;
+    private int[] userAges;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        context = RecommendationBenchmarkConfig.start();
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        users = new ArrayList<>(new SyntheticRecommendationData(entityManager,
+                new TransactionTemplate(transactionManager), SEED).generate(userCount, classCount));
+        Collections.shuffle(users, new Random(SEED));
+        userAges = users.stream().mapToInt(user -> AgeUtil.calculateAge(user.birthDate())).toArray();
+
+        // 시작 시점에는 데이터가 없었으므로 메모리 저장소를 다시 읽음
+        context.getBean(ClassFeatureStore.class).rebuild();
+        context.getBean(RecommendationSegmentProperties.class).setEnabled(segmentCache);
+        recommendationService = context.getBean(RecommendationService.class);
+        recommendationSegmentCache = context.getBean(RecommendationSegmentCache.class);
+        recommendationSegmentCache.evictAll();
+        classLeaderboard = context.getBean(ClassLeaderboard.class);
+        classLeaderboard.rebuild();
+        leaderboardTopN = context.getBean(ClassLeaderboardProperties.class).getTopN();
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        QueryCountProfiler.register(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+
+    @TearDown
+    public void tearDown() {
+        QueryCountProfiler.register(null);
+        context.close();
+    }
+
+    @Benchmark
+    public List<ClassDto> endToEnd() {
+        SyntheticUser user = users.get(nextUser());
+        return readOnlyTransaction.execute(status -> recommendationService.recommendClassesForUser(user.email()));
+    }
+
+    @Benchmark
+    public List<Long> inMemoryScoring() {
+        int index = nextUser();
+        SyntheticUser user = users.get(index);
+        if (user.gender() == null) {
+            return classLeaderboard.topClassIds(leaderboardTopN);
+        }
+        return recommendationSegmentCache.topClassIds(userAges[index], user.gender(), user.interestCategoryIds());
+    }
+
+    private int nextUser() {
+        next = next + 1 < users.size() ? next + 1 : 0;
+        return next;
+    }
+}
@@ -0,0 +1,231 @@
+package com.linked.classbridge.service;
+
+import com.linked.classbridge.domain.Category;
+import com.linked.classbridge.domain.ClassImage;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.domain.User;
+import com.linked.classbridge.domain.Wish;
+import com.linked.classbridge.type.AuthType;
+import com.linked.classbridge.type.CategoryType;
+import com.linked.classbridge.type.Gender;
+import com.linked.classbridge.type.UserRole;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 추천 벤치마크용 가상 사용자/클래스 데이터
+ * <p>
+ * 실제 서비스와 비슷하게 카테고리 인기도는 치우치고(요리 30% ~ 원예 10%), 사용자 나이는 20대 후반과 40대 초반 두 봉우리, 여성 비율은
+ * 62% 다. 사용자 5% 는 성별과 관심 카테고리가 없어 기본 추천(순위표)을 받는다. 같은 seed 면 같은 데이터를 만든다.
+ */
+public class SyntheticRecommendationData {
+
+    private static final CategoryType[] CATEGORIES = CategoryType.values();
+    private static final double[] CATEGORY_WEIGHTS = {0.30, 0.25, 0.20, 0.15, 0.10};
+    // 카테고리별 수강생 평균 나이, 여성 비율
+    private static final double[] CATEGORY_AGES = {34, 31, 29, 38, 47};
+    private static final double[] CATEGORY_FEMALE_RATIOS = {0.70, 0.75, 0.45, 0.65, 0.60};
+    private static final double FEMALE_RATIO = 0.62;
+    private static final double INCOMPLETE_PROFILE_RATIO = 0.05;
+    private static final int TUTOR_COUNT = 50;
+    private static final int MAX_WISHES = 5;
+    private static final int FLUSH_SIZE = 500;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Random random;
+
+    public SyntheticRecommendationData(EntityManager entityManager, TransactionTemplate transactionTemplate,
+                                       long seed) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @return 만든 사용자 (tutor 제외)
+     */
+    public List<SyntheticUser> generate(int userCount, int classCount) {
+        List<Long> categoryIds = transactionTemplate.execute(status -> insertCategories());
+        List<Long> tutorIds = transactionTemplate.execute(status -> insertTutors());
+        List<Long> classIds = transactionTemplate.execute(status -> insertClasses(classCount, categoryIds, tutorIds));
+        return transactionTemplate.execute(status -> insertUsers(userCount, categoryIds, classIds));
+    }
+
+    private List<Long> insertCategories() {
+        List<Long> categoryIds = new ArrayList<>();
+        for (CategoryType name : CATEGORIES) {
+            Category category = Category.builder().name(name).build();
+            entityManager.persist(category);
+            categoryIds.add(category.getCategoryId());
+        }
+        return categoryIds;
+    }
+
+    private List<Long> insertTutors() {
+        List<Long> tutorIds = new ArrayList<>();
+        for (int i = 0; i < TUTOR_COUNT; i++) {
+            User tutor = user("tutor" + i, UserRole.ROLE_TUTOR, randomGender(), birthDate(35 + random.nextInt(20)),
+                    List.of());
+            entityManager.persist(tutor);
+            tutorIds.add(tutor.getUserId());
+        }
+        return tutorIds;
+    }
+
+    private List<Long> insertClasses(int classCount, List<Long> categoryIds, List<Long> tutorIds) {
+        List<Long> classIds = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            int category = randomCategory();
+            OneDayClass oneDayClass = oneDayClass(i, category);
+            oneDayClass.setCategory(entityManager.getReference(Category.class, categoryIds.get(category)));
+            oneDayClass.setTutor(entityManager.getReference(User.class, tutorIds.get(random.nextInt(tutorIds.size()))));
+            entityManager.persist(oneDayClass);
+            entityManager.persist(ClassImage.builder()
+                    .name("class" + i + ".jpg")
+                    .url("https://images.example.com/class" + i + ".jpg")
+                    .sequence(1)
+                    .oneDayClass(oneDayClass)
+                    .build());
+            classIds.add(oneDayClass.getClassId());
+            flushIfNeeded(i);
+        }
+        return classIds;
+    }
+
+    private List<SyntheticUser> insertUsers(int userCount, List<Long> categoryIds, List<Long> classIds) {
+        List<SyntheticUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            boolean complete = random.nextDouble() >= INCOMPLETE_PROFILE_RATIO;
+            Gender gender = complete ? randomGender() : null;
+            List<Long> interests = complete ? randomInterests(categoryIds) : List.of();
+            String birthDate = birthDate(randomUserAge());
+            User user = user("user" + i, UserRole.ROLE_USER, gender, birthDate,
+                    interests.stream().map(id -> entityManager.getReference(Category.class, id)).toList());
+            entityManager.persist(user);
+
+            for (int w = random.nextInt(MAX_WISHES + 1); w > 0; w--) {
+                entityManager.persist(Wish.builder()
+                        .user(user)
+                        .oneDayClass(entityManager.getReference(OneDayClass.class,
+                                classIds.get(random.nextInt(classIds.size()))))
+                        .build());
+            }
+            users.add(new SyntheticUser(user.getEmail(), birthDate, gender, interests));
+            flushIfNeeded(i);
+        }
+        return users;
+    }
+
+    private OneDayClass oneDayClass(int index, int category) {
+        OneDayClass oneDayClass = OneDayClass.builder()
+                .className(CATEGORIES[category].name().toLowerCase() + " class " + index)
+                .address1("서울특별시")
+                .address2("마포구")
+                .address3("월드컵로 " + index)
+                .latitude(37.55 + random.nextDouble() / 10)
+                .longitude(126.90 + random.nextDouble() / 10)
+                .duration(60 + 30 * random.nextInt(4))
+                .price(10_000 * (2 + random.nextInt(9)))
+                .personal(4 + random.nextInt(12))
+                .introduction("synthetic class " + index)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusMonths(3))
+                .totalStarRate(0.0)
+                .totalReviews(0)
+                .totalWish(0)
+                .build();
+
+        // 10% 는 아직 수강생이 없는 새 클래스
+        if (random.nextInt(10) == 0) {
+            return oneDayClass;
+        }
+        long studentCount = 1 + (long) Math.abs(random.nextGaussian() * 20);
+        long femaleCount = Math.round(studentCount * clamp(CATEGORY_FEMALE_RATIOS[category]
+                + random.nextGaussian() * 0.15, 0, 1));
+        double averageAge = Math.round(clamp(CATEGORY_AGES[category] + random.nextGaussian() * 6, 15, 70) * 100)
+                / 100.0;
+        int totalReviews = random.nextInt((int) studentCount + 1);
+
+        oneDayClass.setStudentCount(studentCount);
+        oneDayClass.setFemaleCount(femaleCount);
+        oneDayClass.setMaleCount(studentCount - femaleCount);
+        oneDayClass.setAverageAge(averageAge);
+        oneDayClass.setTotalAge(averageAge * studentCount);
+        oneDayClass.setTotalReviews(totalReviews);
+        oneDayClass.setTotalStarRate(totalReviews * clamp(4.2 + random.nextGaussian() * 0.5, 1, 5));
+        oneDayClass.setTotalWish(random.nextInt((int) studentCount * 2 + 1));
+        return oneDayClass;
+    }
+
+    private User user(String name, UserRole role, Gender gender, String birthDate, List<Category> interests) {
+        int number = random.nextInt(100_000_000);
+        return User.builder()
+                .email(name + "@example.com")
+                .authType(AuthType.EMAIL)
+                .username(name)
+                .nickname(name)
+                .gender(gender)
+                .birthDate(birthDate)
+                .phone(String.format("010-%04d-%04d", number / 10_000, number % 10_000))
+                .interests(new ArrayList<>(interests))
+                .roles(List.of(role))
+                .build();
+    }
+
+    // 20대 후반(60%)과 40대 초반(40%) 두 봉우리
+    private int randomUserAge() {
+        double age = random.nextDouble() < 0.6 ? 27 + random.nextGaussian() * 4 : 42 + random.nextGaussian() * 7;
+        return (int) clamp(age, 16, 70);
+    }
+
+    private Gender randomGender() {
+        return random.nextDouble() < FEMALE_RATIO ? Gender.FEMALE : Gender.MALE;
+    }
+
+    private int randomCategory() {
+        double value = random.nextDouble();
+        for (int i = 0; i < CATEGORY_WEIGHTS.length - 1; i++) {
+            value -= CATEGORY_WEIGHTS[i];
+            if (value < 0) {
+                return i;
+            }
+        }
+        return CATEGORY_WEIGHTS.length - 1;
+    }
+
+    private List<Long> randomInterests(List<Long> categoryIds) {
+        Set<Long> interests = new LinkedHashSet<>();
+        for (int count = 1 + random.nextInt(3); count > 0; count--) {
+            interests.add(categoryIds.get(randomCategory()));
+        }
+        return List.copyOf(interests);
+    }
+
+    private String birthDate(int age) {
+        return LocalDate.now().minusYears(age).minusDays(1 + random.nextInt(364)).toString();
+    }
+
+    private void flushIfNeeded(int index) {
+        if ((index + 1) % FLUSH_SIZE == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * @param gender 프로필이 비어 있는 사용자는 null (관심 카테고리도 없음)
+     */
+    public record SyntheticUser(String email, String birthDate, Gender gender, List<Long> interestCategoryIds) {
+    }
+}
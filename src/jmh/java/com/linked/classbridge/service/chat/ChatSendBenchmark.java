@@ -0,0 +1,115 @@
+package com.linked.classbridge.service.chat;
+
+import com.linked.classbridge.config.ChatWriteBehindProperties;
+import com.linked.classbridge.domain.ChatRoom;
+import com.linked.classbridge.domain.User;
+import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.service.QueryCountProfiler;
+import com.linked.classbridge.type.AuthType;
+import com.linked.classbridge.type.UserRole;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.SessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 채팅 메시지 전송부터 전달까지 걸리는 시간({@link ChatService#sendMessageProcess}) 측정
+ * <p>
+ * 4 개 스레드가 64 개 채팅방에 돌아가며 메시지를 보낸다. 전달(broadcast)은 전송 요청 안에서 끝나므로 호출 시간이 곧 전송부터 전달까지의
+ * 시간이다.
+ * <ul>
+ *     <li>writeBehind=false: 이전 방식, 메시지 저장과 채팅방 요약 갱신을 마친 뒤 전달</li>
+ *     <li>writeBehind=true: 대기열에 넣고 바로 전달, 저장은 {@link ChatMessageWriteBehind}가 모아서 처리</li>
+ * </ul>
+ * MongoDB 는 호출마다 mongoLatencyMicros 만큼 기다리는 저장소로 대신한다. p99 는 SampleTime 분포의 {@code p0.99}, 전송 요청
+ * 스레드가 실행한 SQL 수는 {@code ·queries.norm}으로 결과 JSON 에 기록된다 (지연 저장 스레드의 SQL 도 함께 세어짐).
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=ChatSendBenchmark -Pjmh.resultsFile=build/results/jmh/chat-send.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-DUSER_HOME=build/tmp/jmh")
+public class ChatSendBenchmark {
+
+    private static final int CHAT_ROOMS = 64;
+    private static final String MESSAGE = "안녕하세요, 이번 주 토요일 오후 2시 클래스 예약 가능한가요?";
+
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    @Param({"1000"})
+    private long mongoLatencyMicros;
+
+    private ConfigurableApplicationContext context;
+    private ChatService chatService;
+    private Long[] chatRoomIds;
+    private Long[][] memberIds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = ChatSendBenchmarkConfig.start(mongoLatencyMicros);
+        context.getBean(ChatWriteBehindProperties.class).setEnabled(writeBehind);
+        chatService = context.getBean(ChatService.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        ChatRoomService chatRoomService = context.getBean(ChatRoomService.class);
+        chatRoomIds = new Long[CHAT_ROOMS];
+        memberIds = new Long[CHAT_ROOMS][];
+        for (int i = 0; i < CHAT_ROOMS; i++) {
+            User student = userRepository.save(user("student" + i, UserRole.ROLE_USER));
+            User tutor = userRepository.save(user("tutor" + i, UserRole.ROLE_TUTOR));
+            ChatRoom chatRoom = chatRoomService.createNewChatRoom(student, tutor);
+            chatRoomIds[i] = chatRoom.getChatRoomId();
+            memberIds[i] = new Long[]{student.getUserId(), tutor.getUserId()};
+        }
+
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        QueryCountProfiler.register(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+
+    @TearDown
+    public void tearDown() {
+        QueryCountProfiler.register(null);
+        context.close();
+    }
+
+    @Benchmark
+    public void sendMessage() {
+        int index = next.getAndIncrement() & Integer.MAX_VALUE;
+        int chatRoom = index % CHAT_ROOMS;
+        chatService.sendMessageProcess(memberIds[chatRoom][(index / CHAT_ROOMS) % 2], chatRoomIds[chatRoom],
+                MESSAGE);
+    }
+
+    private static User user(String name, UserRole role) {
+        return User.builder()
+                .email(name + "@example.com")
+                .authType(AuthType.EMAIL)
+                .username(name)
+                .nickname(name)
+                .phone("010-0000-0000")
+                .roles(List.of(role))
+                .build();
+    }
+}
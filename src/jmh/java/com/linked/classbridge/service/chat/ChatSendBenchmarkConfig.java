@@ -0,0 +1,125 @@
+package com.linked.classbridge.service.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linked.classbridge.config.ChatHistoryProperties;
+import com.linked.classbridge.config.ChatPresenceProperties;
+import com.linked.classbridge.config.ChatWriteBehindProperties;
+import com.linked.classbridge.config.JpaAuditingConfiguration;
+import com.linked.classbridge.domain.User;
+import com.linked.classbridge.repository.ChatMessageRepository;
+import com.linked.classbridge.repository.ChatRoomRepository;
+import com.linked.classbridge.repository.UserChatRoomRepository;
+import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.service.UserService;
+import com.linked.classbridge.service.chat.broadcast.LocalChatBroadcaster;
+import com.linked.classbridge.service.chat.presence.ChatPresenceRegistry;
+import com.linked.classbridge.service.chat.presence.LocalChatPresenceStore;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.StreamSupport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 채팅 메시지 전송 벤치마크용 최소 애플리케이션 컨텍스트
+ * <p>
+ * 사용자와 채팅방은 H2(MySQL 모드)에 두고, MongoDB 대신 메시지 저장 호출마다 정해진 시간(mongo-latency-micros)만큼 기다리는
+ * 저장소를 쓴다. STOMP 브로커 대신 메시지를 JSON 으로 직렬화만 하고 버리는 채널에 전달한다.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+        TransactionAutoConfiguration.class, JacksonAutoConfiguration.class})
+@EntityScan(basePackageClasses = User.class)
+@EnableJpaRepositories(basePackageClasses = UserRepository.class, includeFilters = @Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = {UserRepository.class, ChatRoomRepository.class,
+        UserChatRoomRepository.class}))
+@EnableConfigurationProperties
+@Import({JpaAuditingConfiguration.class, ChatHistoryProperties.class, ChatPresenceProperties.class,
+        ChatWriteBehindProperties.class, ChatService.class, ChatRoomService.class, ChatMessageService.class,
+        UserChatRoomService.class, MessageSendingService.class, ChatMessageWriteBehind.class,
+        ChatMessageBatchWriter.class, ChatPresenceRegistry.class, LocalChatPresenceStore.class,
+        LocalChatBroadcaster.class})
+public class ChatSendBenchmarkConfig {
+
+    // 전송 경로는 이메일로 사용자를 찾는 것만 사용
+    @Bean
+    public UserService userService(UserRepository userRepository) {
+        return new UserService(userRepository, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Bean
+    public SimpMessagingTemplate simpMessagingTemplate(ObjectMapper objectMapper) {
+        MappingJackson2MessageConverter messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.setObjectMapper(objectMapper);
+        SimpMessagingTemplate simpMessagingTemplate = new SimpMessagingTemplate((message, timeout) -> true);
+        simpMessagingTemplate.setMessageConverter(messageConverter);
+        return simpMessagingTemplate;
+    }
+
+    // 저장(insert, save)과 조회(count, find)마다 MongoDB 왕복 시간만큼 기다림
+    @Bean
+    public ChatMessageRepository chatMessageRepository(@Value("${benchmark.mongo-latency-micros}") long latencyMicros) {
+        long latencyNanos = TimeUnit.MICROSECONDS.toNanos(latencyMicros);
+        return (ChatMessageRepository) Proxy.newProxyInstance(ChatMessageRepository.class.getClassLoader(),
+                new Class<?>[]{ChatMessageRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "toString":
+                            return "SimulatedLatencyChatMessageRepository";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            break;
+                    }
+                    LockSupport.parkNanos(latencyNanos);
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == long.class) {
+                        return 0L;
+                    }
+                    if (List.class.isAssignableFrom(returnType)) {
+                        return args != null && args.length == 1 && args[0] instanceof Iterable<?> iterable
+                                ? StreamSupport.stream(iterable.spliterator(), false).toList()
+                                : List.of();
+                    }
+                    return args != null && args.length == 1 ? args[0] : null;
+                });
+    }
+
+    // application-local.yml 은 local 프로필에서만 읽으므로 여기서 준 설정만 사용됨, SQL 로그는 측정에 영향을 주므로 끔
+    public static ConfigurableApplicationContext start(long mongoLatencyMicros) {
+        return new SpringApplicationBuilder(ChatSendBenchmarkConfig.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:chat;MODE=MySQL;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.open-in-view=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "benchmark.mongo-latency-micros=" + mongoLatencyMicros,
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+    }
+}
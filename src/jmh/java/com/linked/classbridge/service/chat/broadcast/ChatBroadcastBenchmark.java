@@ -0,0 +1,120 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+import com.linked.classbridge.dto.chat.ChatMessageDto;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+/**
+ * 두 서버(노드) 사이 채팅 이벤트 전달 처리량 측정
+ * <p>
+ * 내장 Kafka 브로커 하나와 같은 JVM 안의 노드 두 개를 띄운다. 노드 A 가 여러 채팅방에 새 메시지 이벤트를 {@link #BATCH}개 발행하고, 두
+ * 노드 모두 자기 구독자에게 전부 전달할 때까지 기다린다. 결과는 초당 발행 후 양쪽 전달까지 끝난 이벤트 수다.
+ * <ul>
+ *     <li>roomCount: 이벤트를 나눠 보낼 채팅방 수, 1 이면 모든 이벤트가 한 파티션에 쌓인다.</li>
+ *     <li>concurrency: 노드마다 토픽을 소비하는 스레드 수</li>
+ * </ul>
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=ChatBroadcastBenchmark -Pjmh.resultsFile=build/results/jmh/chat-broadcast.json
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-DUSER_HOME=build/tmp/jmh")
+public class ChatBroadcastBenchmark {
+
+    private static final String TOPIC = "chat-broadcast-benchmark";
+    private static final int PARTITIONS = 12;
+    private static final int BATCH = 1000;
+    private static final long DELIVERY_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    @Param({"1", "64"})
+    private int roomCount;
+
+    @Param({"1", "4"})
+    private int concurrency;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private ChatBroadcaster publisher;
+    private AtomicLong deliveredToA;
+    private AtomicLong deliveredToB;
+    private ChatMessageDto[] messages;
+    private long published;
+
+    @Setup
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+
+        nodeA = ChatBroadcastNodeConfig.start(broker.getBrokersAsString(), TOPIC, PARTITIONS, concurrency);
+        nodeB = ChatBroadcastNodeConfig.start(broker.getBrokersAsString(), TOPIC, PARTITIONS, concurrency);
+        waitForAssignment(nodeA);
+        waitForAssignment(nodeB);
+
+        publisher = nodeA.getBean(ChatBroadcaster.class);
+        deliveredToA = nodeA.getBean("deliveredCount", AtomicLong.class);
+        deliveredToB = nodeB.getBean("deliveredCount", AtomicLong.class);
+
+        // 실제 채팅과 비슷한 길이의 메시지
+        messages = new ChatMessageDto[roomCount];
+        for (int room = 0; room < roomCount; room++) {
+            messages[room] = new ChatMessageDto("665f1c2e9b1e8a3d4c5b" + String.format("%04x", room), 1L,
+                    "안녕하세요, 이번 주 토요일 오후 2시 클래스 예약 가능한가요? 재료는 따로 준비해야 하나요?", false,
+                    LocalDateTime.of(2024, 1, 1, 0, 0).toString());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        nodeA.close();
+        nodeB.close();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long publishAndDeliverToBothNodes() {
+        for (int i = 0; i < BATCH; i++) {
+            int room = i % roomCount;
+            publisher.broadcast((long) room, "/chatRoom/" + room, messages[room]);
+        }
+        published += BATCH;
+
+        long deadline = System.nanoTime() + DELIVERY_TIMEOUT_NANOS;
+        while (deliveredToA.get() < published || deliveredToB.get() < published) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("chat events not delivered :: published=" + published
+                        + ", nodeA=" + deliveredToA.get() + ", nodeB=" + deliveredToB.get());
+            }
+            Thread.onSpinWait();
+        }
+        return published;
+    }
+
+    private static void waitForAssignment(ConfigurableApplicationContext node) {
+        node.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers()
+                .forEach(container -> ContainerTestUtils.waitForAssignment(container, PARTITIONS));
+    }
+}
@@ -0,0 +1,57 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+import com.linked.classbridge.config.ChatBroadcastKafkaConfig;
+import com.linked.classbridge.config.ChatBroadcastProperties;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 채팅 이벤트 전달 벤치마크용 서버(노드) 하나의 최소 컨텍스트
+ * <p>
+ * Kafka 발행/소비 빈만 올리고, STOMP 브로커 대신 전달된 메시지 수만 세는 채널을 {@link SimpMessagingTemplate}에 연결한다.
+ */
+@SpringBootConfiguration
+@ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+@EnableConfigurationProperties
+@Import({ChatBroadcastProperties.class, ChatBroadcastKafkaConfig.class, KafkaChatBroadcaster.class,
+        KafkaChatBroadcastListener.class})
+public class ChatBroadcastNodeConfig {
+
+    @Bean
+    public AtomicLong deliveredCount() {
+        return new AtomicLong();
+    }
+
+    @Bean
+    public SimpMessagingTemplate simpMessagingTemplate(AtomicLong deliveredCount) {
+        return new SimpMessagingTemplate((message, timeout) -> {
+            deliveredCount.incrementAndGet();
+            return true;
+        });
+    }
+
+    public static ConfigurableApplicationContext start(String bootstrapServers, String topic, int partitions,
+                                                       int concurrency) {
+        return new SpringApplicationBuilder(ChatBroadcastNodeConfig.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.kafka.bootstrap-servers=" + bootstrapServers,
+                        "chat.broadcast.type=kafka",
+                        "chat.broadcast.topic=" + topic,
+                        "chat.broadcast.partitions=" + partitions,
+                        "chat.broadcast.concurrency=" + concurrency,
+                        "logging.level.root=WARN")
+                .run();
+    }
+}
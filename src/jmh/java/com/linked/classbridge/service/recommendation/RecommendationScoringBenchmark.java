@@ -0,0 +1,143 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.dto.oneDayClass.ClassFeatureProjection;
+import com.linked.classbridge.type.Gender;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 추천 점수 계산 비교
+ * <p>
+ * legacySortAll 은 기존 구현(클래스마다 PearsonsCorrelation, HashMap 에 모은 뒤 전체 정렬)을 그대로 옮긴 것이고, heapTopK 와
+ * parallelTopK 는 {@link ClassFeatures}의 순차/병렬 경로다. 병렬 경로가 이득이 되는 클래스 수를 보고
+ * {@code recommendation.scoring.parallel-threshold}를 정한다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=RecommendationScoringBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendationScoringBenchmark {
+
+    private static final int LIMIT = 5;
+    private static final int USER_AGE = 27;
+    private static final Gender USER_GENDER = Gender.FEMALE;
+
+    @Param({"10000", "100000", "1000000"})
+    private int classCount;
+
+    @Param({"16384"})
+    private int minChunkSize;
+
+    private List<ClassFeatureProjection> rows;
+    private List<Long> userInterestsId;
+    private long[] interestCategoryIds;
+    private ClassFeatures features;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(classCount);
+        for (long classId = 1; classId <= classCount; classId++) {
+            boolean hasStudents = random.nextInt(10) > 0;
+            rows.add(row(classId,
+                    hasStudents ? 15.0 + random.nextInt(45) : null,
+                    hasStudents ? (long) random.nextInt(30) : null,
+                    hasStudents ? (long) random.nextInt(30) : null,
+                    1L + random.nextInt(10)));
+        }
+        userInterestsId = List.of(2L, 5L, 7L);
+        interestCategoryIds = new long[]{2L, 5L, 7L};
+        features = ClassFeatures.of(rows);
+    }
+
+    @Benchmark
+    public List<Long> legacySortAll() {
+        Map<Long, Double> correlationScores = new HashMap<>();
+
+        for (ClassFeatureProjection oneDayClass : rows) {
+            double classAge = oneDayClass.getAverageAge() != null ? oneDayClass.getAverageAge() : 20.0;
+            Long maleCount = oneDayClass.getMaleCount() != null ? oneDayClass.getMaleCount() : 0L;
+            Long femaleCount = oneDayClass.getFemaleCount() != null ? oneDayClass.getFemaleCount() : 0L;
+            Gender classGender = maleCount > femaleCount ? Gender.MALE : Gender.FEMALE;
+
+            double matchInterest = userInterestsId.stream()
+                    .anyMatch(id -> id != null && id.equals(oneDayClass.getCategoryId())) ? 1 : 0;
+            double[] userVector = {USER_AGE, USER_GENDER.ordinal(), matchInterest};
+            double[] classVector = {classAge, classGender.ordinal(), 1};
+
+            PearsonsCorrelation correlation = new PearsonsCorrelation();
+            correlationScores.put(oneDayClass.getClassId(), correlation.correlation(userVector, classVector));
+        }
+
+        return correlationScores.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
+                .limit(LIMIT)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Long> heapTopK() {
+        return features.topClassIds(USER_AGE, USER_GENDER, interestCategoryIds, LIMIT);
+    }
+
+    @Benchmark
+    public List<Long> parallelTopK() {
+        return features.topClassIds(USER_AGE, USER_GENDER, interestCategoryIds, LIMIT, ForkJoinPool.commonPool(),
+                minChunkSize);
+    }
+
+    private static ClassFeatureProjection row(Long classId, Double averageAge, Long maleCount, Long femaleCount,
+                                              Long categoryId) {
+        return new ClassFeatureProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public Double getAverageAge() {
+                return averageAge;
+            }
+
+            @Override
+            public Long getMaleCount() {
+                return maleCount;
+            }
+
+            @Override
+            public Long getFemaleCount() {
+                return femaleCount;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+        };
+    }
+}
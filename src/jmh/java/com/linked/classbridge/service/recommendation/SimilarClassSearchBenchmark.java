@@ -0,0 +1,144 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.util.HnswIndex;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 유사 클래스 조회: HNSW 근사 탐색과 전체 비교(brute force)의 지연 시간, 재현율 비교
+ * <p>
+ * 주제별 단어를 섞은 가상의 클래스 텍스트를 {@link ClassTextVectorizer}로 벡터로 바꿔 사용한다. 재현율(brute force top-k 중 HNSW 가 찾은
+ * 비율)은 JMH 가 측정하지 않으므로 준비 단계에서 계산해 출력한다. {@code efSearch}를 바꿔 가며 재현율과 지연 시간을 보고
+ * {@code recommendation.similar.ef-search}를 정한다.
+ * <pre>
+ * ./gradlew jmh -Pjmh.includes=SimilarClassSearchBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimilarClassSearchBenchmark {
+
+    private static final int K = 10;
+    private static final int DIMENSION = 256;
+    private static final int TOPICS = 50;
+    private static final int WORDS_PER_TOPIC = 40;
+    private static final int COMMON_WORDS = 2000;
+    private static final int QUERY_COUNT = 256;
+
+    @Param({"1000", "10000", "50000"})
+    private int classCount;
+
+    @Param({"50", "100"})
+    private int efSearch;
+
+    private float[][] vectors;
+    private HnswIndex index;
+    private float[][] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[][] topicWords = new String[TOPICS][WORDS_PER_TOPIC];
+        for (String[] words : topicWords) {
+            for (int i = 0; i < words.length; i++) {
+                words[i] = randomWord(random);
+            }
+        }
+
+        String[] commonWords = new String[COMMON_WORDS];
+        for (int i = 0; i < commonWords.length; i++) {
+            commonWords[i] = randomWord(random);
+        }
+
+        // 소개 글은 주제 단어와 모든 클래스가 공유하는 일반 단어를 반씩 섞어 주제 사이 경계를 흐리게 함
+        List<ClassText> texts = new ArrayList<>(classCount);
+        for (long classId = 1; classId <= classCount; classId++) {
+            String[] words = topicWords[random.nextInt(TOPICS)];
+            texts.add(new ClassText(classId, sentence(words, 3, random),
+                    sentence(words, 10, random) + sentence(commonWords, 10, random),
+                    List.of(words[random.nextInt(words.length)], words[random.nextInt(words.length)])));
+        }
+
+        ClassTextVectorizer vectorizer = new ClassTextVectorizer(DIMENSION);
+        texts.forEach(vectorizer::addDocument);
+        vectors = new float[classCount + 1][];
+        index = new HnswIndex(DIMENSION, 16, 100, 42L);
+        for (ClassText text : texts) {
+            vectors[(int) text.classId()] = vectorizer.vectorize(text);
+            index.add(text.classId(), vectors[(int) text.classId()]);
+        }
+
+        queries = new float[QUERY_COUNT][];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = vectors[1 + random.nextInt(classCount)];
+        }
+
+        int hits = 0;
+        for (float[] query : queries) {
+            Set<Long> expected = new HashSet<>(bruteForce(query));
+            hits += (int) index.search(query, K, efSearch).stream().filter(expected::contains).count();
+        }
+        System.out.printf("%nrecall@%d (classCount=%d, efSearch=%d) = %.4f%n", K, classCount, efSearch,
+                (double) hits / (QUERY_COUNT * K));
+    }
+
+    @Benchmark
+    public List<Long> hnsw() {
+        return index.search(nextQuery(), K, efSearch);
+    }
+
+    @Benchmark
+    public List<Long> bruteForce() {
+        return bruteForce(nextQuery());
+    }
+
+    private float[] nextQuery() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return queries[next];
+    }
+
+    private List<Long> bruteForce(float[] query) {
+        TopK top = new TopK(K);
+        for (int classId = 1; classId < vectors.length; classId++) {
+            top.offer(HnswIndex.dot(query, vectors[classId]), classId);
+        }
+        return top.toList();
+    }
+
+    private static String sentence(String[] words, int length, Random random) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sentence.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return sentence.toString();
+    }
+
+    private static String randomWord(Random random) {
+        int length = 2 + random.nextInt(3);
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return word.toString();
+    }
+}
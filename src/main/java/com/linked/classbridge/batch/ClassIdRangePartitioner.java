@@ -0,0 +1,48 @@
+package com.linked.classbridge.batch;
+
+import com.linked.classbridge.repository.OneDayClassRepository;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * classId 최솟값~최댓값을 gridSize 개의 연속 구간으로 나눈다.
+ */
+@RequiredArgsConstructor
+public class ClassIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_CLASS_ID_KEY = "minClassId";
+    public static final String MAX_CLASS_ID_KEY = "maxClassId";
+
+    private final OneDayClassRepository classRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long minClassId = classRepository.findMinClassId();
+        Long maxClassId = classRepository.findMaxClassId();
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (minClassId == null || maxClassId == null) {
+            partitions.put("partition0", range(1L, 0L));
+            return partitions;
+        }
+
+        long rangeSize = (maxClassId - minClassId) / gridSize + 1;
+        long start = minClassId;
+        for (int i = 0; i < gridSize && start <= maxClassId; i++) {
+            long end = Math.min(start + rangeSize - 1, maxClassId);
+            partitions.put("partition" + i, range(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext range(long minClassId, long maxClassId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_CLASS_ID_KEY, minClassId);
+        context.putLong(MAX_CLASS_ID_KEY, maxClassId);
+        return context;
+    }
+}
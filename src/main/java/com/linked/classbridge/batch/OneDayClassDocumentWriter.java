@@ -0,0 +1,59 @@
+package com.linked.classbridge.batch;
+
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import com.linked.classbridge.service.search.OneDayClassDocumentAssembler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.rest.RestStatus;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+/**
+ * 청크 단위로 문서를 만들어 재색인 대상 인덱스에 {@code _bulk} 로 기록하는 writer
+ * <p>
+ * 재색인 중에는 색인 워커가 최신 문서를 같은 인덱스에 직접 기록하므로 {@code create}로만 기록해 더 최신 문서를 덮어쓰지 않는다.
+ * 이미 존재하는 문서(409)는 실패로 보지 않으므로 재시작 시 같은 청크를 다시 기록해도 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OneDayClassDocumentWriter implements ItemWriter<OneDayClass> {
+
+    private final OneDayClassDocumentAssembler documentAssembler;
+    private final ElasticsearchOperations operations;
+    private final RestHighLevelClient client;
+    private final String targetIndex;
+
+    @Override
+    public void write(Chunk<? extends OneDayClass> chunk) throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        for (OneDayClassDocument document : documentAssembler.assemble(chunk.getItems())) {
+            bulkRequest.add(new IndexRequest(targetIndex)
+                    .id(String.valueOf(document.getClassId()))
+                    .opType(OpType.CREATE)
+                    .source(operations.getElasticsearchConverter().mapObject(document).toJson(), XContentType.JSON));
+        }
+        if (bulkRequest.numberOfActions() == 0) {
+            return;
+        }
+
+        BulkResponse response = client.bulk(bulkRequest, RequestOptions.DEFAULT);
+        if (!response.hasFailures()) {
+            return;
+        }
+        for (BulkItemResponse item : response) {
+            if (item.isFailed() && item.status() != RestStatus.CONFLICT) {
+                throw new IllegalStateException("failed to index class " + item.getId() + " :: " + item.getFailureMessage());
+            }
+        }
+    }
+}
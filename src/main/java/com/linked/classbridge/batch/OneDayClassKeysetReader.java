@@ -0,0 +1,69 @@
+package com.linked.classbridge.batch;
+
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * classId 구간을 keyset 방식({@code classId > 마지막 ID})으로 읽는 리더
+ * <p>
+ * 청크마다 강사와 카테고리를 함께 조회하는 쿼리 한 번만 실행하며, offset 을 쓰지 않아 뒤쪽 구간도 같은 비용으로 읽는다. 커밋된 마지막
+ * classId 를 step 컨텍스트에 저장하므로 잡을 재시작하면 그 다음부터 읽는다.
+ */
+public class OneDayClassKeysetReader implements ItemStreamReader<OneDayClass> {
+
+    private static final String LAST_CLASS_ID_KEY = "lastClassId";
+
+    private final OneDayClassRepository classRepository;
+    private final long minClassId;
+    private final long maxClassId;
+    private final int chunkSize;
+
+    private final Deque<OneDayClass> buffer = new ArrayDeque<>();
+    private long lastFetchedClassId;
+    private long lastReadClassId;
+
+    public OneDayClassKeysetReader(OneDayClassRepository classRepository, long minClassId, long maxClassId,
+                                   int chunkSize) {
+        this.classRepository = classRepository;
+        this.minClassId = minClassId;
+        this.maxClassId = maxClassId;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        lastReadClassId = executionContext.containsKey(LAST_CLASS_ID_KEY)
+                ? executionContext.getLong(LAST_CLASS_ID_KEY)
+                : minClassId - 1;
+        lastFetchedClassId = lastReadClassId;
+        buffer.clear();
+    }
+
+    @Override
+    public OneDayClass read() {
+        if (buffer.isEmpty()) {
+            List<OneDayClass> chunk = classRepository.findNextChunkForReindex(lastFetchedClassId, maxClassId,
+                    PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                return null;
+            }
+            buffer.addAll(chunk);
+            lastFetchedClassId = chunk.get(chunk.size() - 1).getClassId();
+        }
+
+        OneDayClass oneDayClass = buffer.poll();
+        lastReadClassId = oneDayClass.getClassId();
+        return oneDayClass;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_CLASS_ID_KEY, lastReadClassId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.linked.classbridge.batch;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+/**
+ * 색인한 문서 수와 초당 처리량(docs/sec)을 기록, step 컨텍스트의 {@value #DOCS_PER_SECOND_KEY}로도 남긴다.
+ */
+@Slf4j
+public class ReindexThroughputListener implements StepExecutionListener {
+
+    public static final String DOCS_PER_SECOND_KEY = "docsPerSecond";
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        long millis = Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis();
+        long written = stepExecution.getWriteCount();
+        double docsPerSecond = millis == 0 ? written : written * 1000.0 / millis;
+
+        stepExecution.getExecutionContext().putDouble(DOCS_PER_SECOND_KEY, docsPerSecond);
+        log.info("{} indexed {} classes in {} ms ({} docs/sec)", stepExecution.getStepName(), written, millis,
+                String.format("%.1f", docsPerSecond));
+        return stepExecution.getExitStatus();
+    }
+}
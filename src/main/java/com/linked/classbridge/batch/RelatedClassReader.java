@@ -0,0 +1,41 @@
+package com.linked.classbridge.batch;
+
+import com.linked.classbridge.domain.RelatedClass;
+import com.linked.classbridge.service.recommendation.CoOccurrenceMatrix;
+import org.springframework.batch.item.ItemReader;
+
+/**
+ * 동시 발생 행렬에서 classId 오름차순으로 클래스마다 점수 상위 이웃을 골라 {@link RelatedClass}로 만든다.
+ */
+public class RelatedClassReader implements ItemReader<RelatedClass> {
+
+    private final CoOccurrenceMatrix matrix;
+    private final int topN;
+    private final long[] neighborIds;
+    private final float[] scores;
+
+    private long[] classIds;
+    private int position;
+
+    public RelatedClassReader(CoOccurrenceMatrix matrix, int topN) {
+        this.matrix = matrix;
+        this.topN = Math.min(topN, RelatedClass.MAX_NEIGHBORS);
+        this.neighborIds = new long[this.topN];
+        this.scores = new float[this.topN];
+    }
+
+    @Override
+    public RelatedClass read() {
+        if (classIds == null) {
+            classIds = matrix.classIds();
+        }
+        while (position < classIds.length) {
+            long classId = classIds[position++];
+            int count = matrix.topNeighbors(classId, topN, neighborIds, scores);
+            if (count > 0) {
+                return RelatedClass.of(classId, neighborIds, scores, count);
+            }
+        }
+        return null;
+    }
+}
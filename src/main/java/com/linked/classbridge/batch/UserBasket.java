@@ -0,0 +1,14 @@
+package com.linked.classbridge.batch;
+
+/**
+ * 한 사용자가 예약하거나 찜한 클래스 묶음
+ *
+ * @param classIds 중복 없는 classId
+ * @param weights  classId 별 가중치 (예약 1, 찜만 한 경우 찜 가중치)
+ */
+public record UserBasket(long userId, long[] classIds, float[] weights) {
+
+    public int size() {
+        return classIds.length;
+    }
+}
@@ -0,0 +1,104 @@
+package com.linked.classbridge.batch;
+
+import com.linked.classbridge.dto.oneDayClass.UserClassIdProjection;
+import com.linked.classbridge.repository.ReservationRepository;
+import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.type.ReservationStatus;
+import com.linked.classbridge.util.LongFloatHashMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 사용자 ID 를 keyset 방식으로 {@code pageSize} 명씩 읽고, 그 사용자들의 예약과 찜을 IN 조회 두 번으로 가져와 사용자별 묶음으로
+ * 만든다. 예약도 찜도 없는 사용자는 건너뛴다.
+ */
+public class UserBasketReader implements ItemReader<UserBasket> {
+
+    // 취소되지 않은 예약만 사용
+    static final Set<ReservationStatus> BOOKED_STATUSES = EnumSet.of(ReservationStatus.PENDING,
+            ReservationStatus.CONFIRMED, ReservationStatus.ATTENDED, ReservationStatus.REVIEWED,
+            ReservationStatus.NO_SHOW);
+
+    private static final float RESERVATION_WEIGHT = 1f;
+
+    private final UserRepository userRepository;
+    private final ReservationRepository reservationRepository;
+    private final WishRepository wishRepository;
+    private final int pageSize;
+    private final int maxBasketSize;
+    private final float wishWeight;
+
+    private final Deque<UserBasket> buffer = new ArrayDeque<>();
+    private long lastUserId;
+    private boolean exhausted;
+
+    public UserBasketReader(UserRepository userRepository, ReservationRepository reservationRepository,
+                            WishRepository wishRepository, int pageSize, int maxBasketSize, float wishWeight) {
+        this.userRepository = userRepository;
+        this.reservationRepository = reservationRepository;
+        this.wishRepository = wishRepository;
+        this.pageSize = pageSize;
+        this.maxBasketSize = maxBasketSize;
+        this.wishWeight = wishWeight;
+    }
+
+    @Override
+    public UserBasket read() {
+        while (buffer.isEmpty() && !exhausted) {
+            fill();
+        }
+        return buffer.poll();
+    }
+
+    private void fill() {
+        List<Long> userIds = userRepository.findNextUserIds(lastUserId, PageRequest.of(0, pageSize));
+        if (userIds.isEmpty()) {
+            exhausted = true;
+            return;
+        }
+        lastUserId = userIds.get(userIds.size() - 1);
+
+        // 같은 클래스를 예약과 찜 모두 했으면 큰 가중치(예약)만 사용
+        Map<Long, LongFloatHashMap> baskets = new HashMap<>();
+        for (UserClassIdProjection row : reservationRepository.findUserClassIdsByUserIdIn(userIds, BOOKED_STATUSES)) {
+            put(baskets, row, RESERVATION_WEIGHT);
+        }
+        for (UserClassIdProjection row : wishRepository.findUserClassIdsByUserIdIn(userIds)) {
+            put(baskets, row, wishWeight);
+        }
+
+        for (Long userId : userIds) {
+            LongFloatHashMap basket = baskets.get(userId);
+            if (basket != null) {
+                buffer.add(toBasket(userId, basket));
+            }
+        }
+    }
+
+    private static void put(Map<Long, LongFloatHashMap> baskets, UserClassIdProjection row, float weight) {
+        if (row.getUserId() == null || row.getClassId() == null) {
+            return;
+        }
+        LongFloatHashMap basket = baskets.computeIfAbsent(row.getUserId(), id -> new LongFloatHashMap());
+        float current = basket.get(row.getClassId());
+        if (weight > current) {
+            basket.addTo(row.getClassId(), weight - current);
+        }
+    }
+
+    private UserBasket toBasket(long userId, LongFloatHashMap basket) {
+        int size = Math.min(basket.size(), maxBasketSize);
+        long[] classIds = new long[size];
+        float[] weights = new float[size];
+        basket.topEntries(size, classIds, weights);
+        return new UserBasket(userId, classIds, weights);
+    }
+}
@@ -0,0 +1,20 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.autocomplete.sync")
+public class AutoCompleteSyncProperties {
+    private Type type = Type.LOCAL;                 // LOCAL: 색인한 서버의 자동완성만 갱신, KAFKA: Kafka 를 거쳐 모든 서버의 자동완성 갱신
+    private String topic = "autocomplete-sync";     // 자동완성 변경 토픽, 모든 서버가 같은 순서로 받도록 파티션 1개
+    private short replicas = 1;                     // 토픽이 없을 때 만들 복제 수
+
+    public enum Type {
+        LOCAL, KAFKA
+    }
+}
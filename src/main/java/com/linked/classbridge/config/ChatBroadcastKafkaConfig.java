@@ -0,0 +1,68 @@
+package com.linked.classbridge.config;
+
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * 서버 간 채팅 이벤트 전달용 Kafka 설정 (chat.broadcast.type=kafka)
+ * <p>
+ * 접속 정보는 spring.kafka.* 를 따르고, 키는 채팅방 id 문자열, 값은 이미 직렬화한 JSON 바이트로 고정한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chat.broadcast", name = "type", havingValue = "kafka")
+@RequiredArgsConstructor
+public class ChatBroadcastKafkaConfig {
+
+    private final KafkaProperties kafkaProperties;
+
+    private final ChatBroadcastProperties chatBroadcastProperties;
+
+    @Bean
+    public NewTopic chatBroadcastTopic() {
+        return TopicBuilder.name(chatBroadcastProperties.getTopic())
+                .partitions(chatBroadcastProperties.getPartitions())
+                .replicas(chatBroadcastProperties.getReplicas())
+                .build();
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> chatBroadcastKafkaTemplate() {
+        Map<String, Object> properties = kafkaProperties.buildProducerProperties(null);
+        properties.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        properties.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(properties));
+    }
+
+    // 모든 서버가 모든 이벤트를 받아야 하므로 서버마다 다른 consumer group 을 쓰고, 시작한 뒤의 이벤트만 받음
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> chatBroadcastListenerContainerFactory() {
+        Map<String, Object> properties = kafkaProperties.buildConsumerProperties(null);
+        properties.put(ConsumerConfig.GROUP_ID_CONFIG, chatBroadcastProperties.getTopic() + "-" + UUID.randomUUID());
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        properties.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        properties.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(properties));
+        factory.setConcurrency(chatBroadcastProperties.getConcurrency());
+        return factory;
+    }
+}
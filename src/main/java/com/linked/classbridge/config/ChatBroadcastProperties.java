@@ -0,0 +1,22 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.broadcast")
+public class ChatBroadcastProperties {
+    private Type type = Type.LOCAL;             // LOCAL: 이 서버의 구독자에게만 전달, KAFKA: Kafka 를 거쳐 모든 서버의 구독자에게 전달
+    private String topic = "chat-broadcast";    // 채팅 이벤트 토픽, 채팅방 id 를 키로 파티션을 나눔
+    private int partitions = 12;                // 토픽이 없을 때 만들 파티션 수
+    private short replicas = 1;                 // 토픽이 없을 때 만들 복제 수
+    private int concurrency = 1;                // 서버마다 토픽을 소비하는 스레드 수
+
+    public enum Type {
+        LOCAL, KAFKA
+    }
+}
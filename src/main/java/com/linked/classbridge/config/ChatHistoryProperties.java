@@ -0,0 +1,15 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.history")
+public class ChatHistoryProperties {
+    private int pageSize = 50;      // 채팅방 입장, 이전 메시지 조회 시 기본으로 돌려줄 메시지 수
+    private int maxPageSize = 200;  // 이전 메시지 조회 시 요청할 수 있는 최대 메시지 수
+}
@@ -0,0 +1,20 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.presence")
+public class ChatPresenceProperties {
+    private Type type = Type.LOCAL;         // LOCAL: 이 서버의 접속 정보만 사용, MONGO: MongoDB 에 공유해 다른 서버의 접속도 확인
+    private long ttl = 90000;               // MONGO: 서버가 갱신하지 않은 접속 정보를 유효하게 볼 시간(ms), 서버가 죽으면 이 시간 뒤 사라짐
+    private long heartbeatInterval = 30000; // MONGO: 이 서버 접속 정보의 만료 시각을 늘리는 주기(ms), ttl 보다 충분히 짧게
+
+    public enum Type {
+        LOCAL, MONGO
+    }
+}
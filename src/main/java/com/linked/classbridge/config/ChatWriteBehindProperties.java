@@ -0,0 +1,20 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.write-behind")
+public class ChatWriteBehindProperties {
+    private boolean enabled = true;         // false 면 전송 요청 스레드에서 저장과 채팅방 요약 갱신을 마친 뒤 전달
+    private int workers = 4;                // 저장 스레드 수, 같은 채팅방의 메시지는 항상 같은 스레드가 순서대로 저장
+    private int queueCapacity = 10_000;     // 저장 스레드마다 대기할 수 있는 메시지 수, 가득 차면 전송 요청이 기다림
+    private int batchSize = 500;            // 한 번에 저장(insertMany)할 최대 메시지 수
+    private long retryInterval = 1000;      // 저장 실패 시 다시 시도하기 전 대기 시간(ms)
+    private int summaryRetries = 3;         // 채팅방 요약(마지막 메시지, 안 읽은 수) 갱신 시도 횟수, 메시지 저장은 성공할 때까지 시도
+    private long shutdownTimeout = 10_000;  // 종료 시 저장 스레드를 기다리는 시간(ms), 지나면 남은 메시지를 종료 스레드에서 직접 저장
+}
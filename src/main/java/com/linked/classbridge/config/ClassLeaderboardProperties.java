@@ -0,0 +1,17 @@
+package com.linked.classbridge.config;
+
+import com.linked.classbridge.type.LeaderboardScoreType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation.leaderboard")
+public class ClassLeaderboardProperties {
+    private LeaderboardScoreType score = LeaderboardScoreType.TOTAL_STAR_RATE;  // 기본 추천 순위 기준
+    private int minReviews = 0;         // AVERAGE_RATING 일 때 리뷰가 이보다 적은 클래스는 평균 0 으로 취급
+    private int topN = 5;               // 기본 추천으로 반환할 클래스 수
+}
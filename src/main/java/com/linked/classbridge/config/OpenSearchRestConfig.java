@@ -2,6 +2,7 @@ package com.linked.classbridge.config;
 
 import com.amazonaws.auth.AWS4Signer;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.linked.classbridge.service.search.TookCapturingOpenSearchRestTemplate;
 import java.time.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
@@ -9,11 +10,16 @@ import org.apache.http.HttpRequestInterceptor;
 import org.opensearch.client.RestClient;
 import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
 import org.opensearch.data.client.orhlc.AbstractOpenSearchConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
 @Configuration
@@ -61,6 +67,23 @@ public class OpenSearchRestConfig extends AbstractOpenSearchConfiguration {
 //        return RestClients.create(configuration).rest();
     }
 
+    // geohash_grid 처럼 RestHighLevelClient 가 지원하지 않는 집계용, 같은 (서명된) 연결을 공유
+    @Bean
+    public OpenSearchClient openSearchJavaClient(RestHighLevelClient opensearchClient) {
+        return new OpenSearchClient(new RestClientTransport(opensearchClient.getLowLevelClient(), new JacksonJsonpMapper()));
+    }
+
+    // 검색 응답의 took(서버 처리 시간)을 지표로 남기기 위해 기본 템플릿 대신 사용
+    @Override
+    @Bean(name = {"elasticsearchOperations", "elasticsearchTemplate", "opensearchTemplate"})
+    public ElasticsearchOperations elasticsearchOperations(ElasticsearchConverter elasticsearchConverter,
+                                                           RestHighLevelClient opensearchClient) {
+        TookCapturingOpenSearchRestTemplate template =
+                new TookCapturingOpenSearchRestTemplate(opensearchClient, elasticsearchConverter);
+        template.setRefreshPolicy(refreshPolicy());
+        return template;
+    }
+
 
 }
 
@@ -0,0 +1,15 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation.scoring")
+public class RecommendationProperties {
+    private int parallelThreshold = 100_000;    // 클래스 수가 이 값 이상이면 ForkJoinPool 로 나누어 점수 계산
+    private int minChunkSize = 16_384;          // 병렬 계산 시 작업자 하나가 맡는 최소 클래스 수
+}
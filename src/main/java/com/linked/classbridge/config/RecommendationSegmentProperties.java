@@ -0,0 +1,19 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation.segment")
+public class RecommendationSegmentProperties {
+    private boolean enabled = true;             // false 면 요청마다 점수 계산
+    private int ageBucketYears = 1;             // 나이 구간 크기, 1 이면 만 나이별로 구분해 기존과 같은 순위
+    private int topN = 5;                       // 세그먼트마다 보관할 추천 클래스 수
+    private long maxSegments = 10_000;          // 보관할 최대 세그먼트 수
+    private long refreshInterval = 600_000;     // 보관 중인 세그먼트 순위를 다시 계산하는 주기(ms)
+    private double significantAgeChange = 1.0;  // 클래스 평균 연령이 이 값 이상 바뀌면 전체 세그먼트를 다시 계산
+}
@@ -0,0 +1,134 @@
+package com.linked.classbridge.config;
+
+import static com.linked.classbridge.service.search.OneDayClassIndexManager.REINDEX_JOB_NAME;
+import static com.linked.classbridge.service.search.OneDayClassIndexManager.TARGET_INDEX_KEY;
+
+import com.linked.classbridge.batch.ClassIdRangePartitioner;
+import com.linked.classbridge.batch.OneDayClassDocumentWriter;
+import com.linked.classbridge.batch.OneDayClassKeysetReader;
+import com.linked.classbridge.batch.ReindexThroughputListener;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.service.search.OneDayClassDocumentAssembler;
+import com.linked.classbridge.service.search.OneDayClassIndexManager;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.client.RestHighLevelClient;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 클래스 검색 인덱스 전체 재색인 잡
+ * <p>
+ * 새 버전 인덱스 생성 -> classId 구간별 병렬 색인 -> 문서 수 검증 후 alias 교체 순서로 진행한다. 실패한 잡을 같은 파라미터로 다시
+ * 실행하면 완료된 step 과 각 구간에서 커밋된 청크는 건너뛴다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReindexBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final OneDayClassRepository classRepository;
+    private final OneDayClassIndexManager indexManager;
+    private final OneDayClassDocumentAssembler documentAssembler;
+    private final ElasticsearchOperations operations;
+    private final RestHighLevelClient client;
+    private final SearchReindexProperties properties;
+
+    @Bean
+    public Job reindexClassJob() {
+        return new JobBuilder(REINDEX_JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(createClassIndexStep())
+                .next(reindexClassStep())
+                .next(swapClassIndexAliasStep())
+                .build();
+    }
+
+    @Bean
+    public Step createClassIndexStep() {
+        return new StepBuilder("createClassIndexStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    ExecutionContext jobContext = chunkContext.getStepContext().getStepExecution()
+                            .getJobExecution().getExecutionContext();
+                    if (!jobContext.containsKey(TARGET_INDEX_KEY)) {
+                        jobContext.putString(TARGET_INDEX_KEY, indexManager.createVersionedIndex());
+                    }
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step reindexClassStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("reindex-");
+        taskExecutor.setConcurrencyLimit(properties.getGridSize());
+
+        return new StepBuilder("reindexClassStep", jobRepository)
+                .partitioner("reindexClassPartitionStep", new ClassIdRangePartitioner(classRepository))
+                .step(reindexClassPartitionStep())
+                .gridSize(properties.getGridSize())
+                .taskExecutor(taskExecutor)
+                .listener(new ReindexThroughputListener())
+                .build();
+    }
+
+    @Bean
+    public Step reindexClassPartitionStep() {
+        return new StepBuilder("reindexClassPartitionStep", jobRepository)
+                .<OneDayClass, OneDayClass>chunk(properties.getChunkSize(), transactionManager)
+                .reader(reindexClassReader(null, null))
+                .writer(reindexClassWriter(null))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public OneDayClassKeysetReader reindexClassReader(
+            @Value("#{stepExecutionContext['" + ClassIdRangePartitioner.MIN_CLASS_ID_KEY + "']}") Long minClassId,
+            @Value("#{stepExecutionContext['" + ClassIdRangePartitioner.MAX_CLASS_ID_KEY + "']}") Long maxClassId) {
+        return new OneDayClassKeysetReader(classRepository, minClassId, maxClassId, properties.getChunkSize());
+    }
+
+    @Bean
+    @StepScope
+    public OneDayClassDocumentWriter reindexClassWriter(
+            @Value("#{jobExecutionContext['" + TARGET_INDEX_KEY + "']}") String targetIndex) {
+        return new OneDayClassDocumentWriter(documentAssembler, operations, client, targetIndex);
+    }
+
+    @Bean
+    public Step swapClassIndexAliasStep() {
+        return new StepBuilder("swapClassIndexAliasStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    String targetIndex = chunkContext.getStepContext().getStepExecution()
+                            .getJobExecution().getExecutionContext().getString(TARGET_INDEX_KEY);
+
+                    indexManager.finishLoading(targetIndex);
+                    long indexed = indexManager.count(targetIndex);
+                    long expected = classRepository.count();
+                    if (indexed != expected) {
+                        // alias 는 그대로 두고 실패, 색인 워커가 따라잡은 뒤 재시작하면 이 step 만 다시 실행된다.
+                        throw new IllegalStateException(String.format(
+                                "document count mismatch for %s :: indexed %d, expected %d", targetIndex, indexed, expected));
+                    }
+
+                    indexManager.swapAlias(targetIndex);
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.linked.classbridge.config;
+
+import com.linked.classbridge.batch.RelatedClassReader;
+import com.linked.classbridge.batch.UserBasket;
+import com.linked.classbridge.batch.UserBasketReader;
+import com.linked.classbridge.domain.RelatedClass;
+import com.linked.classbridge.repository.RelatedClassRepository;
+import com.linked.classbridge.repository.ReservationRepository;
+import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.service.recommendation.CoOccurrenceMatrix;
+import com.linked.classbridge.service.recommendation.RelatedClassStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * "함께 예약한 클래스" 계산 잡
+ * <p>
+ * 사용자별 예약/찜 묶음을 읽어 동시 발생 행렬을 메모리에 쌓고 -> 기존 결과를 지운 뒤 -> 클래스마다 상위 이웃만 {@code related_class}
+ * 테이블에 저장한다. 행렬은 잡 실행 동안만 존재하므로 실패하면 처음부터 다시 실행한다. 잡이 끝나면 {@link RelatedClassStore}가 새
+ * 결과를 다시 읽는다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RelatedClassBatchConfig {
+
+    public static final String RELATED_CLASS_JOB_NAME = "relatedClassJob";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final UserRepository userRepository;
+    private final ReservationRepository reservationRepository;
+    private final WishRepository wishRepository;
+    private final RelatedClassRepository relatedClassRepository;
+    private final RelatedClassStore relatedClassStore;
+    private final RelatedClassProperties properties;
+
+    @Bean
+    public Job relatedClassJob() {
+        return new JobBuilder(RELATED_CLASS_JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(countCoOccurrenceStep())
+                .next(clearRelatedClassStep())
+                .next(saveRelatedClassStep())
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                            relatedClassStore.reload();
+                        }
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public CoOccurrenceMatrix coOccurrenceMatrix() {
+        return new CoOccurrenceMatrix(properties.getMaxCandidates());
+    }
+
+    @Bean
+    public Step countCoOccurrenceStep() {
+        CoOccurrenceMatrix matrix = coOccurrenceMatrix();
+        return new StepBuilder("countCoOccurrenceStep", jobRepository)
+                .<UserBasket, UserBasket>chunk(properties.getChunkSize(), transactionManager)
+                .reader(userBasketReader())
+                .writer(chunk -> chunk.forEach(basket -> matrix.add(basket.classIds(), basket.weights(), basket.size())))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public UserBasketReader userBasketReader() {
+        return new UserBasketReader(userRepository, reservationRepository, wishRepository, properties.getChunkSize(),
+                properties.getMaxBasketSize(), properties.getWishWeight());
+    }
+
+    @Bean
+    public Step clearRelatedClassStep() {
+        return new StepBuilder("clearRelatedClassStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    relatedClassRepository.deleteAllInBatch();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Step saveRelatedClassStep() {
+        return new StepBuilder("saveRelatedClassStep", jobRepository)
+                .<RelatedClass, RelatedClass>chunk(properties.getChunkSize(), transactionManager)
+                .reader(relatedClassReader())
+                .writer(chunk -> relatedClassRepository.saveAll(chunk.getItems()))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public RelatedClassReader relatedClassReader() {
+        return new RelatedClassReader(coOccurrenceMatrix(), properties.getTopN());
+    }
+}
@@ -0,0 +1,18 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation.related")
+public class RelatedClassProperties {
+    private int topN = 20;              // 클래스마다 저장할 관련 클래스 수 (최대 100)
+    private int maxCandidates = 200;    // 계산 중 클래스마다 유지할 이웃 후보 수, 메모리 사용량 상한
+    private int maxBasketSize = 100;    // 한 사용자에서 사용할 최대 클래스 수, 넘으면 앞에서부터 자름
+    private float wishWeight = 0.5f;    // 예약 1 대비 찜 가중치
+    private int chunkSize = 500;        // 한 번에 읽는 사용자 수 / 저장하는 클래스 수
+}
@@ -0,0 +1,18 @@
+package com.linked.classbridge.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.cache")
+public class SearchCacheProperties {
+    private boolean enabled = true;
+    private long maxWeightBytes = 32 * 1024 * 1024;  // 캐시 전체 최대 크기(추정 바이트)
+    private Duration expireAfterWrite = Duration.ofMinutes(1);  // 종료일 필터가 날짜에 따라 바뀌므로 짧게 유지
+    private int coordinateScale = 3;    // 위도/경도 반올림 자릿수 (소수점 3자리 ≒ 110m)
+}
@@ -0,0 +1,16 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.indexing")
+public class SearchIndexingProperties {
+    private long flushInterval = 1000;  // outbox 처리 주기(ms), 같은 클래스의 변경은 주기 내에서 한 번만 색인
+    private int batchSize = 500;        // 한 번에 처리할 outbox 이벤트 수
+    private int maxAttempts = 5;        // 클래스 색인 실패를 허용할 횟수, 넘으면 이벤트를 dead letter 테이블로 옮김
+}
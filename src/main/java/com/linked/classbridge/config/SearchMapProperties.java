@@ -0,0 +1,18 @@
+package com.linked.classbridge.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.map")
+public class SearchMapProperties {
+    private Duration tileTtl = Duration.ofSeconds(30);  // 타일별 클러스터 캐시 보관 시간, 색인 변경은 이 시간 내에 반영
+    private long maxCachedTiles = 10_000;   // 캐시할 최대 타일 수
+    private int maxTilesPerViewport = 64;   // 화면 하나를 덮는 타일 수 상한, 넘으면 더 큰 타일 사용
+    private int maxBuckets = 10_000;        // 한 번의 집계에서 반환할 최대 geohash 셀 수
+}
@@ -0,0 +1,16 @@
+package com.linked.classbridge.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.metrics")
+public class SearchMetricsProperties {
+    private Duration slowQueryThreshold = Duration.ofMillis(500);   // 이 시간(took 또는 왕복 시간)을 넘는 쿼리는 JSON 과 함께 기록
+    private int slowQuerySamples = 50;  // 보관할 최근 느린 쿼리 수
+}
@@ -0,0 +1,15 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "search.reindex")
+public class SearchReindexProperties {
+    private int chunkSize = 500;    // 한 번에 읽고 _bulk 로 색인할 클래스 수
+    private int gridSize = 4;       // classId 범위 파티션 수 (동시에 색인하는 스레드 수)
+}
@@ -0,0 +1,18 @@
+package com.linked.classbridge.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recommendation.similar")
+public class SimilarClassProperties {
+    private int dimension = 256;        // 텍스트 벡터 차원 (해시 버킷 수)
+    private int m = 16;                 // HNSW 노드마다 유지할 이웃 수
+    private int efConstruction = 100;   // 인덱스에 추가할 때 탐색할 후보 수
+    private int efSearch = 50;          // 조회할 때 탐색할 후보 수, 클수록 정확하고 느림
+    private int chunkSize = 1000;       // 재구성 시 한 번에 읽는 클래스 수
+}
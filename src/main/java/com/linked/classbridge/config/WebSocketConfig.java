@@ -2,10 +2,8 @@ package com.linked.classbridge.config;
 
 import com.linked.classbridge.websocket.CustomHandshakeHandler;
 import com.linked.classbridge.websocket.HttpHandshakeInterceptor;
-import com.linked.classbridge.websocket.StompHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -18,8 +16,6 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final HttpHandshakeInterceptor httpHandshakeInterceptor;
 
-    private final StompHandler stompHandler;
-
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/chatRooms", "/chatRoom", "/read");
@@ -35,9 +31,4 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setHandshakeHandler(new CustomHandshakeHandler())
                 .withSockJS();
     }
-
-    @Override
-    public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
-    }
 }
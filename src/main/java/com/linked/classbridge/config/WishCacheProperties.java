@@ -0,0 +1,16 @@
+package com.linked.classbridge.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "wish.cache")
+public class WishCacheProperties {
+    private long maxWeightBytes = 16 * 1024 * 1024;  // 캐시 전체 최대 크기(추정 바이트)
+    private Duration expireAfterWrite = Duration.ofMinutes(5);      // 채운 뒤 보관 시간, 서버가 여러 대일 때 다른 서버의 찜 변경이 늦게 보이는 최대 시간
+}
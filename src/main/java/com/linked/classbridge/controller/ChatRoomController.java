@@ -2,6 +2,7 @@ package com.linked.classbridge.controller;
 
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.dto.SuccessResponse;
+import com.linked.classbridge.dto.chat.ChatMessageCursorDto;
 import com.linked.classbridge.dto.chat.CreateChatRoom;
 import com.linked.classbridge.dto.chat.GetChatRoomsResponse;
 import com.linked.classbridge.dto.chat.JoinChatRoom;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -58,6 +60,22 @@ public class ChatRoomController {
         );
     }
 
+    @Operation(summary = "채팅 메시지 조회", description = "cursor 이전 메시지를 size 개씩 조회합니다. cursor 가 없으면 최근 메시지부터 조회합니다.")
+    @GetMapping("/{chatRoomId}/messages")
+    public ResponseEntity<SuccessResponse<ChatMessageCursorDto>> getChatMessages(
+            @PathVariable Long chatRoomId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", required = false) Integer size
+    ) {
+        User user = userService.getCurrentUser();
+        return ResponseEntity.ok().body(
+                SuccessResponse.of(
+                        ResponseMessage.CHAT_MESSAGE_GET_SUCCESS,
+                        chatService.getChatMessagesProcess(user, chatRoomId, cursor, size)
+                )
+        );
+    }
+
     @Operation(summary = "채팅방 닫기", description = "채팅방을 닫습니다")
     @PostMapping("/{chatRoomId}/close")
     public ResponseEntity<SuccessResponse<String>> leaveChatRoom(
@@ -1,12 +1,17 @@
 package com.linked.classbridge.controller;
 
+import com.linked.classbridge.domain.RelatedClass;
 import com.linked.classbridge.dto.SuccessResponse;
+import com.linked.classbridge.dto.oneDayClass.ClassDto;
 import com.linked.classbridge.dto.oneDayClass.ClassDto.ClassResponseByUser;
-import com.linked.classbridge.dto.oneDayClass.ClassSearchDto;
+import com.linked.classbridge.dto.oneDayClass.ClassMapClusterDto;
 import com.linked.classbridge.dto.review.GetReviewResponse;
 import com.linked.classbridge.service.OneDayClassService;
+import com.linked.classbridge.service.RecommendationService;
 import com.linked.classbridge.service.ReviewService;
 import com.linked.classbridge.service.UserService;
+import com.linked.classbridge.service.recommendation.SimilarClassIndex;
+import com.linked.classbridge.service.search.ClassMapClusterService;
 import com.linked.classbridge.type.CategoryType;
 import com.linked.classbridge.type.LocationType;
 import com.linked.classbridge.type.OrderType;
@@ -33,6 +38,8 @@ public class OneDayClassController {
     private final ReviewService reviewService;
     private final OneDayClassService oneDayClassService;
     private final UserService userService;
+    private final ClassMapClusterService classMapClusterService;
+    private final RecommendationService recommendationService;
 
     @Operation(summary = "클래스 리뷰 조회", description = "클래스 리뷰 조회")
     @GetMapping("/{classId}/reviews")
@@ -61,21 +68,80 @@ public class OneDayClassController {
         );
     }
 
-    @Operation(summary = "클래스 검색", description = "클래스 검색")
+    @Operation(summary = "함께 예약한 클래스 조회", description = "이 클래스를 예약/찜한 사용자들이 함께 예약/찜한 클래스")
+    @GetMapping("/{classId}/related")
+    public ResponseEntity<SuccessResponse<List<ClassDto>>> getRelatedClasses(
+            @PathVariable Long classId,
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok().body(
+                SuccessResponse.of(
+                        ResponseMessage.GET_RELATED_CLASSES_SUCCESS,
+                        recommendationService.getRelatedClasses(classId,
+                                userService.checkLogin() ? userService.getCurrentUserEmail() : null,
+                                Math.max(1, Math.min(size, RelatedClass.MAX_NEIGHBORS)))
+                )
+        );
+    }
+
+    @Operation(summary = "비슷한 클래스 조회", description = "클래스명, 소개, 태그 내용이 비슷한 클래스")
+    @GetMapping("/{classId}/similar")
+    public ResponseEntity<SuccessResponse<List<ClassDto>>> getSimilarClasses(
+            @PathVariable Long classId,
+            @RequestParam(name = "size", required = false, defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok().body(
+                SuccessResponse.of(
+                        ResponseMessage.GET_SIMILAR_CLASSES_SUCCESS,
+                        recommendationService.getSimilarClasses(classId,
+                                userService.checkLogin() ? userService.getCurrentUserEmail() : null,
+                                Math.max(1, Math.min(size, SimilarClassIndex.MAX_RESULTS)))
+                )
+        );
+    }
+
+    @Operation(summary = "클래스 검색", description = "클래스 검색, cursor 를 전달하면(첫 페이지는 빈 값) 페이지 번호 대신 커서 기반으로 조회")
     @GetMapping("/search")
-    public ResponseEntity<SuccessResponse<Page<ClassSearchDto>>> searchClass
+    public ResponseEntity<SuccessResponse<?>> searchClass
              (@RequestParam(name = "query", required = false, defaultValue = "") String query,
               @RequestParam(name = "category", required = false, defaultValue = "") CategoryType categoryType,
               @RequestParam(name = "lat", required = false, defaultValue = "0.0") double lat,
               @RequestParam(name = "lng", required = false, defaultValue = "0.0") double lng,
               @RequestParam(name = "location", required = false, defaultValue = "") LocationType location,
               @RequestParam(name = "order", required = false, defaultValue = "WISH") OrderType orderType,
-              @RequestParam(name = "page", required = false, defaultValue = "1") int page) {
+              @RequestParam(name = "page", required = false, defaultValue = "1") int page,
+              @RequestParam(name = "cursor", required = false) String cursor) {
+        String email = userService.checkLogin() ? userService.getCurrentUserEmail() : null;
+        if (cursor != null) {
+            return ResponseEntity.ok().body(
+                    SuccessResponse.of(
+                            ResponseMessage.ONE_DAY_CLASS_SEARCH_SUCCESS,
+                            oneDayClassService.searchClassByCursor(email, query, categoryType, lat, lng, location, orderType, cursor)
+                    )
+            );
+        }
         return ResponseEntity.ok().body(
                 SuccessResponse.of(
                         ResponseMessage.ONE_DAY_CLASS_SEARCH_SUCCESS,
-                        oneDayClassService.searchClass(userService.checkLogin() ? userService.getCurrentUserEmail() : null,
-                                query, categoryType, lat, lng, location, orderType, page)
+                        oneDayClassService.searchClass(email, query, categoryType, lat, lng, location, orderType, page)
+                )
+        );
+    }
+
+    @Operation(summary = "지도 클러스터 조회", description = "지도 화면 영역(남서, 북동 좌표)과 줌 레벨에 맞춰 클래스 위치를 묶은 클러스터별 개수와 중심 좌표 조회")
+    @GetMapping("/map")
+    public ResponseEntity<SuccessResponse<ClassMapClusterDto>> getMapClusters
+            (@RequestParam(name = "swLat") double swLat,
+             @RequestParam(name = "swLng") double swLng,
+             @RequestParam(name = "neLat") double neLat,
+             @RequestParam(name = "neLng") double neLng,
+             @RequestParam(name = "zoom") int zoom,
+             @RequestParam(name = "query", required = false, defaultValue = "") String query,
+             @RequestParam(name = "category", required = false, defaultValue = "") CategoryType categoryType) throws IOException {
+        return ResponseEntity.ok().body(
+                SuccessResponse.of(
+                        ResponseMessage.ONE_DAY_CLASS_MAP_CLUSTER_SUCCESS,
+                        classMapClusterService.getClusters(swLat, swLng, neLat, neLng, zoom, query, categoryType)
                 )
         );
     }
@@ -4,6 +4,7 @@ import com.linked.classbridge.dto.chat.SendMessageDto;
 import com.linked.classbridge.exception.WebsocketException;
 import com.linked.classbridge.service.chat.ChatService;
 import com.linked.classbridge.type.ErrorCode;
+import com.linked.classbridge.websocket.StompPrincipal;
 import java.security.Principal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -23,11 +24,7 @@ public class WebSocketController {
             @Payload SendMessageDto sendRequest,
             Principal principal) {
 
-        if (principal == null) {
-            throw new WebsocketException(ErrorCode.UNAUTHORIZED);
-        }
-
-        chatService.sendMessageProcess(principal.getName(), chatRoomId, sendRequest.message());
+        chatService.sendMessageProcess(getUserId(principal), chatRoomId, sendRequest.message());
     }
 
     @MessageMapping("/read/{messageId}")
@@ -35,11 +32,15 @@ public class WebSocketController {
             @DestinationVariable String messageId,
             Principal principal) {
 
-        if (principal == null) {
+        chatService.markMessageAsReadAndSendReceipt(getUserId(principal), messageId);
+    }
+
+    // 핸드셰이크에서 확인한 사용자 정보를 사용하므로 프레임마다 사용자를 조회하지 않음
+    private Long getUserId(Principal principal) {
+        if (!(principal instanceof StompPrincipal stompPrincipal) || stompPrincipal.getUserId() == null) {
             throw new WebsocketException(ErrorCode.UNAUTHORIZED);
         }
-
-        chatService.markMessageAsReadAndSendReceipt(principal.getName(), messageId);
+        return stompPrincipal.getUserId();
     }
 
 }
@@ -0,0 +1,34 @@
+package com.linked.classbridge.domain;
+
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// 어느 서버에서 사용자가 채팅방을 열어 두었는지, 서버/사용자/채팅방마다 하나
+@Document(collection = "chat_presence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ChatPresence {
+
+    @Id
+    private String id;
+
+    private String nodeId;
+
+    private Long userId;
+
+    private Long chatRoomId;
+
+    // 서버가 주기적으로 늘림, 지나면 TTL 인덱스로 삭제
+    private LocalDateTime expiresAt;
+}
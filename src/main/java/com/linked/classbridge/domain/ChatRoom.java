@@ -1,6 +1,7 @@
 package com.linked.classbridge.domain;
 
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -47,7 +48,12 @@ public class ChatRoom extends BaseEntity {
 
     private LocalDateTime lastMessageAt;
 
-    public void updateLastMessageAt(LocalDateTime lastMessageAt) {
+    // 채팅방 목록에서 메시지를 조회하지 않도록 마지막 메시지를 함께 보관
+    @Column(columnDefinition = "TEXT")
+    private String lastMessage;
+
+    public void updateLastMessage(String lastMessage, LocalDateTime lastMessageAt) {
+        this.lastMessage = lastMessage;
         this.lastMessageAt = lastMessageAt;
     }
 
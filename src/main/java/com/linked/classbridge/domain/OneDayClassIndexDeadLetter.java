@@ -0,0 +1,64 @@
+package com.linked.classbridge.domain;
+
+import com.linked.classbridge.type.IndexEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정해진 횟수만큼 색인에 실패해 outbox 에서 옮긴 클래스 변경 기록
+ * <p>
+ * 계속 실패하는 클래스가 outbox 처리를 막지 않도록 따로 보관한다. 원인을 해결한 뒤 해당 클래스를 다시 변경 기록하거나 재색인 잡을 실행하면
+ * 인덱스에 반영된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "one_day_class_index_dead_letter")
+public class OneDayClassIndexDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long classId;
+
+    @Enumerated(EnumType.STRING)
+    private IndexEventType type;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 1000)
+    private String reason;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime failedAt;
+
+    public static OneDayClassIndexDeadLetter of(OneDayClassIndexEvent event, int attempts, String reason) {
+        return OneDayClassIndexDeadLetter.builder()
+                .classId(event.getClassId())
+                .type(event.getType())
+                .attempts(attempts)
+                .reason(reason == null || reason.length() <= 1000 ? reason : reason.substring(0, 1000))
+                .createdAt(event.getCreatedAt())
+                .failedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.linked.classbridge.domain;
+
+import com.linked.classbridge.type.IndexEventType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색 인덱스 반영이 필요한 클래스 변경 기록 (transactional outbox)
+ * <p>
+ * 클래스 변경과 같은 트랜잭션에서 저장되며, {@link com.linked.classbridge.service.search.OneDayClassIndexingService}가
+ * 주기적으로 읽어 OpenSearch 에 반영한 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "one_day_class_index_event", indexes = @Index(name = "idx_index_event_class_id", columnList = "classId"))
+public class OneDayClassIndexEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long classId;
+
+    @Enumerated(EnumType.STRING)
+    private IndexEventType type;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 색인에 실패한 횟수, 정해진 횟수가 되면 dead letter 로 옮김
+    @Column(nullable = false)
+    private int attempts;
+
+    public static OneDayClassIndexEvent of(Long classId, IndexEventType type) {
+        return OneDayClassIndexEvent.builder()
+                .classId(classId)
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public boolean isCountersOnly() {
+        return type == IndexEventType.COUNTERS;
+    }
+}
@@ -0,0 +1,74 @@
+package com.linked.classbridge.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클래스별 "함께 예약/찜한 클래스" 목록
+ * <p>
+ * 클래스마다 한 행에 이웃 클래스 ID 와 점수를 (long, float) 쌍으로 이어 붙인 바이트 배열로 저장한다. 관련 클래스 배치 잡이 매번 전체를
+ * 다시 계산해 채우고, {@link com.linked.classbridge.service.recommendation.RelatedClassStore}가 메모리로 읽어 응답한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "related_class", indexes = @Index(name = "idx_related_class_class_id", columnList = "classId", unique = true))
+public class RelatedClass {
+
+    public static final int MAX_NEIGHBORS = 100;
+    private static final int ENTRY_BYTES = Long.BYTES + Float.BYTES;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long classId;
+
+    @Column(nullable = false, length = MAX_NEIGHBORS * ENTRY_BYTES)
+    private byte[] neighbors;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * @param relatedClassIds 점수 내림차순, 앞의 {@code count} 개만 저장
+     */
+    public static RelatedClass of(long classId, long[] relatedClassIds, float[] scores, int count) {
+        int size = Math.min(count, MAX_NEIGHBORS);
+        ByteBuffer buffer = ByteBuffer.allocate(size * ENTRY_BYTES);
+        for (int i = 0; i < size; i++) {
+            buffer.putLong(relatedClassIds[i]).putFloat(scores[i]);
+        }
+        return RelatedClass.builder()
+                .classId(classId)
+                .neighbors(buffer.array())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public int neighborCount() {
+        return neighbors.length / ENTRY_BYTES;
+    }
+
+    public long relatedClassId(int index) {
+        return ByteBuffer.wrap(neighbors).getLong(index * ENTRY_BYTES);
+    }
+
+    public float score(int index) {
+        return ByteBuffer.wrap(neighbors).getFloat(index * ENTRY_BYTES + Long.BYTES);
+    }
+}
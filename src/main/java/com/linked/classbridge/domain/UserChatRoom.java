@@ -8,10 +8,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.FilterDef;
 import org.hibernate.annotations.ParamDef;
@@ -22,6 +24,7 @@ import org.hibernate.annotations.SQLDelete;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE user_chat_room SET deleted_at = NOW() WHERE user_chat_room_id = ?")
 //@SQLRestriction("deleted_at is null")
 @FilterDef(name = "deletedChatRoomFilter", parameters = @ParamDef(name = "isDeleted", type = Boolean.class))
@@ -40,6 +43,7 @@ public class UserChatRoom extends BaseEntity {
     @JoinColumn(name = "chat_room_id")
     private ChatRoom chatRoom;
 
+    // 더 이상 갱신하지 않음 (접속 정보는 ChatPresenceRegistry 가 메모리에서 관리), 기존 테이블의 NOT NULL 컬럼이라 false 로만 저장
     @Column(nullable = false)
     @Builder.Default
     private boolean isOnline = false;
@@ -47,12 +51,18 @@ public class UserChatRoom extends BaseEntity {
     @Builder.Default
     private boolean isDeleted = false;
 
-    public void setOnline() {
-        this.isOnline = true;
-    }
+    // 상대가 보낸 메시지 중 읽지 않은 수, null 이면 아직 계산한 적 없는 기존 채팅방 (메시지에서 한 번 세어 채움)
+    // 전송 시 저장소의 원자적 UPDATE 로 늘리므로, 다른 컬럼을 저장할 때 덮어쓰지 않도록 변경된 컬럼만 UPDATE 한다 (@DynamicUpdate)
+    @Builder.Default
+    private Integer unreadMessageCount = 0;
+
+    // 읽음 위치, (보낸 시각, 메시지 id) 순으로 이 메시지까지 읽음. null 이면 읽음 위치를 보관하기 전의 채팅방 (메시지의 isRead 로 판단)
+    private String lastReadMessageId;
+
+    private LocalDateTime lastReadMessageAt;
 
-    public void setOffline() {
-        this.isOnline = false;
+    public void updateUnreadMessageCount(int unreadMessageCount) {
+        this.unreadMessageCount = unreadMessageCount;
     }
 
     public void restoreUserChatRoom() {
@@ -27,7 +27,7 @@ import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 @AllArgsConstructor
 @ToString
 @Builder
-@Document(indexName = "onedayclass")
+@Document(indexName = "onedayclass")  // 버전별 인덱스를 가리키는 alias (OneDayClassIndexManager 참고)
 @Setting(settingPath = "elasticsearch/setting.json")
 @Mapping(mappingPath = "elasticsearch/mapping.json")
 public class OneDayClassDocument {
@@ -55,6 +55,12 @@ public class OneDayClassDocument {
     private CategoryType category;
 
     public OneDayClassDocument(OneDayClass oneDayClass) {
+        this(oneDayClass,
+                oneDayClass.getTagList().stream().map(ClassTag::getName).toList(),
+                !oneDayClass.getImageList().isEmpty() ? oneDayClass.getImageList().get(0).getUrl() : null);
+    }
+
+    public OneDayClassDocument(OneDayClass oneDayClass, List<String> tagList, String imageUrl) {
         this.classId = oneDayClass.getClassId();
         this.className = oneDayClass.getClassName();
         this.tutorName = oneDayClass.getTutor().getNickname();
@@ -69,8 +75,8 @@ public class OneDayClassDocument {
         totalWish = oneDayClass.getTotalWish();
         endDate = oneDayClass.getEndDate();
         category = oneDayClass.getCategory().getName();
-        tagList = oneDayClass.getTagList().stream().map(ClassTag::getName).toList();
-        imageUrl = !oneDayClass.getImageList().isEmpty() ?oneDayClass.getImageList().get(0).getUrl() : null;
+        this.tagList = tagList;
+        this.imageUrl = imageUrl;
     }
 
 }
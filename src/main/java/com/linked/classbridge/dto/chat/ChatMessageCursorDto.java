@@ -0,0 +1,17 @@
+package com.linked.classbridge.dto.chat;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageCursorDto {
+    private List<ChatMessageDto> messages;  // 오래된 순
+    private String nextCursor;  // 더 오래된 메시지 요청 시 cursor 로 전달, 없으면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,24 @@
+package com.linked.classbridge.dto.chat;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+/**
+ * 채팅방별 마지막 메시지와 사용자가 읽지 않은 메시지 수 (chat_message 집계 결과)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatRoomMessageSummary {
+
+    @Id
+    private Long chatRoomId;
+    private String latestMessage;
+    private LocalDateTime latestMessageTime;
+    private int unreadMessageCount;
+}
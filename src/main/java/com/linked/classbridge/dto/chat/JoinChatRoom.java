@@ -13,10 +13,12 @@ public class JoinChatRoom {
             Long initiatedTo,
             LocalDateTime createdAt,
             LocalDateTime updatedAt,
-            List<ChatMessageDto> messages
+            List<ChatMessageDto> messages,  // 최근 메시지, 오래된 순
+            String nextCursor,  // 이전 메시지 조회 시 cursor 로 전달, 더 없으면 null
+            boolean hasNext
     ) {
         public static Response of(Long chatRoomId, Long senderId, Long initiatedBy, Long initiatedTo,
-                                  LocalDateTime createdAt, LocalDateTime updatedAt, List<ChatMessageDto> messages) {
+                                  LocalDateTime createdAt, LocalDateTime updatedAt, ChatMessageCursorDto messages) {
             return new Response(
                     chatRoomId,
                     senderId,
@@ -24,7 +26,9 @@ public class JoinChatRoom {
                     initiatedTo,
                     createdAt,
                     updatedAt,
-                    messages
+                    messages.getMessages(),
+                    messages.getNextCursor(),
+                    messages.isHasNext()
             );
         }
 
@@ -1,5 +1,7 @@
 package com.linked.classbridge.dto.chat;
 
+import com.linked.classbridge.domain.ChatMessage;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +9,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * userId 가 lastReadMessageId 까지 읽었다는 알림
+ * <p>
+ * (보낸 시각, 메시지 id) 순으로 이 메시지 이전에 상대가 보낸 메시지는 모두 읽은 것이다.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,12 +21,17 @@ import lombok.Setter;
 @Builder
 public class ReadReceipt {
 
-    private String chatMessageId;
     private Long userId;
+    private String lastReadMessageId;
+    private LocalDateTime lastReadMessageTime;
+
+    public static ReadReceipt of(Long userId, ChatMessage lastReadMessage) {
+        return new ReadReceipt(userId, lastReadMessage.getId(), lastReadMessage.getSendTime());
+    }
 
     @Override
     public int hashCode() {
-        return Objects.hash(chatMessageId, userId);
+        return Objects.hash(userId, lastReadMessageId, lastReadMessageTime);
     }
 
     @Override
@@ -31,6 +43,7 @@ public class ReadReceipt {
             return false;
         }
         ReadReceipt that = (ReadReceipt) obj;
-        return chatMessageId.equals(that.chatMessageId) && userId.equals(that.userId);
+        return Objects.equals(userId, that.userId) && Objects.equals(lastReadMessageId, that.lastReadMessageId)
+                && Objects.equals(lastReadMessageTime, that.lastReadMessageTime);
     }
 }
@@ -0,0 +1,8 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+public interface ClassAutoCompleteProjection {
+
+    Long getClassId();
+    String getClassName();
+    String getTutorName();
+}
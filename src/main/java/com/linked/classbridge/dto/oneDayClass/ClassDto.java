@@ -1,14 +1,8 @@
 package com.linked.classbridge.dto.oneDayClass;
 
 import com.linked.classbridge.domain.ClassFAQ;
-import com.linked.classbridge.domain.ClassImage;
 import com.linked.classbridge.domain.ClassTag;
 import com.linked.classbridge.domain.OneDayClass;
-import com.linked.classbridge.domain.User;
-import com.linked.classbridge.repository.ClassImageRepository;
-import com.linked.classbridge.repository.OneDayClassRepository;
-import com.linked.classbridge.repository.UserRepository;
-import com.linked.classbridge.repository.WishRepository;
 import com.linked.classbridge.type.CategoryType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
@@ -80,33 +74,6 @@ public class ClassDto {
         }
     }
 
-    public void setTutorName(OneDayClassRepository oneDayClassRepository) {
-
-        String tutorName = oneDayClassRepository.findTutorNameByClassId(this.classId);
-        this.tutorName = tutorName;
-    }
-
-    public void setIsWish(User user, WishRepository wishRepository) {
-
-        if(user == null || wishRepository == null){
-            this.wish = false;
-            return;
-        }
-
-        if(wishRepository.existsByUserUserIdAndOneDayClassClassId(user.getUserId(), this.classId)){
-            this.wish = true;
-        } else {
-            this.wish = false;
-        }
-    }
-
-    public void setClassImage(ClassImageRepository classImageRepository) {
-
-        ClassImage classImage = classImageRepository.findFirstByOneDayClassClassIdAndSequence(this.classId, 1)
-                .orElse(null);
-        this.classImageUrl = classImage != null ? classImage.getUrl() : null;
-    }
-
     @Builder
     public record ClassRequest(
             @Schema(description = "클래스 이름", example = "헬스 클럽", minLength = 2, maxLength = 20)
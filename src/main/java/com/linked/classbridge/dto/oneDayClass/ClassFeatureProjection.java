@@ -0,0 +1,10 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+public interface ClassFeatureProjection {
+
+    Long getClassId();
+    Double getAverageAge();
+    Long getMaleCount();
+    Long getFemaleCount();
+    Long getCategoryId();
+}
@@ -0,0 +1,7 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+public interface ClassImageUrlProjection {
+
+    Long getClassId();
+    String getUrl();
+}
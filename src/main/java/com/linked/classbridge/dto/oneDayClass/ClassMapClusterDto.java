@@ -0,0 +1,28 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassMapClusterDto {
+    private int precision;  // 클러스터 geohash 길이
+    private long totalCount;    // 화면 안 클래스 수
+    private List<Cluster> clusters;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Cluster {
+        private String geohash;
+        private double lat;     // 클러스터에 속한 클래스 위치의 중심
+        private double lng;
+        private long count;
+    }
+}
@@ -0,0 +1,18 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClassSearchCursorDto {
+    private List<ClassSearchDto> content;
+    private long totalElements;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -12,7 +12,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,8 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+public interface ClassTextProjection {
+
+    Long getClassId();
+    String getClassName();
+    String getIntroduction();
+}
@@ -0,0 +1,9 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+public interface OneDayClassCounterProjection {
+
+    Long getClassId();
+    Integer getTotalWish();
+    Integer getTotalReviews();
+    Double getTotalStarRate();
+}
@@ -0,0 +1,7 @@
+package com.linked.classbridge.dto.oneDayClass;
+
+public interface UserClassIdProjection {
+
+    Long getUserId();
+    Long getClassId();
+}
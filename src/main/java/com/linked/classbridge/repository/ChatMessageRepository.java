@@ -1,15 +1,50 @@
 package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.dto.chat.ChatRoomMessageSummary;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChatMessageRepository extends MongoRepository<ChatMessage, String> {
-    List<ChatMessage> findByChatRoomIdOrderBySendTimeAsc(Long chatRoomId);
-    
-    List<ChatMessage> findByChatRoomIdAndSenderIdNotAndIsReadFalse(Long chatRoomId, Long userId);
+    // 채팅방의 최근 메시지부터 조회, (chatRoomId, sendTime, _id) 인덱스를 역순으로 읽음
+    List<ChatMessage> findByChatRoomIdOrderBySendTimeDescIdDesc(Long chatRoomId, Pageable pageable);
 
-    List<ChatMessage> findByChatRoomIdOrderBySendTimeDesc(Long chatRoomId);
+    // (sendTime, _id) 커서보다 이전 메시지를 최근 메시지부터 조회
+    @Query(value = "{ chatRoomId: ?0, $or: [ { sendTime: { $lt: ?1 } }, { sendTime: ?1, _id: { $lt: ?2 } } ] }",
+            sort = "{ sendTime: -1, _id: -1 }")
+    List<ChatMessage> findByChatRoomIdBefore(Long chatRoomId, LocalDateTime sendTime, ObjectId messageId,
+                                             Pageable pageable);
+
+
+    long countByChatRoomIdAndSenderIdNotAndIsReadFalse(Long chatRoomId, Long userId);
+
+    // 읽음 위치 (sendTime, _id) 이후에 userId 가 아닌 사람이 보낸 메시지 수
+    @Query(value = "{ chatRoomId: ?0, senderId: { $ne: ?1 }, "
+            + "$or: [ { sendTime: { $gt: ?2 } }, { sendTime: ?2, _id: { $gt: ?3 } } ] }", count = true)
+    long countByChatRoomIdAfter(Long chatRoomId, Long userId, LocalDateTime sendTime, ObjectId messageId);
+
+    // 읽음 위치 (sendTime, _id) 까지 userId 가 아닌 사람이 보낸 메시지의 isRead 를 한 번에 표시
+    @Query("{ chatRoomId: ?0, senderId: { $ne: ?1 }, isRead: false, "
+            + "$or: [ { sendTime: { $lt: ?2 } }, { sendTime: ?2, _id: { $lte: ?3 } } ] }")
+    @Update("{ $set: { isRead: true } }")
+    long markAsReadUpTo(Long chatRoomId, Long userId, LocalDateTime sendTime, ObjectId messageId);
+
+    // 여러 채팅방의 마지막 메시지와 userId 가 읽지 않은 (상대가 보낸) 메시지 수를 한 번에 집계
+    @Aggregation(pipeline = {
+            "{ $match: { chatRoomId: { $in: ?0 } } }",
+            "{ $sort: { sendTime: -1 } }",
+            "{ $group: { _id: '$chatRoomId', latestMessage: { $first: '$message' }, "
+                    + "latestMessageTime: { $first: '$sendTime' }, unreadMessageCount: { $sum: { $cond: "
+                    + "[ { $and: [ { $eq: ['$isRead', false] }, { $ne: ['$senderId', ?1] } ] }, 1, 0 ] } } } }"
+    })
+    List<ChatRoomMessageSummary> summarizeByChatRoomIdIn(Collection<Long> chatRoomIds, Long userId);
 }
@@ -2,9 +2,11 @@ package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.ChatRoom;
 import com.linked.classbridge.domain.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -26,4 +28,17 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
             + "AND cr.deletedAt IS NULL "
             + "ORDER BY cr.updatedAt DESC")
     List<ChatRoom> findAllByUserOrderByLastMessageAtDesc(User user);
+
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET cr.lastMessage = :lastMessage "
+            + "WHERE cr.chatRoomId = :chatRoomId AND cr.lastMessage IS NULL")
+    void updateLastMessageIfAbsent(Long chatRoomId, String lastMessage);
+
+    // 목록 정렬(updatedAt)도 함께 갱신, 늦게 저장된 이전 메시지가 마지막 메시지를 되돌리지 않도록 시각이 같거나 늦을 때만
+    @Modifying
+    @Query("UPDATE ChatRoom cr SET cr.lastMessage = :lastMessage, cr.lastMessageAt = :lastMessageAt, "
+            + "cr.updatedAt = :lastMessageAt "
+            + "WHERE cr.chatRoomId = :chatRoomId "
+            + "AND (cr.lastMessageAt IS NULL OR cr.lastMessageAt <= :lastMessageAt)")
+    void updateLastMessage(Long chatRoomId, String lastMessage, LocalDateTime lastMessageAt);
 }
@@ -1,20 +1,27 @@
 package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.ClassImage;
-import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.dto.oneDayClass.ClassImageUrlProjection;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ClassImageRepository extends JpaRepository<ClassImage, Long> {
 
-    List<ClassImage> findAllByOneDayClassClassIdInAndSequence(List<Long> classIdList, int sequence);
-
     void deleteAllByOneDayClassClassId(long classId);
 
     List<ClassImage> findAllByOneDayClassClassId(long classId);
 
     List<ClassImage> findAllByOneDayClassClassIdOrderBySequence(long classId);
 
-    Optional<ClassImage> findFirstByOneDayClassClassIdAndSequence(Long classId, int sequence);
+    @Query("SELECT i.oneDayClass.classId AS classId, i.url AS url FROM ClassImage i "
+            + "WHERE i.oneDayClass.classId IN :classIds AND i.sequence = :sequence")
+    List<ClassImageUrlProjection> findImageUrlsByClassIdInAndSequence(@Param("classIds") Collection<Long> classIds,
+                                                                      @Param("sequence") int sequence);
+
+    @Query("SELECT i.oneDayClass.classId AS classId, i.url AS url FROM ClassImage i "
+            + "WHERE i.oneDayClass.classId IN :classIds ORDER BY i.sequence")
+    List<ClassImageUrlProjection> findImageUrlsByClassIdInOrderBySequence(@Param("classIds") List<Long> classIds);
 }
@@ -1,11 +1,21 @@
 package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.ClassTag;
+import com.linked.classbridge.dto.oneDayClass.ClassTagNameProjection;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ClassTagRepository extends JpaRepository<ClassTag, Long> {
     List<ClassTag> findAllByOneDayClassClassId(Long classId);
 
     void deleteAllByOneDayClassClassId(long classId);
+
+    @Query("SELECT t.oneDayClass.classId AS classId, t.name AS name FROM ClassTag t WHERE t.oneDayClass.classId IN :classIds")
+    List<ClassTagNameProjection> findTagNamesByClassIdIn(@Param("classIds") List<Long> classIds);
+
+    @Query("SELECT t.oneDayClass.classId AS classId, t.name AS name FROM ClassTag t WHERE t.oneDayClass.endDate >= :date")
+    List<ClassTagNameProjection> findTagNamesByClassEndDateGreaterThanEqual(@Param("date") LocalDate date);
 }
@@ -0,0 +1,9 @@
+package com.linked.classbridge.repository;
+
+import com.linked.classbridge.domain.OneDayClassIndexDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OneDayClassIndexDeadLetterRepository extends JpaRepository<OneDayClassIndexDeadLetter, Long> {
+}
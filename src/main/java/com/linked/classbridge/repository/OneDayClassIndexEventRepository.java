@@ -0,0 +1,21 @@
+package com.linked.classbridge.repository;
+
+import com.linked.classbridge.domain.OneDayClassIndexEvent;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OneDayClassIndexEventRepository extends JpaRepository<OneDayClassIndexEvent, Long> {
+
+    List<OneDayClassIndexEvent> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OneDayClassIndexEvent e SET e.attempts = :attempts WHERE e.id = :id")
+    void updateAttempts(Long id, int attempts);
+}
@@ -1,7 +1,14 @@
 package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.dto.oneDayClass.ClassAutoCompleteProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassFeatureProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTextProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTutorNameProjection;
+import com.linked.classbridge.dto.oneDayClass.OneDayClassCounterProjection;
 import com.linked.classbridge.dto.oneDayClass.OneDayClassProjection;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -20,10 +27,42 @@ public interface OneDayClassRepository extends JpaRepository<OneDayClass, Long>
     @Query("SELECT c.classId as classId, c.averageAge as averageAge, c.maleCount as maleCount, c.femaleCount as femaleCount, c.category as category FROM OneDayClass c")
     List<OneDayClassProjection> findAllWithSelectedColumns();
 
-    @Query("SELECT c.classId FROM OneDayClass c ORDER BY c.totalStarRate DESC, c.totalWish DESC")
-    List<Long> getTopClassesId(Pageable pageable);
+    @Query("SELECT c.classId AS classId, c.averageAge AS averageAge, c.maleCount AS maleCount, c.femaleCount AS femaleCount, "
+            + "cat.categoryId AS categoryId FROM OneDayClass c LEFT JOIN c.category cat ORDER BY c.classId")
+    List<ClassFeatureProjection> findAllFeatures();
 
-    @Query("SELECT u.nickname FROM OneDayClass o JOIN o.tutor u WHERE o.classId = :classId")
-    String findTutorNameByClassId(@Param("classId") Long classId);
+    @Query("SELECT c.classId AS classId, c.totalWish AS totalWish, c.totalReviews AS totalReviews, "
+            + "c.totalStarRate AS totalStarRate FROM OneDayClass c")
+    List<OneDayClassCounterProjection> findAllCounters();
+
+    @Query("SELECT c.classId AS classId, c.className AS className, c.introduction AS introduction "
+            + "FROM OneDayClass c WHERE c.classId > :lastClassId ORDER BY c.classId")
+    List<ClassTextProjection> findTextsByClassIdGreaterThan(@Param("lastClassId") long lastClassId, Pageable pageable);
+
+    @Query("SELECT c FROM OneDayClass c JOIN FETCH c.tutor JOIN FETCH c.category WHERE c.classId IN :classIds")
+    List<OneDayClass> findAllWithTutorAndCategoryByClassIdIn(@Param("classIds") Collection<Long> classIds);
+
+    @Query("SELECT c.classId AS classId, c.totalWish AS totalWish, c.totalReviews AS totalReviews, "
+            + "c.totalStarRate AS totalStarRate FROM OneDayClass c WHERE c.classId IN :classIds")
+    List<OneDayClassCounterProjection> findCountersByClassIdIn(@Param("classIds") Collection<Long> classIds);
+
+    @Query("SELECT c FROM OneDayClass c JOIN FETCH c.tutor JOIN FETCH c.category "
+            + "WHERE c.classId > :lastClassId AND c.classId <= :maxClassId ORDER BY c.classId")
+    List<OneDayClass> findNextChunkForReindex(@Param("lastClassId") Long lastClassId,
+                                              @Param("maxClassId") Long maxClassId, Pageable pageable);
+
+    @Query("SELECT MIN(c.classId) FROM OneDayClass c")
+    Long findMinClassId();
+
+    @Query("SELECT MAX(c.classId) FROM OneDayClass c")
+    Long findMaxClassId();
+
+    @Query("SELECT c.classId AS classId, c.className AS className, u.nickname AS tutorName "
+            + "FROM OneDayClass c JOIN c.tutor u WHERE c.endDate >= :date")
+    List<ClassAutoCompleteProjection> findAutoCompleteTermsByEndDateGreaterThanEqual(@Param("date") LocalDate date);
+
+    @Query("SELECT o.classId AS classId, u.nickname AS tutorName FROM OneDayClass o JOIN o.tutor u "
+            + "WHERE o.classId IN :classIds")
+    List<ClassTutorNameProjection> findTutorNamesByClassIdIn(@Param("classIds") Collection<Long> classIds);
 }
 
@@ -0,0 +1,7 @@
+package com.linked.classbridge.repository;
+
+import com.linked.classbridge.domain.RelatedClass;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RelatedClassRepository extends JpaRepository<RelatedClass, Long> {
+}
@@ -3,8 +3,10 @@ package com.linked.classbridge.repository;
 import com.linked.classbridge.domain.Lesson;
 import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.Reservation;
+import com.linked.classbridge.dto.oneDayClass.UserClassIdProjection;
 import com.linked.classbridge.dto.reservation.SuccessReservationDto;
 import com.linked.classbridge.type.ReservationStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -39,4 +41,9 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     @Query("SELECT o FROM Reservation r JOIN r.lesson l JOIN l.oneDayClass o WHERE r.reservationId = :reservationId")
     Optional<OneDayClass> findOneDayClassById(Long reservationId);
+
+    @Query("SELECT DISTINCT r.user.userId AS userId, l.oneDayClass.classId AS classId FROM Reservation r JOIN r.lesson l "
+            + "WHERE r.user.userId IN :userIds AND r.status IN :statuses")
+    List<UserClassIdProjection> findUserClassIdsByUserIdIn(@Param("userIds") Collection<Long> userIds,
+                                                           @Param("statuses") Collection<ReservationStatus> statuses);
 }
@@ -1,6 +1,8 @@
 package com.linked.classbridge.repository;
 
+import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.UserChatRoom;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,12 +12,40 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserChatRoomRepository extends JpaRepository<UserChatRoom, Long> {
 
-    @Modifying
-    @Query("UPDATE UserChatRoom ucr SET ucr.isOnline = ?2 WHERE ucr.user = (SELECT u FROM User u WHERE u.email = ?1)")
-    void updateIsOnlineByUser_Email(String userEmail, boolean isOnline);
-
     @Query("select ucr from UserChatRoom ucr "
             + "JOIN FETCH ucr.user "
             + "where ucr.chatRoom.chatRoomId = :chatRoomId ")
     List<UserChatRoom> findAllByChatRoomIdIncludingDeleted(Long chatRoomId);
+
+    @Query("SELECT ucr FROM UserChatRoom ucr "
+            + "JOIN FETCH ucr.chatRoom cr "
+            + "JOIN FETCH cr.initiatedBy "
+            + "JOIN FETCH cr.initiatedTo "
+            + "WHERE ucr.user = :user "
+            + "AND ucr.deletedAt IS NULL "
+            + "AND cr.deletedAt IS NULL "
+            + "ORDER BY cr.updatedAt DESC")
+    List<UserChatRoom> findAllByUserWithChatRoom(User user);
+
+    // 동시에 전송된 메시지가 서로의 증가분을 덮어쓰지 않도록 DB 에서 증가, 아직 계산 전(null)인 채팅방은 그대로 둠
+    @Modifying
+    @Query("UPDATE UserChatRoom ucr SET ucr.unreadMessageCount = ucr.unreadMessageCount + :amount "
+            + "WHERE ucr.userChatRoomId = :userChatRoomId AND ucr.unreadMessageCount IS NOT NULL")
+    void increaseUnreadMessageCount(Long userChatRoomId, int amount);
+
+    // 읽음 위치는 앞으로만 이동, 이미 더 뒤의 메시지까지 읽었으면 바꾸지 않음 (0 반환)
+    // ObjectId 문자열은 길이가 같은 16진수이므로 문자열 비교가 생성 순서와 같음
+    @Modifying
+    @Query("UPDATE UserChatRoom ucr SET ucr.lastReadMessageId = :messageId, ucr.lastReadMessageAt = :sendTime, "
+            + "ucr.unreadMessageCount = :unreadMessageCount "
+            + "WHERE ucr.chatRoom.chatRoomId = :chatRoomId AND ucr.user.userId = :userId "
+            + "AND (ucr.lastReadMessageAt IS NULL OR ucr.lastReadMessageAt < :sendTime "
+            + "OR (ucr.lastReadMessageAt = :sendTime AND ucr.lastReadMessageId < :messageId))")
+    int updateReadWatermark(Long chatRoomId, Long userId, String messageId, LocalDateTime sendTime,
+                            int unreadMessageCount);
+
+    @Modifying
+    @Query("UPDATE UserChatRoom ucr SET ucr.unreadMessageCount = :unreadMessageCount "
+            + "WHERE ucr.userChatRoomId = :userChatRoomId")
+    void updateUnreadMessageCount(Long userChatRoomId, int unreadMessageCount);
 }
@@ -1,8 +1,12 @@
 package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.User;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +19,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    @Query("SELECT u.userId FROM User u WHERE u.userId > :lastUserId ORDER BY u.userId")
+    List<Long> findNextUserIds(@Param("lastUserId") Long lastUserId, Pageable pageable);
 }
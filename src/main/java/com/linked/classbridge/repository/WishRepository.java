@@ -1,9 +1,13 @@
 package com.linked.classbridge.repository;
 
 import com.linked.classbridge.domain.Wish;
+import com.linked.classbridge.dto.oneDayClass.UserClassIdProjection;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface WishRepository extends JpaRepository<Wish, Long> {
     List<Wish> findByUserUserId(Long userId);
@@ -11,4 +15,10 @@ public interface WishRepository extends JpaRepository<Wish, Long> {
     boolean existsByUserUserIdAndOneDayClassClassId(Long userId, Long classId);
 
     Optional<Wish> findByUserUserIdAndOneDayClassClassId(Long userId,Long classId);
+
+    @Query("SELECT w.oneDayClass.classId FROM Wish w WHERE w.user.userId = :userId")
+    List<Long> findClassIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT w.user.userId AS userId, w.oneDayClass.classId AS classId FROM Wish w WHERE w.user.userId IN :userIds")
+    List<UserClassIdProjection> findUserClassIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
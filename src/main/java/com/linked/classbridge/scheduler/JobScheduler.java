@@ -1,24 +1,41 @@
 package com.linked.classbridge.scheduler;
 
-import lombok.RequiredArgsConstructor;
+import com.linked.classbridge.service.search.OneDayClassReindexService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @Configuration
 @EnableScheduling
 @Slf4j
-@RequiredArgsConstructor
 public class JobScheduler {
 
-    private final JobLauncher jobLauncher;
+    // 잡은 별도 스레드에서 실행해 오래 걸려도 다른 @Scheduled 작업(색인 반영, 접속 상태 갱신 등)을 막지 않음
+    private final TaskExecutorJobLauncher jobLauncher;
 
     private final Job tutorPaymentJob;
 
+    private final Job relatedClassJob;
+
+    private final OneDayClassReindexService oneDayClassReindexService;
+
+    public JobScheduler(JobRepository jobRepository, Job tutorPaymentJob, Job relatedClassJob,
+                        OneDayClassReindexService oneDayClassReindexService) throws Exception {
+        this.tutorPaymentJob = tutorPaymentJob;
+        this.relatedClassJob = relatedClassJob;
+        this.oneDayClassReindexService = oneDayClassReindexService;
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("scheduled-job-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
     @Scheduled(cron = "0 0 0 1 * ?")
     public void performSettlementJob() {
         try {
@@ -27,4 +44,22 @@ public class JobScheduler {
             log.error("batch scheduler error :: {}", e.getMessage());
         }
     }
+
+    @Scheduled(cron = "${recommendation.related.cron:0 0 3 * * ?}")
+    public void performRelatedClassJob() {
+        try {
+            jobLauncher.run(relatedClassJob, new JobParametersBuilder().addLong("time", System.currentTimeMillis()).toJobParameters());
+        } catch (Exception e) {
+            log.error("related class scheduler error :: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${search.reindex.cron:-}")
+    public void performReindexJob() {
+        try {
+            oneDayClassReindexService.reindex();
+        } catch (Exception e) {
+            log.error("reindex scheduler error :: {}", e.getMessage());
+        }
+    }
 }
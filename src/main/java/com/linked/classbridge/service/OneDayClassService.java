@@ -33,13 +33,13 @@ import com.linked.classbridge.domain.ClassTag;
 import com.linked.classbridge.domain.Lesson;
 import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.User;
-import com.linked.classbridge.domain.Wish;
 import com.linked.classbridge.domain.document.OneDayClassDocument;
 import com.linked.classbridge.dto.oneDayClass.ClassDto;
 import com.linked.classbridge.dto.oneDayClass.ClassDto.ClassRequest;
 import com.linked.classbridge.dto.oneDayClass.ClassDto.ClassResponseByTutor;
 import com.linked.classbridge.dto.oneDayClass.ClassDto.ClassResponseByUser;
 import com.linked.classbridge.dto.oneDayClass.ClassFAQDto;
+import com.linked.classbridge.dto.oneDayClass.ClassSearchCursorDto;
 import com.linked.classbridge.dto.oneDayClass.ClassSearchDto;
 import com.linked.classbridge.dto.oneDayClass.ClassTagDto;
 import com.linked.classbridge.dto.oneDayClass.ClassUpdateDto;
@@ -54,16 +54,31 @@ import com.linked.classbridge.repository.ClassFAQRepository;
 import com.linked.classbridge.repository.ClassImageRepository;
 import com.linked.classbridge.repository.ClassTagRepository;
 import com.linked.classbridge.repository.LessonRepository;
-import com.linked.classbridge.repository.OneDayClassDocumentRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
 import com.linked.classbridge.repository.UserRepository;
-import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassFeatureStore;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.recommendation.SimilarClassIndex;
+import com.linked.classbridge.service.search.AutoCompleteIndex;
+import com.linked.classbridge.service.search.ClassSearchCache;
+import com.linked.classbridge.service.search.ClassSearchCursor;
+import com.linked.classbridge.service.search.ClassSearchKey;
+import com.linked.classbridge.service.search.ClassSearchResult;
+import com.linked.classbridge.service.search.OneDayClassIndexingService;
+import com.linked.classbridge.service.search.OpenSearchTook;
+import com.linked.classbridge.service.search.SearchMetrics;
+import com.linked.classbridge.service.search.SearchRequestCoalescer;
+import com.linked.classbridge.service.wish.UserWishCache;
+import com.linked.classbridge.service.wish.WishClassIds;
 import com.linked.classbridge.type.CategoryType;
 import com.linked.classbridge.type.ErrorCode;
 import com.linked.classbridge.type.LocationType;
 import com.linked.classbridge.type.OrderType;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -105,6 +120,8 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class OneDayClassService {
 
+    private static final int SEARCH_PAGE_SIZE = 20;   // 검색 결과 한 페이지 문서 수
+
     private final OneDayClassRepository classRepository;
     private final UserRepository userRepository;
     private final KakaoMapService kakaoMapService;
@@ -116,9 +133,17 @@ public class OneDayClassService {
     private final LessonRepository lessonRepository;
     private final ClassImageRepository classImageRepository;
     private final ElasticsearchOperations operations;
-    private final OneDayClassDocumentRepository oneDayClassDocumentRepository;
-    private final WishRepository wishRepository;
+    private final UserWishCache userWishCache;
     private final RestHighLevelClient client;
+    private final ClassSearchCache classSearchCache;
+    private final OneDayClassIndexingService oneDayClassIndexingService;
+    private final AutoCompleteIndex autoCompleteIndex;
+    private final SearchRequestCoalescer searchRequestCoalescer;
+    private final SearchMetrics searchMetrics;
+    private final ClassFeatureStore classFeatureStore;
+    private final ClassLeaderboard classLeaderboard;
+    private final SimilarClassIndex similarClassIndex;
+    private final ClassDtoHydrator classDtoHydrator;
 
     @Transactional
     public ClassResponseByTutor registerClass(String email, ClassRequest request, MultipartFile[] files)
@@ -162,7 +187,10 @@ public class OneDayClassService {
 
         oneDayClass.setTagList(tagRepository.saveAll(request.tagList()));
 
-        operations.save(new OneDayClassDocument(oneDayClass));
+        oneDayClassIndexingService.markChanged(oneDayClass.getClassId());
+        classFeatureStore.update(oneDayClass);
+        classLeaderboard.update(oneDayClass);
+        similarClassIndex.update(oneDayClass);
 
         return ClassResponseByTutor.fromEntity(oneDayClass);
     }
@@ -243,11 +271,7 @@ public class OneDayClassService {
     public Page<ClassDto> getOneDayClassList(String email, Pageable pageable) {
         User tutor = getUser(email);
         Page<OneDayClass> classList = classRepository.findAllByTutorUserId(tutor.getUserId(), pageable);
-        Map<Long, String> imageMap = (classImageRepository.findAllByOneDayClassClassIdInAndSequence(classList.map(OneDayClass::getClassId).toList(), 1))
-                .stream().collect(Collectors.toMap(
-                        classImage -> classImage.getOneDayClass().getClassId(),
-                        ClassImage::getUrl
-                ));
+        Map<Long, String> imageMap = classDtoHydrator.firstImageUrls(classList.map(OneDayClass::getClassId).toList());
 
         Page<ClassDto> classDtoPage = classList.map(ClassDto::new);
         classDtoPage.forEach(item -> {
@@ -380,10 +404,10 @@ public class OneDayClassService {
         changeClass.setImageList(classImageList);
         changeClass.setTagList(tagRepository.findAllByOneDayClassClassId(classId));
 
-        String imageUrl = classImageList.isEmpty() ? "" : classImageList.get(0).getUrl();
-        OneDayClassDocument afterDocument = new OneDayClassDocument(changeClass);
-        afterDocument.setImageUrl(imageUrl);
-        operations.save(afterDocument);
+        oneDayClassIndexingService.markChanged(classId);
+        classFeatureStore.update(changeClass);
+        classLeaderboard.update(changeClass);
+        similarClassIndex.update(changeClass);
 
         return ClassUpdateDto.ClassResponse.fromEntity(changeClass);
     }
@@ -458,7 +482,10 @@ public class OneDayClassService {
 
         classRepository.deleteById(classId);
 
-        oneDayClassDocumentRepository.deleteById(classId);
+        oneDayClassIndexingService.markChanged(classId);
+        classFeatureStore.remove(classId);
+        classLeaderboard.remove(classId);
+        similarClassIndex.remove(classId);
 
         return true;
     }
@@ -489,9 +516,7 @@ public class OneDayClassService {
 
         if(email != null) {
             User user = getUser(email);
-            if(wishRepository.existsByUserUserIdAndOneDayClassClassId(user.getUserId(), oneDayClass.getClassId())) {
-                isWish = true;
-            }
+            isWish = userWishCache.get(user.getUserId()).contains(oneDayClass.getClassId());
         }
 
         if(lessonRepository.existsByOneDayClassClassIdAndLessonDateIsAfterAndParticipantNumberIsLessThan(oneDayClass.getClassId(), LocalDate.now().minusDays(1), oneDayClass.getPersonal())) {
@@ -506,6 +531,7 @@ public class OneDayClassService {
                 .orElseThrow(() -> new RestApiException(ErrorCode.CLASS_NOT_FOUND));
     }
 
+    @Transactional
     public ClassTagDto registerTag(String email, ClassTagDto request, long classId) {
         User tutor = getUser(email);
         OneDayClass oneDayClass = getClass(classId);
@@ -524,36 +550,27 @@ public class OneDayClassService {
                 .build();
         ClassTagDto classTagDto = new ClassTagDto(tagRepository.save(classTag));
 
-        OneDayClassDocument oneDayClassDocument = oneDayClassDocumentRepository.findById(classId).orElseThrow(() -> new RestApiException(CLASS_NOT_FOUND));
-        List<String> tagList = new ArrayList<>(oneDayClassDocument.getTagList());
-        tagList.add(classTag.getName());
-        oneDayClassDocument.setTagList(tagList);
-        operations.save(oneDayClassDocument);
+        oneDayClassIndexingService.markChanged(classId);
 
         return classTagDto;
     }
 
+    @Transactional
     public ClassTagDto updateTag(String email, ClassTagDto request, long classId, long tagId) {
         User tutor = getUser(email);
         ClassTag classTag = getTag(tagId);
         validateTagMatchTutorAndClassId(tutor, classId, classTag);
 
-        String beforeTagName = classTag.getName();
-
         classTag.setName(request.getName());
 
         ClassTagDto classTagDto = new ClassTagDto(tagRepository.save(classTag));
 
-        OneDayClassDocument oneDayClassDocument = oneDayClassDocumentRepository.findById(classId).orElseThrow(() -> new RestApiException(CLASS_NOT_FOUND));
-        List<String> tagList = new ArrayList<>(oneDayClassDocument.getTagList());
-        tagList.remove(beforeTagName);
-        tagList.add(request.getName());
-        oneDayClassDocument.setTagList(tagList);
-        operations.save(oneDayClassDocument);
+        oneDayClassIndexingService.markChanged(classId);
 
         return classTagDto;
     }
 
+    @Transactional
     public Boolean deleteTag(String email, long classId, long tagId) {
         User tutor = getUser(email);
         ClassTag classTag = getTag(tagId);
@@ -561,10 +578,7 @@ public class OneDayClassService {
 
         tagRepository.delete(classTag);
 
-        OneDayClassDocument oneDayClassDocument = oneDayClassDocumentRepository.findById(classId).orElseThrow(() -> new RestApiException(CLASS_NOT_FOUND));
-        List<String> tagList = new ArrayList<>(oneDayClassDocument.getTagList());
-        tagList.remove(classTag.getName());
-        oneDayClassDocument.setTagList(tagList);
+        oneDayClassIndexingService.markChanged(classId);
 
         return true;
     }
@@ -729,34 +743,105 @@ public class OneDayClassService {
     }
 
     public Page<ClassSearchDto> searchClass(String email, String query, CategoryType categoryType, double lat, double lng, LocationType location, OrderType orderType, int page) {
-        if(page < 1) page = 1;
-        NativeSearchQuery searchQuery = buildSearchQuery(query, categoryType, lat, lng, location, orderType, page);
+        Timer.Sample sample = searchMetrics.start();
+        ClassSearchKey key = classSearchCache.createKey(query, categoryType, lat, lng, location, orderType, page);
+        try {
+            ClassSearchResult result = classSearchCache.get(key,
+                    () -> searchRequestCoalescer.search(key, () -> searchClassDocuments(key, null)));
+
+            // 캐시된 결과는 여러 요청이 공유하므로 복사본에 찜 여부를 표시
+            List<ClassSearchDto> documents = result.copyDocuments();
+            markWish(email, documents);
+
+            return new PageImpl<>(documents, PageRequest.of(key.page() - 1, SEARCH_PAGE_SIZE), result.totalHits());
+        } finally {
+            searchMetrics.recordClassSearch(sample, key, false);
+        }
+    }
+
+    /**
+     * search_after 커서 기반 검색, 깊은 페이지도 첫 페이지와 같은 비용으로 조회한다.
+     *
+     * @param cursor 이전 응답의 nextCursor, 비어 있으면 첫 페이지
+     */
+    public ClassSearchCursorDto searchClassByCursor(String email, String query, CategoryType categoryType, double lat, double lng, LocationType location, OrderType orderType, String cursor) {
+        Timer.Sample sample = searchMetrics.start();
+        ClassSearchKey key = classSearchCache.createKey(query, categoryType, lat, lng, location, orderType, 1);
+        boolean firstPage = cursor == null || cursor.isBlank();
+        try {
+            // 첫 페이지는 페이지 모드 1페이지와 같은 결과이므로 캐시를 공유
+            ClassSearchResult result;
+            if (firstPage) {
+                result = classSearchCache.get(key,
+                        () -> searchRequestCoalescer.search(key, () -> searchClassDocuments(key, null)));
+            } else {
+                ClassSearchCursor searchCursor = ClassSearchCursor.decode(cursor, key.orderType());
+                result = searchRequestCoalescer.search(List.of(key, cursor),
+                        () -> searchClassDocuments(key, searchCursor.sortValues()));
+            }
 
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-        searchSourceBuilder.query(searchQuery.getQuery());
-        Objects.requireNonNull(searchQuery.getOpenSearchSorts()).forEach(searchSourceBuilder::sort);
-        SearchHits<OneDayClassDocument> searchHits = operations.search(searchQuery, OneDayClassDocument.class);
-        List<ClassSearchDto> documents = searchHits.stream().map(SearchHit::getContent).map(ClassSearchDto::new).collect(Collectors.toList());
+            List<ClassSearchDto> documents = result.copyDocuments();
+            markWish(email, documents);
 
+            boolean hasNext = documents.size() == SEARCH_PAGE_SIZE && !result.lastSortValues().isEmpty();
+            return ClassSearchCursorDto.builder()
+                    .content(documents)
+                    .totalElements(result.totalHits())
+                    .nextCursor(hasNext ? new ClassSearchCursor(key.orderType(), result.lastSortValues()).encode() : null)
+                    .hasNext(hasNext)
+                    .build();
+        } finally {
+            searchMetrics.recordClassSearch(sample, key, !firstPage);
+        }
+    }
+
+    private void markWish(String email, List<ClassSearchDto> documents) {
         if(email != null && !email.isEmpty()) {
             User user = getUser(email);
 
-            List<Long> wishListIds = wishRepository.findByUserUserId(user.getUserId())
-                    .stream().map(Wish::getOneDayClass).map(OneDayClass::getClassId).toList();
+            WishClassIds wishClassIds = userWishCache.get(user.getUserId());
 
             documents.forEach(document -> {
-                if(wishListIds.contains(document.getClassId())) {
+                if(wishClassIds.contains(document.getClassId())) {
                     document.setWish(true);
                 }
             });
         }
+    }
 
-        return new PageImpl<>(documents, PageRequest.of(page - 1, 20), searchHits.getTotalHits());
+    private ClassSearchResult searchClassDocuments(ClassSearchKey key, List<Object> searchAfter) {
+        NativeSearchQuery searchQuery = buildSearchQuery(key.query(), key.categoryType(), key.lat(), key.lng(),
+                key.location(), key.orderType(), key.page(), searchAfter);
+
+        OpenSearchTook.consume();
+        long start = System.nanoTime();
+        SearchHits<OneDayClassDocument> searchHits = operations.search(searchQuery, OneDayClassDocument.class);
+        searchMetrics.recordOpenSearch("search", key.orderType(), System.nanoTime() - start, OpenSearchTook.consume(),
+                searchHits.getTotalHits(), () -> toQueryJson(searchQuery));
+        List<ClassSearchDto> documents = searchHits.stream().map(SearchHit::getContent).map(ClassSearchDto::new).toList();
+        List<Object> lastSortValues = searchHits.hasSearchHits()
+                ? searchHits.getSearchHit(searchHits.getSearchHits().size() - 1).getSortValues()
+                : List.of();
+
+        return new ClassSearchResult(documents, searchHits.getTotalHits(), lastSortValues);
     }
 
-    private NativeSearchQuery buildSearchQuery(String query, CategoryType categoryType, double lat, double lnt, LocationType location, OrderType orderType, int page) {
-        int size = 20; // 한 페이지에 표시할 문서 수
-        int from = (page - 1) * size; // 시작 문서 번호
+    // 느린 쿼리 기록용, 실제 요청과 같은 형태의 검색 본문
+    private static String toQueryJson(NativeSearchQuery searchQuery) {
+        SearchSourceBuilder source = new SearchSourceBuilder()
+                .query(searchQuery.getQuery())
+                .from((int) searchQuery.getPageable().getOffset())
+                .size(searchQuery.getPageable().getPageSize());
+        searchQuery.getOpenSearchSorts().forEach(source::sort);
+        if (searchQuery.getSearchAfter() != null) {
+            source.searchAfter(searchQuery.getSearchAfter().toArray());
+        }
+        return source.toString();
+    }
+
+    private NativeSearchQuery buildSearchQuery(String query, CategoryType categoryType, double lat, double lnt, LocationType location, OrderType orderType, int page, List<Object> searchAfter) {
+        int size = SEARCH_PAGE_SIZE; // 한 페이지에 표시할 문서 수
+        int from = searchAfter == null ? (page - 1) * size : 0; // 시작 문서 번호, 커서 모드는 항상 0
 
         BoolQueryBuilder queryBuilder = QueryBuilders.boolQuery();
 
@@ -822,17 +907,45 @@ public class OneDayClassService {
                 break;
         }
 
+        // 정렬 값이 같은 문서의 순서를 고정해 페이지 간 중복, 누락을 막고 search_after 커서가 유일하게 가리키도록 함
+        searchSourceBuilder.sort("classId", SortOrder.ASC);
+
         searchSourceBuilder.from(from);
         searchSourceBuilder.size(size);
 
-        return new NativeSearchQueryBuilder()
+        NativeSearchQueryBuilder searchQueryBuilder = new NativeSearchQueryBuilder()
                 .withQuery(queryBuilder)
-                .withPageable(PageRequest.of(page - 1, 20))
-                .withSorts(searchSourceBuilder.sorts())
-                .build();
+                .withPageable(PageRequest.of(from / size, size))
+                .withSorts(searchSourceBuilder.sorts());
+        if (searchAfter != null) {
+            searchQueryBuilder.withSearchAfter(searchAfter);
+        }
+        return searchQueryBuilder.build();
     }
 
     public List<String> autoCompleteSearch(String query) throws IOException {
+        Timer.Sample sample = searchMetrics.start();
+        if (autoCompleteIndex.isReady()) {
+            List<String> suggestions = autoCompleteIndex.suggest(query);
+            searchMetrics.recordAutoComplete(sample, "index");
+            return suggestions;
+        }
+        try {
+            return searchRequestCoalescer.autoComplete(query, () -> {
+                try {
+                    return List.copyOf(autoCompleteSearchFromOpenSearch(query));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            searchMetrics.recordAutoComplete(sample, "opensearch");
+        }
+    }
+
+    private List<String> autoCompleteSearchFromOpenSearch(String query) throws IOException {
         String indexName = "onedayclass";
         Set<String> set = new HashSet<>();
         String[] fieldList = {"className", "tutorName", "tagList"};
@@ -859,7 +972,12 @@ public class OneDayClassService {
 
         searchRequest.source(searchSourceBuilder);
 
+        long start = System.nanoTime();
         SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+        searchMetrics.recordOpenSearch("autoComplete", null, System.nanoTime() - start,
+                searchResponse.getTook().millis(),
+                searchResponse.getHits().getTotalHits() == null ? 0 : searchResponse.getHits().getTotalHits().value,
+                searchSourceBuilder::toString);
 
         // 검색 결과 처리
         for (org.opensearch.search.SearchHit hit : searchResponse.getHits()) {
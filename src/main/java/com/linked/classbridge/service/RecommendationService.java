@@ -1,25 +1,24 @@
 package com.linked.classbridge.service;
 
+import com.linked.classbridge.config.ClassLeaderboardProperties;
 import com.linked.classbridge.domain.Category;
-import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.dto.oneDayClass.ClassDto;
-import com.linked.classbridge.dto.oneDayClass.OneDayClassProjection;
 import com.linked.classbridge.exception.RestApiException;
-import com.linked.classbridge.repository.ClassImageRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
 import com.linked.classbridge.repository.UserRepository;
-import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.recommendation.RecommendationSegmentCache;
+import com.linked.classbridge.service.recommendation.RelatedClassStore;
+import com.linked.classbridge.service.recommendation.SimilarClassIndex;
 import com.linked.classbridge.type.ErrorCode;
 import com.linked.classbridge.type.Gender;
 import com.linked.classbridge.util.AgeUtil;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
-import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
@@ -28,16 +27,27 @@ public class RecommendationService {
 
     private final UserRepository userRepository;
     private final OneDayClassRepository oneDayClassRepository;
-    private final ClassImageRepository classImageRepository;
-    private final WishRepository wishRepository;
+    private final RecommendationSegmentCache recommendationSegmentCache;
+    private final ClassDtoHydrator classDtoHydrator;
+    private final RelatedClassStore relatedClassStore;
+    private final ClassLeaderboard classLeaderboard;
+    private final ClassLeaderboardProperties leaderboardProperties;
+    private final SimilarClassIndex similarClassIndex;
 
     public RecommendationService(UserRepository userRepository, OneDayClassRepository oneDayClassRepository,
-                                 ClassImageRepository classImageRepository, WishRepository wishRepository) {
+                                 RecommendationSegmentCache recommendationSegmentCache,
+                                 ClassDtoHydrator classDtoHydrator, RelatedClassStore relatedClassStore,
+                                 ClassLeaderboard classLeaderboard, ClassLeaderboardProperties leaderboardProperties,
+                                 SimilarClassIndex similarClassIndex) {
 
         this.userRepository = userRepository;
         this.oneDayClassRepository = oneDayClassRepository;
-        this.classImageRepository = classImageRepository;
-        this.wishRepository = wishRepository;
+        this.recommendationSegmentCache = recommendationSegmentCache;
+        this.classDtoHydrator = classDtoHydrator;
+        this.relatedClassStore = relatedClassStore;
+        this.classLeaderboard = classLeaderboard;
+        this.leaderboardProperties = leaderboardProperties;
+        this.similarClassIndex = similarClassIndex;
     }
 
     // 사용자에게 맞는 추천 클래스 반환
@@ -53,63 +63,70 @@ public class RecommendationService {
                 user.getInterests().stream().map(Category::getCategoryId).toList() : null;
 
         if(userAge == 0 || userGender == null || userInterestsId == null) {
-            return getTopClasses();
+            return getTopClasses(user.getUserId());
         }
 
-        // 조회 최적화를 위해 인터페이스 기반 Projection 사용
-        List<OneDayClassProjection> allClasses = oneDayClassRepository.findAllWithSelectedColumns();
+        // 나이, 성별, 관심 카테고리가 같은 사용자는 순위가 같으므로 세그먼트별로 계산해 둔 순위를 사용
+        List<Long> topClassIds = recommendationSegmentCache.topClassIds(userAge, userGender, userInterestsId);
 
-        Map<Long, Double> correlationScores = new HashMap<>();
+        return getClassesInOrder(topClassIds, user.getUserId());
+    }
 
-        for (OneDayClassProjection oneDayClass : allClasses) {
+    // 기본 추천 클래스 반환
+    public List<ClassDto> getTopClasses() {
+        return getTopClasses(null);
+    }
 
-            double classAge = oneDayClass.getAverageAge() != null ? oneDayClass.getAverageAge() : 20.0; // 평균 연령 20세가 기본값
-            Long maleCount = oneDayClass.getMaleCount() != null ? oneDayClass.getMaleCount() : 0L;
-            Long femaleCount = oneDayClass.getFemaleCount() != null ? oneDayClass.getFemaleCount() : 0L;
-            Gender classGender = maleCount > femaleCount ? Gender.MALE : Gender.FEMALE;
+    // 순위는 메모리 순위표에서 읽고, DB 는 상위 클래스의 응답을 채울 때만 조회
+    private List<ClassDto> getTopClasses(Long userId) {
 
-            double matchInterest = userInterestsId.stream()
-                    .anyMatch(id -> id != null && id.equals(oneDayClass.getCategory().getCategoryId())) ? 1 : 0;
-            double[] userVector = {userAge, userGender.ordinal(), matchInterest};
-            double[] classVector = {classAge, classGender.ordinal(), 1};
+        List<Long> topClassIds = classLeaderboard.topClassIds(leaderboardProperties.getTopN());
+        List<ClassDto> classDtos = findClassesInOrder(topClassIds);
+        if (classDtos.size() < topClassIds.size()) {
+            // 순위표에 반영되기 전에 삭제된 클래스는 순위표에서 빼고 다시 조회
+            Set<Long> foundClassIds = classDtos.stream().map(ClassDto::getClassId).collect(Collectors.toSet());
+            topClassIds.stream().filter(classId -> !foundClassIds.contains(classId)).forEach(classLeaderboard::remove);
+            classDtos = findClassesInOrder(classLeaderboard.topClassIds(leaderboardProperties.getTopN()));
+        }
+        return classDtoHydrator.hydrate(classDtos, userId);
+    }
 
-            // 두 벡터 간의 피어슨 상관 계수를 계산
-            PearsonsCorrelation correlation = new PearsonsCorrelation();
-            double correlationScore = correlation.correlation(userVector, classVector);
+    // 함께 예약/찜한 클래스 반환, 순위는 배치 잡이 미리 계산해 둔 메모리 목록에서 조회
+    public List<ClassDto> getRelatedClasses(Long classId, String userEmail, int size) {
 
-            correlationScores.put(oneDayClass.getClassId(), correlationScore);
-        }
+        return getClassesInOrder(relatedClassStore.relatedClassIds(classId, size), userEmail);
+    }
 
-        List<Long> topClassIds = correlationScores.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
-                .limit(5)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+    // 클래스명, 소개, 태그가 비슷한 클래스 반환, 메모리 벡터 인덱스에서 근사 최근접 이웃을 조회
+    public List<ClassDto> getSimilarClasses(Long classId, String userEmail, int size) {
+        return getClassesInOrder(similarClassIndex.similarClassIds(classId, size), userEmail);
+    }
 
-        Page<OneDayClass> page = oneDayClassRepository.findAllByClassIdIn(topClassIds, PageRequest.of(0, 5));
+    private List<ClassDto> getClassesInOrder(List<Long> classIds, String userEmail) {
+        if (classIds.isEmpty()) {
+            return List.of();
+        }
 
-        return page.getContent().stream().map(oneDayClass -> {
-            ClassDto classDto = new ClassDto(oneDayClass);
-            classDto.setClassImage(classImageRepository);
-            classDto.setTutorName(oneDayClassRepository);
-            classDto.setIsWish(user, wishRepository);
-            return classDto;
-        }).collect(Collectors.toList());
+        Long userId = userEmail != null
+                ? userRepository.findByEmail(userEmail).map(User::getUserId).orElse(null) : null;
+        return getClassesInOrder(classIds, userId);
     }
 
-    // 기본 추천 클래스 반환
-    public List<ClassDto> getTopClasses() {
+    // 이미지, 강사 닉네임, 찜 여부는 클래스마다 조회하지 않고 한 번에 채움
+    private List<ClassDto> getClassesInOrder(List<Long> classIds, Long userId) {
+        return classDtoHydrator.hydrate(findClassesInOrder(classIds), userId);
+    }
 
-        List<Long> topClassIds = oneDayClassRepository.getTopClassesId(PageRequest.of(0, 5));
+    // DB 는 순서를 보장하지 않으므로 classIds 순서대로 다시 정렬
+    private List<ClassDto> findClassesInOrder(List<Long> classIds) {
+        if (classIds.isEmpty()) {
+            return List.of();
+        }
 
         return oneDayClassRepository
-                .findAllByClassIdIn(topClassIds, PageRequest.of(0, 5))
-                .getContent().stream().map(oneDayClass -> {
-            ClassDto classDto = new ClassDto(oneDayClass);
-            classDto.setClassImage(classImageRepository);
-            classDto.setTutorName(oneDayClassRepository);
-            classDto.setIsWish(null, wishRepository);
-            return classDto;
-        }).collect(Collectors.toList());
+                .findAllByClassIdIn(classIds, PageRequest.of(0, classIds.size()))
+                .getContent().stream().map(ClassDto::new)
+                .sorted(Comparator.comparingInt(classDto -> classIds.indexOf(classDto.getClassId())))
+                .collect(Collectors.toList());
     }
 }
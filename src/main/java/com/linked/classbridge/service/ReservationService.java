@@ -22,6 +22,7 @@ import com.linked.classbridge.repository.AttendanceRepository;
 import com.linked.classbridge.repository.LessonRepository;
 import com.linked.classbridge.repository.ReservationRepository;
 import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.service.recommendation.ClassFeatureStore;
 import com.linked.classbridge.util.AgeUtil;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -40,6 +41,7 @@ public class ReservationService {
     private final OneDayClassRepository oneDayClassRepository;
     private final UserService userService;
     private final KakaoRefundService refundService;
+    private final ClassFeatureStore classFeatureStore;
 
     /**
      * 예약 생성
@@ -65,6 +67,7 @@ public class ReservationService {
 
         oneDayClass.addStudent(userAge, userGender);
         oneDayClassRepository.save(oneDayClass);
+        classFeatureStore.update(oneDayClass);
 
         return reservation;
     }
@@ -1,6 +1,5 @@
 package com.linked.classbridge.service;
 
-import static com.linked.classbridge.type.ErrorCode.CLASS_NOT_FOUND;
 import static com.linked.classbridge.type.ErrorCode.USER_NOT_FOUND;
 import static com.linked.classbridge.type.ImageUpdateAction.ADD;
 
@@ -9,7 +8,6 @@ import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.Review;
 import com.linked.classbridge.domain.ReviewImage;
 import com.linked.classbridge.domain.User;
-import com.linked.classbridge.domain.document.OneDayClassDocument;
 import com.linked.classbridge.dto.review.DeleteReviewResponse;
 import com.linked.classbridge.dto.review.GetReviewResponse;
 import com.linked.classbridge.dto.review.RegisterReviewDto;
@@ -17,10 +15,11 @@ import com.linked.classbridge.dto.review.RegisterReviewDto.Request;
 import com.linked.classbridge.dto.review.UpdateReviewDto;
 import com.linked.classbridge.dto.review.UpdateReviewImageDto;
 import com.linked.classbridge.exception.RestApiException;
-import com.linked.classbridge.repository.OneDayClassDocumentRepository;
 import com.linked.classbridge.repository.ReviewImageRepository;
 import com.linked.classbridge.repository.ReviewRepository;
 import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.search.OneDayClassIndexingService;
 import com.linked.classbridge.type.ErrorCode;
 import java.util.List;
 import java.util.Objects;
@@ -28,7 +27,6 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -43,8 +41,8 @@ public class ReviewService {
     private final S3Service s3Service;
     private final OneDayClassService classService;
     private final UserRepository userRepository;
-    private final ElasticsearchOperations operations;
-    private final OneDayClassDocumentRepository oneDayClassDocumentRepository;
+    private final OneDayClassIndexingService oneDayClassIndexingService;
+    private final ClassLeaderboard classLeaderboard;
 
     /**
      * 리뷰 등록
@@ -73,7 +71,8 @@ public class ReviewService {
 
         oneDayClass.addReview(savedReview);
 
-        updateOneDayClassDocumentStarRate(oneDayClass);
+        oneDayClassIndexingService.markCountersChanged(oneDayClass.getClassId());
+        classLeaderboard.update(oneDayClass);
 
         return RegisterReviewDto.Response.fromEntity(savedReview);
     }
@@ -102,7 +101,8 @@ public class ReviewService {
 
         oneDayClass.addStartRateDiff(diffRating); // 평점 업데이트
 
-        updateOneDayClassDocumentStarRate(oneDayClass);
+        oneDayClassIndexingService.markCountersChanged(oneDayClass.getClassId());
+        classLeaderboard.update(oneDayClass);
 
         return UpdateReviewDto.Response.fromEntity(review);
     }
@@ -121,7 +121,8 @@ public class ReviewService {
 
         review.getOneDayClass().removeReview(review);
 
-        updateOneDayClassDocumentStarRate(review.getOneDayClass());
+        oneDayClassIndexingService.markCountersChanged(review.getOneDayClass().getClassId());
+        classLeaderboard.update(review.getOneDayClass());
 
         reviewRepository.delete(review);
 
@@ -281,13 +282,4 @@ public class ReviewService {
         Page<Review> reviews = reviewRepository.findByTutor(tutor, pageable);
         return reviews.map(GetReviewResponse::fromEntity);
     }
-
-    private void updateOneDayClassDocumentStarRate(OneDayClass oneDayClass) {
-        OneDayClassDocument oneDayClassDocument = oneDayClassDocumentRepository.findById(oneDayClass.getClassId())
-                .orElseThrow(() -> new RestApiException(CLASS_NOT_FOUND));
-        oneDayClassDocument.setStarRate(oneDayClass.getTotalStarRate() / (double)(oneDayClass.getTotalReviews() == 0 ? 1
-                : oneDayClass.getTotalReviews()));
-        oneDayClassDocument.setTotalReviews(oneDayClass.getTotalReviews());
-        operations.save(oneDayClassDocument);
-    }
 }
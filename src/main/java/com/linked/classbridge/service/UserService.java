@@ -15,11 +15,9 @@ import static com.linked.classbridge.type.ErrorCode.WISH_NOT_FOUND;
 import static com.linked.classbridge.util.CookieUtil.createCookie;
 
 import com.linked.classbridge.domain.Category;
-import com.linked.classbridge.domain.ClassImage;
 import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.Wish;
-import com.linked.classbridge.domain.document.OneDayClassDocument;
 import com.linked.classbridge.dto.user.AdditionalInfoDto;
 import com.linked.classbridge.dto.user.AuthDto;
 import com.linked.classbridge.dto.user.CustomOAuth2User;
@@ -29,12 +27,14 @@ import com.linked.classbridge.dto.user.UserInfoDto;
 import com.linked.classbridge.dto.user.WishDto;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.repository.CategoryRepository;
-import com.linked.classbridge.repository.ClassImageRepository;
-import com.linked.classbridge.repository.OneDayClassDocumentRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
 import com.linked.classbridge.repository.UserRepository;
 import com.linked.classbridge.repository.WishRepository;
 import com.linked.classbridge.security.CustomUserDetails;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.search.OneDayClassIndexingService;
+import com.linked.classbridge.service.wish.UserWishCache;
 import com.linked.classbridge.type.AuthType;
 import com.linked.classbridge.type.CategoryType;
 import com.linked.classbridge.type.Gender;
@@ -50,7 +50,6 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -59,6 +58,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -79,16 +79,17 @@ public class UserService {
     private final S3Service s3Service;
     private final OneDayClassRepository oneDayClassRepository;
     private final WishRepository wishRepository;
-    private final ClassImageRepository classImageRepository;
-    private final OneDayClassDocumentRepository oneDayClassDocumentRepository;
-    private final ElasticsearchOperations operations;
+    private final ClassDtoHydrator classDtoHydrator;
+    private final OneDayClassIndexingService oneDayClassIndexingService;
+    private final UserWishCache userWishCache;
+    private final ClassLeaderboard classLeaderboard;
 
     public UserService(UserRepository userRepository, CategoryRepository categoryRepository,
                        PasswordEncoder passwordEncoder,
                        JWTService jwtService, S3Service s3Service, OneDayClassRepository oneDayClassRepository,
-                       WishRepository wishRepository, ClassImageRepository classImageRepository,
-                       OneDayClassDocumentRepository oneDayClassDocumentRepository,
-                       ElasticsearchOperations operations) {
+                       WishRepository wishRepository, ClassDtoHydrator classDtoHydrator,
+                       OneDayClassIndexingService oneDayClassIndexingService, UserWishCache userWishCache,
+                       ClassLeaderboard classLeaderboard) {
 
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
@@ -97,9 +98,10 @@ public class UserService {
         this.s3Service = s3Service;
         this.oneDayClassRepository = oneDayClassRepository;
         this.wishRepository = wishRepository;
-        this.classImageRepository = classImageRepository;
-        this.oneDayClassDocumentRepository = oneDayClassDocumentRepository;
-        this.operations = operations;
+        this.classDtoHydrator = classDtoHydrator;
+        this.oneDayClassIndexingService = oneDayClassIndexingService;
+        this.userWishCache = userWishCache;
+        this.classLeaderboard = classLeaderboard;
     }
 
     public String checkNickname(String nickname) {
@@ -368,12 +370,7 @@ public class UserService {
 
         Page<OneDayClass> classList = oneDayClassRepository.findAllByClassIdIn(classIdList, pageable);
 
-        Map<Long, String> imageMap = (classImageRepository.findAllByOneDayClassClassIdInAndSequence(
-                classList.map(OneDayClass::getClassId).toList(), 1))
-                .stream().collect(Collectors.toMap(
-                        classImage -> classImage.getOneDayClass().getClassId(),
-                        ClassImage::getUrl
-                ));
+        Map<Long, String> imageMap = classDtoHydrator.firstImageUrls(classList.map(OneDayClass::getClassId).toList());
 
         Page<WishDto> wishDtoPage = classList.map(WishDto::new);
         wishDtoPage.forEach(item -> {
@@ -386,6 +383,7 @@ public class UserService {
         return wishDtoPage;
     }
 
+    @Transactional
     public Boolean addWish(String email, Long classId) {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new RestApiException(USER_NOT_FOUND));
         OneDayClass oneDayClass = oneDayClassRepository.findById(classId)
@@ -406,11 +404,14 @@ public class UserService {
         oneDayClass.setTotalWish(oneDayClass.getTotalWish() + 1);
         oneDayClassRepository.save(oneDayClass);
 
-        updateOneDayClassDocumentTotalWish(oneDayClass);
+        oneDayClassIndexingService.markCountersChanged(oneDayClass.getClassId());
+        classLeaderboard.update(oneDayClass);
+        userWishCache.added(user.getUserId(), oneDayClass.getClassId());
 
         return true;
     }
 
+    @Transactional
     public Boolean deleteWish(String email, Long classId) {
         User user = userRepository.findByEmail(email).orElseThrow(() -> new RestApiException(USER_NOT_FOUND));
         Wish wish = wishRepository.findByUserUserIdAndOneDayClassClassId(user.getUserId(), classId)
@@ -427,18 +428,13 @@ public class UserService {
         oneDayClass.setTotalWish(oneDayClass.getTotalWish() - 1);
         oneDayClassRepository.save(oneDayClass);
 
-        updateOneDayClassDocumentTotalWish(oneDayClass);
+        oneDayClassIndexingService.markCountersChanged(oneDayClass.getClassId());
+        classLeaderboard.update(oneDayClass);
+        userWishCache.removed(user.getUserId(), oneDayClass.getClassId());
 
         return true;
     }
 
-    private void updateOneDayClassDocumentTotalWish(OneDayClass oneDayClass) {
-        OneDayClassDocument oneDayClassDocument = oneDayClassDocumentRepository.findById(oneDayClass.getClassId())
-                .orElseThrow(() -> new RestApiException(CLASS_NOT_FOUND));
-        oneDayClassDocument.setTotalWish(oneDayClass.getTotalWish());
-        operations.save(oneDayClassDocument);
-    }
-
     public User getUserByEmail(String userEmail) {
         return findByEmail(userEmail)
                 .orElseThrow(() -> new RestApiException(USER_NOT_FOUND));
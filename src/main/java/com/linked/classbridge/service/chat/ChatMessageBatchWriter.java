@@ -0,0 +1,105 @@
+package com.linked.classbridge.service.chat;
+
+import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.domain.UserChatRoom;
+import com.linked.classbridge.dto.chat.ChatRoomUnreadCountInfoDto;
+import com.linked.classbridge.service.chat.presence.ChatPresenceRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 전달을 마친 채팅 메시지 묶음 저장
+ * <p>
+ * 메시지는 한 번의 insertMany 로 저장하고, 채팅방 요약은 채팅방마다 한 번만 갱신한다. 마지막 메시지는 묶음의 가장 늦은 메시지로, 안 읽은 수는
+ * 묶음에서 상대가 보낸 메시지 수만큼 한 번에 늘린다. 메시지 저장을 먼저 마치므로 안 읽은 수를 처음 세는 채팅방도 묶음의 메시지까지 센다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageBatchWriter {
+
+    private final ChatMessageService chatMessageService;
+
+    private final ChatRoomService chatRoomService;
+
+    private final UserChatRoomService userChatRoomService;
+
+    private final MessageSendingService messageSendingService;
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    public void saveMessages(List<ChatMessage> chatMessages) {
+        chatMessageService.saveMessages(chatMessages);
+    }
+
+    public void markAsReadUpTo(Long chatRoomId, Long userId, ChatMessage lastReadMessage) {
+        chatMessageService.markAsReadUpTo(chatRoomId, userId, lastReadMessage);
+    }
+
+    // 묶음의 메시지는 채팅방별로 보낸 순서대로 들어 있음
+    @Transactional
+    public void updateChatRooms(List<ChatMessage> chatMessages) {
+        Map<Long, List<ChatMessage>> chatMessagesByChatRoom = chatMessages.stream()
+                .collect(Collectors.groupingBy(ChatMessage::getChatRoomId, LinkedHashMap::new, Collectors.toList()));
+        chatMessagesByChatRoom.forEach(this::updateChatRoom);
+    }
+
+    private void updateChatRoom(Long chatRoomId, List<ChatMessage> chatMessages) {
+        ChatMessage latestMessage = chatMessages.get(chatMessages.size() - 1);
+        chatRoomService.updateLastMessage(chatRoomId, latestMessage.getMessage(), latestMessage.getSendTime());
+
+        List<UserChatRoom> userChatRooms = userChatRoomService.findAllUserChatRoomsByChatRoomIncludingDeleted(chatRoomId);
+        for (UserChatRoom userChatRoom : userChatRooms) {
+            handleUserChatRoom(userChatRoom, chatRoomId, chatMessages);
+        }
+    }
+
+    public void handleUserChatRoom(UserChatRoom userChatRoom, Long chatRoomId, List<ChatMessage> chatMessages) {
+        Long receiverUserId = userChatRoom.getUser().getUserId();
+
+        if (userChatRoom.getDeletedAt() != null) {
+            log.info("UserChatroom {} for user {} is restored by new messages", userChatRoom.getUserChatRoomId(),
+                    receiverUserId);
+            userChatRoom.restoreUserChatRoom();
+        }
+
+        int receivedMessageCount = (int) chatMessages.stream()
+                .filter(chatMessage -> !chatMessage.getSenderId().equals(receiverUserId))
+                .count();
+        int unreadMessageCount = calculateUnreadMessageCount(userChatRoom, chatRoomId, receiverUserId,
+                receivedMessageCount);
+
+        ChatMessage latestMessage = chatMessages.get(chatMessages.size() - 1);
+        messageSendingService.sendUnreadCountInfo(receiverUserId, ChatRoomUnreadCountInfoDto.builder()
+                .chatRoomId(chatRoomId)
+                .unreadMessageCount(unreadMessageCount)
+                .latestMessage(latestMessage.getMessage())
+                .latestMessageTime(latestMessage.getSendTime())
+                .build());
+    }
+
+    // 보낸 사람이거나 채팅방을 열어 둔 사용자는 0
+    public int calculateUnreadMessageCount(UserChatRoom userChatRoom, Long chatRoomId, Long receiverUserId,
+                                           int receivedMessageCount) {
+        if (receivedMessageCount == 0 || chatPresenceRegistry.isOnline(receiverUserId, chatRoomId)) {
+            return 0;
+        }
+
+        Integer unreadMessageCount = userChatRoom.getUnreadMessageCount();
+        if (unreadMessageCount == null) {
+            // 안 읽은 수를 보관하기 전의 채팅방은 방금 저장한 메시지까지 세어 채움
+            int count = chatMessageService.countMessagesUserNotRead(chatRoomId, receiverUserId);
+            userChatRoomService.updateUnreadMessageCount(userChatRoom, count);
+            return count;
+        }
+
+        userChatRoomService.increaseUnreadMessageCount(userChatRoom, receivedMessageCount);
+        return unreadMessageCount + receivedMessageCount;
+    }
+}
@@ -0,0 +1,52 @@
+package com.linked.classbridge.service.chat;
+
+import static com.linked.classbridge.type.ErrorCode.INVALID_CHAT_MESSAGE_CURSOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.exception.RestApiException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.bson.types.ObjectId;
+
+/**
+ * 이전 메시지 조회 커서
+ * <p>
+ * 페이지에서 가장 오래된 메시지의 (sendTime, id)를 JSON 으로 만든 뒤 URL-safe Base64 로 인코딩한다. 같은 시각에 보낸 메시지는 id 로
+ * 구분하므로 페이지 경계에서 메시지가 빠지거나 중복되지 않는다.
+ */
+public record ChatMessageCursor(LocalDateTime sendTime, String messageId) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    public static ChatMessageCursor from(ChatMessage chatMessage) {
+        return new ChatMessageCursor(chatMessage.getSendTime(), chatMessage.getId());
+    }
+
+    public String encode() {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to encode chat message cursor", e);
+        }
+    }
+
+    public static ChatMessageCursor decode(String cursor) {
+        ChatMessageCursor decoded;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            decoded = OBJECT_MAPPER.readValue(json, ChatMessageCursor.class);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new RestApiException(INVALID_CHAT_MESSAGE_CURSOR);
+        }
+
+        if (decoded.sendTime() == null || decoded.messageId() == null || !ObjectId.isValid(decoded.messageId())) {
+            throw new RestApiException(INVALID_CHAT_MESSAGE_CURSOR);
+        }
+        return decoded;
+    }
+}
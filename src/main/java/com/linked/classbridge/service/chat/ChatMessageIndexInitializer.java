@@ -0,0 +1,39 @@
+package com.linked.classbridge.service.chat;
+
+import com.linked.classbridge.domain.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code chat_message} 컬렉션 인덱스 생성
+ * <p>
+ * 채팅방 입장과 이전 메시지 조회는 채팅방의 메시지를 (sendTime, _id) 역순으로 읽으므로 (chatRoomId, sendTime, _id) 복합 인덱스가
+ * 필요하다. 이미 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIndexInitializer {
+
+    static final String CHAT_ROOM_SEND_TIME_INDEX = "chatRoomId_sendTime_id";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(ChatMessage.class).ensureIndex(new CompoundIndexDefinition(
+                    new Document("chatRoomId", 1).append("sendTime", 1).append("_id", 1))
+                    .named(CHAT_ROOM_SEND_TIME_INDEX));
+            log.info("chat message index ensured :: {}", CHAT_ROOM_SEND_TIME_INDEX);
+        } catch (RuntimeException e) {
+            log.error("failed to ensure chat message index :: {}", e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.linked.classbridge.service.chat;
 
 import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.dto.chat.ChatRoomMessageSummary;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.repository.ChatMessageRepository;
 import com.linked.classbridge.type.ErrorCode;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -14,40 +22,54 @@ public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
 
-    public ChatMessage saveMessage(ChatMessage chatMessage) {
-        return chatMessageRepository.save(chatMessage);
+    // 한 번의 insertMany 로 저장, 다시 시도할 때 이미 저장된 메시지가 섞여 있으면 id 로 하나씩 덮어씀
+    public void saveMessages(List<ChatMessage> chatMessages) {
+        try {
+            chatMessageRepository.insert(chatMessages);
+        } catch (DuplicateKeyException e) {
+            chatMessageRepository.saveAll(chatMessages);
+        }
     }
 
-    public List<ChatMessage> findLatestChatMessagesByChatRoom(Long chatRoomId) {
-        return chatMessageRepository.findByChatRoomIdOrderBySendTimeAsc(chatRoomId);
+    // 최근 메시지부터 limit 개
+    public List<ChatMessage> findLatestChatMessagesByChatRoom(Long chatRoomId, int limit) {
+        return chatMessageRepository.findByChatRoomIdOrderBySendTimeDescIdDesc(chatRoomId, PageRequest.of(0, limit));
     }
 
-    public List<ChatMessage> findMessagesUserNotRead(Long chatRoomId, Long userId) {
-        return chatMessageRepository.findByChatRoomIdAndSenderIdNotAndIsReadFalse(chatRoomId, userId);
+    // 커서 이전 메시지를 최근 메시지부터 limit 개
+    public List<ChatMessage> findChatMessagesBefore(Long chatRoomId, ChatMessageCursor cursor, int limit) {
+        return chatMessageRepository.findByChatRoomIdBefore(chatRoomId, cursor.sendTime(),
+                new ObjectId(cursor.messageId()), PageRequest.of(0, limit));
     }
 
-    public ChatMessage findChatMessageById(String messageId) {
-        return chatMessageRepository.findById(messageId)
-                .orElseThrow(() -> new RestApiException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+    public int countMessagesUserNotRead(Long chatRoomId, Long userId) {
+        return (int) chatMessageRepository.countByChatRoomIdAndSenderIdNotAndIsReadFalse(chatRoomId, userId);
+    }
+
+    // lastReadMessage 이후 상대가 보낸 메시지 수
+    public int countMessagesUserNotReadAfter(Long chatRoomId, Long userId, ChatMessage lastReadMessage) {
+        return (int) chatMessageRepository.countByChatRoomIdAfter(chatRoomId, userId, lastReadMessage.getSendTime(),
+                new ObjectId(lastReadMessage.getId()));
     }
 
-    public ChatMessage findAllMessageByChatRoomIdOrderBySendTimeDesc(Long chatRoomId) {
-        return chatMessageRepository.findByChatRoomIdOrderBySendTimeDesc(chatRoomId)
-                .stream()
-                .findFirst()
-                .orElse(null);
+    // lastReadMessage 까지 상대가 보낸 메시지를 한 번의 updateMulti 로 읽음 표시
+    public void markAsReadUpTo(Long chatRoomId, Long userId, ChatMessage lastReadMessage) {
+        chatMessageRepository.markAsReadUpTo(chatRoomId, userId, lastReadMessage.getSendTime(),
+                new ObjectId(lastReadMessage.getId()));
     }
 
-    public void markAsReadAndSave(ChatMessage chatMessage) {
-        chatMessage.readMessage();
-        saveMessage(chatMessage);
+    // 채팅방별 마지막 메시지와 읽지 않은 메시지 수, 메시지가 없는 채팅방은 포함하지 않음
+    public Map<Long, ChatRoomMessageSummary> summarizeChatRooms(Collection<Long> chatRoomIds, Long userId) {
+        if (chatRoomIds.isEmpty()) {
+            return Map.of();
+        }
+        return chatMessageRepository.summarizeByChatRoomIdIn(chatRoomIds, userId).stream()
+                .collect(Collectors.toMap(ChatRoomMessageSummary::getChatRoomId, Function.identity()));
     }
 
-    public List<ChatMessage> markSentByOtherChatMessagesAsRead(List<ChatMessage> chatMessages, Long userId) {
-        return chatMessages.stream()
-                .filter(chatMessage -> !chatMessage.isRead() && !chatMessage.getSenderId().equals(userId))
-                .peek(this::markAsReadAndSave)
-                .toList();
+    public ChatMessage findChatMessageById(String messageId) {
+        return chatMessageRepository.findById(messageId)
+                .orElseThrow(() -> new RestApiException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
     }
 
 }
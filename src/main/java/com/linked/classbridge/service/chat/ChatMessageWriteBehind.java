@@ -0,0 +1,235 @@
+package com.linked.classbridge.service.chat;
+
+import com.linked.classbridge.config.ChatWriteBehindProperties;
+import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.exception.RestApiException;
+import com.linked.classbridge.type.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 지연 저장 (write-behind)
+ * <p>
+ * 전송 요청은 메시지를 저장 대기열에 넣고 바로 전달한다. 저장 스레드가 대기열의 메시지를 최대 batchSize 개씩 모아
+ * {@link ChatMessageBatchWriter}로 저장하고 채팅방 요약을 갱신한다. 채팅방 id 로 저장 스레드를 고르므로 같은 채팅방의 메시지는 보낸
+ * 순서대로 저장된다. 대기열이 가득 차면 메시지를 버리지 않고 전송 요청이 기다린다.
+ * <p>
+ * 메시지 저장에 실패하면 성공할 때까지 다시 시도하며, 그동안 대기열이 차면 전송도 느려진다. 저장 전인 메시지는
+ * {@link #findPendingMessage(String)}로 찾을 수 있고, 저장 전인 메시지까지 읽음 처리하면 저장을 마친 뒤 읽음 표시를 다시 적용한다.
+ * <p>
+ * 종료가 시작된 뒤의 전송 요청과, 종료 제한 시간 안에 저장 스레드가 비우지 못한 메시지는 호출한 스레드에서 바로 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriteBehind {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final ChatMessageBatchWriter chatMessageBatchWriter;
+
+    private final ChatWriteBehindProperties chatWriteBehindProperties;
+
+    // 저장 전 메시지, 읽음 처리처럼 id 로 메시지를 찾는 요청이 저장보다 먼저 와도 찾을 수 있게 보관
+    private final Map<String, ChatMessage> pendingMessages = new ConcurrentHashMap<>();
+
+    // 저장 전 메시지까지 읽은 위치 (chatRoomId -> userId -> 마지막으로 읽은 메시지), 저장 뒤 읽음 표시를 다시 적용하고 지움
+    private final Map<Long, Map<Long, ChatMessage>> pendingReadWatermarks = new ConcurrentHashMap<>();
+
+    private final List<BlockingQueue<ChatMessage>> queues = new ArrayList<>();
+
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < chatWriteBehindProperties.getWorkers(); i++) {
+            BlockingQueue<ChatMessage> queue = new ArrayBlockingQueue<>(chatWriteBehindProperties.getQueueCapacity());
+            Thread worker = new Thread(() -> run(queue), "chat-write-behind-" + i);
+            queues.add(queue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    // 남은 메시지를 저장한 뒤 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + chatWriteBehindProperties.getShutdownTimeout();
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+
+        // 제한 시간 안에 저장 스레드가 꺼내지 못한 메시지는 직접 저장
+        List<ChatMessage> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        if (!remaining.isEmpty()) {
+            try {
+                save(remaining);
+            } catch (RuntimeException e) {
+                log.error("failed to save {} chat messages on shutdown :: {}", remaining.size(), e.getMessage());
+            }
+        }
+        if (!pendingMessages.isEmpty()) {
+            log.error("{} chat messages not saved on shutdown", pendingMessages.size());
+        }
+    }
+
+    /**
+     * 메시지 저장 요청, 지연 저장을 끄면 저장과 채팅방 요약 갱신을 마친 뒤 반환한다.
+     *
+     * @param chatMessage id 와 보낸 시각이 정해진 메시지
+     */
+    public void write(ChatMessage chatMessage) {
+        if (!chatWriteBehindProperties.isEnabled() || !running) {
+            save(List.of(chatMessage));
+            return;
+        }
+
+        pendingMessages.put(chatMessage.getId(), chatMessage);
+        BlockingQueue<ChatMessage> queue = queues.get(Math.floorMod(chatMessage.getChatRoomId().hashCode(),
+                queues.size()));
+        try {
+            // 종료 중에는 저장 스레드가 대기열을 비우지 않을 수 있으므로 가득 찬 대기열을 계속 기다리지 않음
+            while (!queue.offer(chatMessage, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    save(List.of(chatMessage));
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingMessages.remove(chatMessage.getId());
+            throw new RestApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        // 넣는 사이에 종료되어 저장 스레드와 stop 이 모두 대기열을 지나갔다면 직접 저장
+        if (!running && queue.remove(chatMessage)) {
+            save(List.of(chatMessage));
+        }
+    }
+
+    public Optional<ChatMessage> findPendingMessage(String messageId) {
+        return Optional.ofNullable(pendingMessages.get(messageId));
+    }
+
+    /**
+     * lastReadMessage 까지 상대가 보낸 메시지를 읽음 표시
+     * <p>
+     * lastReadMessage 가 아직 저장 전이면 이번 표시는 저장 전 메시지에 닿지 않으므로 읽은 위치를 남겨 두고, 저장 스레드가 메시지를 저장한
+     * 뒤 다시 표시한다. 읽은 위치를 남긴 뒤에 표시하므로 저장 스레드가 읽은 위치를 보지 못했다면 메시지는 이번 표시 전에 이미 저장되어 있다.
+     */
+    public void markAsReadUpTo(Long chatRoomId, Long userId, ChatMessage lastReadMessage) {
+        if (pendingMessages.containsKey(lastReadMessage.getId())) {
+            pendingReadWatermarks.computeIfAbsent(chatRoomId, id -> new ConcurrentHashMap<>())
+                    .merge(userId, lastReadMessage, ChatMessageWriteBehind::later);
+        }
+        chatMessageBatchWriter.markAsReadUpTo(chatRoomId, userId, lastReadMessage);
+    }
+
+    private void run(BlockingQueue<ChatMessage> queue) {
+        List<ChatMessage> batch = new ArrayList<>(chatWriteBehindProperties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, chatWriteBehindProperties.getBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("failed to write {} chat messages :: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<ChatMessage> batch) throws InterruptedException {
+        // 메시지는 저장될 때까지 다시 시도, 종료 중이면 한 번만
+        while (true) {
+            try {
+                chatMessageBatchWriter.saveMessages(batch);
+                break;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    throw e;
+                }
+                log.error("failed to save {} chat messages, will retry :: {}", batch.size(), e.getMessage());
+                Thread.sleep(chatWriteBehindProperties.getRetryInterval());
+            }
+        }
+        batch.forEach(chatMessage -> pendingMessages.remove(chatMessage.getId()));
+        applyPendingReadWatermarks(batch);
+
+        // 채팅방 요약 갱신이 계속 실패해도 다음 메시지 저장을 막지 않도록 정해진 횟수만 시도
+        for (int attempt = 1; ; attempt++) {
+            try {
+                chatMessageBatchWriter.updateChatRooms(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= chatWriteBehindProperties.getSummaryRetries() || !running) {
+                    log.error("failed to update chat rooms for {} chat messages :: {}", batch.size(),
+                            e.getMessage());
+                    return;
+                }
+                Thread.sleep(chatWriteBehindProperties.getRetryInterval());
+            }
+        }
+    }
+
+    // 저장 스레드를 거치지 않고 호출한 스레드에서 한 번만 저장
+    private void save(List<ChatMessage> chatMessages) {
+        try {
+            chatMessageBatchWriter.saveMessages(chatMessages);
+        } finally {
+            chatMessages.forEach(chatMessage -> pendingMessages.remove(chatMessage.getId()));
+        }
+        applyPendingReadWatermarks(chatMessages);
+        chatMessageBatchWriter.updateChatRooms(chatMessages);
+    }
+
+    // 저장 전에 읽음 처리된 메시지를 방금 저장했으므로 읽음 표시를 다시 적용
+    private void applyPendingReadWatermarks(List<ChatMessage> batch) {
+        batch.stream().map(ChatMessage::getChatRoomId).distinct().forEach(chatRoomId -> {
+            Map<Long, ChatMessage> readWatermarks = pendingReadWatermarks.remove(chatRoomId);
+            if (readWatermarks == null) {
+                return;
+            }
+            readWatermarks.forEach((userId, lastReadMessage) -> {
+                try {
+                    chatMessageBatchWriter.markAsReadUpTo(chatRoomId, userId, lastReadMessage);
+                } catch (RuntimeException e) {
+                    log.error("failed to mark chat messages in chat room {} as read by user {} :: {}", chatRoomId,
+                            userId, e.getMessage());
+                }
+            });
+        });
+    }
+
+    private static ChatMessage later(ChatMessage chatMessage, ChatMessage other) {
+        int compared = chatMessage.getSendTime().compareTo(other.getSendTime());
+        if (compared == 0) {
+            compared = chatMessage.getId().compareTo(other.getId());
+        }
+        return compared >= 0 ? chatMessage : other;
+    }
+}
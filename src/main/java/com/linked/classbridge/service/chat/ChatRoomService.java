@@ -6,10 +6,12 @@ import com.linked.classbridge.domain.UserChatRoom;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.repository.ChatRoomRepository;
 import com.linked.classbridge.type.ErrorCode;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +37,18 @@ public class ChatRoomService {
                 .orElseThrow(() -> new RestApiException(ErrorCode.CHAT_ROOM_NOT_FOUND));
     }
 
+    // 마지막 메시지를 보관하기 전에 메시지가 오간 채팅방에 한 번 채움
+    @Transactional
+    public void updateLastMessageIfAbsent(ChatRoom chatRoom, String lastMessage, LocalDateTime lastMessageAt) {
+        chatRoomRepository.updateLastMessageIfAbsent(chatRoom.getChatRoomId(), lastMessage);
+        chatRoom.updateLastMessage(lastMessage, lastMessageAt);
+    }
+
+    @Transactional
+    public void updateLastMessage(Long chatRoomId, String lastMessage, LocalDateTime lastMessageAt) {
+        chatRoomRepository.updateLastMessage(chatRoomId, lastMessage, lastMessageAt);
+    }
+
     public ChatRoom createNewChatRoom(User initiatedBy, User initiatedTo) {
         ChatRoom newChatRoom = ChatRoom.builder()
                 .initiatedBy(initiatedBy)
@@ -4,23 +4,30 @@ import static com.linked.classbridge.type.ErrorCode.BAD_REQUEST;
 import static com.linked.classbridge.type.ErrorCode.SENDER_CANNOT_MARK_AS_READ;
 import static com.linked.classbridge.type.ErrorCode.USER_NOT_IN_CHAT_ROOM;
 
+import com.linked.classbridge.config.ChatHistoryProperties;
 import com.linked.classbridge.domain.ChatMessage;
 import com.linked.classbridge.domain.ChatRoom;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.UserChatRoom;
+import com.linked.classbridge.dto.chat.ChatMessageCursorDto;
 import com.linked.classbridge.dto.chat.ChatMessageDto;
+import com.linked.classbridge.dto.chat.ChatRoomMessageSummary;
 import com.linked.classbridge.dto.chat.ChatRoomUnreadCountInfoDto;
 import com.linked.classbridge.dto.chat.CreateChatRoom;
 import com.linked.classbridge.dto.chat.GetChatRoomsResponse;
 import com.linked.classbridge.dto.chat.JoinChatRoom;
 import com.linked.classbridge.dto.chat.ReadReceipt;
-import com.linked.classbridge.dto.chat.ReadReceiptList;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.service.UserService;
+import com.linked.classbridge.service.chat.presence.ChatPresenceRegistry;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +46,12 @@ public class ChatService {
 
     private final MessageSendingService messageSendingService;
 
+    private final ChatHistoryProperties chatHistoryProperties;
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+
     // 채팅방 생성
     public CreateChatRoom.Response createChatRoomProcess(User chatStartUser, Long chatPartnerId) {
         log.info("Create chat room initiated by user: {}", chatStartUser.getUserId());
@@ -59,27 +72,62 @@ public class ChatService {
 
         validateUserInChatRoom(user, chatRoom);
 
-        List<ChatMessage> chatMessages = chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId);
+        int pageSize = chatHistoryProperties.getPageSize();
+        List<ChatMessage> latestMessages = chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId,
+                pageSize + 1);
 
-        List<ChatMessage> markedMessages = chatMessageService.markSentByOtherChatMessagesAsRead(chatMessages,
-                user.getUserId());
+        // 가장 최근 메시지까지 읽음, 응답에도 상대가 보낸 메시지는 읽음으로 표시
+        if (!latestMessages.isEmpty()) {
+            readUpTo(user.getUserId(), chatRoomId, latestMessages.get(0));
+            latestMessages.stream()
+                    .filter(chatMessage -> !chatMessage.getSenderId().equals(user.getUserId()))
+                    .forEach(ChatMessage::readMessage);
+        }
 
-        ReadReceiptList receiptList = ReadReceiptList.builder()
-                .readReceipts(markedMessages.stream()
-                        .map(chatMessage -> new ReadReceipt(chatMessage.getId(), user.getUserId()))
-                        .toList())
-                .build();
+        ChatMessageCursorDto messages = createChatMessageCursorDto(latestMessages, pageSize);
 
-        messageSendingService.sendReadReceipt(chatRoomId, receiptList);
+        log.info("User {} entered chat room {}", user.getUserId(), chatRoomId);
+        return createJoinChatRoomResponse(chatRoom, user, messages);
+    }
 
-        // TODO : 추후 redis로 관리
-        userChatRoomService.setUserToOnline(user, chatRoom.getUserChatRooms());
+    // 이전 메시지 조회, cursor 가 없으면 최근 메시지부터
+    public ChatMessageCursorDto getChatMessagesProcess(User user, Long chatRoomId, String cursor, Integer size) {
+        ChatRoom chatRoom = chatRoomService.findChatRoomById(chatRoomId);
 
-        log.info("User {} entered chat room {}", user.getUserId(), chatRoomId);
-        return createJoinChatRoomResponse(chatRoom, user, chatMessages);
+        validateUserInChatRoom(user, chatRoom);
+
+        int pageSize = size == null
+                ? chatHistoryProperties.getPageSize()
+                : Math.max(1, Math.min(size, chatHistoryProperties.getMaxPageSize()));
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        List<ChatMessage> chatMessages = cursor == null || cursor.isBlank()
+                ? chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId, pageSize + 1)
+                : chatMessageService.findChatMessagesBefore(chatRoomId, ChatMessageCursor.decode(cursor),
+                        pageSize + 1);
+
+        return createChatMessageCursorDto(chatMessages, pageSize);
+    }
+
+    // 최근 메시지부터 조회한 결과를 오래된 순으로 돌려주고, 가장 오래된 메시지를 다음 커서로 사용
+    private ChatMessageCursorDto createChatMessageCursorDto(List<ChatMessage> latestFirst, int pageSize) {
+        boolean hasNext = latestFirst.size() > pageSize;
+        List<ChatMessage> page = hasNext ? latestFirst.subList(0, pageSize) : latestFirst;
+
+        List<ChatMessageDto> messages = new ArrayList<>(page.size());
+        for (int i = page.size() - 1; i >= 0; i--) {
+            messages.add(ChatMessageDto.fromEntity(page.get(i)));
+        }
+
+        return ChatMessageCursorDto.builder()
+                .messages(messages)
+                .nextCursor(hasNext ? ChatMessageCursor.from(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
-    private JoinChatRoom.Response createJoinChatRoomResponse(ChatRoom chatRoom, User user, List<ChatMessage> messages) {
+    private JoinChatRoom.Response createJoinChatRoomResponse(ChatRoom chatRoom, User user,
+                                                             ChatMessageCursorDto messages) {
         return JoinChatRoom.Response.of(
                 chatRoom.getChatRoomId(),
                 user.getUserId(),
@@ -87,20 +135,21 @@ public class ChatService {
                 chatRoom.getInitiatedTo().getUserId(),
                 chatRoom.getCreatedAt(),
                 chatRoom.getUpdatedAt(),
-                messages.stream()
-                        .map(ChatMessageDto::fromEntity)
-                        .toList()
+                messages
         );
     }
 
-    // 채팅방 목록 조회
+    // 채팅방 목록 조회, 마지막 메시지와 안 읽은 수는 채팅방에 보관한 요약을 사용하므로 메시지를 조회하지 않음
     public GetChatRoomsResponse getChatRoomListProcess(User user) {
-        List<ChatRoom> chatRooms = chatRoomService.findAllChatRoomsByUser(user);
+        List<UserChatRoom> userChatRooms = userChatRoomService.findAllUserChatRoomsByUser(user);
+        fillMissingSummaries(userChatRooms, user);
+
         GetChatRoomsResponse getChatRoomsResponse = new GetChatRoomsResponse();
         getChatRoomsResponse.setUserId(user.getUserId());
 
-        chatRooms.forEach(chatRoom -> {
-            ChatRoomUnreadCountInfoDto unreadCountInfo = createChatRoomUnreadCountInfoDto(chatRoom, user);
+        userChatRooms.forEach(userChatRoom -> {
+            ChatRoom chatRoom = userChatRoom.getChatRoom();
+            ChatRoomUnreadCountInfoDto unreadCountInfo = createChatRoomUnreadCountInfoDto(userChatRoom);
             User chatPartner = chatRoom.getInitiatedBy().getUserId().equals(user.getUserId())
                     ? chatRoom.getInitiatedTo()
                     : chatRoom.getInitiatedBy();
@@ -110,26 +159,56 @@ public class ChatService {
         return getChatRoomsResponse;
     }
 
-    private ChatRoomUnreadCountInfoDto createChatRoomUnreadCountInfoDto(ChatRoom chatRoom, User user) {
-        Long chatRoomId = chatRoom.getChatRoomId();
-        ChatMessage latestMessage = chatMessageService.findAllMessageByChatRoomIdOrderBySendTimeDesc(chatRoomId);
-        int unreadMessageCount = chatMessageService.findMessagesUserNotRead(chatRoomId, user.getUserId()).size();
-
+    private ChatRoomUnreadCountInfoDto createChatRoomUnreadCountInfoDto(UserChatRoom userChatRoom) {
+        ChatRoom chatRoom = userChatRoom.getChatRoom();
         return ChatRoomUnreadCountInfoDto.builder()
-                .chatRoomId(chatRoomId)
-                .unreadMessageCount(unreadMessageCount)
-                .latestMessage(latestMessage == null ? "" : latestMessage.getMessage())
-                .latestMessageTime(latestMessage == null ? null : latestMessage.getSendTime())
+                .chatRoomId(chatRoom.getChatRoomId())
+                .unreadMessageCount(userChatRoom.getUnreadMessageCount() == null
+                        ? 0 : userChatRoom.getUnreadMessageCount())
+                .latestMessage(chatRoom.getLastMessage() == null ? "" : chatRoom.getLastMessage())
+                .latestMessageTime(chatRoom.getLastMessageAt())
                 .build();
     }
 
+    // 요약을 보관하기 전에 메시지가 오간 채팅방은 한 번의 집계로 계산해 저장, 이후에는 전송/읽음 시점에 갱신됨
+    private void fillMissingSummaries(List<UserChatRoom> userChatRooms, User user) {
+        List<UserChatRoom> missingSummaries = userChatRooms.stream()
+                .filter(userChatRoom -> userChatRoom.getUnreadMessageCount() == null
+                        || isLastMessageMissing(userChatRoom.getChatRoom()))
+                .toList();
+        if (missingSummaries.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ChatRoomMessageSummary> summaries = chatMessageService.summarizeChatRooms(
+                missingSummaries.stream().map(userChatRoom -> userChatRoom.getChatRoom().getChatRoomId()).toList(),
+                user.getUserId());
+
+        for (UserChatRoom userChatRoom : missingSummaries) {
+            ChatRoom chatRoom = userChatRoom.getChatRoom();
+            ChatRoomMessageSummary summary = summaries.get(chatRoom.getChatRoomId());
+            if (userChatRoom.getUnreadMessageCount() == null) {
+                userChatRoomService.updateUnreadMessageCount(userChatRoom,
+                        summary == null ? 0 : summary.getUnreadMessageCount());
+            }
+            if (isLastMessageMissing(chatRoom) && summary != null) {
+                chatRoomService.updateLastMessageIfAbsent(chatRoom, summary.getLatestMessage(),
+                        summary.getLatestMessageTime());
+            }
+        }
+    }
+
+    private boolean isLastMessageMissing(ChatRoom chatRoom) {
+        return chatRoom.getLastMessage() == null && chatRoom.getLastMessageAt() != null;
+    }
+
     // 채팅방 닫기
     public void closeChatRoomProcess(User user, Long chatRoomId) {
         log.info("User {} is closing chat room {}", user.getUserId(), chatRoomId);
         ChatRoom chatRoom = chatRoomService.findChatRoomById(chatRoomId);
 
         log.info("Chat room {} is closed", chatRoom.getChatRoomId());
-        userChatRoomService.setUserToOffline(user, chatRoom.getUserChatRooms());
+        chatPresenceRegistry.closeChatRoom(user.getUserId(), chatRoom.getChatRoomId());
     }
 
     // 채팅방 퇴장
@@ -144,7 +223,7 @@ public class ChatService {
                 .findFirst()
                 .orElseThrow(() -> new RestApiException(USER_NOT_IN_CHAT_ROOM));
 
-        userChatRoomService.setUserToOffline(user, userChatRooms);
+        chatPresenceRegistry.closeChatRoom(user.getUserId(), chatRoom.getChatRoomId());
 
         UserChatRoom deletedChatRoom = userChatRoomService.deleteUserChatRoom(userChatRoom);
 
@@ -158,102 +237,63 @@ public class ChatService {
         log.info("User {} left chat room {}", user.getUserId(), chatRoomId);
     }
 
-    // 메시지 전송
-    @Transactional
-    public void sendMessageProcess(String senderEmail, Long chatRoomId, String message) {
-        log.info("User {} is sending message to chat room {}", senderEmail, chatRoomId);
-        User sender = userService.getUserByEmail(senderEmail);
+    // 메시지 전송, id 와 보낸 시각을 바로 정해 전달하고 저장과 채팅방 요약 갱신은 ChatMessageWriteBehind 가 모아서 처리
+    // 보낸 사람은 웹소켓 연결 시 확인한 userId 를 그대로 사용하므로 메시지마다 사용자를 조회하지 않음
+    public void sendMessageProcess(Long senderId, Long chatRoomId, String message) {
+        log.info("User {} is sending message to chat room {}", senderId, chatRoomId);
         ChatRoom chatRoom = chatRoomService.findChatRoomById(chatRoomId);
 
-        ChatMessage savedChatMessage = saveChatMessage(sender, chatRoom, message);
-
-        chatRoom.updateLastMessageAt(savedChatMessage.getSendTime());
+        ChatMessage chatMessage = createChatMessage(senderId, chatRoom, message);
 
-        log.info("Message {} saved to chat room {}", savedChatMessage.getChatRoomId(), chatRoom.getChatRoomId());
+        // 대기열이 가득 차면 여기서 기다림
+        chatMessageWriteBehind.write(chatMessage);
 
-        ChatRoomUnreadCountInfoDto unreadCountInfo = createUnreadCountInfo(chatRoom, savedChatMessage);
-
-        updateUnreadCounts(chatRoom, sender.getUserId(), unreadCountInfo);
-
-        log.info("Message sent to chat room {}", chatRoom.getChatRoomId());
-        messageSendingService.broadcastNewMessage(chatRoom.getChatRoomId(), savedChatMessage);
+        messageSendingService.broadcastNewMessage(chatRoom.getChatRoomId(), chatMessage);
+        log.info("Message {} sent to chat room {}", chatMessage.getId(), chatRoom.getChatRoomId());
     }
 
-    public ChatMessage saveChatMessage(User sender, ChatRoom chatRoom, String message) {
-        return chatMessageService.saveMessage(ChatMessage.builder()
-                .senderId(sender.getUserId())
+    // ObjectId 는 생성 시각 순이므로 저장 전에 정해도 (sendTime, _id) 순서가 유지됨
+    public ChatMessage createChatMessage(Long senderId, ChatRoom chatRoom, String message) {
+        return ChatMessage.builder()
+                .id(new ObjectId().toHexString())
+                .senderId(senderId)
                 .chatRoomId(chatRoom.getChatRoomId())
                 .message(message)
-                .sendTime(LocalDateTime.now())
+                // MongoDB 는 밀리초까지만 저장하므로 읽은 위치 비교가 저장된 값과 어긋나지 않도록 맞춤
+                .sendTime(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS))
                 .isRead(false)
-                .build());
-    }
-
-    public ChatRoomUnreadCountInfoDto createUnreadCountInfo(ChatRoom chatRoom, ChatMessage savedChatMessage) {
-        return ChatRoomUnreadCountInfoDto.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .latestMessage(savedChatMessage.getMessage())
-                .latestMessageTime(savedChatMessage.getSendTime())
                 .build();
     }
 
-    private void updateUnreadCounts(ChatRoom chatRoom, Long senderUserId, ChatRoomUnreadCountInfoDto unreadCountInfo) {
-        List<UserChatRoom> userChatRooms = userChatRoomService.findAllUserChatRoomsByChatRoomIncludingDeleted(chatRoom);
-        log.info("Found {} user chat rooms for chat room {}", userChatRooms.size(), chatRoom.getChatRoomId());
+    // 메시지 읽음 처리, 이 메시지까지 모두 읽음
+    public void markMessageAsReadAndSendReceipt(Long userId, String messageId) {
+        // 전달 직후 저장 전인 메시지도 읽음 처리할 수 있도록 대기 중인 메시지부터 찾음
+        ChatMessage chatMessage = chatMessageWriteBehind.findPendingMessage(messageId)
+                .orElseGet(() -> chatMessageService.findChatMessageById(messageId));
 
-        log.info("Start to handle unread count info for chat room {}", chatRoom.getChatRoomId());
-        for (UserChatRoom userChatRoom : userChatRooms) {
-            handleUserChatRoom(userChatRoom, chatRoom, senderUserId, unreadCountInfo);
-        }
-    }
-
-    public void handleUserChatRoom(UserChatRoom userChatRoom, ChatRoom chatRoom, Long senderUserId,
-                                   ChatRoomUnreadCountInfoDto unreadCountInfo) {
-        Long receiverUserId = userChatRoom.getUser().getUserId();
+        ChatRoom chatRoom = chatRoomService.findChatRoomById(chatMessage.getChatRoomId());
 
-        if (userChatRoom.getDeletedAt() != null) {
-            log.info("UserChatroom {} for user {} is restored by user {}", userChatRoom.getUserChatRoomId(),
-                    receiverUserId, senderUserId);
-            userChatRoom.restoreUserChatRoom();
+        if (userId.equals(chatMessage.getSenderId())) {
+            throw new RestApiException(SENDER_CANNOT_MARK_AS_READ);
         }
 
-        int unreadMessageCount = calculateUnreadMessageCount(userChatRoom, chatRoom, senderUserId, receiverUserId);
+        validateUserInChatRoom(userId, chatRoom);
 
-        unreadCountInfo.setUnreadMessageCount(unreadMessageCount);
-
-        log.info("Sending unread count info to user {}", receiverUserId);
-        messageSendingService.sendUnreadCountInfo(receiverUserId, unreadCountInfo);
-    }
-
-    public int calculateUnreadMessageCount(UserChatRoom userChatRoom, ChatRoom chatRoom, Long senderUserId,
-                                           Long receiverUserId) {
-        if (userChatRoom.isOnline() || senderUserId.equals(receiverUserId)) {
-            return 0;
-        } else {
-            return chatMessageService.findMessagesUserNotRead(chatRoom.getChatRoomId(), receiverUserId).size();
-        }
+        readUpTo(userId, chatRoom.getChatRoomId(), chatMessage);
     }
 
-    // 메시지 읽음 처리
-    public void markMessageAsReadAndSendReceipt(String userEmail, String messageId) {
-        User user = userService.getUserByEmail(userEmail);
-        ChatMessage chatMessage = chatMessageService.findChatMessageById(messageId);
-
-        ChatRoom chatRoom = chatRoomService.findChatRoomById(chatMessage.getChatRoomId());
-
-        if (user.getUserId().equals(chatMessage.getSenderId())) {
-            throw new RestApiException(SENDER_CANNOT_MARK_AS_READ);
+    // 읽음 위치를 lastReadMessage 까지 옮기고 "여기까지 읽음" 알림을 한 번 보냄, 이미 더 뒤까지 읽었으면 아무것도 하지 않음
+    private void readUpTo(Long userId, Long chatRoomId, ChatMessage lastReadMessage) {
+        int unreadMessageCount = chatMessageService.countMessagesUserNotReadAfter(chatRoomId, userId,
+                lastReadMessage);
+        if (!userChatRoomService.updateReadWatermark(chatRoomId, userId, lastReadMessage, unreadMessageCount)) {
+            return;
         }
 
-        validateUserInChatRoom(user, chatRoom);
-
-        chatMessageService.markAsReadAndSave(chatMessage);
+        // isRead 를 보는 기존 채팅방 집계와 메시지 응답을 위해 함께 표시
+        chatMessageWriteBehind.markAsReadUpTo(chatRoomId, userId, lastReadMessage);
 
-        ReadReceiptList readReceiptList = new ReadReceiptList(
-                List.of(new ReadReceipt(chatMessage.getId(), user.getUserId()))
-        );
-
-        messageSendingService.sendReadReceipt(chatRoom.getChatRoomId(), readReceiptList);
+        messageSendingService.sendReadReceipt(chatRoomId, ReadReceipt.of(userId, lastReadMessage));
     }
 
 
@@ -264,8 +304,12 @@ public class ChatService {
     }
 
     private void validateUserInChatRoom(User user, ChatRoom chatRoom) {
-        if (!chatRoom.getInitiatedBy().getUserId().equals(user.getUserId())
-                && !chatRoom.getInitiatedTo().getUserId().equals(user.getUserId())) {
+        validateUserInChatRoom(user.getUserId(), chatRoom);
+    }
+
+    private void validateUserInChatRoom(Long userId, ChatRoom chatRoom) {
+        if (!chatRoom.getInitiatedBy().getUserId().equals(userId)
+                && !chatRoom.getInitiatedTo().getUserId().equals(userId)) {
             throw new RestApiException(USER_NOT_IN_CHAT_ROOM);
         }
     }
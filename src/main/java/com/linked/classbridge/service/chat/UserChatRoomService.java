@@ -1,6 +1,6 @@
 package com.linked.classbridge.service.chat;
 
-import com.linked.classbridge.domain.ChatRoom;
+import com.linked.classbridge.domain.ChatMessage;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.UserChatRoom;
 import com.linked.classbridge.repository.UserChatRoomRepository;
@@ -10,12 +10,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Session;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserChatRoomService {
 
+    private static final String DELETED_CHAT_ROOM_FILTER = "deletedChatRoomFilter";
+
     private final UserChatRoomRepository userChatRoomRepository;
 
     private final EntityManager entityManager;
@@ -30,38 +33,42 @@ public class UserChatRoomService {
         return userChatRoom;
     }
 
-    public void leaveAllChatRoomsByEmail(User user) {
-        log.info("Disconnecting all chat rooms for user: {}", user.getEmail());
-        userChatRoomRepository.updateIsOnlineByUser_Email(user.getEmail(), false);
+    public List<UserChatRoom> findAllUserChatRoomsByUser(User user) {
+        return userChatRoomRepository.findAllByUserWithChatRoom(user);
     }
 
-    protected List<UserChatRoom> findAllUserChatRoomsByChatRoomIncludingDeleted(ChatRoom chatRoom) {
-        Session session = entityManager.unwrap(Session.class);
-        session.disableFilter("deletedChatRoomFilter");
-        List<UserChatRoom> userChatRooms =
-                userChatRoomRepository.findAllByChatRoomIdIncludingDeleted(chatRoom.getChatRoomId());
-        session.enableFilter("deletedChatRoomFilter");
-        return userChatRooms;
+    @Transactional
+    public void increaseUnreadMessageCount(UserChatRoom userChatRoom, int amount) {
+        userChatRoomRepository.increaseUnreadMessageCount(userChatRoom.getUserChatRoomId(), amount);
     }
 
-    protected void setUserToOnline(User user, List<UserChatRoom> userChatRooms) {
-        userChatRooms.stream()
-                .filter(userChatRoom -> userChatRoom.getUser().getUserId().equals(user.getUserId()))
-                .findFirst()
-                .ifPresent(userChatRoom -> {
-                    userChatRoom.setOnline();
-                    saveUserChatRoom(userChatRoom);
-                });
+    // 읽음 위치를 lastReadMessage 로 옮기고 그 뒤의 안 읽은 수를 함께 저장, 이미 더 뒤까지 읽었으면 false
+    @Transactional
+    public boolean updateReadWatermark(Long chatRoomId, Long userId, ChatMessage lastReadMessage,
+                                       int unreadMessageCount) {
+        return userChatRoomRepository.updateReadWatermark(chatRoomId, userId, lastReadMessage.getId(),
+                lastReadMessage.getSendTime(), unreadMessageCount) > 0;
     }
 
+    @Transactional
+    public void updateUnreadMessageCount(UserChatRoom userChatRoom, int unreadMessageCount) {
+        userChatRoomRepository.updateUnreadMessageCount(userChatRoom.getUserChatRoomId(), unreadMessageCount);
+        userChatRoom.updateUnreadMessageCount(unreadMessageCount);
+    }
 
-    public void setUserToOffline(User user, List<UserChatRoom> userChatRooms) {
-        userChatRooms.stream()
-                .filter(userChatRoom -> userChatRoom.getUser().getUserId().equals(user.getUserId()))
-                .findFirst()
-                .ifPresent(userChatRoom -> {
-                    userChatRoom.setOffline();
-                    saveUserChatRoom(userChatRoom);
-                });
+    // 삭제된 채팅방을 숨기는 필터가 켜져 있을 때만 잠시 끔, 파라미터 없이 다시 켜면 같은 세션의 이후 조회가 실패하므로 원래대로 켬
+    protected List<UserChatRoom> findAllUserChatRoomsByChatRoomIncludingDeleted(Long chatRoomId) {
+        Session session = entityManager.unwrap(Session.class);
+        boolean filtered = session.getEnabledFilter(DELETED_CHAT_ROOM_FILTER) != null;
+        if (filtered) {
+            session.disableFilter(DELETED_CHAT_ROOM_FILTER);
+        }
+        try {
+            return userChatRoomRepository.findAllByChatRoomIdIncludingDeleted(chatRoomId);
+        } finally {
+            if (filtered) {
+                session.enableFilter(DELETED_CHAT_ROOM_FILTER).setParameter("isDeleted", false);
+            }
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+/**
+ * 채팅 이벤트(새 메시지, 읽음, 안 읽은 수)를 STOMP 구독자에게 전달
+ * <p>
+ * 같은 채팅방의 이벤트는 보낸 순서대로 전달된다. 구현은 chat.broadcast.type 으로 고른다.
+ */
+public interface ChatBroadcaster {
+
+    /**
+     * @param chatRoomId  이벤트가 속한 채팅방, 서버 간 전달 시 순서를 지키는 단위
+     * @param destination STOMP 구독 경로
+     * @param payload     JSON 으로 보낼 객체
+     */
+    void broadcast(Long chatRoomId, String destination, Object payload);
+}
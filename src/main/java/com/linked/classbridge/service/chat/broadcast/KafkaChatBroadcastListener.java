@@ -0,0 +1,46 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Kafka 로 받은 채팅 이벤트를 이 서버에 연결된 구독자에게 전달
+ * <p>
+ * 값은 발행한 서버에서 만든 JSON 이므로 다시 변환하지 않고 그대로 STOMP 메시지 본문으로 보낸다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.broadcast", name = "type", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaChatBroadcastListener {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    @KafkaListener(topics = "${chat.broadcast.topic:chat-broadcast}",
+            containerFactory = "chatBroadcastListenerContainerFactory")
+    public void deliver(ConsumerRecord<String, byte[]> record) {
+        Header destination = record.headers().lastHeader(KafkaChatBroadcaster.DESTINATION_HEADER);
+        if (destination == null) {
+            log.warn("chat event without destination :: partition={}, offset={}", record.partition(),
+                    record.offset());
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        simpMessagingTemplate.send(new String(destination.value(), StandardCharsets.UTF_8),
+                MessageBuilder.createMessage(record.value(), accessor.getMessageHeaders()));
+    }
+}
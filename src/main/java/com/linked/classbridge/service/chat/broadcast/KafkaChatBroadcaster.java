@@ -0,0 +1,53 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linked.classbridge.config.ChatBroadcastProperties;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 이벤트를 Kafka 로 발행, 각 서버의 {@link KafkaChatBroadcastListener}가 받아 자기 구독자에게 전달한다.
+ * <p>
+ * 채팅방 id 를 키로 보내므로 같은 채팅방 이벤트는 한 파티션에 순서대로 쌓인다. 값은 STOMP 로 보낼 JSON 을 여기서 한 번만 만들고, 구독 경로는
+ * 헤더로 보낸다. 발행은 비동기이며 실패는 로그로만 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.broadcast", name = "type", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaChatBroadcaster implements ChatBroadcaster {
+
+    public static final String DESTINATION_HEADER = "destination";
+
+    private final KafkaTemplate<String, byte[]> chatBroadcastKafkaTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final ChatBroadcastProperties chatBroadcastProperties;
+
+    @Override
+    public void broadcast(Long chatRoomId, String destination, Object payload) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize chat event", e);
+        }
+
+        ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(chatBroadcastProperties.getTopic(), String.valueOf(chatRoomId), json);
+        record.headers().add(DESTINATION_HEADER, destination.getBytes(StandardCharsets.UTF_8));
+
+        chatBroadcastKafkaTemplate.send(record).whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("failed to publish chat event :: destination={}, {}", destination, e.getMessage());
+            }
+        });
+    }
+}
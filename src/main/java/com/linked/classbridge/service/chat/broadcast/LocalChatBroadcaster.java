@@ -0,0 +1,22 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버에 연결된 구독자에게만 전달 (서버 한 대일 때)
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.broadcast", name = "type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalChatBroadcaster implements ChatBroadcaster {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    @Override
+    public void broadcast(Long chatRoomId, String destination, Object payload) {
+        simpMessagingTemplate.convertAndSend(destination, payload);
+    }
+}
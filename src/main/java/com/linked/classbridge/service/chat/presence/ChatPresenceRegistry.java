@@ -0,0 +1,139 @@
+package com.linked.classbridge.service.chat.presence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 접속 정보, 사용자가 지금 채팅방을 열어 두었는지
+ * <p>
+ * STOMP 세션이 채팅방({@code /chatRoom/{id}})을 구독하면 열림, 구독 해제나 연결 종료 시 닫힘으로 본다. 같은 사용자가 여러 세션(탭)에서
+ * 같은 채팅방을 열 수 있으므로 사용자별로 채팅방마다 열린 구독 수를 센다. 메모리에서만 관리하므로 채팅방을 열고 닫을 때 DB 에 쓰지 않고,
+ * 메시지 전송 시에도 이 서버에 열려 있으면 DB 를 보지 않는다.
+ * <p>
+ * 사용자 id 로 나눈 잠금(stripe) 안에서 구독 수를 바꾸므로 같은 사용자의 변경만 서로 기다린다. 조회는 잠그지 않는다. 이 서버에서 처음
+ * 열리거나 모두 닫힐 때만 {@link ChatPresenceStore}에 알려 다른 서버와 공유한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry {
+
+    private static final int STRIPES = 64;
+
+    private final Object[] locks = createLocks();
+
+    // 세션 id -> 세션의 사용자와 구독
+    private final Map<String, SessionPresence> sessions = new ConcurrentHashMap<>();
+
+    // 사용자 id -> 채팅방 id -> 열린 구독 수
+    private final Map<Long, Map<Long, Integer>> openChatRooms = new ConcurrentHashMap<>();
+
+    private final ChatPresenceStore chatPresenceStore;
+
+    public void connect(String sessionId, Long userId) {
+        sessions.put(sessionId, new SessionPresence(userId));
+    }
+
+    public void subscribe(String sessionId, String subscriptionId, Long chatRoomId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (lock(session.userId())) {
+            if (session.subscriptions().putIfAbsent(subscriptionId, chatRoomId) == null) {
+                open(session.userId(), chatRoomId);
+            }
+        }
+    }
+
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        SessionPresence session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (lock(session.userId())) {
+            Long chatRoomId = session.subscriptions().remove(subscriptionId);
+            if (chatRoomId != null) {
+                close(session.userId(), chatRoomId);
+            }
+        }
+    }
+
+    public void disconnect(String sessionId) {
+        SessionPresence session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        synchronized (lock(session.userId())) {
+            session.subscriptions().values().forEach(chatRoomId -> close(session.userId(), chatRoomId));
+            session.subscriptions().clear();
+        }
+    }
+
+    // 채팅방 닫기/퇴장 요청, 구독을 유지한 채 화면만 닫은 경우를 위해 이 서버에서 사용자의 해당 채팅방 구독을 모두 닫음
+    public void closeChatRoom(Long userId, Long chatRoomId) {
+        synchronized (lock(userId)) {
+            sessions.values().stream()
+                    .filter(session -> session.userId().equals(userId))
+                    .forEach(session -> session.subscriptions().values().removeIf(subscribed -> {
+                        if (!subscribed.equals(chatRoomId)) {
+                            return false;
+                        }
+                        close(userId, chatRoomId);
+                        return true;
+                    }));
+        }
+    }
+
+    public boolean isOnline(Long userId, Long chatRoomId) {
+        Map<Long, Integer> chatRooms = openChatRooms.get(userId);
+        if (chatRooms != null && chatRooms.containsKey(chatRoomId)) {
+            return true;
+        }
+        return chatPresenceStore.isOnline(userId, chatRoomId);
+    }
+
+    private void open(Long userId, Long chatRoomId) {
+        Map<Long, Integer> chatRooms = openChatRooms.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+        if (chatRooms.merge(chatRoomId, 1, Integer::sum) == 1) {
+            chatPresenceStore.opened(userId, chatRoomId);
+        }
+    }
+
+    private void close(Long userId, Long chatRoomId) {
+        Map<Long, Integer> chatRooms = openChatRooms.get(userId);
+        if (chatRooms == null || !chatRooms.containsKey(chatRoomId)) {
+            return;
+        }
+        if (chatRooms.merge(chatRoomId, -1, Integer::sum) <= 0) {
+            chatRooms.remove(chatRoomId);
+            if (chatRooms.isEmpty()) {
+                openChatRooms.remove(userId);
+            }
+            chatPresenceStore.closed(userId, chatRoomId);
+        }
+    }
+
+    private Object lock(Long userId) {
+        return locks[Math.floorMod(userId.hashCode(), STRIPES)];
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    // 구독 id -> 채팅방 id
+    private record SessionPresence(Long userId, Map<String, Long> subscriptions) {
+
+        SessionPresence(Long userId) {
+            this(userId, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.linked.classbridge.service.chat.presence;
+
+/**
+ * 여러 서버가 함께 보는 채팅방 접속 정보 저장소
+ * <p>
+ * {@link ChatPresenceRegistry}가 이 서버에서 사용자가 채팅방을 처음 열었을 때와 마지막으로 닫았을 때만 호출한다. 메시지 전송 시에는 이
+ * 서버에 접속 정보가 없을 때만 {@link #isOnline}으로 다른 서버를 확인한다.
+ */
+public interface ChatPresenceStore {
+
+    // 이 서버에서 사용자가 채팅방을 열었음
+    void opened(Long userId, Long chatRoomId);
+
+    // 이 서버에서 사용자가 채팅방을 모두 닫았음
+    void closed(Long userId, Long chatRoomId);
+
+    // 다른 서버에서 사용자가 채팅방을 열어 두었는지
+    boolean isOnline(Long userId, Long chatRoomId);
+}
@@ -0,0 +1,25 @@
+package com.linked.classbridge.service.chat.presence;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 서버와 공유하지 않음 (서버 한 대일 때), 이 서버의 {@link ChatPresenceRegistry}가 접속 정보의 전부다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "chat.presence", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalChatPresenceStore implements ChatPresenceStore {
+
+    @Override
+    public void opened(Long userId, Long chatRoomId) {
+    }
+
+    @Override
+    public void closed(Long userId, Long chatRoomId) {
+    }
+
+    @Override
+    public boolean isOnline(Long userId, Long chatRoomId) {
+        return false;
+    }
+}
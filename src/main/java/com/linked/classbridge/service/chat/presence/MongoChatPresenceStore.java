@@ -0,0 +1,129 @@
+package com.linked.classbridge.service.chat.presence;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.linked.classbridge.config.ChatPresenceProperties;
+import com.linked.classbridge.domain.ChatPresence;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code chat_presence} 컬렉션에 서버별 접속 정보를 공유 (서버가 여러 대일 때)
+ * <p>
+ * 채팅방을 열고 닫을 때 문서 하나를 쓰거나 지우고, 메시지 전송 시 이 서버에 접속 정보가 없을 때만 (userId, chatRoomId) 인덱스로
+ * 조회한다. 서버가 종료 처리 없이 죽어도 만료 시각이 갱신되지 않으므로 ttl 뒤에는 오프라인으로 본다.
+ * <p>
+ * 만료 시각 갱신은 전용 스레드에서 실행한다. 공용 스케줄러 스레드는 야간 재계산 작업이 오래 붙잡을 수 있어 그동안 갱신이 밀리면
+ * 채팅방을 열어 둔 사용자가 모두 오프라인으로 보인다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "chat.presence", name = "type", havingValue = "mongo")
+@RequiredArgsConstructor
+public class MongoChatPresenceStore implements ChatPresenceStore {
+
+    static final String USER_CHAT_ROOM_INDEX = "userId_chatRoomId";
+    static final String EXPIRES_AT_INDEX = "expiresAt_ttl";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ChatPresenceProperties chatPresenceProperties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "chat-presence-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @PostConstruct
+    public void startHeartbeat() {
+        long interval = chatPresenceProperties.getHeartbeatInterval();
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(ChatPresence.class).ensureIndex(new CompoundIndexDefinition(
+                    new Document("userId", 1).append("chatRoomId", 1)).named(USER_CHAT_ROOM_INDEX));
+            mongoTemplate.indexOps(ChatPresence.class).ensureIndex(new Index("expiresAt", Direction.ASC)
+                    .expire(0, TimeUnit.SECONDS).named(EXPIRES_AT_INDEX));
+            log.info("chat presence index ensured :: {}, {}", USER_CHAT_ROOM_INDEX, EXPIRES_AT_INDEX);
+        } catch (RuntimeException e) {
+            log.error("failed to ensure chat presence index :: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void opened(Long userId, Long chatRoomId) {
+        mongoTemplate.upsert(query(where("_id").is(id(userId, chatRoomId))), new Update()
+                .set("nodeId", nodeId)
+                .set("userId", userId)
+                .set("chatRoomId", chatRoomId)
+                .set("expiresAt", expiresAt()), ChatPresence.class);
+    }
+
+    @Override
+    public void closed(Long userId, Long chatRoomId) {
+        mongoTemplate.remove(query(where("_id").is(id(userId, chatRoomId))), ChatPresence.class);
+    }
+
+    // TTL 인덱스는 주기적으로 지우므로 만료 시각도 함께 확인
+    @Override
+    public boolean isOnline(Long userId, Long chatRoomId) {
+        return mongoTemplate.exists(query(where("userId").is(userId)
+                .and("chatRoomId").is(chatRoomId)
+                .and("expiresAt").gt(LocalDateTime.now())), ChatPresence.class);
+    }
+
+    // 이 서버의 접속 정보 만료 시각을 한 번에 늘림
+    public void heartbeat() {
+        try {
+            mongoTemplate.updateMulti(query(where("nodeId").is(nodeId)),
+                    new Update().set("expiresAt", expiresAt()), ChatPresence.class);
+        } catch (RuntimeException e) {
+            log.error("failed to refresh chat presence :: {}", e.getMessage());
+        }
+    }
+
+    // 정상 종료 시 ttl 을 기다리지 않고 바로 오프라인으로
+    @PreDestroy
+    public void removeAll() {
+        heartbeatExecutor.shutdownNow();
+        try {
+            mongoTemplate.remove(query(where("nodeId").is(nodeId)), ChatPresence.class);
+        } catch (RuntimeException e) {
+            log.error("failed to remove chat presence :: {}", e.getMessage());
+        }
+    }
+
+    private String id(Long userId, Long chatRoomId) {
+        return nodeId + ":" + userId + ":" + chatRoomId;
+    }
+
+    private LocalDateTime expiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(chatPresenceProperties.getTtl()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.linked.classbridge.service.hydration;
+
+import com.linked.classbridge.dto.oneDayClass.ClassDto;
+import com.linked.classbridge.dto.oneDayClass.ClassImageUrlProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTutorNameProjection;
+import com.linked.classbridge.repository.ClassImageRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.service.wish.UserWishCache;
+import com.linked.classbridge.service.wish.WishClassIds;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클래스 목록 응답의 부가 정보(대표 이미지, 강사 닉네임, 찜 여부)를 한 번에 채운다.
+ * <p>
+ * 클래스마다 조회하지 않고 classId 목록으로 대표 이미지와 강사 닉네임을 각각 한 번의 IN 조회로 가져온다. 찜 여부는
+ * {@link UserWishCache}에서 확인하므로 캐시에 없을 때만 한 번 조회한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClassDtoHydrator {
+
+    static final int REPRESENTATIVE_IMAGE_SEQUENCE = 1;
+
+    private final ClassImageRepository classImageRepository;
+    private final OneDayClassRepository oneDayClassRepository;
+    private final UserWishCache userWishCache;
+
+    /**
+     * @param userId 로그인하지 않은 경우 null (찜 여부는 모두 false)
+     */
+    public List<ClassDto> hydrate(List<ClassDto> classDtos, Long userId) {
+        if (classDtos.isEmpty()) {
+            return classDtos;
+        }
+        List<Long> classIds = classDtos.stream().map(ClassDto::getClassId).toList();
+        Map<Long, String> imageUrls = firstImageUrls(classIds);
+        Map<Long, String> tutorNames = tutorNames(classIds);
+        WishClassIds wishClassIds = userWishCache.get(userId);
+
+        for (ClassDto classDto : classDtos) {
+            classDto.setClassImageUrl(imageUrls.get(classDto.getClassId()));
+            classDto.setTutorName(tutorNames.get(classDto.getClassId()));
+            classDto.setWish(wishClassIds.contains(classDto.getClassId()));
+        }
+        return classDtos;
+    }
+
+    /**
+     * classId 별 대표 이미지(sequence 1) url, 이미지가 없는 클래스는 포함하지 않는다.
+     */
+    public Map<Long, String> firstImageUrls(Collection<Long> classIds) {
+        if (classIds.isEmpty()) {
+            return Map.of();
+        }
+        return classImageRepository.findImageUrlsByClassIdInAndSequence(classIds, REPRESENTATIVE_IMAGE_SEQUENCE)
+                .stream()
+                .collect(Collectors.toMap(ClassImageUrlProjection::getClassId, ClassImageUrlProjection::getUrl,
+                        (first, second) -> first));
+    }
+
+    public Map<Long, String> tutorNames(Collection<Long> classIds) {
+        if (classIds.isEmpty()) {
+            return Map.of();
+        }
+        return oneDayClassRepository.findTutorNamesByClassIdIn(classIds).stream()
+                .filter(row -> row.getTutorName() != null)
+                .collect(Collectors.toMap(ClassTutorNameProjection::getClassId, ClassTutorNameProjection::getTutorName,
+                        (first, second) -> first));
+    }
+}
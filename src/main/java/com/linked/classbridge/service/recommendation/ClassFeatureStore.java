@@ -0,0 +1,125 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.config.RecommendationProperties;
+import com.linked.classbridge.config.RecommendationSegmentProperties;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.type.Gender;
+import com.linked.classbridge.util.TransactionUtils;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추천용 클래스 특성 저장소
+ * <p>
+ * 애플리케이션 시작 시 전체 클래스의 특성을 한 번 읽어 {@link ClassFeatures}로 보관하고, 이후에는 예약(수강생 추가), 클래스 등록/수정/삭제
+ * 시점에 해당 클래스만 반영한다. 추천 요청은 DB 를 조회하지 않고 현재 스냅샷만 사용한다. 반영 누락에 대비해 매일 새벽 전체를 다시
+ * 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassFeatureStore {
+
+    private final OneDayClassRepository classRepository;
+
+    private final RecommendationProperties properties;
+
+    private final RecommendationSegmentProperties segmentProperties;
+
+    private volatile ClassFeatures features;
+
+    // 추천 순위에 영향을 줄 만한 변경이 반영될 때마다 증가, 세그먼트 캐시가 오래된 순위를 가려내는 데 사용
+    private volatile long version;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void rebuild() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("failed to load class features :: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 스냅샷, 아직 읽지 않았으면 DB 에서 읽는다.
+     */
+    public ClassFeatures features() {
+        ClassFeatures current = features;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return features != null ? features : load();
+        }
+    }
+
+    /**
+     * 현재 스냅샷에서 점수가 높은 classId 를 고른다. 클래스 수가 {@code recommendation.scoring.parallel-threshold} 이상이면 공용
+     * ForkJoinPool 에서 나누어 계산한다.
+     */
+    public List<Long> topClassIds(double userAge, Gender userGender, long[] interestCategoryIds, int limit) {
+        ClassFeatures current = features();
+        if (current.size() < properties.getParallelThreshold()) {
+            return current.topClassIds(userAge, userGender, interestCategoryIds, limit);
+        }
+        return current.topClassIds(userAge, userGender, interestCategoryIds, limit, ForkJoinPool.commonPool(),
+                properties.getMinChunkSize());
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 수강생 수, 평균 연령, 카테고리가 바뀐 클래스를 트랜잭션 커밋 후 반영한다. 이미 있는 클래스는 현재 스냅샷을 제자리에서 바꾸고,
+     * 새 클래스일 때만 스냅샷을 새로 만든다.
+     */
+    public void update(OneDayClass oneDayClass) {
+        long classId = oneDayClass.getClassId();
+        Double averageAge = oneDayClass.getAverageAge();
+        Long maleCount = oneDayClass.getMaleCount();
+        Long femaleCount = oneDayClass.getFemaleCount();
+        Long categoryId = oneDayClass.getCategory() != null ? oneDayClass.getCategory().getCategoryId() : null;
+
+        TransactionUtils.afterCommit(() -> apply(
+                current -> current.update(classId, averageAge, maleCount, femaleCount, categoryId)
+                        ? current : current.with(classId, averageAge, maleCount, femaleCount, categoryId),
+                current -> current.isSignificantChange(classId, averageAge, maleCount, femaleCount, categoryId,
+                        segmentProperties.getSignificantAgeChange())));
+    }
+
+    public void remove(long classId) {
+        TransactionUtils.afterCommit(() -> apply(current -> current.without(classId),
+                current -> current.contains(classId)));
+    }
+
+    private synchronized ClassFeatures load() {
+        ClassFeatures loaded = ClassFeatures.of(classRepository.findAllFeatures());
+        features = loaded;
+        version++;
+        log.info("class features loaded :: {} classes", loaded.size());
+        return loaded;
+    }
+
+    // 아직 읽기 전이면 다음 조회 때 최신 상태를 읽으므로 반영하지 않음. 버전은 변경을 반영한 뒤에 올려야, 새 버전을 읽은 조회가
+    // 이전 스냅샷으로 계산한 순위를 새 버전으로 캐시하지 않는다.
+    synchronized void apply(UnaryOperator<ClassFeatures> change, Predicate<ClassFeatures> significant) {
+        if (features != null) {
+            boolean significantChange = significant.test(features);
+            features = change.apply(features);
+            if (significantChange) {
+                version++;
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.dto.oneDayClass.ClassFeatureProjection;
+import com.linked.classbridge.type.Gender;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 추천 점수 계산에 쓰는 클래스 특성 스냅샷
+ * <p>
+ * 클래스마다 객체를 만들지 않고 classId 오름차순으로 정렬된 기본형 배열에 나누어 담는다. 점수 계산은 배열을 한 번 훑으며 박싱이나 객체
+ * 생성 없이 수행한다. 클래스 추가/삭제는 새 스냅샷을 만들어 반환하고, 이미 있는 클래스의 특성은 {@link #update}로 제자리에서
+ * 바꾼다. 읽는 쪽은 잠금 없이 사용하므로 바뀌는 도중의 클래스 하나를 이전 값과 새 값이 섞인 채로 볼 수 있는데, 추천 순위에는
+ * 영향이 미미해 허용한다.
+ */
+public final class ClassFeatures {
+
+    public static final ClassFeatures EMPTY = new ClassFeatures(new long[0], new double[0], new byte[0], new int[0]);
+
+    static final double DEFAULT_AGE = 20.0;   // 수강생이 없는 클래스의 평균 연령
+    static final int NO_CATEGORY = -1;
+
+    private final long[] classIds;
+    private final double[] averageAges;
+    private final byte[] genders;       // Gender ordinal, 남성 수강생이 더 많으면 MALE
+    private final int[] categoryIds;
+
+    private ClassFeatures(long[] classIds, double[] averageAges, byte[] genders, int[] categoryIds) {
+        this.classIds = classIds;
+        this.averageAges = averageAges;
+        this.genders = genders;
+        this.categoryIds = categoryIds;
+    }
+
+    /**
+     * @param rows classId 오름차순
+     */
+    public static ClassFeatures of(List<ClassFeatureProjection> rows) {
+        int size = rows.size();
+        long[] classIds = new long[size];
+        double[] averageAges = new double[size];
+        byte[] genders = new byte[size];
+        int[] categoryIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            ClassFeatureProjection row = rows.get(i);
+            classIds[i] = row.getClassId();
+            averageAges[i] = age(row.getAverageAge());
+            genders[i] = gender(row.getMaleCount(), row.getFemaleCount());
+            categoryIds[i] = category(row.getCategoryId());
+        }
+        return new ClassFeatures(classIds, averageAges, genders, categoryIds);
+    }
+
+    /**
+     * 클래스를 추가하거나 기존 특성을 바꾼 새 스냅샷
+     */
+    public ClassFeatures with(long classId, Double averageAge, Long maleCount, Long femaleCount, Long categoryId) {
+        int index = Arrays.binarySearch(classIds, classId);
+        boolean exists = index >= 0;
+        int position = exists ? index : -index - 1;
+        int size = exists ? classIds.length : classIds.length + 1;
+
+        long[] newClassIds = new long[size];
+        double[] newAverageAges = new double[size];
+        byte[] newGenders = new byte[size];
+        int[] newCategoryIds = new int[size];
+        copyAround(position, exists ? position + 1 : position, newClassIds, newAverageAges, newGenders, newCategoryIds);
+
+        newClassIds[position] = classId;
+        newAverageAges[position] = age(averageAge);
+        newGenders[position] = gender(maleCount, femaleCount);
+        newCategoryIds[position] = category(categoryId);
+        return new ClassFeatures(newClassIds, newAverageAges, newGenders, newCategoryIds);
+    }
+
+    /**
+     * 이미 있는 클래스의 특성을 배열 복사 없이 제자리에서 바꾼다. 변경은 한 스레드에서만 해야 한다.
+     *
+     * @return 클래스가 없어 바꾸지 못했으면 false, 이때는 {@link #with}로 새 스냅샷을 만들어야 한다.
+     */
+    public boolean update(long classId, Double averageAge, Long maleCount, Long femaleCount, Long categoryId) {
+        int index = Arrays.binarySearch(classIds, classId);
+        if (index < 0) {
+            return false;
+        }
+        averageAges[index] = age(averageAge);
+        genders[index] = gender(maleCount, femaleCount);
+        categoryIds[index] = category(categoryId);
+        return true;
+    }
+
+    public ClassFeatures without(long classId) {
+        int index = Arrays.binarySearch(classIds, classId);
+        if (index < 0) {
+            return this;
+        }
+        int size = classIds.length - 1;
+        long[] newClassIds = new long[size];
+        double[] newAverageAges = new double[size];
+        byte[] newGenders = new byte[size];
+        int[] newCategoryIds = new int[size];
+        copyAround(index, index + 1, newClassIds, newAverageAges, newGenders, newCategoryIds);
+        return new ClassFeatures(newClassIds, newAverageAges, newGenders, newCategoryIds);
+    }
+
+    public boolean contains(long classId) {
+        return Arrays.binarySearch(classIds, classId) >= 0;
+    }
+
+    /**
+     * 주어진 특성으로 바꾸면 추천 순위가 눈에 띄게 달라질 수 있는지 여부. 새 클래스이거나 주 수강 성별, 카테고리가 바뀌었거나 평균 연령이
+     * {@code ageThreshold} 이상 바뀐 경우다.
+     */
+    public boolean isSignificantChange(long classId, Double averageAge, Long maleCount, Long femaleCount,
+                                       Long categoryId, double ageThreshold) {
+        int index = Arrays.binarySearch(classIds, classId);
+        return index < 0
+                || genders[index] != gender(maleCount, femaleCount)
+                || categoryIds[index] != category(categoryId)
+                || Math.abs(averageAges[index] - age(averageAge)) >= ageThreshold;
+    }
+
+    public int size() {
+        return classIds.length;
+    }
+
+    /**
+     * 사용자 벡터(나이, 성별, 관심 카테고리 일치)와 클래스 벡터(평균 연령, 주 수강 성별, 1)의 피어슨 상관 계수가 높은 순으로 classId 를
+     * 반환한다. 점수가 같으면 classId 가 작은 클래스가 앞선다.
+     *
+     * @param interestCategoryIds 사용자의 관심 카테고리 id
+     */
+    public List<Long> topClassIds(double userAge, Gender userGender, long[] interestCategoryIds, int limit) {
+        TopK top = new TopK(Math.max(0, Math.min(limit, classIds.length)));
+        score(0, classIds.length, userAge, userGender.ordinal(), interestCategoryIds, top);
+        return top.toList();
+    }
+
+    /**
+     * {@link #topClassIds(double, Gender, long[], int)}와 같은 결과를 배열을 구간으로 나누어 병렬로 계산한다. 작업자마다 자기 구간의
+     * 상위 k 개만 모으고 마지막에 합치므로 작업자 사이에 공유하는 상태가 없다.
+     *
+     * @param minChunkSize 한 작업자가 처리할 최소 클래스 수
+     */
+    public List<Long> topClassIds(double userAge, Gender userGender, long[] interestCategoryIds, int limit,
+                                  ForkJoinPool pool, int minChunkSize) {
+        int k = Math.max(0, Math.min(limit, classIds.length));
+        // 작업자당 몇 개의 구간을 두어 먼저 끝난 작업자가 남은 구간을 가져갈 수 있게 함
+        int chunkSize = Math.max(minChunkSize, classIds.length / (pool.getParallelism() * 4));
+        if (k == 0 || classIds.length <= chunkSize) {
+            return topClassIds(userAge, userGender, interestCategoryIds, limit);
+        }
+        return pool.invoke(new ScoreTask(0, classIds.length, chunkSize, userAge, userGender.ordinal(),
+                interestCategoryIds, k)).toList();
+    }
+
+    private void score(int from, int to, double userAge, double userGenderValue, long[] interestCategoryIds,
+                       TopK top) {
+        for (int i = from; i < to; i++) {
+            double matchInterest = contains(interestCategoryIds, categoryIds[i]) ? 1 : 0;
+            double score = correlation(userAge, userGenderValue, matchInterest, averageAges[i], genders[i], 1);
+            if (Double.isNaN(score)) {
+                // 분산이 0 인 벡터는 상관 계수가 정의되지 않으므로 가장 낮은 순위로 둠
+                score = Double.NEGATIVE_INFINITY;
+            }
+            top.offer(score, classIds[i]);
+        }
+    }
+
+    private final class ScoreTask extends RecursiveTask<TopK> {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final double userAge;
+        private final double userGenderValue;
+        private final long[] interestCategoryIds;
+        private final int k;
+
+        private ScoreTask(int from, int to, int chunkSize, double userAge, double userGenderValue,
+                          long[] interestCategoryIds, int k) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.userAge = userAge;
+            this.userGenderValue = userGenderValue;
+            this.interestCategoryIds = interestCategoryIds;
+            this.k = k;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from <= chunkSize) {
+                TopK top = new TopK(k);
+                score(from, to, userAge, userGenderValue, interestCategoryIds, top);
+                return top;
+            }
+            int middle = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(from, middle, chunkSize, userAge, userGenderValue, interestCategoryIds, k);
+            ScoreTask right = new ScoreTask(middle, to, chunkSize, userAge, userGenderValue, interestCategoryIds, k);
+            left.fork();
+            TopK top = right.compute();
+            top.merge(left.join());
+            return top;
+        }
+    }
+
+    /**
+     * 원소 3개짜리 두 벡터의 피어슨 상관 계수 (PearsonsCorrelation 과 같은 값을 배열 할당 없이 계산)
+     */
+    static double correlation(double x0, double x1, double x2, double y0, double y1, double y2) {
+        double meanX = (x0 + x1 + x2) / 3;
+        double meanY = (y0 + y1 + y2) / 3;
+        double dx0 = x0 - meanX;
+        double dx1 = x1 - meanX;
+        double dx2 = x2 - meanX;
+        double dy0 = y0 - meanY;
+        double dy1 = y1 - meanY;
+        double dy2 = y2 - meanY;
+        double sxy = dx0 * dy0 + dx1 * dy1 + dx2 * dy2;
+        double sxx = dx0 * dx0 + dx1 * dx1 + dx2 * dx2;
+        double syy = dy0 * dy0 + dy1 * dy1 + dy2 * dy2;
+        return sxy / Math.sqrt(sxx * syy);
+    }
+
+    // [0, from) 과 [to, length) 구간을 새 배열로 복사, from 과 to 의 차이만큼 위치를 비우거나 당김
+    private void copyAround(int from, int to, long[] newClassIds, double[] newAverageAges, byte[] newGenders,
+                            int[] newCategoryIds) {
+        System.arraycopy(classIds, 0, newClassIds, 0, from);
+        System.arraycopy(averageAges, 0, newAverageAges, 0, from);
+        System.arraycopy(genders, 0, newGenders, 0, from);
+        System.arraycopy(categoryIds, 0, newCategoryIds, 0, from);
+
+        int tail = classIds.length - to;
+        int target = newClassIds.length - tail;
+        System.arraycopy(classIds, to, newClassIds, target, tail);
+        System.arraycopy(averageAges, to, newAverageAges, target, tail);
+        System.arraycopy(genders, to, newGenders, target, tail);
+        System.arraycopy(categoryIds, to, newCategoryIds, target, tail);
+    }
+
+    private static boolean contains(long[] values, int value) {
+        for (long v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double age(Double averageAge) {
+        return averageAge != null ? averageAge : DEFAULT_AGE;
+    }
+
+    private static byte gender(Long maleCount, Long femaleCount) {
+        long male = maleCount != null ? maleCount : 0L;
+        long female = femaleCount != null ? femaleCount : 0L;
+        return (byte) (male > female ? Gender.MALE : Gender.FEMALE).ordinal();
+    }
+
+    private static int category(Long categoryId) {
+        return categoryId != null ? Math.toIntExact(categoryId) : NO_CATEGORY;
+    }
+}
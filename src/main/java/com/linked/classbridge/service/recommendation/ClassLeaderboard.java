@@ -0,0 +1,155 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.config.ClassLeaderboardProperties;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.dto.oneDayClass.OneDayClassCounterProjection;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 추천용 클래스 순위표
+ * <p>
+ * 전체 클래스를 {@code recommendation.leaderboard.score} 기준 점수 내림차순으로 {@link ConcurrentSkipListSet}에 보관한다. 리뷰
+ * 등록/수정/삭제, 찜 추가/삭제, 클래스 등록/수정/삭제 시 트랜잭션 커밋 후 해당 클래스의 항목만 다시 넣으므로, 상위 N 개 조회는 DB 정렬 없이
+ * 앞에서부터 N 개를 읽기만 한다. 애플리케이션 시작 시와 매일 새벽 DB 에서 다시 읽어 반영 누락을 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClassLeaderboard {
+
+    private final OneDayClassRepository classRepository;
+    private final ClassLeaderboardProperties properties;
+
+    private final ConcurrentSkipListSet<Entry> ranking = new ConcurrentSkipListSet<>();
+
+    // classId -> 현재 ranking 에 들어 있는 항목, 갱신 시 이전 항목을 찾아 지우는 데 사용
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 40 0 * * ?")
+    public void rebuild() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("failed to load class leaderboard :: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 {@code limit} 개의 classId, 아직 읽지 않았으면 DB 에서 읽는다.
+     */
+    public List<Long> topClassIds(int limit) {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    load();
+                }
+            }
+        }
+        List<Long> classIds = new ArrayList<>(limit);
+        Iterator<Entry> iterator = ranking.iterator();
+        while (classIds.size() < limit && iterator.hasNext()) {
+            classIds.add(iterator.next().classId());
+        }
+        return classIds;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 별점, 리뷰 수, 찜 수가 바뀐 클래스를 트랜잭션 커밋 후 반영한다.
+     */
+    public void update(OneDayClass oneDayClass) {
+        long classId = oneDayClass.getClassId();
+        Entry entry = entryOf(classId, oneDayClass.getTotalStarRate(), oneDayClass.getTotalReviews(),
+                oneDayClass.getTotalWish());
+        TransactionUtils.afterCommit(() -> put(entry));
+    }
+
+    public void remove(long classId) {
+        TransactionUtils.afterCommit(() -> delete(classId));
+    }
+
+    // 갱신과 겹칠 수 있으므로 전체를 비우지 않고 클래스마다 교체한 뒤, 읽은 목록에 없는 클래스만 지움
+    private synchronized void load() {
+        List<OneDayClassCounterProjection> rows = classRepository.findAllCounters();
+        Set<Long> classIds = new HashSet<>(rows.size() * 2);
+        for (OneDayClassCounterProjection row : rows) {
+            classIds.add(row.getClassId());
+            put(entryOf(row.getClassId(), row.getTotalStarRate(), row.getTotalReviews(), row.getTotalWish()));
+        }
+        for (Long classId : entries.keySet()) {
+            if (!classIds.contains(classId)) {
+                delete(classId);
+            }
+        }
+        loaded = true;
+        log.info("class leaderboard loaded :: {} classes", entries.size());
+    }
+
+    // 같은 클래스에 대한 교체는 ConcurrentHashMap 의 키 단위 잠금으로 직렬화
+    private void put(Entry entry) {
+        entries.compute(entry.classId(), (id, current) -> {
+            if (current != null) {
+                ranking.remove(current);
+            }
+            ranking.add(entry);
+            return entry;
+        });
+    }
+
+    // 읽는 중에 삭제된 클래스를 읽은 목록으로 다시 넣지 않도록 load 와 같은 잠금으로 직렬화
+    private synchronized void delete(long classId) {
+        entries.computeIfPresent(classId, (id, current) -> {
+            ranking.remove(current);
+            return null;
+        });
+    }
+
+    private Entry entryOf(long classId, Double totalStarRate, Integer totalReviews, Integer totalWish) {
+        double starRate = totalStarRate != null ? totalStarRate : 0.0;
+        int reviews = totalReviews != null ? totalReviews : 0;
+        int wish = totalWish != null ? totalWish : 0;
+
+        return switch (properties.getScore()) {
+            case TOTAL_STAR_RATE -> new Entry(classId, starRate, wish);
+            case AVERAGE_RATING -> new Entry(classId,
+                    reviews > 0 && reviews >= properties.getMinReviews() ? starRate / reviews : 0.0, wish);
+            case WISH -> new Entry(classId, wish, starRate);
+        };
+    }
+
+    /**
+     * 점수 내림차순, 같으면 보조 점수 내림차순, 그래도 같으면 classId 오름차순
+     */
+    record Entry(long classId, double score, double tieBreaker) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int compare = Double.compare(other.score, score);
+            if (compare != 0) {
+                return compare;
+            }
+            compare = Double.compare(other.tieBreaker, tieBreaker);
+            return compare != 0 ? compare : Long.compare(classId, other.classId);
+        }
+    }
+}
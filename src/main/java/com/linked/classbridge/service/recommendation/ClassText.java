@@ -0,0 +1,19 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.domain.ClassTag;
+import com.linked.classbridge.domain.OneDayClass;
+import java.util.List;
+
+/**
+ * 유사 클래스 계산에 쓰는 클래스 텍스트 (클래스명, 소개, 태그 이름)
+ */
+public record ClassText(long classId, String className, String introduction, List<String> tagNames) {
+
+    public static ClassText of(OneDayClass oneDayClass) {
+        List<String> tagNames = oneDayClass.getTagList() != null
+                ? oneDayClass.getTagList().stream().map(ClassTag::getName).toList()
+                : List.of();
+        return new ClassText(oneDayClass.getClassId(), oneDayClass.getClassName(), oneDayClass.getIntroduction(),
+                tagNames);
+    }
+}
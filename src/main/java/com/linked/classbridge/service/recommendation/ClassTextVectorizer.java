@@ -0,0 +1,149 @@
+package com.linked.classbridge.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 클래스 텍스트를 해시 n-gram TF-IDF 벡터로 바꾼다.
+ * <p>
+ * 검색 인덱스(setting.json)의 korean 분석기처럼 소문자로 바꾼 뒤 글자/숫자 단위로 자르지만, nori 형태소 사전은 애플리케이션에 없으므로 한글은
+ * 음절 bigram 으로 나눈다. 조사나 어미가 붙은 형태도 어간 bigram 을 공유하므로 형태소 분석 없이도 비슷한 단어끼리 겹친다. 토큰은
+ * {@code dimension} 개 버킷에 부호 있는 해시로 모으고(feature hashing), 버킷별 문서 빈도로 IDF 를 곱한 뒤 길이 1 로 정규화한다.
+ * 스레드 안전하지 않다.
+ */
+public class ClassTextVectorizer {
+
+    // 클래스명과 태그는 소개보다 클래스를 잘 설명하므로 토큰 빈도를 더 크게 센다
+    static final float TITLE_WEIGHT = 2f;
+
+    private final int dimension;
+    private final int[] documentFrequency;
+    private int documentCount;
+
+    public ClassTextVectorizer(int dimension) {
+        this.dimension = dimension;
+        this.documentFrequency = new int[dimension];
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * IDF 계산을 위한 문서 빈도에 반영한다.
+     */
+    public void addDocument(ClassText text) {
+        boolean[] seen = new boolean[dimension];
+        for (String token : termFrequencies(text).keySet()) {
+            int bucket = bucket(token);
+            if (!seen[bucket]) {
+                seen[bucket] = true;
+                documentFrequency[bucket]++;
+            }
+        }
+        documentCount++;
+    }
+
+    /**
+     * @return 길이 1 로 정규화한 벡터, 토큰이 없으면 null
+     */
+    public float[] vectorize(ClassText text) {
+        Map<String, Float> termFrequencies = termFrequencies(text);
+        if (termFrequencies.isEmpty()) {
+            return null;
+        }
+
+        float[] vector = new float[dimension];
+        termFrequencies.forEach((token, frequency) -> {
+            int hash = hash(token);
+            int bucket = Math.floorMod(hash, dimension);
+            double idf = Math.log((1.0 + documentCount) / (1.0 + documentFrequency[bucket])) + 1.0;
+            double weight = (1.0 + Math.log(frequency)) * idf;
+            vector[bucket] += (float) ((hash & 0x40000000) == 0 ? weight : -weight);
+        });
+
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return null;
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            vector[i] *= scale;
+        }
+        return vector;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            char ch = i < lowerCase.length() ? lowerCase.charAt(i) : ' ';
+            boolean boundary = !Character.isLetterOrDigit(ch)
+                    || (start >= 0 && isHangul(ch) != isHangul(lowerCase.charAt(start)));
+            if (boundary && start >= 0) {
+                addTokens(lowerCase.substring(start, i), tokens);
+                start = -1;
+            }
+            if (Character.isLetterOrDigit(ch) && start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private Map<String, Float> termFrequencies(ClassText text) {
+        Map<String, Float> frequencies = new HashMap<>();
+        for (String token : tokenize(text.className())) {
+            frequencies.merge(token, TITLE_WEIGHT, Float::sum);
+        }
+        for (String tagName : text.tagNames()) {
+            for (String token : tokenize(tagName)) {
+                frequencies.merge(token, TITLE_WEIGHT, Float::sum);
+            }
+        }
+        for (String token : tokenize(text.introduction())) {
+            frequencies.merge(token, 1f, Float::sum);
+        }
+        return frequencies;
+    }
+
+    // 한글은 음절 bigram (한 글자 단어는 그대로), 그 외는 두 글자 이상인 단어만 사용
+    private static void addTokens(String word, List<String> tokens) {
+        if (!isHangul(word.charAt(0))) {
+            if (word.length() > 1) {
+                tokens.add(word);
+            }
+            return;
+        }
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isHangul(char ch) {
+        return ch >= '가' && ch <= '힣';
+    }
+
+    private int bucket(String token) {
+        return Math.floorMod(hash(token), dimension);
+    }
+
+    private static int hash(String token) {
+        int hash = token.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,81 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.util.LongFloatHashMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 클래스-클래스 동시 발생(같은 사용자가 함께 예약/찜) 희소 행렬
+ * <p>
+ * 행마다 이웃 classId -> 가중치 합을 {@link LongFloatHashMap}에 기본형으로 보관한다. 한 행의 이웃이 {@code maxCandidates}의 두 배를
+ * 넘으면 가중치가 큰 {@code maxCandidates} 개만 남기므로, 인기 클래스가 있어도 행 크기가 제한된다(가지치기된 이웃의 이후 가중치는 처음부터
+ * 다시 쌓이므로 근사값이다).
+ * <p>
+ * 점수는 두 클래스의 전체 가중치로 정규화한 코사인 유사도 {@code co(a, b) / sqrt(w(a) * w(b))}로, 단순히 인기 있는 클래스가 모든
+ * 클래스의 이웃이 되는 것을 막는다.
+ */
+public class CoOccurrenceMatrix {
+
+    private final int maxCandidates;
+    private final Map<Long, LongFloatHashMap> rows = new HashMap<>();
+    private final LongFloatHashMap itemWeights = new LongFloatHashMap(1024);
+
+    public CoOccurrenceMatrix(int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 한 사용자가 예약/찜한 클래스 묶음을 반영한다.
+     *
+     * @param classIds 중복 없는 classId
+     * @param weights  classId 별 가중치
+     */
+    public synchronized void add(long[] classIds, float[] weights, int size) {
+        for (int i = 0; i < size; i++) {
+            itemWeights.addTo(classIds[i], weights[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                float weight = weights[i] * weights[j];
+                addPair(classIds[i], classIds[j], weight);
+                addPair(classIds[j], classIds[i], weight);
+            }
+        }
+    }
+
+    /**
+     * @return 이웃이 있는 classId 오름차순
+     */
+    public synchronized long[] classIds() {
+        return rows.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    /**
+     * 점수가 높은 이웃을 최대 {@code limit} 개 채운다.
+     *
+     * @return 채운 개수
+     */
+    public synchronized int topNeighbors(long classId, int limit, long[] neighborIds, float[] scores) {
+        LongFloatHashMap row = rows.get(classId);
+        if (row == null) {
+            return 0;
+        }
+        float weight = itemWeights.get(classId);
+        LongFloatHashMap normalized = new LongFloatHashMap(row.size());
+        row.forEach((neighborId, coOccurrence) ->
+                normalized.addTo(neighborId, (float) (coOccurrence / Math.sqrt(weight * itemWeights.get(neighborId)))));
+        return normalized.topEntries(limit, neighborIds, scores);
+    }
+
+    public synchronized int size() {
+        return rows.size();
+    }
+
+    private void addPair(long classId, long neighborId, float weight) {
+        LongFloatHashMap row = rows.computeIfAbsent(classId, id -> new LongFloatHashMap());
+        row.addTo(neighborId, weight);
+        if (row.size() > maxCandidates * 2) {
+            row.retainTop(maxCandidates);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.type.Gender;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 추천 순위가 같은 사용자 묶음
+ * <p>
+ * 추천 점수는 사용자의 나이, 성별, 관심 카테고리만으로 정해지므로 세 값이 같은 사용자는 같은 순위를 받는다. 관심 카테고리는 중복을
+ * 제거하고 정렬해 순서와 무관하게 같은 키가 되도록 한다.
+ *
+ * @param ageBucket 나이 구간 시작 값
+ */
+public record RecommendationSegment(int ageBucket, int ageBucketYears, Gender gender, List<Long> interestCategoryIds) {
+
+    public static RecommendationSegment of(int userAge, Gender gender, Collection<Long> interestCategoryIds,
+                                           int ageBucketYears) {
+        int years = Math.max(1, ageBucketYears);
+        List<Long> interests = interestCategoryIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        return new RecommendationSegment(userAge / years * years, years, gender, interests);
+    }
+
+    /**
+     * 점수 계산에 쓰는 구간의 대표 나이 (구간 크기가 1이면 사용자 나이 그대로)
+     */
+    public double representativeAge() {
+        return ageBucket + (ageBucketYears - 1) / 2.0;
+    }
+
+    public long[] interestArray() {
+        return interestCategoryIds.stream().mapToLong(Long::longValue).toArray();
+    }
+}
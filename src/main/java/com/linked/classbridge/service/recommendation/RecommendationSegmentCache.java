@@ -0,0 +1,82 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linked.classbridge.config.RecommendationSegmentProperties;
+import com.linked.classbridge.type.Gender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세그먼트({@link RecommendationSegment})별 추천 순위 캐시
+ * <p>
+ * 같은 세그먼트의 사용자는 같은 순위를 받으므로 세그먼트마다 한 번만 점수를 계산한다. 순위는 계산 당시의
+ * {@link ClassFeatureStore#version()}과 함께 보관하고, 클래스 특성이 크게 바뀌어 버전이 달라지면 다음 조회 때 다시 계산한다. 보관 중인
+ * 세그먼트는 {@code recommendation.segment.refresh-interval} 주기로 미리 다시 계산해 작은 변경도 반영한다.
+ */
+@Slf4j
+@Component
+public class RecommendationSegmentCache {
+
+    public static final String CACHE_NAME = "recommendationSegment";
+
+    private final ClassFeatureStore classFeatureStore;
+    private final RecommendationSegmentProperties properties;
+    private final Cache<RecommendationSegment, SegmentRanking> cache;
+
+    public RecommendationSegmentCache(ClassFeatureStore classFeatureStore, RecommendationSegmentProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.classFeatureStore = classFeatureStore;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSegments())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public List<Long> topClassIds(int userAge, Gender userGender, Collection<Long> interestCategoryIds) {
+        RecommendationSegment segment = RecommendationSegment.of(userAge, userGender, interestCategoryIds,
+                properties.getAgeBucketYears());
+        if (!properties.isEnabled()) {
+            return score(segment, classFeatureStore.version()).classIds();
+        }
+
+        long version = classFeatureStore.version();
+        SegmentRanking cached = cache.getIfPresent(segment);
+        if (cached != null && cached.version() == version) {
+            return cached.classIds();
+        }
+        SegmentRanking ranking = score(segment, version);
+        cache.put(segment, ranking);
+        return ranking.classIds();
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.segment.refresh-interval:600000}")
+    public void refresh() {
+        long version = classFeatureStore.version();
+        for (RecommendationSegment segment : List.copyOf(cache.asMap().keySet())) {
+            cache.put(segment, score(segment, version));
+        }
+        log.debug("recommendation segments refreshed :: {}", cache.estimatedSize());
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    // 버전을 먼저 읽고 계산하므로, 계산 중에 바뀐 변경은 다음 조회 때 다시 계산됨
+    private SegmentRanking score(RecommendationSegment segment, long version) {
+        List<Long> classIds = classFeatureStore.topClassIds(segment.representativeAge(), segment.gender(),
+                segment.interestArray(), properties.getTopN());
+        return new SegmentRanking(version, List.copyOf(classIds));
+    }
+
+    private record SegmentRanking(long version, List<Long> classIds) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.domain.RelatedClass;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 관련 클래스 목록의 읽기 전용 스냅샷
+ * <p>
+ * classId 오름차순 배열과 각 클래스의 이웃 시작 위치({@code offsets})를 두고, 모든 이웃을 하나의 배열에 이어 담는다. 조회는 이진 탐색 한
+ * 번과 구간 복사뿐이다.
+ */
+public final class RelatedClassIndex {
+
+    public static final RelatedClassIndex EMPTY = new RelatedClassIndex(new long[0], new int[]{0}, new long[0]);
+
+    private final long[] classIds;
+    private final int[] offsets;            // classIds[i] 의 이웃은 relatedClassIds[offsets[i], offsets[i + 1])
+    private final long[] relatedClassIds;   // 클래스별 점수 내림차순
+
+    private RelatedClassIndex(long[] classIds, int[] offsets, long[] relatedClassIds) {
+        this.classIds = classIds;
+        this.offsets = offsets;
+        this.relatedClassIds = relatedClassIds;
+    }
+
+    public static RelatedClassIndex of(List<RelatedClass> rows) {
+        List<RelatedClass> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(RelatedClass::getClassId));
+
+        int total = sorted.stream().mapToInt(RelatedClass::neighborCount).sum();
+        long[] classIds = new long[sorted.size()];
+        int[] offsets = new int[sorted.size() + 1];
+        long[] relatedClassIds = new long[total];
+        int position = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            RelatedClass row = sorted.get(i);
+            classIds[i] = row.getClassId();
+            offsets[i] = position;
+            for (int j = 0; j < row.neighborCount(); j++) {
+                relatedClassIds[position++] = row.relatedClassId(j);
+            }
+        }
+        offsets[sorted.size()] = position;
+        return new RelatedClassIndex(classIds, offsets, relatedClassIds);
+    }
+
+    /**
+     * @return 점수 내림차순 최대 {@code limit} 개, 없으면 빈 목록
+     */
+    public List<Long> relatedClassIds(long classId, int limit) {
+        int index = Arrays.binarySearch(classIds, classId);
+        if (index < 0 || limit <= 0) {
+            return List.of();
+        }
+        int from = offsets[index];
+        int to = Math.min(offsets[index + 1], from + limit);
+        List<Long> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(relatedClassIds[i]);
+        }
+        return result;
+    }
+
+    public int size() {
+        return classIds.length;
+    }
+}
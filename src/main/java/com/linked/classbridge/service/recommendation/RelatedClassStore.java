@@ -0,0 +1,40 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.repository.RelatedClassRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관련 클래스 조회용 메모리 저장소
+ * <p>
+ * 시작 시와 관련 클래스 잡이 끝날 때 {@code related_class} 테이블 전체를 {@link RelatedClassIndex}로 읽어 교체한다. 조회는 DB 에 접근하지
+ * 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedClassStore {
+
+    private final RelatedClassRepository relatedClassRepository;
+
+    private volatile RelatedClassIndex index = RelatedClassIndex.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        try {
+            RelatedClassIndex loaded = RelatedClassIndex.of(relatedClassRepository.findAll());
+            index = loaded;
+            log.info("related classes loaded :: {} classes", loaded.size());
+        } catch (RuntimeException e) {
+            log.error("failed to load related classes :: {}", e.getMessage());
+        }
+    }
+
+    public List<Long> relatedClassIds(long classId, int limit) {
+        return index.relatedClassIds(classId, limit);
+    }
+}
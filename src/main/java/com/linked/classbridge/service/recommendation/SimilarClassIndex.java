@@ -0,0 +1,154 @@
+package com.linked.classbridge.service.recommendation;
+
+import com.linked.classbridge.config.SimilarClassProperties;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.dto.oneDayClass.ClassTagNameProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTextProjection;
+import com.linked.classbridge.repository.ClassTagRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.util.HnswIndex;
+import com.linked.classbridge.util.TransactionUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내용이 비슷한 클래스 조회용 메모리 인덱스
+ * <p>
+ * 클래스명, 소개, 태그 이름을 {@link ClassTextVectorizer}로 벡터로 바꿔 {@link HnswIndex}에 보관하므로 OpenSearch 를 거치지 않고 근사
+ * top-k 를 찾는다. 애플리케이션 시작 시와 매일 새벽 전체 클래스를 읽어 새로 만들고(IDF 재계산, 삭제 표시된 노드 정리), 그 사이에는 클래스
+ * 등록/수정/삭제 시 트랜잭션 커밋 후 해당 클래스만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SimilarClassIndex {
+
+    public static final int MAX_RESULTS = 50;
+
+    private static final long SEED = 42L;
+
+    private final OneDayClassRepository classRepository;
+    private final ClassTagRepository classTagRepository;
+    private final SimilarClassProperties properties;
+
+    private volatile State state;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 50 0 * * ?")
+    public void rebuild() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("failed to build similar class index :: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 내용이 비슷한 순으로 최대 {@code limit} 개의 classId (자기 자신 제외), 인덱스에 없는 클래스면 빈 목록
+     */
+    public List<Long> similarClassIds(long classId, int limit) {
+        HnswIndex index = state().index();
+        float[] vector = index.vector(classId);
+        if (vector == null) {
+            return List.of();
+        }
+        return index.search(vector, limit + 1, properties.getEfSearch()).stream()
+                .filter(id -> id != classId)
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 클래스명, 소개, 태그가 바뀐 클래스를 트랜잭션 커밋 후 반영한다.
+     */
+    public void update(OneDayClass oneDayClass) {
+        ClassText text = ClassText.of(oneDayClass);
+        TransactionUtils.afterCommit(() -> apply(text));
+    }
+
+    public void remove(long classId) {
+        TransactionUtils.afterCommit(() -> {
+            State current = state;
+            if (current != null) {
+                current.index().remove(classId);
+            }
+        });
+    }
+
+    private State state() {
+        State current = state;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            return state != null ? state : load();
+        }
+    }
+
+    private synchronized State load() {
+        List<ClassText> texts = readTexts();
+
+        ClassTextVectorizer vectorizer = new ClassTextVectorizer(properties.getDimension());
+        texts.forEach(vectorizer::addDocument);
+        HnswIndex index = new HnswIndex(properties.getDimension(), properties.getM(), properties.getEfConstruction(),
+                SEED);
+        for (ClassText text : texts) {
+            float[] vector = vectorizer.vectorize(text);
+            if (vector != null) {
+                index.add(text.classId(), vector);
+            }
+        }
+
+        State loaded = new State(vectorizer, index);
+        state = loaded;
+        log.info("similar class index built :: {} classes", index.size());
+        return loaded;
+    }
+
+    // 아직 만들기 전이면 다음 조회 때 최신 상태로 만들므로 반영하지 않음
+    private synchronized void apply(ClassText text) {
+        if (state == null) {
+            return;
+        }
+        state.vectorizer().addDocument(text);
+        float[] vector = state.vectorizer().vectorize(text);
+        if (vector != null) {
+            state.index().add(text.classId(), vector);
+        } else {
+            state.index().remove(text.classId());
+        }
+    }
+
+    private List<ClassText> readTexts() {
+        List<ClassText> texts = new ArrayList<>();
+        long lastClassId = 0;
+        while (true) {
+            List<ClassTextProjection> rows = classRepository.findTextsByClassIdGreaterThan(lastClassId,
+                    PageRequest.of(0, properties.getChunkSize()));
+            if (rows.isEmpty()) {
+                return texts;
+            }
+            List<Long> classIds = rows.stream().map(ClassTextProjection::getClassId).toList();
+            Map<Long, List<String>> tagNames = classTagRepository.findTagNamesByClassIdIn(classIds).stream()
+                    .collect(Collectors.groupingBy(ClassTagNameProjection::getClassId,
+                            Collectors.mapping(ClassTagNameProjection::getName, Collectors.toList())));
+            for (ClassTextProjection row : rows) {
+                texts.add(new ClassText(row.getClassId(), row.getClassName(), row.getIntroduction(),
+                        tagNames.getOrDefault(row.getClassId(), List.of())));
+            }
+            lastClassId = classIds.get(classIds.size() - 1);
+        }
+    }
+
+    private record State(ClassTextVectorizer vectorizer, HnswIndex index) {
+    }
+}
@@ -0,0 +1,111 @@
+package com.linked.classbridge.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 점수가 높은 상위 k 개의 classId 만 남기는 최소 힙
+ * <p>
+ * 루트에 현재 k 개 중 가장 낮은 점수를 두어, 새 점수가 루트보다 낮으면 비교 한 번으로 버린다. 전체 점수를 모아 정렬하지 않으므로
+ * 클래스 수 n 에 대해 O(n log k) 이고 추가 메모리는 k 에 비례한다. 점수가 같으면 classId 가 작은 쪽을 더 높은 순위로 본다.
+ */
+final class TopK {
+
+    private final int capacity;
+    private final double[] scores;
+    private final long[] ids;
+    private int size;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+        this.scores = new double[capacity];
+        this.ids = new long[capacity];
+    }
+
+    void offer(double score, long id) {
+        if (size < capacity) {
+            scores[size] = score;
+            ids[size] = id;
+            siftUp(size++);
+        } else if (capacity > 0 && ranksHigher(score, id, scores[0], ids[0])) {
+            scores[0] = score;
+            ids[0] = id;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 다른 작업자가 모은 결과를 합친다.
+     */
+    void merge(TopK other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.scores[i], other.ids[i]);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순 classId
+     */
+    List<Long> toList() {
+        TopK heap = new TopK(capacity);
+        System.arraycopy(scores, 0, heap.scores, 0, size);
+        System.arraycopy(ids, 0, heap.ids, 0, size);
+        heap.size = size;
+
+        // 가장 낮은 순위부터 꺼내 뒤에서부터 채움
+        Long[] result = new Long[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = heap.ids[0];
+            heap.size--;
+            heap.scores[0] = heap.scores[heap.size];
+            heap.ids[0] = heap.ids[heap.size];
+            heap.siftDown(0);
+        }
+        return new ArrayList<>(Arrays.asList(result));
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksHigher(scores[parent], ids[parent], scores[index], ids[index])) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int lowest = right < size && ranksHigher(scores[left], ids[left], scores[right], ids[right]) ? right : left;
+            if (!ranksHigher(scores[index], ids[index], scores[lowest], ids[lowest])) {
+                return;
+            }
+            swap(index, lowest);
+            index = lowest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+        long id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+    }
+
+    private static boolean ranksHigher(double score, long id, double otherScore, long otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+}
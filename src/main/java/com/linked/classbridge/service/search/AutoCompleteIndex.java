@@ -0,0 +1,158 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import com.linked.classbridge.dto.oneDayClass.ClassAutoCompleteProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTagNameProjection;
+import com.linked.classbridge.repository.ClassTagRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 클래스의 클래스명, 강사 닉네임, 태그로 만든 메모리 자동완성 인덱스
+ * <p>
+ * 애플리케이션 시작 시 DB 에서 전체를 만들고, 이후에는 {@link OneDayClassIndexingService}가 검색 인덱스를 갱신할 때 변경된 클래스만
+ * {@link AutoCompleteSync}를 거쳐 모든 서버에 반영한다. 종료일이 지난 클래스를 빼기 위해 매일 자정에 다시 만든다. 준비되기 전에는
+ * {@link #isReady()}가 false 이며, 이 경우 호출하는 쪽에서 OpenSearch 로 조회한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoCompleteIndex {
+
+    private final OneDayClassRepository classRepository;
+    private final ClassTagRepository tagRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private AutoCompleteTrie trie = new AutoCompleteTrie();
+    private Map<Long, Set<String>> classTerms = new HashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 0 * * ?")
+    public synchronized void rebuild() {
+        try {
+            LocalDate today = LocalDate.now();
+            Map<Long, Set<String>> loadedTerms = new HashMap<>();
+            for (ClassAutoCompleteProjection projection :
+                    classRepository.findAutoCompleteTermsByEndDateGreaterThanEqual(today)) {
+                Set<String> terms = loadedTerms.computeIfAbsent(projection.getClassId(), id -> new LinkedHashSet<>());
+                addTerm(terms, projection.getClassName());
+                addTerm(terms, projection.getTutorName());
+            }
+            for (ClassTagNameProjection projection : tagRepository.findTagNamesByClassEndDateGreaterThanEqual(today)) {
+                Set<String> terms = loadedTerms.get(projection.getClassId());
+                if (terms != null) {
+                    addTerm(terms, projection.getName());
+                }
+            }
+
+            AutoCompleteTrie loadedTrie = new AutoCompleteTrie();
+            loadedTerms.values().forEach(terms -> terms.forEach(loadedTrie::add));
+
+            lock.writeLock().lock();
+            try {
+                trie = loadedTrie;
+                classTerms = loadedTerms;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("auto complete index built :: {} classes, {} terms", loadedTerms.size(), loadedTrie.size());
+        } catch (RuntimeException e) {
+            log.error("failed to build auto complete index :: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<String> suggest(String query) {
+        lock.readLock().lock();
+        try {
+            return trie.suggest(query, AutoCompleteTrie.MAX_SUGGESTIONS);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 클래스 문서의 단어로 교체, 종료된 클래스면 삭제
+     */
+    public synchronized void update(OneDayClassDocument document) {
+        replace(document.getClassId(), termsOf(document));
+    }
+
+    public synchronized void remove(Long classId) {
+        replace(classId, Set.of());
+    }
+
+    /**
+     * 여러 클래스의 단어를 한 번에 교체
+     *
+     * @param termsByClassId 클래스별 새 단어, 빈 집합이면 삭제
+     */
+    public synchronized void replaceAll(Map<Long, Set<String>> termsByClassId) {
+        termsByClassId.forEach(this::replace);
+    }
+
+    /**
+     * 클래스 문서의 자동완성 단어, 종료된 클래스면 빈 집합
+     */
+    public static Set<String> termsOf(OneDayClassDocument document) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (document.getEndDate() != null && document.getEndDate().isBefore(LocalDate.now())) {
+            return terms;
+        }
+        addTerm(terms, document.getClassName());
+        addTerm(terms, document.getTutorName());
+        if (document.getTagList() != null) {
+            document.getTagList().forEach(tag -> addTerm(terms, tag));
+        }
+        return terms;
+    }
+
+    private void replace(Long classId, Set<String> terms) {
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = classTerms.getOrDefault(classId, Set.of());
+            for (String term : new ArrayList<>(previous)) {
+                if (!terms.contains(term)) {
+                    trie.remove(term);
+                }
+            }
+            for (String term : terms) {
+                if (!previous.contains(term)) {
+                    trie.add(term);
+                }
+            }
+
+            if (terms.isEmpty()) {
+                classTerms.remove(classId);
+            } else {
+                classTerms.put(classId, terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void addTerm(Set<String> terms, String term) {
+        if (term != null && !term.isBlank()) {
+            terms.add(term.trim());
+        }
+    }
+}
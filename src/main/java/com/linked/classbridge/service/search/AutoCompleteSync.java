@@ -0,0 +1,17 @@
+package com.linked.classbridge.service.search;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 색인한 클래스의 자동완성 단어를 {@link AutoCompleteIndex}에 반영
+ * <p>
+ * 자동완성 인덱스는 서버마다 메모리에 있으므로 서버가 여러 대면 outbox 를 처리한 서버뿐 아니라 모든 서버에 반영해야 한다.
+ */
+public interface AutoCompleteSync {
+
+    /**
+     * @param termsByClassId 클래스별 새 단어, 빈 집합이면 자동완성에서 삭제
+     */
+    void publish(Map<Long, Set<String>> termsByClassId);
+}
@@ -0,0 +1,287 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.util.HangulUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성 접두어 트라이
+ * <p>
+ * 각 노드가 하위 단어 중 상위 {@value #MAX_SUGGESTIONS}개(짧은 순, 같으면 사전 순)의 ID 를 미리 들고 있어 조회는 입력 길이만큼만
+ * 노드를 따라가면 된다. 자식 노드는 정렬된 {@code char[]}/배열로 보관해 노드당 Map 을 두지 않는다.
+ * <p>
+ * 단어는 공백 단위의 모든 접미 구간("한식 요리 클래스" -> "요리 클래스", "클래스")과 그 초성("ㅎㅅㅇㄹㅋㄹㅅ" 등)을 키로 등록한다.
+ * 같은 단어가 여러 번 추가되면 참조 횟수만 늘어난다. 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+class AutoCompleteTrie {
+
+    static final int MAX_SUGGESTIONS = 5;
+
+    private static final char[] EMPTY_KEYS = new char[0];
+    private static final Node[] EMPTY_NODES = new Node[0];
+    private static final int[] EMPTY_IDS = new int[0];
+
+    private final Node root = new Node();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();    // ID -> 단어 (해제된 ID 는 null)
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private int[] refCounts = new int[16];
+
+    void add(String term) {
+        String display = term == null ? "" : term.trim();
+        if (display.isEmpty()) {
+            return;
+        }
+        Integer existingId = termIds.get(display);
+        if (existingId != null) {
+            refCounts[existingId]++;
+            return;
+        }
+
+        int id = allocate(display);
+        for (String key : keysOf(display)) {
+            insertKey(key, id);
+        }
+    }
+
+    void remove(String term) {
+        String display = term == null ? "" : term.trim();
+        Integer id = termIds.get(display);
+        if (id == null || --refCounts[id] > 0) {
+            return;
+        }
+
+        for (String key : keysOf(display)) {
+            removeKey(key, id);
+        }
+        termIds.remove(display);
+        terms.set(id, null);
+        freeIds.push(id);
+    }
+
+    List<String> suggest(String query, int limit) {
+        String key = normalize(query == null ? "" : query);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (HangulUtils.containsChosung(key)) {
+            key = HangulUtils.toChosung(key);
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        int size = Math.min(limit, node.top.length);
+        List<String> suggestions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            suggestions.add(terms.get(node.top[i]));
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return termIds.size();
+    }
+
+    static Set<String> keysOf(String term) {
+        String[] words = normalize(term).split(" ");
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < words.length; i++) {
+            String suffix = String.join(" ", Arrays.copyOfRange(words, i, words.length));
+            keys.add(suffix);
+            String chosung = HangulUtils.toChosung(suffix);
+            if (!chosung.isEmpty()) {
+                keys.add(chosung);
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private int allocate(String display) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = terms.size();
+            terms.add(display);
+            if (id == refCounts.length) {
+                refCounts = Arrays.copyOf(refCounts, id * 2);
+            }
+        } else {
+            id = freeIds.pop();
+            terms.set(id, display);
+        }
+        termIds.put(display, id);
+        refCounts[id] = 1;
+        return id;
+    }
+
+    private void insertKey(String key, int id) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrCreateChild(key.charAt(i));
+            offerTop(node, id);
+        }
+        node.terminals = append(node.terminals, id);
+    }
+
+    private void removeKey(String key, int id) {
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < key.length(); i++) {
+            path[i + 1] = path[i].child(key.charAt(i));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+
+        Node last = path[key.length()];
+        last.terminals = without(last.terminals, id);
+
+        // 아래에서 위로 올라가며 빈 노드를 지우고, 삭제된 단어가 들어 있던 상위 목록만 다시 계산
+        for (int i = key.length(); i > 0; i--) {
+            Node node = path[i];
+            if (node.isEmpty()) {
+                path[i - 1].removeChild(key.charAt(i - 1));
+            } else if (contains(node.top, id)) {
+                node.top = recomputeTop(node);
+            }
+        }
+    }
+
+    private void offerTop(Node node, int id) {
+        int[] top = node.top;
+        if (contains(top, id)) {
+            return;
+        }
+        if (top.length == MAX_SUGGESTIONS && compare(id, top[MAX_SUGGESTIONS - 1]) >= 0) {
+            return;
+        }
+
+        int position = 0;
+        while (position < top.length && compare(top[position], id) < 0) {
+            position++;
+        }
+        int size = Math.min(top.length + 1, MAX_SUGGESTIONS);
+        int[] updated = new int[size];
+        System.arraycopy(top, 0, updated, 0, position);
+        updated[position] = id;
+        System.arraycopy(top, position, updated, position + 1, size - position - 1);
+        node.top = updated;
+    }
+
+    private int[] recomputeTop(Node node) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int id : node.terminals) {
+            candidates.add(id);
+        }
+        for (Node child : node.children) {
+            for (int id : child.top) {
+                candidates.add(id);
+            }
+        }
+        return candidates.stream()
+                .distinct()
+                .sorted(this::compare)
+                .limit(MAX_SUGGESTIONS)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private int compare(int left, int right) {
+        String leftTerm = terms.get(left);
+        String rightTerm = terms.get(right);
+        if (leftTerm.length() != rightTerm.length()) {
+            return leftTerm.length() - rightTerm.length();
+        }
+        return leftTerm.compareTo(rightTerm);
+    }
+
+    private static boolean contains(int[] ids, int id) {
+        for (int value : ids) {
+            if (value == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] append(int[] ids, int id) {
+        int[] updated = Arrays.copyOf(ids, ids.length + 1);
+        updated[ids.length] = id;
+        return updated;
+    }
+
+    private static int[] without(int[] ids, int id) {
+        return Arrays.stream(ids).filter(value -> value != id).toArray();
+    }
+
+    private static final class Node {
+        private char[] keys = EMPTY_KEYS;
+        private Node[] children = EMPTY_NODES;
+        private int[] terminals = EMPTY_IDS;   // 이 노드에서 끝나는 키를 가진 단어
+        private int[] top = EMPTY_IDS;         // 하위 단어 중 상위 MAX_SUGGESTIONS 개
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int position = -index - 1;
+            char[] updatedKeys = new char[keys.length + 1];
+            Node[] updatedChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, updatedKeys, 0, position);
+            System.arraycopy(children, 0, updatedChildren, 0, position);
+            System.arraycopy(keys, position, updatedKeys, position + 1, keys.length - position);
+            System.arraycopy(children, position, updatedChildren, position + 1, children.length - position);
+
+            Node child = new Node();
+            updatedKeys[position] = c;
+            updatedChildren[position] = child;
+            keys = updatedKeys;
+            children = updatedChildren;
+            return child;
+        }
+
+        private void removeChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return;
+            }
+
+            char[] updatedKeys = new char[keys.length - 1];
+            Node[] updatedChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, updatedKeys, 0, index);
+            System.arraycopy(children, 0, updatedChildren, 0, index);
+            System.arraycopy(keys, index + 1, updatedKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, updatedChildren, index, children.length - index - 1);
+            keys = updatedKeys;
+            children = updatedChildren;
+        }
+
+        private boolean isEmpty() {
+            return keys.length == 0 && terminals.length == 0;
+        }
+    }
+}
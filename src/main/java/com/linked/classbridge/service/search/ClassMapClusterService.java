@@ -0,0 +1,194 @@
+package com.linked.classbridge.service.search;
+
+import static com.linked.classbridge.type.ErrorCode.INVALID_MAP_BOUNDS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linked.classbridge.config.SearchMapProperties;
+import com.linked.classbridge.dto.oneDayClass.ClassMapClusterDto;
+import com.linked.classbridge.dto.oneDayClass.ClassMapClusterDto.Cluster;
+import com.linked.classbridge.exception.RestApiException;
+import com.linked.classbridge.type.CategoryType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.GeoBounds;
+import org.opensearch.client.opensearch._types.GeoLocation;
+import org.opensearch.client.opensearch._types.aggregations.GeoHashGridBucket;
+import org.opensearch.client.opensearch._types.query_dsl.BoolQuery;
+import org.opensearch.client.opensearch._types.query_dsl.Query;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.geometry.Rectangle;
+import org.springframework.stereotype.Service;
+
+/**
+ * 지도 화면의 클래스 위치를 geohash 셀 단위로 묶어 셀별 개수와 중심 좌표를 반환한다.
+ * <p>
+ * 화면을 geohash 타일로 나누어 (타일, 클러스터 크기, 검색 조건)별로 짧게 캐시하고, 캐시에 없는 타일들은 geohash_grid 집계 한 번으로
+ * 함께 조회한다. 지도를 조금 움직이면 겹치는 타일은 캐시에서, 새로 보이는 타일만 OpenSearch 에서 가져온다.
+ */
+@Slf4j
+@Service
+public class ClassMapClusterService {
+
+    public static final String CACHE_NAME = "classMapTile";
+
+    private static final String CELLS_AGGREGATION = "cells";
+    private static final String CENTROID_AGGREGATION = "centroid";
+
+    private final OpenSearchClient openSearchClient;
+    private final SearchMapProperties properties;
+    private final Cache<ClassMapTileKey, List<Cluster>> tileCache;
+
+    public ClassMapClusterService(OpenSearchClient openSearchClient, SearchMapProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.openSearchClient = openSearchClient;
+        this.properties = properties;
+        this.tileCache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxCachedTiles())
+                .expireAfterWrite(properties.getTileTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tileCache, CACHE_NAME);
+    }
+
+    public ClassMapClusterDto getClusters(double swLat, double swLng, double neLat, double neLng, int zoom,
+                                          String query, CategoryType categoryType) throws IOException {
+        validateBounds(swLat, swLng, neLat, neLng);
+
+        int precision = ClassMapTiles.precisionForZoom(zoom);
+        int tilePrecision = ClassMapTiles.tilePrecision(swLat, swLng, neLat, neLng, precision,
+                properties.getMaxTilesPerViewport());
+        String normalizedQuery = query == null ? "" : query.trim();
+
+        Map<String, List<Cluster>> clustersByTile = new LinkedHashMap<>();
+        List<String> missingTiles = new ArrayList<>();
+        for (String tile : ClassMapTiles.coveringTiles(swLat, swLng, neLat, neLng, tilePrecision)) {
+            List<Cluster> cached = tileCache.getIfPresent(
+                    new ClassMapTileKey(tile, precision, normalizedQuery, categoryType));
+            if (cached != null) {
+                clustersByTile.put(tile, cached);
+            } else {
+                missingTiles.add(tile);
+            }
+        }
+
+        if (!missingTiles.isEmpty()) {
+            Map<String, List<Cluster>> loaded = loadTiles(missingTiles, tilePrecision, precision, normalizedQuery,
+                    categoryType);
+            loaded.forEach((tile, clusters) -> {
+                tileCache.put(new ClassMapTileKey(tile, precision, normalizedQuery, categoryType), clusters);
+                clustersByTile.put(tile, clusters);
+            });
+        }
+
+        // 타일은 화면보다 넓으므로 중심이 화면 안에 있는 클러스터만 반환
+        List<Cluster> clusters = clustersByTile.values().stream()
+                .flatMap(List::stream)
+                .filter(cluster -> cluster.getLat() >= swLat && cluster.getLat() <= neLat
+                        && cluster.getLng() >= swLng && cluster.getLng() <= neLng)
+                .sorted(Comparator.comparingLong(Cluster::getCount).reversed())
+                .toList();
+
+        return ClassMapClusterDto.builder()
+                .precision(precision)
+                .totalCount(clusters.stream().mapToLong(Cluster::getCount).sum())
+                .clusters(clusters)
+                .build();
+    }
+
+    private Map<String, List<Cluster>> loadTiles(List<String> tiles, int tilePrecision, int precision,
+                                                 String query, CategoryType categoryType) throws IOException {
+        SearchRequest request = SearchRequest.of(s -> s
+                .index(OneDayClassIndexManager.ALIAS)
+                .size(0)
+                .query(buildQuery(tiles, query, categoryType))
+                .aggregations(CELLS_AGGREGATION, a -> a
+                        .geohashGrid(g -> g
+                                .field("location")
+                                .precision(p -> p.geohashLength(precision))
+                                .size(properties.getMaxBuckets()))
+                        .aggregations(CENTROID_AGGREGATION, c -> c.geoCentroid(gc -> gc.field("location")))));
+
+        SearchResponse<Void> response = openSearchClient.search(request, Void.class);
+        log.debug("Loaded map clusters for {} tiles at precision {} (took={}ms)", tiles.size(), precision,
+                response.took());
+
+        // 문서가 없는 타일도 빈 목록으로 캐시
+        Map<String, List<Cluster>> clustersByTile = new HashMap<>();
+        tiles.forEach(tile -> clustersByTile.put(tile, new ArrayList<>()));
+
+        List<GeoHashGridBucket> buckets = response.aggregations().get(CELLS_AGGREGATION).geohashGrid()
+                .buckets().array();
+        for (GeoHashGridBucket bucket : buckets) {
+            // 타일 경계에 걸친 문서가 요청하지 않은 이웃 타일 셀로 집계될 수 있으므로 요청한 타일만 반영
+            List<Cluster> tileClusters = clustersByTile.get(bucket.key().substring(0, tilePrecision));
+            if (tileClusters == null) {
+                continue;
+            }
+            GeoLocation centroid = bucket.aggregations().get(CENTROID_AGGREGATION).geoCentroid().location();
+            tileClusters.add(Cluster.builder()
+                    .geohash(bucket.key())
+                    .lat(centroid.latlon().lat())
+                    .lng(centroid.latlon().lon())
+                    .count(bucket.docCount())
+                    .build());
+        }
+
+        clustersByTile.replaceAll((tile, clusters) -> List.copyOf(clusters));
+        return clustersByTile;
+    }
+
+    // 검색(searchClass)과 같은 조건으로 필터링하고, 위치는 요청한 타일 영역으로 제한
+    private Query buildQuery(List<String> tiles, String query, CategoryType categoryType) {
+        BoolQuery.Builder bool = new BoolQuery.Builder();
+
+        bool.filter(f -> f.range(r -> r.field("endDate").gte(JsonData.of(LocalDate.now().toString()))));
+        bool.filter(f -> f.bool(b -> {
+            tiles.forEach(tile -> b.should(s -> s.geoBoundingBox(g -> g
+                    .field("location")
+                    .boundingBox(boundingBox(tile)))));
+            return b;
+        }));
+
+        if (categoryType != null) {
+            bool.must(m -> m.match(mt -> mt.field("category").query(FieldValue.of(categoryType.toString()))));
+        }
+
+        if (!query.isEmpty()) {
+            bool.must(m -> m.bool(b -> b
+                    .should(s -> s.matchPhrase(mp -> mp.field("className").query(query)))
+                    .should(s -> s.matchPhrase(mp -> mp.field("tutorName").query(query)))
+                    .should(s -> s.matchPhrase(mp -> mp.field("category").query(query)))
+                    .should(s -> s.term(t -> t.field("tagList").value(FieldValue.of(query))))));
+        }
+
+        return bool.build().toQuery();
+    }
+
+    private static GeoBounds boundingBox(String tile) {
+        Rectangle rectangle = ClassMapTiles.bounds(tile);
+        return GeoBounds.of(b -> b.tlbr(t -> t
+                .topLeft(l -> l.latlon(ll -> ll.lat(rectangle.getMaxLat()).lon(rectangle.getMinLon())))
+                .bottomRight(l -> l.latlon(ll -> ll.lat(rectangle.getMinLat()).lon(rectangle.getMaxLon())))));
+    }
+
+    // 날짜 변경선을 넘는 화면은 지원하지 않음 (서비스 지역은 국내)
+    private static void validateBounds(double swLat, double swLng, double neLat, double neLng) {
+        if (swLat < -90 || neLat > 90 || swLng < -180 || neLng > 180 || swLat >= neLat || swLng >= neLng) {
+            throw new RestApiException(INVALID_MAP_BOUNDS);
+        }
+    }
+}
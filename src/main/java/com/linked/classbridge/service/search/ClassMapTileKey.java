@@ -0,0 +1,9 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.type.CategoryType;
+
+/**
+ * 지도 클러스터 캐시 키, 같은 타일이라도 클러스터 크기나 검색 조건이 다르면 다른 항목으로 보관한다.
+ */
+record ClassMapTileKey(String tile, int precision, String query, CategoryType categoryType) {
+}
@@ -0,0 +1,90 @@
+package com.linked.classbridge.service.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.opensearch.geometry.Rectangle;
+import org.opensearch.geometry.utils.Geohash;
+
+/**
+ * 지도 화면(bounding box)을 geohash 타일로 나누는 계산
+ * <p>
+ * 클러스터는 줌 레벨에 맞는 길이의 geohash 셀이고, 캐시 단위인 타일은 그보다 짧은 geohash 이다. 셀은 항상 자신의 접두어 타일 안에
+ * 포함되므로 셀 geohash 의 앞부분으로 어느 타일에 속하는지 알 수 있다.
+ */
+final class ClassMapTiles {
+
+    private static final int MAX_ZOOM = 21;
+    private static final int TILE_DEPTH = 2;    // 타일은 셀보다 두 단계 짧은 geohash (타일 하나에 최대 32 * 32 셀)
+    private static final double EPSILON = 1e-9;
+
+    private ClassMapTiles() {
+    }
+
+    /**
+     * 웹 지도 줌 레벨(0 ~ 21)에 대응하는 클러스터 geohash 길이
+     */
+    static int precisionForZoom(int zoom) {
+        int z = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        if (z <= 2) {
+            return 1;
+        } else if (z <= 4) {
+            return 2;
+        } else if (z <= 7) {
+            return 3;
+        } else if (z <= 9) {
+            return 4;
+        } else if (z <= 12) {
+            return 5;
+        } else if (z <= 14) {
+            return 6;
+        } else if (z <= 16) {
+            return 7;
+        }
+        return 8;
+    }
+
+    /**
+     * 화면을 덮는 타일 수가 maxTiles 이하가 되는 가장 긴 타일 geohash 길이
+     */
+    static int tilePrecision(double swLat, double swLng, double neLat, double neLng, int precision, int maxTiles) {
+        int tilePrecision = Math.max(1, precision - TILE_DEPTH);
+        while (tilePrecision > 1 && estimateTileCount(swLat, swLng, neLat, neLng, tilePrecision) > maxTiles) {
+            tilePrecision--;
+        }
+        return tilePrecision;
+    }
+
+    /**
+     * 화면과 겹치는 모든 타일 geohash (남서쪽부터 행 순서)
+     */
+    static List<String> coveringTiles(double swLat, double swLng, double neLat, double neLng, int tilePrecision) {
+        double height = Geohash.latHeightInDegrees(tilePrecision);
+        double width = Geohash.lonWidthInDegrees(tilePrecision);
+        Rectangle first = Geohash.toBoundingBox(Geohash.stringEncode(swLng, swLat, tilePrecision));
+
+        int rows = (int) Math.floor((neLat - first.getMinLat()) / height) + 1;
+        int cols = (int) Math.floor((neLng - first.getMinLon()) / width) + 1;
+
+        Set<String> tiles = new LinkedHashSet<>();
+        for (int row = 0; row < rows; row++) {
+            double lat = Math.min(first.getMinLat() + (row + 0.5) * height, 90 - EPSILON);
+            for (int col = 0; col < cols; col++) {
+                double lng = Math.min(first.getMinLon() + (col + 0.5) * width, 180 - EPSILON);
+                tiles.add(Geohash.stringEncode(lng, lat, tilePrecision));
+            }
+        }
+        return new ArrayList<>(tiles);
+    }
+
+    static Rectangle bounds(String geohash) {
+        return Geohash.toBoundingBox(geohash);
+    }
+
+    private static long estimateTileCount(double swLat, double swLng, double neLat, double neLng, int tilePrecision) {
+        long rows = (long) Math.ceil((neLat - swLat) / Geohash.latHeightInDegrees(tilePrecision)) + 1;
+        long cols = (long) Math.ceil((neLng - swLng) / Geohash.lonWidthInDegrees(tilePrecision)) + 1;
+        return rows * cols;
+    }
+}
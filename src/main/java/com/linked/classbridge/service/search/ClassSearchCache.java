@@ -0,0 +1,88 @@
+package com.linked.classbridge.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.linked.classbridge.config.SearchCacheProperties;
+import com.linked.classbridge.type.CategoryType;
+import com.linked.classbridge.type.LocationType;
+import com.linked.classbridge.type.OrderType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클래스 검색 결과 캐시
+ * <p>
+ * 정규화된 검색 조건({@link ClassSearchKey})별로 사용자와 무관한 검색 결과를 보관한다. 문서 하나의 변경이 정렬 순서나 검색 대상 포함
+ * 여부를 바꿀 수 있으므로 {@link OneDayClassIndexingService#flush()}가 변경 내용을 인덱스에 반영할 때마다 {@link #evictAll()}로
+ * 전체 캐시를 비운다.
+ * <p>
+ * hit/miss/eviction 지표는 {@code cache.gets}, {@code cache.evictions} 등의 이름으로 {@code /actuator/metrics}에 노출된다.
+ */
+@Component
+public class ClassSearchCache {
+
+    public static final String CACHE_NAME = "classSearch";
+
+    private final Cache<ClassSearchKey, ClassSearchResult> cache;
+
+    private final SearchCacheProperties properties;
+
+    // evictAll 마다 증가, 비우기 전에 시작한 검색 결과가 비운 뒤에 저장되지 않도록 확인
+    private final AtomicLong generation = new AtomicLong();
+
+    public ClassSearchCache(SearchCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeightBytes())
+                .weigher((ClassSearchKey key, ClassSearchResult result) -> result.estimatedBytes())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ClassSearchKey createKey(String query, CategoryType categoryType, double lat, double lng,
+                                    LocationType location, OrderType orderType, int page) {
+        return ClassSearchKey.of(query, categoryType, lat, lng, location, orderType, page,
+                properties.getCoordinateScale());
+    }
+
+    public ClassSearchResult get(ClassSearchKey key, Supplier<ClassSearchResult> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        // 같은 키의 동시 로딩은 loader(SearchRequestCoalescer)가 합치므로 캐시 내부에서 잠그지 않음
+        ClassSearchResult cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        ClassSearchResult result = loader.get();
+        if (loadedGeneration != generation.get()) {
+            return result;
+        }
+        cache.put(key, result);
+        // 확인과 저장 사이에 비워졌을 수 있으므로 저장 후 한 번 더 확인
+        if (loadedGeneration != generation.get()) {
+            cache.asMap().remove(key, result);
+        }
+        return result;
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
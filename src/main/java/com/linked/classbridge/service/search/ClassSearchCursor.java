@@ -0,0 +1,50 @@
+package com.linked.classbridge.service.search;
+
+import static com.linked.classbridge.type.ErrorCode.INVALID_SEARCH_CURSOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linked.classbridge.exception.RestApiException;
+import com.linked.classbridge.type.OrderType;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * {@code search_after} 커서
+ * <p>
+ * 마지막 문서의 정렬 값(정렬 기준 값 + classId)과 정렬 방식을 JSON 으로 만든 뒤 URL-safe Base64 로 인코딩한다. 클라이언트는 내용을
+ * 해석하지 않고 다음 요청에 그대로 전달한다.
+ */
+public record ClassSearchCursor(OrderType order, List<Object> sortValues) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public String encode() {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to encode search cursor", e);
+        }
+    }
+
+    /**
+     * @param cursor 클라이언트가 전달한 커서
+     * @param order  현재 요청의 정렬 방식, 커서를 만든 정렬 방식과 달라지면 정렬 값을 재사용할 수 없다.
+     */
+    public static ClassSearchCursor decode(String cursor, OrderType order) {
+        ClassSearchCursor decoded;
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            decoded = OBJECT_MAPPER.readValue(json, ClassSearchCursor.class);
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new RestApiException(INVALID_SEARCH_CURSOR);
+        }
+
+        if (decoded.order() != order || decoded.sortValues() == null || decoded.sortValues().isEmpty()) {
+            throw new RestApiException(INVALID_SEARCH_CURSOR);
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,39 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.type.CategoryType;
+import com.linked.classbridge.type.LocationType;
+import com.linked.classbridge.type.OrderType;
+
+/**
+ * 클래스 검색 조건을 정규화한 키
+ * <p>
+ * 캐시 키로 사용되며, 검색 쿼리 역시 정규화된 값으로 생성해야 캐시된 결과와 실제 검색 결과가 일치한다.
+ */
+public record ClassSearchKey(
+        String query,
+        CategoryType categoryType,
+        double lat,
+        double lng,
+        LocationType location,
+        OrderType orderType,
+        int page
+) {
+
+    public static ClassSearchKey of(String query, CategoryType categoryType, double lat, double lng,
+                                    LocationType location, OrderType orderType, int page, int coordinateScale) {
+        return new ClassSearchKey(
+                query == null ? "" : query.trim(),
+                categoryType,
+                round(lat, coordinateScale),
+                round(lng, coordinateScale),
+                location,
+                orderType == null ? OrderType.WISH : orderType,
+                Math.max(page, 1)
+        );
+    }
+
+    private static double round(double value, int scale) {
+        double factor = Math.pow(10, scale);
+        return Math.round(value * factor) / factor;
+    }
+}
@@ -0,0 +1,55 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.dto.oneDayClass.ClassSearchDto;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사용자와 무관한 검색 결과 (찜 여부는 포함하지 않는다)
+ * <p>
+ * 캐시에 저장된 인스턴스는 여러 요청이 공유하므로 {@link #copyDocuments()}로 복사한 뒤 수정해야 한다.
+ * {@code lastSortValues}는 마지막 문서의 정렬 값으로, 커서 모드에서 다음 페이지 커서를 만드는 데 사용한다.
+ */
+public record ClassSearchResult(List<ClassSearchDto> documents, long totalHits, List<Object> lastSortValues) {
+
+    private static final int BASE_ENTRY_BYTES = 64;
+    private static final int BASE_DOCUMENT_BYTES = 160;
+
+    public ClassSearchResult {
+        documents = List.copyOf(documents);
+        lastSortValues = lastSortValues == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(lastSortValues));
+    }
+
+    public List<ClassSearchDto> copyDocuments() {
+        return documents.stream()
+                .map(document -> document.toBuilder().isWish(false).build())
+                .toList();
+    }
+
+    /**
+     * 캐시 용량 계산에 사용하는 대략적인 메모리 크기 (문자열은 UTF-16 기준)
+     */
+    public int estimatedBytes() {
+        int bytes = BASE_ENTRY_BYTES;
+        for (ClassSearchDto document : documents) {
+            bytes += BASE_DOCUMENT_BYTES
+                    + charBytes(document.getClassName())
+                    + charBytes(document.getTutorName())
+                    + charBytes(document.getAddress1())
+                    + charBytes(document.getAddress2())
+                    + charBytes(document.getAddress3())
+                    + charBytes(document.getImageUrl());
+            if (document.getTagList() != null) {
+                for (String tag : document.getTagList()) {
+                    bytes += charBytes(tag);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    private static int charBytes(String value) {
+        return value == null ? 0 : value.length() * 2;
+    }
+}
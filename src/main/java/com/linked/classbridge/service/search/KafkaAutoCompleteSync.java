@@ -0,0 +1,51 @@
+package com.linked.classbridge.service.search;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linked.classbridge.config.AutoCompleteSyncProperties;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자동완성 변경을 Kafka 로 발행, 발행한 서버를 포함한 각 서버의 {@link KafkaAutoCompleteSyncListener}가 받아 반영한다.
+ * <p>
+ * 파티션이 하나이므로 모든 서버가 같은 순서로 반영한다. 발행은 비동기이며 실패는 로그로만 남기고, 놓친 변경은 매일 다시 만들 때 반영된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "search.autocomplete.sync", name = "type", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaAutoCompleteSync implements AutoCompleteSync {
+
+    private final KafkaTemplate<String, byte[]> autoCompleteSyncKafkaTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final AutoCompleteSyncProperties autoCompleteSyncProperties;
+
+    @Override
+    public void publish(Map<Long, Set<String>> termsByClassId) {
+        if (termsByClassId.isEmpty()) {
+            return;
+        }
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(termsByClassId);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to serialize auto complete terms", e);
+        }
+
+        autoCompleteSyncKafkaTemplate.send(autoCompleteSyncProperties.getTopic(), json).whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("failed to publish auto complete terms of {} classes :: {}", termsByClassId.size(),
+                        e.getMessage());
+            }
+        });
+    }
+}
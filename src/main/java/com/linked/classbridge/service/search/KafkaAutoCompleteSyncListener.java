@@ -0,0 +1,40 @@
+package com.linked.classbridge.service.search;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 로 받은 자동완성 변경을 이 서버의 {@link AutoCompleteIndex}에 반영
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "search.autocomplete.sync", name = "type", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaAutoCompleteSyncListener {
+
+    private static final TypeReference<Map<Long, Set<String>>> TERMS_TYPE = new TypeReference<>() {
+    };
+
+    private final AutoCompleteIndex autoCompleteIndex;
+
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${search.autocomplete.sync.topic:autocomplete-sync}",
+            containerFactory = "autoCompleteSyncListenerContainerFactory")
+    public void apply(ConsumerRecord<String, byte[]> record) {
+        try {
+            autoCompleteIndex.replaceAll(objectMapper.readValue(record.value(), TERMS_TYPE));
+        } catch (IOException e) {
+            log.error("failed to read auto complete terms :: offset={}, {}", record.offset(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.linked.classbridge.service.search;
+
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버의 자동완성 인덱스에만 바로 반영 (서버가 한 대일 때)
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.autocomplete.sync", name = "type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalAutoCompleteSync implements AutoCompleteSync {
+
+    private final AutoCompleteIndex autoCompleteIndex;
+
+    @Override
+    public void publish(Map<Long, Set<String>> termsByClassId) {
+        autoCompleteIndex.replaceAll(termsByClassId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.dto.oneDayClass.OneDayClassCounterProjection;
+import java.util.Map;
+
+/**
+ * 검색 인덱스의 숫자 필드 값
+ * <p>
+ * 증감 스크립트 대신 DB 의 현재 값을 그대로 덮어쓰므로 같은 요청을 재시도해도 결과가 같다.
+ */
+public record OneDayClassCounters(Long classId, int totalWish, int totalReviews, double starRate) {
+
+    public static OneDayClassCounters from(OneDayClassCounterProjection projection) {
+        int totalReviews = projection.getTotalReviews() == null ? 0 : projection.getTotalReviews();
+        double totalStarRate = projection.getTotalStarRate() == null ? 0.0 : projection.getTotalStarRate();
+        return new OneDayClassCounters(
+                projection.getClassId(),
+                projection.getTotalWish() == null ? 0 : projection.getTotalWish(),
+                totalReviews,
+                totalStarRate / (totalReviews == 0 ? 1 : totalReviews)
+        );
+    }
+
+    public Map<String, Object> toPartialDocument() {
+        return Map.of(
+                "totalWish", totalWish,
+                "totalReviews", totalReviews,
+                "starRate", starRate
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import com.linked.classbridge.dto.oneDayClass.ClassImageUrlProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTagNameProjection;
+import com.linked.classbridge.repository.ClassImageRepository;
+import com.linked.classbridge.repository.ClassTagRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클래스 목록을 검색 문서로 변환, 태그와 대표 이미지는 클래스 수와 관계없이 IN 쿼리 두 번으로 조회한다.
+ * <p>
+ * 전달하는 클래스는 강사와 카테고리가 함께 조회되어 있어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OneDayClassDocumentAssembler {
+
+    private final ClassTagRepository tagRepository;
+    private final ClassImageRepository imageRepository;
+
+    public List<OneDayClassDocument> assemble(List<? extends OneDayClass> classes) {
+        if (classes.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = classes.stream().map(OneDayClass::getClassId).toList();
+
+        Map<Long, List<String>> tagMap = tagRepository.findTagNamesByClassIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ClassTagNameProjection::getClassId,
+                        Collectors.mapping(ClassTagNameProjection::getName, Collectors.toList())));
+
+        // 순서대로 정렬되어 있으므로 클래스별 첫 번째 이미지를 대표 이미지로 사용
+        Map<Long, String> imageMap = imageRepository.findImageUrlsByClassIdInOrderBySequence(ids).stream()
+                .collect(Collectors.toMap(ClassImageUrlProjection::getClassId, ClassImageUrlProjection::getUrl,
+                        (first, second) -> first));
+
+        return classes.stream()
+                .map(oneDayClass -> new OneDayClassDocument(oneDayClass,
+                        tagMap.getOrDefault(oneDayClass.getClassId(), List.of()),
+                        imageMap.get(oneDayClass.getClassId())))
+                .toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.client.core.CountRequest;
+import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.common.settings.Settings;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+/**
+ * 버전별 클래스 인덱스와 alias 관리
+ * <p>
+ * {@link OneDayClassDocument}의 indexName({@value #ALIAS})은 alias 이며, 실제 문서는 {@code onedayclass_v<생성 시각>} 인덱스에
+ * 저장된다. 재색인 잡이 새 인덱스를 채운 뒤 alias 를 한 번의 요청으로 옮기므로 검색이 중단되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OneDayClassIndexManager {
+
+    public static final String ALIAS = "onedayclass";
+    public static final String REINDEX_JOB_NAME = "reindexClassJob";
+    public static final String TARGET_INDEX_KEY = "targetIndex";
+
+    private static final DateTimeFormatter VERSION_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchOperations operations;
+    private final RestHighLevelClient client;
+    private final JobExplorer jobExplorer;
+
+    /**
+     * mapping.json, setting.json 으로 새 버전 인덱스 생성, 대량 색인 동안에는 refresh 를 끈다.
+     *
+     * @return 생성한 인덱스 이름
+     */
+    public String createVersionedIndex() {
+        String indexName = ALIAS + "_v" + LocalDateTime.now().format(VERSION_FORMATTER);
+
+        IndexOperations documentIndexOps = operations.indexOps(OneDayClassDocument.class);
+        org.springframework.data.elasticsearch.core.index.Settings settings = documentIndexOps.createSettings();
+        settings.put("refresh_interval", "-1");
+
+        operations.indexOps(IndexCoordinates.of(indexName)).create(settings, documentIndexOps.createMapping());
+        log.info("created index {}", indexName);
+        return indexName;
+    }
+
+    /**
+     * refresh 설정을 기본값으로 되돌리고 지금까지 색인한 문서를 검색 가능하게 만든다.
+     */
+    public void finishLoading(String indexName) throws IOException {
+        client.indices().putSettings(new UpdateSettingsRequest(indexName)
+                .settings(Settings.builder().putNull("index.refresh_interval")), RequestOptions.DEFAULT);
+        operations.indexOps(IndexCoordinates.of(indexName)).refresh();
+    }
+
+    public long count(String indexName) throws IOException {
+        return client.count(new CountRequest(indexName), RequestOptions.DEFAULT).getCount();
+    }
+
+    /**
+     * alias 를 새 인덱스로 옮기고 이전 버전 인덱스를 삭제한다.
+     * <p>
+     * alias 도입 전에 만들어진 같은 이름의 인덱스가 있으면 같은 요청 안에서 삭제한다.
+     */
+    public void swapAlias(String indexName) throws IOException {
+        Set<String> previousIndices = client.indices()
+                .getAlias(new GetAliasesRequest(ALIAS), RequestOptions.DEFAULT)
+                .getAliases().keySet();
+
+        IndicesAliasesRequest request = new IndicesAliasesRequest();
+        if (previousIndices.isEmpty()
+                && client.indices().exists(new GetIndexRequest(ALIAS), RequestOptions.DEFAULT)) {
+            request.addAliasAction(AliasActions.removeIndex().index(ALIAS));
+        }
+        for (String previousIndex : previousIndices) {
+            if (!previousIndex.equals(indexName)) {
+                request.addAliasAction(AliasActions.remove().index(previousIndex).alias(ALIAS));
+            }
+        }
+        request.addAliasAction(AliasActions.add().index(indexName).alias(ALIAS));
+        client.indices().updateAliases(request, RequestOptions.DEFAULT);
+        log.info("alias {} now points to {}", ALIAS, indexName);
+
+        for (String previousIndex : previousIndices) {
+            if (!previousIndex.equals(indexName)) {
+                client.indices().delete(new DeleteIndexRequest(previousIndex), RequestOptions.DEFAULT);
+                log.info("deleted previous index {}", previousIndex);
+            }
+        }
+    }
+
+    /**
+     * 실행 중인 재색인 잡이 채우고 있는 인덱스, 재색인 중 변경된 문서는 이 인덱스에도 함께 기록해야 한다.
+     */
+    public Optional<String> findReindexTarget() {
+        return jobExplorer.findRunningJobExecutions(REINDEX_JOB_NAME).stream()
+                .map(JobExecution::getExecutionContext)
+                .filter(context -> context.containsKey(TARGET_INDEX_KEY))
+                .map(context -> context.getString(TARGET_INDEX_KEY))
+                .findFirst();
+    }
+}
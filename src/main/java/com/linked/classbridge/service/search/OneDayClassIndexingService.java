@@ -0,0 +1,263 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.config.SearchIndexingProperties;
+import com.linked.classbridge.domain.OneDayClassIndexDeadLetter;
+import com.linked.classbridge.domain.OneDayClassIndexEvent;
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import com.linked.classbridge.repository.OneDayClassIndexDeadLetterRepository;
+import com.linked.classbridge.repository.OneDayClassIndexEventRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.type.IndexEventType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.rest.RestStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 클래스 검색 인덱스 비동기 색인
+ * <p>
+ * 요청 스레드는 {@link #markChanged(Long)}로 변경된 클래스 ID 만 outbox 테이블에 기록하고, 스케줄러가 주기적으로 이벤트를 classId
+ * 단위로 합친 뒤 DB 에서 문서를 다시 만들어 한 번의 {@code _bulk} 요청으로 반영한다. DB 에 없는(삭제된) 클래스는 인덱스에서 삭제한다.
+ * <p>
+ * 찜, 리뷰처럼 숫자 필드만 바뀌는 경우는 {@link #markCountersChanged(Long)}로 기록하며, 태그/이미지 조회와 문서 전체 직렬화 없이
+ * 해당 필드만 부분 {@code _update} 한다. 같은 클래스에 전체 재색인 이벤트가 함께 있으면 전체 재색인으로 합쳐진다.
+ * <p>
+ * 재색인 잡이 실행 중이면 변경 내용을 재색인 대상 인덱스에도 함께 기록해 alias 교체 후에도 누락되지 않게 한다.
+ * <p>
+ * 색인에 실패한 클래스는 이벤트를 하나만 남겨 다음 주기에 다시 시도하고, maxAttempts 번 실패하면 dead letter 테이블로 옮겨 계속 실패하는
+ * 클래스가 outbox 처리를 막지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OneDayClassIndexingService {
+
+    private final OneDayClassIndexEventRepository indexEventRepository;
+    private final OneDayClassIndexDeadLetterRepository deadLetterRepository;
+    private final OneDayClassRepository classRepository;
+    private final ElasticsearchOperations operations;
+    private final RestHighLevelClient client;
+    private final ClassSearchCache classSearchCache;
+    private final AutoCompleteSync autoCompleteSync;
+    private final OneDayClassDocumentAssembler documentAssembler;
+    private final OneDayClassIndexManager indexManager;
+    private final SearchIndexingProperties properties;
+
+    /**
+     * 클래스 변경 기록, 호출한 트랜잭션이 커밋될 때 함께 커밋된다.
+     *
+     * @param classId 변경된 클래스 ID
+     */
+    public void markChanged(Long classId) {
+        indexEventRepository.save(OneDayClassIndexEvent.of(classId, IndexEventType.DOCUMENT));
+    }
+
+    /**
+     * 찜 수, 리뷰 수, 별점 변경 기록, 호출한 트랜잭션이 커밋될 때 함께 커밋된다.
+     *
+     * @param classId 숫자 필드가 변경된 클래스 ID
+     */
+    public void markCountersChanged(Long classId) {
+        indexEventRepository.save(OneDayClassIndexEvent.of(classId, IndexEventType.COUNTERS));
+    }
+
+    /**
+     * 여러 클래스의 숫자 필드를 기존 문서 조회 없이 한 번의 {@code _bulk} 요청으로 부분 업데이트
+     *
+     * @param counters 클래스별 숫자 필드 값
+     * @return 업데이트에 실패한 클래스 ID
+     */
+    public Set<Long> updateCounters(Collection<OneDayClassCounters> counters) throws IOException {
+        if (counters.isEmpty()) {
+            return Set.of();
+        }
+        BulkRequest bulkRequest = new BulkRequest();
+        addCounterRequests(bulkRequest, indexName(), counters);
+        return failedClassIds(client.bulk(bulkRequest, RequestOptions.DEFAULT)).keySet();
+    }
+
+    @Scheduled(fixedDelayString = "${search.indexing.flush-interval:1000}")
+    public void flush() {
+        List<OneDayClassIndexEvent> events =
+                indexEventRepository.findAllByOrderByIdAsc(PageRequest.of(0, properties.getBatchSize()));
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 전체 재색인 이벤트가 하나라도 있는 클래스는 전체 재색인, 나머지는 숫자 필드만 업데이트
+        Set<Long> classIds = new LinkedHashSet<>();
+        Set<Long> documentClassIds = new LinkedHashSet<>();
+        for (OneDayClassIndexEvent event : events) {
+            classIds.add(event.getClassId());
+            if (!event.isCountersOnly()) {
+                documentClassIds.add(event.getClassId());
+            }
+        }
+        // 재색인 중에는 새 인덱스에 아직 문서가 없을 수 있으므로 부분 업데이트 대신 전체 문서를 기록
+        String reindexTarget = indexManager.findReindexTarget().orElse(null);
+        if (reindexTarget != null) {
+            documentClassIds.addAll(classIds);
+        }
+        Set<Long> counterClassIds = new LinkedHashSet<>(classIds);
+        counterClassIds.removeAll(documentClassIds);
+
+        Map<Long, String> failures;
+        try {
+            failures = bulkIndex(documentClassIds, counterClassIds, reindexTarget);
+        } catch (IOException e) {
+            // 요청 자체가 실패하면 클래스 문제가 아니므로 실패 횟수를 세지 않고 다음 주기에 다시 시도
+            log.error("failed to index {} classes, will retry :: {}", classIds.size(), e.getMessage());
+            return;
+        }
+
+        List<Long> deletedEventIds = new ArrayList<>();
+        Map<Long, List<OneDayClassIndexEvent>> eventsByClassId = events.stream()
+                .collect(Collectors.groupingBy(OneDayClassIndexEvent::getClassId, LinkedHashMap::new,
+                        Collectors.toList()));
+        eventsByClassId.forEach((classId, classEvents) -> {
+            String failure = failures.get(classId);
+            if (failure == null) {
+                classEvents.forEach(event -> deletedEventIds.add(event.getId()));
+            } else {
+                retryOrDeadLetter(classId, classEvents, failure, deletedEventIds);
+            }
+        });
+        indexEventRepository.deleteAllByIdInBatch(deletedEventIds);
+
+        classSearchCache.evictAll();
+        log.debug("indexed {} classes from {} events", classIds.size() - failures.size(), events.size());
+    }
+
+    // 실패한 클래스는 이벤트를 하나만 남겨 다시 시도, 클래스 단위로 합쳐 색인하므로 나머지 이벤트는 필요 없음
+    private void retryOrDeadLetter(Long classId, List<OneDayClassIndexEvent> classEvents, String failure,
+                                   List<Long> deletedEventIds) {
+        OneDayClassIndexEvent retained = classEvents.stream()
+                .filter(event -> !event.isCountersOnly())
+                .findFirst()
+                .orElse(classEvents.get(0));
+        int attempts = classEvents.stream().mapToInt(OneDayClassIndexEvent::getAttempts).max().orElse(0) + 1;
+
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("failed to index class {} {} times, moving to dead letter :: {}", classId, attempts, failure);
+            deadLetterRepository.save(OneDayClassIndexDeadLetter.of(retained, attempts, failure));
+            classEvents.forEach(event -> deletedEventIds.add(event.getId()));
+            return;
+        }
+
+        indexEventRepository.updateAttempts(retained.getId(), attempts);
+        classEvents.stream()
+                .filter(event -> event != retained)
+                .forEach(event -> deletedEventIds.add(event.getId()));
+    }
+
+    // 색인에 실패한 클래스 ID 와 실패 이유
+    private Map<Long, String> bulkIndex(Set<Long> documentClassIds, Set<Long> counterClassIds, String reindexTarget)
+            throws IOException {
+        String indexName = indexName();
+        BulkRequest bulkRequest = new BulkRequest();
+
+        List<OneDayClassCounters> counters = counterClassIds.isEmpty() ? List.of()
+                : classRepository.findCountersByClassIdIn(counterClassIds).stream()
+                        .map(OneDayClassCounters::from)
+                        .toList();
+        addCounterRequests(bulkRequest, indexName, counters);
+
+        // DB 에서 사라진 클래스는 숫자 필드 이벤트만 있더라도 인덱스에서 삭제
+        Set<Long> deletedClassIds = new HashSet<>(documentClassIds);
+        deletedClassIds.addAll(counterClassIds);
+        counters.forEach(counter -> deletedClassIds.remove(counter.classId()));
+
+        List<OneDayClassDocument> documents = documentClassIds.isEmpty() ? List.of() : createDocuments(documentClassIds);
+        for (OneDayClassDocument document : documents) {
+            deletedClassIds.remove(document.getClassId());
+            String source = operations.getElasticsearchConverter().mapObject(document).toJson();
+            bulkRequest.add(new IndexRequest(indexName)
+                    .id(String.valueOf(document.getClassId()))
+                    .source(source, XContentType.JSON));
+            if (reindexTarget != null) {
+                bulkRequest.add(new IndexRequest(reindexTarget)
+                        .id(String.valueOf(document.getClassId()))
+                        .source(source, XContentType.JSON));
+            }
+        }
+        for (Long classId : deletedClassIds) {
+            bulkRequest.add(new DeleteRequest(indexName, String.valueOf(classId)));
+            if (reindexTarget != null) {
+                bulkRequest.add(new DeleteRequest(reindexTarget, String.valueOf(classId)));
+            }
+        }
+
+        // 자동완성 인덱스는 검색 인덱스 반영 결과와 무관하게 DB 기준으로 바로 갱신
+        Map<Long, Set<String>> autoCompleteTerms = new HashMap<>();
+        documents.forEach(document -> autoCompleteTerms.put(document.getClassId(),
+                AutoCompleteIndex.termsOf(document)));
+        deletedClassIds.forEach(classId -> autoCompleteTerms.put(classId, Set.of()));
+        autoCompleteSync.publish(autoCompleteTerms);
+
+        Map<Long, BulkItemResponse> failedItems = failedClassIds(client.bulk(bulkRequest, RequestOptions.DEFAULT));
+
+        Map<Long, String> failures = new HashMap<>();
+        for (Map.Entry<Long, BulkItemResponse> failedItem : failedItems.entrySet()) {
+            Long classId = failedItem.getKey();
+            if (counterClassIds.contains(classId) && failedItem.getValue().status() == RestStatus.NOT_FOUND) {
+                // 아직 색인되지 않은 문서는 부분 업데이트가 불가능하므로 전체 재색인으로 전환
+                markChanged(classId);
+                continue;
+            }
+            failures.put(classId, failedItem.getValue().getFailureMessage());
+        }
+        return failures;
+    }
+
+    private void addCounterRequests(BulkRequest bulkRequest, String indexName,
+                                    Collection<OneDayClassCounters> counters) {
+        for (OneDayClassCounters counter : counters) {
+            bulkRequest.add(new UpdateRequest(indexName, String.valueOf(counter.classId()))
+                    .doc(counter.toPartialDocument()));
+        }
+    }
+
+    private Map<Long, BulkItemResponse> failedClassIds(BulkResponse response) {
+        Map<Long, BulkItemResponse> failures = new HashMap<>();
+        if (response.hasFailures()) {
+            for (BulkItemResponse item : response) {
+                if (item.isFailed()) {
+                    log.warn("failed to index class {} :: {}", item.getId(), item.getFailureMessage());
+                    failures.put(Long.valueOf(item.getId()), item);
+                }
+            }
+        }
+        return failures;
+    }
+
+    private String indexName() {
+        return operations.getIndexCoordinatesFor(OneDayClassDocument.class).getIndexName();
+    }
+
+    private List<OneDayClassDocument> createDocuments(Set<Long> classIds) {
+        return documentAssembler.assemble(classRepository.findAllWithTutorAndCategoryByClassIdIn(List.copyOf(classIds)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.linked.classbridge.service.search;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 운영자용 재색인 실행 엔드포인트 ({@code POST /actuator/classreindex})
+ * <p>
+ * {@code management.endpoints.web.exposure.include}에 추가한 환경에서만 노출된다.
+ */
+@Component
+@Endpoint(id = "classreindex")
+@RequiredArgsConstructor
+public class OneDayClassReindexEndpoint {
+
+    private final OneDayClassReindexService reindexService;
+
+    @WriteOperation
+    public Map<String, Object> reindex() throws JobExecutionException {
+        JobExecution execution = reindexService.reindex();
+        return Map.of(
+                "jobExecutionId", execution.getId(),
+                "status", execution.getStatus().toString()
+        );
+    }
+}
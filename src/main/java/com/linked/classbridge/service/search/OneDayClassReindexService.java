@@ -0,0 +1,62 @@
+package com.linked.classbridge.service.search;
+
+import static com.linked.classbridge.service.search.OneDayClassIndexManager.REINDEX_JOB_NAME;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 클래스 검색 인덱스 재색인 잡 실행
+ * <p>
+ * 잡은 별도 스레드에서 실행되므로 호출은 바로 반환된다. 마지막 실행이 실패했거나 중지되었으면 새로 시작하지 않고 같은 파라미터로
+ * 재시작해 남은 구간부터 이어서 색인한다.
+ */
+@Slf4j
+@Service
+public class OneDayClassReindexService {
+
+    private final JobExplorer jobExplorer;
+    private final Job reindexClassJob;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public OneDayClassReindexService(JobRepository jobRepository, JobExplorer jobExplorer, Job reindexClassJob)
+            throws Exception {
+        this.jobExplorer = jobExplorer;
+        this.reindexClassJob = reindexClassJob;
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("reindex-job-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    public JobExecution reindex() throws JobExecutionException {
+        if (!jobExplorer.findRunningJobExecutions(REINDEX_JOB_NAME).isEmpty()) {
+            throw new JobExecutionAlreadyRunningException("reindex job is already running");
+        }
+
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(REINDEX_JOB_NAME);
+        JobExecution lastExecution = lastInstance == null ? null : jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution != null
+                && (lastExecution.getStatus() == BatchStatus.FAILED || lastExecution.getStatus() == BatchStatus.STOPPED)) {
+            log.info("restarting reindex job execution {}", lastExecution.getId());
+            return jobLauncher.run(reindexClassJob, lastExecution.getJobParameters());
+        }
+
+        JobParameters jobParameters = new JobParametersBuilder(jobExplorer)
+                .getNextJobParameters(reindexClassJob)
+                .toJobParameters();
+        return jobLauncher.run(reindexClassJob, jobParameters);
+    }
+}
@@ -0,0 +1,32 @@
+package com.linked.classbridge.service.search;
+
+import org.opensearch.action.search.SearchResponse;
+
+/**
+ * 현재 스레드에서 마지막으로 실행된 OpenSearch 검색의 서버 측 처리 시간(took)
+ * <p>
+ * {@link org.springframework.data.elasticsearch.core.SearchHits}는 took 을 노출하지 않으므로
+ * {@link TookCapturingOpenSearchRestTemplate}가 응답을 받는 시점에 기록하고, 검색을 호출한 쪽이 같은 스레드에서 꺼내 간다.
+ */
+public final class OpenSearchTook {
+
+    public static final long UNKNOWN = -1L;
+
+    private static final ThreadLocal<Long> TOOK_MILLIS = new ThreadLocal<>();
+
+    private OpenSearchTook() {
+    }
+
+    static void record(SearchResponse response) {
+        TOOK_MILLIS.set(response.getTook().millis());
+    }
+
+    /**
+     * 기록된 took(ms)을 반환하고 지운다. 기록이 없으면 {@link #UNKNOWN}
+     */
+    public static long consume() {
+        Long took = TOOK_MILLIS.get();
+        TOOK_MILLIS.remove();
+        return took == null ? UNKNOWN : took;
+    }
+}
@@ -0,0 +1,140 @@
+package com.linked.classbridge.service.search;
+
+import com.linked.classbridge.config.SearchMetricsProperties;
+import com.linked.classbridge.type.OrderType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클래스 검색/자동완성 지표
+ * <p>
+ * 전체 처리 시간은 정렬 기준, 검색 조건 유무, 페이지별로 나누어 기록하고, OpenSearch 호출은 클라이언트 왕복 시간과 서버 처리 시간(took)을
+ * 따로 기록한다. 설정한 기준보다 느린 쿼리는 쿼리 JSON 과 함께 최근 몇 건을 보관하며, 모두 {@link SearchMetricsEndpoint}로 조회한다.
+ */
+@Slf4j
+@Component
+public class SearchMetrics {
+
+    public static final String CLASS_SEARCH_TIMER = "search.class.latency";
+    public static final String AUTO_COMPLETE_TIMER = "search.autocomplete.latency";
+    public static final String ROUND_TRIP_TIMER = "search.opensearch.roundtrip";
+    public static final String TOOK_TIMER = "search.opensearch.took";
+    public static final String HITS_SUMMARY = "search.opensearch.hits";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final SearchMetricsProperties properties;
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    public SearchMetrics(MeterRegistry meterRegistry, SearchMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * @param cursor search_after 커서로 조회한 경우 true (페이지 태그는 cursor)
+     */
+    public void recordClassSearch(Timer.Sample sample, ClassSearchKey key, boolean cursor) {
+        Tags tags = Tags.of(
+                "order", key.orderType().name(),
+                "query", String.valueOf(!key.query().isEmpty()),
+                "category", String.valueOf(key.categoryType() != null),
+                "geo", String.valueOf(key.lat() != 0.0 && key.lng() != 0.0),
+                "region", String.valueOf(key.location() != null),
+                "page", cursor ? "cursor" : pageBucket(key.page()));
+        sample.stop(timer(CLASS_SEARCH_TIMER, tags));
+    }
+
+    /**
+     * @param source 응답을 만든 곳 (index: 인메모리 색인, opensearch: 색인 준비 전 OpenSearch 조회)
+     */
+    public void recordAutoComplete(Timer.Sample sample, String source) {
+        sample.stop(timer(AUTO_COMPLETE_TIMER, Tags.of("source", source)));
+    }
+
+    /**
+     * OpenSearch 호출 한 번의 왕복 시간, 서버 처리 시간, 전체 히트 수를 기록한다.
+     *
+     * @param orderType  자동완성처럼 정렬 기준이 없으면 null
+     * @param tookMillis 알 수 없으면 {@link OpenSearchTook#UNKNOWN}
+     * @param queryJson  느린 쿼리일 때만 호출된다
+     */
+    public void recordOpenSearch(String operation, OrderType orderType, long roundTripNanos, long tookMillis,
+                                 long totalHits, Supplier<String> queryJson) {
+        Tags tags = Tags.of("operation", operation, "order", orderType == null ? "none" : orderType.name());
+        timer(ROUND_TRIP_TIMER, tags).record(roundTripNanos, TimeUnit.NANOSECONDS);
+        if (tookMillis != OpenSearchTook.UNKNOWN) {
+            timer(TOOK_TIMER, tags).record(tookMillis, TimeUnit.MILLISECONDS);
+        }
+        DistributionSummary.builder(HITS_SUMMARY)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(totalHits);
+
+        long roundTripMillis = TimeUnit.NANOSECONDS.toMillis(roundTripNanos);
+        log.debug("OpenSearch {} (order={}) took={}ms roundTrip={}ms totalHits={}",
+                operation, orderType, tookMillis, roundTripMillis, totalHits);
+
+        long threshold = properties.getSlowQueryThreshold().toMillis();
+        if (roundTripMillis >= threshold || tookMillis >= threshold) {
+            SlowQuery slowQuery = new SlowQuery(Instant.now(), operation, orderType == null ? null : orderType.name(),
+                    roundTripMillis, tookMillis, totalHits, queryJson.get());
+            log.warn("Slow OpenSearch {} took={}ms roundTrip={}ms totalHits={} query={}",
+                    operation, tookMillis, roundTripMillis, totalHits, slowQuery.query());
+            addSlowQuery(slowQuery);
+        }
+    }
+
+    /**
+     * 최근 느린 쿼리, 최신 순
+     */
+    public synchronized List<SlowQuery> slowQueries() {
+        return List.copyOf(slowQueries);
+    }
+
+    MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+
+    private synchronized void addSlowQuery(SlowQuery slowQuery) {
+        slowQueries.addFirst(slowQuery);
+        while (slowQueries.size() > properties.getSlowQuerySamples()) {
+            slowQueries.removeLast();
+        }
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    // 페이지 번호를 그대로 태그로 쓰면 시계열이 무한히 늘어나므로 구간으로 묶음
+    private static String pageBucket(int page) {
+        if (page <= 3) {
+            return String.valueOf(page);
+        }
+        return page <= 10 ? "4-10" : "11+";
+    }
+
+    public record SlowQuery(Instant at, String operation, String order, long roundTripMillis, long tookMillis,
+                            long totalHits, String query) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.linked.classbridge.service.search;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 지표 조회 엔드포인트 ({@code GET /actuator/searchmetrics})
+ * <p>
+ * 태그 조합별 지연 시간 백분위, OpenSearch took, 히트 수와 최근 느린 쿼리를 한 번에 보여준다.
+ * {@code management.endpoints.web.exposure.include}에 추가한 환경에서만 노출된다.
+ */
+@Component
+@Endpoint(id = "searchmetrics")
+@RequiredArgsConstructor
+public class SearchMetricsEndpoint {
+
+    private final SearchMetrics searchMetrics;
+
+    @ReadOperation
+    public Map<String, Object> searchMetrics() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("timers", Stream.of(SearchMetrics.CLASS_SEARCH_TIMER, SearchMetrics.AUTO_COMPLETE_TIMER,
+                        SearchMetrics.ROUND_TRIP_TIMER, SearchMetrics.TOOK_TIMER)
+                .flatMap(name -> searchMetrics.meterRegistry().find(name).timers().stream())
+                .map(this::timer)
+                .toList());
+        response.put("hits", searchMetrics.meterRegistry().find(SearchMetrics.HITS_SUMMARY).summaries().stream()
+                .map(this::summary)
+                .toList());
+        response.put("slowQueries", searchMetrics.slowQueries());
+        return response;
+    }
+
+    private Map<String, Object> timer(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> result = meter(timer);
+        result.put("count", snapshot.count());
+        result.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+        result.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+        }
+        result.put("percentilesMs", percentiles);
+        return result;
+    }
+
+    private Map<String, Object> summary(DistributionSummary summary) {
+        Map<String, Object> result = meter(summary);
+        result.put("count", summary.count());
+        result.put("mean", summary.mean());
+        result.put("max", summary.max());
+        return result;
+    }
+
+    private Map<String, Object> meter(Meter meter) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", meter.getId().getName());
+        Map<String, String> tags = new LinkedHashMap<>();
+        List<Tag> meterTags = meter.getId().getTags();
+        meterTags.forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+        result.put("tags", tags);
+        return result;
+    }
+}
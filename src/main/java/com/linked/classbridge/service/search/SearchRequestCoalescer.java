@@ -0,0 +1,37 @@
+package com.linked.classbridge.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일한 클래스 검색/자동완성 OpenSearch 쿼리의 동시 실행을 하나로 합친다.
+ * <p>
+ * 결과는 여러 요청이 공유하므로 사용자별 처리(찜 여부 표시 등)는 반환된 결과를 복사한 뒤 각 요청에서 수행해야 한다.
+ */
+@Component
+public class SearchRequestCoalescer {
+
+    private final SingleFlight<Object, ClassSearchResult> searchFlight;
+    private final SingleFlight<String, List<String>> autoCompleteFlight;
+
+    public SearchRequestCoalescer(MeterRegistry meterRegistry) {
+        this.searchFlight = new SingleFlight<>("search", meterRegistry);
+        this.autoCompleteFlight = new SingleFlight<>("autoComplete", meterRegistry);
+    }
+
+    /**
+     * @param key 정규화된 검색 조건, 커서 모드는 커서까지 포함한 값
+     */
+    public ClassSearchResult search(Object key, Supplier<ClassSearchResult> loader) {
+        return searchFlight.execute(key, loader);
+    }
+
+    /**
+     * @param query loader 가 조회하는 검색어 그대로, 앞뒤 공백에 따라 결과가 달라질 수 있으므로 정규화하지 않는다.
+     */
+    public List<String> autoComplete(String query, Supplier<List<String>> loader) {
+        return autoCompleteFlight.execute(query, loader);
+    }
+}
@@ -0,0 +1,69 @@
+package com.linked.classbridge.service.search;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청을 하나의 실행으로 합친다.
+ * <p>
+ * 처음 들어온 요청만 loader 를 실행하고, 실행 중에 들어온 요청은 그 결과(또는 예외, Error 포함)를 함께 받는다. 실행이 끝나면 키를 바로 제거하므로
+ * 결과를 보관하지 않는다. 실행 횟수는 {@code search.requests.executed}, 합쳐진 요청 수(절약한 OpenSearch 쿼리 수)는
+ * {@code search.requests.coalesced} 카운터로 노출된다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String operation, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("search.requests.executed")
+                .description("OpenSearch queries actually executed")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("search.requests.coalesced")
+                .description("Requests served by joining an identical in-flight query")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error 도 함께 기다리는 요청에 전달해야 join 에서 영원히 멈추지 않음
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
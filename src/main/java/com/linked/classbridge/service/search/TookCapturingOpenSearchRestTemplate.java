@@ -0,0 +1,25 @@
+package com.linked.classbridge.service.search;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.data.client.orhlc.OpenSearchRestTemplate;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+
+/**
+ * 검색 응답의 took 을 {@link OpenSearchTook}에 남기는 {@link OpenSearchRestTemplate}
+ */
+public class TookCapturingOpenSearchRestTemplate extends OpenSearchRestTemplate {
+
+    public TookCapturingOpenSearchRestTemplate(RestHighLevelClient client, ElasticsearchConverter converter) {
+        super(client, converter);
+    }
+
+    @Override
+    public <T> T execute(ClientCallback<T> callback) {
+        T result = super.execute(callback);
+        if (result instanceof SearchResponse response) {
+            OpenSearchTook.record(response);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.linked.classbridge.service.wish;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linked.classbridge.config.WishCacheProperties;
+import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 찜 클래스 ID 캐시
+ * <p>
+ * 검색, 추천, 클래스 목록/상세의 찜 여부 표시는 이 캐시만 조회한다. 캐시에 없으면 찜 엔티티 대신 클래스 ID 만 한 번 조회해 채우고,
+ * 찜 추가/삭제 시에는 트랜잭션이 커밋된 뒤 캐시된 집합을 직접 갱신한다.
+ * <p>
+ * 직접 갱신은 변경을 처리한 서버에만 적용되므로, 다른 서버의 캐시는 조회가 계속되어도 채운 뒤 expireAfterWrite 가 지나면 DB 에서 다시
+ * 읽는다.
+ */
+@Component
+public class UserWishCache {
+
+    public static final String CACHE_NAME = "userWish";
+
+    private final WishRepository wishRepository;
+    private final Cache<Long, WishClassIds> cache;
+
+    public UserWishCache(WishRepository wishRepository, WishCacheProperties properties, MeterRegistry meterRegistry) {
+        this.wishRepository = wishRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxWeightBytes())
+                .weigher((Long userId, WishClassIds classIds) -> classIds.estimatedBytes())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @param userId 로그인하지 않은 경우 null
+     */
+    public WishClassIds get(Long userId) {
+        if (userId == null) {
+            return WishClassIds.EMPTY;
+        }
+        return cache.get(userId, id -> WishClassIds.of(wishRepository.findClassIdsByUserId(id)));
+    }
+
+    // 롤백된 변경이 캐시에 남지 않도록 커밋 후 반영
+    public void added(Long userId, Long classId) {
+        TransactionUtils.afterCommit(() -> cache.asMap().computeIfPresent(userId, (id, classIds) -> classIds.with(classId)));
+    }
+
+    public void removed(Long userId, Long classId) {
+        TransactionUtils.afterCommit(() -> cache.asMap().computeIfPresent(userId, (id, classIds) -> classIds.without(classId)));
+    }
+}
@@ -0,0 +1,65 @@
+package com.linked.classbridge.service.wish;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 사용자가 찜한 클래스 ID 의 불변 집합
+ * <p>
+ * 정렬된 {@code long[]} 하나로 보관하므로 박싱된 Long 이나 엔티티를 들고 있지 않으며, 조회는 이진 탐색으로 한다. 변경은 새 인스턴스를
+ * 만들어 반환하므로 여러 스레드가 동시에 읽어도 안전하다.
+ */
+public final class WishClassIds {
+
+    public static final WishClassIds EMPTY = new WishClassIds(new long[0]);
+
+    private final long[] classIds;
+
+    private WishClassIds(long[] sortedClassIds) {
+        this.classIds = sortedClassIds;
+    }
+
+    public static WishClassIds of(Collection<Long> classIds) {
+        long[] values = classIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return values.length == 0 ? EMPTY : new WishClassIds(values);
+    }
+
+    public boolean contains(Long classId) {
+        return classId != null && Arrays.binarySearch(classIds, classId) >= 0;
+    }
+
+    public WishClassIds with(long classId) {
+        int index = Arrays.binarySearch(classIds, classId);
+        if (index >= 0) {
+            return this;
+        }
+        int position = -index - 1;
+        long[] updated = new long[classIds.length + 1];
+        System.arraycopy(classIds, 0, updated, 0, position);
+        updated[position] = classId;
+        System.arraycopy(classIds, position, updated, position + 1, classIds.length - position);
+        return new WishClassIds(updated);
+    }
+
+    public WishClassIds without(long classId) {
+        int index = Arrays.binarySearch(classIds, classId);
+        if (index < 0) {
+            return this;
+        }
+        long[] updated = new long[classIds.length - 1];
+        System.arraycopy(classIds, 0, updated, 0, index);
+        System.arraycopy(classIds, index + 1, updated, index, classIds.length - index - 1);
+        return new WishClassIds(updated);
+    }
+
+    public int size() {
+        return classIds.length;
+    }
+
+    /**
+     * 캐시 용량 계산에 사용하는 대략적인 메모리 크기
+     */
+    int estimatedBytes() {
+        return 32 + classIds.length * Long.BYTES;
+    }
+}
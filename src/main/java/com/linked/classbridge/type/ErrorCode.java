@@ -59,6 +59,8 @@ public enum ErrorCode {
     MISMATCH_USER_WISH(HttpStatus.BAD_REQUEST, "로그인 한 유저와 해당 찜의 유저가 일치하지 않습니다."),
     CANNOT_ADD_WISH_OWN_CLASS(HttpStatus.BAD_REQUEST, "자신의 클래스는 찜목록에 추가할 수 없습니다."),
     INVALID_CLASS_IMAGE_ACTION(HttpStatus.BAD_REQUEST, "존재하지 않는 image action입니다."),
+    INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 검색 커서입니다."),
+    INVALID_MAP_BOUNDS(HttpStatus.BAD_REQUEST, "유효하지 않은 지도 영역입니다."),
 
     FAQ_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 FAQ를 찾을 수 없습니다."),
     MISMATCH_CLASS_FAQ(HttpStatus.BAD_REQUEST, "클래스 id와 faq의 클래스 id가 일치하지 않습니다."),
@@ -98,6 +100,7 @@ public enum ErrorCode {
     CHAT_MESSAGE_NOT_FOUND(HttpStatus.BAD_REQUEST, "채팅 메시지를 찾을 수 없습니다."),
     SENDER_CANNOT_MARK_AS_READ(HttpStatus.BAD_REQUEST, "메시지를 보낸 사람은 읽음 처리를 할 수 없습니다."),
     USER_NOT_IN_CHAT_ROOM(HttpStatus.BAD_REQUEST, "채팅방에 참여하지 않은 사용자입니다."),
+    INVALID_CHAT_MESSAGE_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 채팅 메시지 커서입니다."),
 
     NOT_TODAY_LESSON(HttpStatus.BAD_REQUEST, "레슨 당일에만 출석체크가 가능합니다."),
     NOT_YET_ATTENDANCE(HttpStatus.BAD_REQUEST, "레슨 시작 30분 전부터 출석체크가 가능합니다.");
@@ -0,0 +1,6 @@
+package com.linked.classbridge.type;
+
+public enum IndexEventType {
+    DOCUMENT,   // 문서 전체 재색인 (클래스 정보, 태그, 이미지 변경 및 삭제)
+    COUNTERS    // 찜 수, 리뷰 수, 별점 등 숫자 필드만 부분 업데이트
+}
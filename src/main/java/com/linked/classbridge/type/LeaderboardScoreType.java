@@ -0,0 +1,7 @@
+package com.linked.classbridge.type;
+
+public enum LeaderboardScoreType {
+    TOTAL_STAR_RATE,    // 총 별점 합, 같으면 찜 수 (기존 기본 추천 순서)
+    AVERAGE_RATING,     // 평균 별점, 같으면 찜 수
+    WISH                // 찜 수, 같으면 총 별점 합
+}
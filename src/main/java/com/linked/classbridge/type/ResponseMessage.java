@@ -37,6 +37,7 @@ public enum ResponseMessage {
 
     ONE_DAY_CLASS_SEARCH_SUCCESS("검색 성공"),
     ONE_DAY_CLASS_AUTO_COMPLETE_SUCCESS("자동 완성 성공"),
+    ONE_DAY_CLASS_MAP_CLUSTER_SUCCESS("지도 클러스터 조회 성공"),
 
     PAYMENT_SUCCESS("결제 승인"),
     ACCESS_TOKEN_ISSUED("Access 토큰 발급 성공"),
@@ -61,6 +62,7 @@ public enum ResponseMessage {
     CHAT_ROOM_JOIN_SUCCESS("채팅방 참여 성공"),
     CHAT_ROOM_LEAVE_SUCCESS("채팅방 퇴장하기 성공"),
     CHAT_ROOM_CLOSE_SUCCESS("채팅방 닫기 성공"),
+    CHAT_MESSAGE_GET_SUCCESS("채팅 메시지 조회 성공"),
 
     ATTENDANCE_CHECK_SUCCESS("출석 체크 성공"),
     GET_USER_BADGES_SUCCESS("사용자 뱃지 조회 성공"),
@@ -68,6 +70,8 @@ public enum ResponseMessage {
 
     GET_TOP_CLASSES_SUCCESS("기본 추천 클래스 조회 성공"),
     GET_TOP_CLASSES_FOR_USER_SUCCESS("사용자 추천 클래스 조회 성공"),
+    GET_RELATED_CLASSES_SUCCESS("함께 예약한 클래스 조회 성공"),
+    GET_SIMILAR_CLASSES_SUCCESS("비슷한 클래스 조회 성공"),
     ;
     private final String message;
 }
@@ -0,0 +1,54 @@
+package com.linked.classbridge.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HangulUtils {
+    private static final char HANGUL_BEGIN = 0xAC00;    // '가'
+    private static final char HANGUL_END = 0xD7A3;      // '힣'
+    private static final int CHOSUNG_INTERVAL = 21 * 28;   // 중성 개수 * 종성 개수
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    public static boolean isSyllable(char c) {
+        return c >= HANGUL_BEGIN && c <= HANGUL_END;
+    }
+
+    public static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean containsChosung(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (isChosung(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾸고 공백은 제거한다. 그 외 문자는 그대로 둔다. (예: "한식 요리" -> "ㅎㅅㅇㄹ")
+     */
+    public static String toChosung(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isSyllable(c)) {
+                builder.append(CHOSUNG[(c - HANGUL_BEGIN) / CHOSUNG_INTERVAL]);
+            } else if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
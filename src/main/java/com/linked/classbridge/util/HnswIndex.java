@@ -0,0 +1,324 @@
+package com.linked.classbridge.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스
+ * <p>
+ * 길이 1 로 정규화한 float 벡터를 long 키로 보관하고, 내적(= 코사인 유사도)이 큰 순으로 근사 top-k 를 찾는다. 같은 키를 다시 넣거나 지우면
+ * 이전 노드는 삭제 표시만 하고 그래프 탐색에는 계속 사용하므로(결과에서는 제외), 삭제가 많이 쌓이면 새로 만들어야 한다
+ * ({@link #deletedCount()}). 조회는 읽기 잠금으로 동시에 실행되고 추가/삭제는 쓰기 잠금으로 직렬화된다.
+ */
+public class HnswIndex {
+
+    private static final Comparator<Scored> BY_SIMILARITY = Comparator.comparingDouble(Scored::similarity);
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final SplittableRandom random;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Map<Long, Integer> liveNodes = new HashMap<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount;
+
+    /**
+     * @param m              노드마다 유지할 이웃 수 (0 층은 2배)
+     * @param efConstruction 추가 시 탐색할 후보 수, 클수록 그래프 품질이 좋아지고 추가가 느려진다
+     */
+    public HnswIndex(int dimension, int m, int efConstruction, long seed) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 키의 벡터를 추가한다. 이미 있는 키면 이전 벡터를 대체한다.
+     */
+    public void add(long key, float[] vector) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("vector dimension must be " + dimension);
+        }
+        lock.writeLock().lock();
+        try {
+            markDeleted(key);
+            int level = randomLevel();
+            int node = nodes.size();
+            nodes.add(new Node(key, vector, level, m, maxM0));
+            liveNodes.put(key, node);
+
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int layer = maxLevel; layer > level; layer--) {
+                current = greedy(vector, current, layer);
+            }
+            for (int layer = Math.min(level, maxLevel); layer >= 0; layer--) {
+                List<Scored> candidates = searchLayer(vector, current, efConstruction, layer, false);
+                for (Scored neighbor : selectNeighbors(candidates, m)) {
+                    connect(node, neighbor.node(), layer);
+                    connect(neighbor.node(), node, layer);
+                }
+                current = candidates.get(0).node();
+            }
+            if (level > maxLevel) {
+                maxLevel = level;
+                entryPoint = node;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 벡터와 내적이 큰 순으로 최대 {@code k} 개의 키를 찾는다.
+     *
+     * @param ef 0 층에서 탐색할 후보 수, 클수록 재현율이 높아지고 느려진다 (k 보다 작으면 k 를 사용)
+     */
+    public List<Long> search(float[] query, int k, int ef) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0 || k <= 0) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int layer = maxLevel; layer > 0; layer--) {
+                current = greedy(query, current, layer);
+            }
+            List<Long> keys = new ArrayList<>(k);
+            for (Scored found : searchLayer(query, current, Math.max(ef, k), 0, true)) {
+                keys.add(nodes.get(found.node()).key);
+                if (keys.size() == k) {
+                    break;
+                }
+            }
+            return keys;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 키의 현재 벡터, 없으면 null (반환한 배열은 수정하지 않는다)
+     */
+    public float[] vector(long key) {
+        lock.readLock().lock();
+        try {
+            Integer node = liveNodes.get(key);
+            return node != null ? nodes.get(node).vector : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveNodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int deletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static float dot(float[] a, float[] b) {
+        float sum = 0f;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    private void markDeleted(long key) {
+        Integer previous = liveNodes.remove(key);
+        if (previous != null) {
+            nodes.get(previous).deleted = true;
+            deletedCount++;
+        }
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    // 상위 층에서는 더 가까운 이웃이 없을 때까지 한 칸씩 이동
+    private int greedy(float[] query, int entry, int layer) {
+        int current = entry;
+        float best = dot(query, nodes.get(current).vector);
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            Node node = nodes.get(current);
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                float similarity = dot(query, nodes.get(neighbor).vector);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbor;
+                    moved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @param excludeDeleted 삭제 표시된 노드는 거쳐 가기만 하고 결과에서 뺀다 (조회용, 그래프 연결 시에는 포함)
+     * @return 유사도 내림차순 후보 최대 {@code ef} 개
+     */
+    private List<Scored> searchLayer(float[] query, int entry, int ef, int layer, boolean excludeDeleted) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Scored> candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        PriorityQueue<Scored> results = new PriorityQueue<>(BY_SIMILARITY);
+
+        Scored start = new Scored(entry, dot(query, nodes.get(entry).vector));
+        visited.set(entry);
+        candidates.add(start);
+        if (!excludeDeleted || !nodes.get(entry).deleted) {
+            results.add(start);
+        }
+
+        while (!candidates.isEmpty()) {
+            Scored candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity() < results.peek().similarity()) {
+                break;
+            }
+            Node node = nodes.get(candidate.node());
+            for (int i = 0; i < node.linkCounts[layer]; i++) {
+                int neighbor = node.links[layer][i];
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                float similarity = dot(query, nodes.get(neighbor).vector);
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Scored scored = new Scored(neighbor, similarity);
+                    candidates.add(scored);
+                    if (excludeDeleted && nodes.get(neighbor).deleted) {
+                        continue;
+                    }
+                    results.add(scored);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Scored> sorted = new ArrayList<>(results);
+        sorted.sort(BY_SIMILARITY.reversed());
+        return sorted;
+    }
+
+    /**
+     * 이미 고른 이웃보다 자신에게 더 가까운 후보만 고르고(다양한 방향의 이웃 유지), 모자라면 남은 후보로 채운다.
+     *
+     * @param candidates 유사도 내림차순
+     */
+    private List<Scored> selectNeighbors(List<Scored> candidates, int limit) {
+        if (candidates.size() <= limit) {
+            return candidates;
+        }
+        List<Scored> selected = new ArrayList<>(limit);
+        List<Scored> pruned = new ArrayList<>();
+        for (Scored candidate : candidates) {
+            if (selected.size() == limit) {
+                break;
+            }
+            float[] vector = nodes.get(candidate.node()).vector;
+            boolean diverse = true;
+            for (Scored chosen : selected) {
+                if (dot(vector, nodes.get(chosen.node()).vector) > candidate.similarity()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            (diverse ? selected : pruned).add(candidate);
+        }
+        for (int i = 0; i < pruned.size() && selected.size() < limit; i++) {
+            selected.add(pruned.get(i));
+        }
+        return selected;
+    }
+
+    private void connect(int from, int to, int layer) {
+        Node node = nodes.get(from);
+        int capacity = layer == 0 ? maxM0 : m;
+        int[] links = node.links[layer];
+        if (node.linkCounts[layer] < capacity) {
+            links[node.linkCounts[layer]++] = to;
+            return;
+        }
+
+        List<Scored> candidates = new ArrayList<>(capacity + 1);
+        candidates.add(new Scored(to, dot(node.vector, nodes.get(to).vector)));
+        for (int i = 0; i < capacity; i++) {
+            candidates.add(new Scored(links[i], dot(node.vector, nodes.get(links[i]).vector)));
+        }
+        candidates.sort(BY_SIMILARITY.reversed());
+        List<Scored> selected = selectNeighbors(candidates, capacity);
+        for (int i = 0; i < selected.size(); i++) {
+            links[i] = selected.get(i).node();
+        }
+        node.linkCounts[layer] = selected.size();
+    }
+
+    private static final class Node {
+
+        private final long key;
+        private final float[] vector;
+        private final int[][] links;
+        private final int[] linkCounts;
+        private boolean deleted;
+
+        private Node(long key, float[] vector, int level, int m, int maxM0) {
+            this.key = key;
+            this.vector = vector;
+            this.links = new int[level + 1][];
+            this.linkCounts = new int[level + 1];
+            for (int layer = 0; layer <= level; layer++) {
+                links[layer] = new int[layer == 0 ? maxM0 : m];
+            }
+        }
+    }
+
+    private record Scored(int node, float similarity) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.linked.classbridge.util;
+
+/**
+ * long 키, float 값을 박싱 없이 보관하는 open addressing 해시 맵
+ * <p>
+ * 키 0 은 빈 칸 표시로 쓰므로 저장할 수 없다 (DB 에서 발급한 ID 처럼 양수 키만 사용). 스레드 안전하지 않다.
+ */
+public class LongFloatHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private float[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongFloatHashMap() {
+        this(8);
+    }
+
+    public LongFloatHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * 키의 값에 delta 를 더한다. 없던 키면 delta 로 추가한다.
+     */
+    public void addTo(long key, float delta) {
+        checkKey(key);
+        int slot = slot(key);
+        if (keys[slot] == key) {
+            values[slot] += delta;
+            return;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * @return 없으면 0
+     */
+    public float get(long key) {
+        checkKey(key);
+        int slot = slot(key);
+        return keys[slot] == key ? values[slot] : 0f;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void forEach(LongFloatConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * 값이 큰 순으로 {@code limit} 개만 남긴다. 값이 같으면 키가 작은 쪽을 남긴다.
+     */
+    public void retainTop(int limit) {
+        if (size <= limit) {
+            return;
+        }
+        long[] topKeys = new long[limit];
+        float[] topValues = new float[limit];
+        int count = topEntries(limit, topKeys, topValues);
+
+        allocate(capacityFor(limit));
+        for (int i = 0; i < count; i++) {
+            addTo(topKeys[i], topValues[i]);
+        }
+    }
+
+    /**
+     * 값이 큰 순으로 최대 {@code limit} 개를 배열에 채운다.
+     *
+     * @return 채운 개수
+     */
+    public int topEntries(int limit, long[] topKeys, float[] topValues) {
+        if (limit <= 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == 0) {
+                continue;
+            }
+            long key = keys[i];
+            float value = values[i];
+            if (count == limit && !ranksHigher(value, key, topValues[limit - 1], topKeys[limit - 1])) {
+                continue;
+            }
+            // limit 은 작으므로 삽입 정렬로 내림차순 유지
+            int position = count == limit ? limit - 1 : count++;
+            while (position > 0 && ranksHigher(value, key, topValues[position - 1], topKeys[position - 1])) {
+                topValues[position] = topValues[position - 1];
+                topKeys[position] = topKeys[position - 1];
+                position--;
+            }
+            topValues[position] = value;
+            topKeys[position] = key;
+        }
+        return count;
+    }
+
+    private static boolean ranksHigher(float value, long key, float otherValue, long otherKey) {
+        return value > otherValue || (value == otherValue && key < otherKey);
+    }
+
+    private int slot(long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0 && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        float[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new float[capacity];
+        size = 0;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    // 2의 거듭제곱
+    private static int capacityFor(int expectedSize) {
+        return Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key 0 is reserved");
+        }
+    }
+
+    private static int mix(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface LongFloatConsumer {
+        void accept(long key, float value);
+    }
+}
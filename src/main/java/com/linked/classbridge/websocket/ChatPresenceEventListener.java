@@ -0,0 +1,66 @@
+package com.linked.classbridge.websocket;
+
+import com.linked.classbridge.service.chat.presence.ChatPresenceRegistry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * STOMP 세션 이벤트로 {@link ChatPresenceRegistry} 갱신
+ * <p>
+ * 사용자는 핸드셰이크에서 확인한 {@link StompPrincipal} 의 userId 를 사용한다. 연결 종료 이벤트는 DISCONNECT 프레임 없이
+ * 연결이 끊겨도 발생하므로 닫지 못한 채팅방이 남지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceEventListener {
+
+    private static final Pattern CHAT_ROOM_DESTINATION = Pattern.compile("^/chatRoom/(\\d+)$");
+
+    private final ChatPresenceRegistry chatPresenceRegistry;
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        if (!(event.getUser() instanceof StompPrincipal principal)) {
+            return;
+        }
+        chatPresenceRegistry.connect(SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders()),
+                principal.getUserId());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return;
+        }
+        Matcher matcher = CHAT_ROOM_DESTINATION.matcher(destination);
+        if (matcher.matches()) {
+            chatPresenceRegistry.subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+                    Long.valueOf(matcher.group(1)));
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        chatPresenceRegistry.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        log.info("STOMP session {} disconnected", event.getSessionId());
+        chatPresenceRegistry.disconnect(event.getSessionId());
+    }
+
+}
@@ -17,7 +17,9 @@ public class CustomHandshakeHandler extends DefaultHandshakeHandler {
         Authentication authentication = (Authentication) attributes.get("user");
         if (authentication != null && authentication.isAuthenticated()) {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            return new StompPrincipal(userDetails.getUserDto().getEmail(), userDetails.getUserDto().getRoles());
+            return new StompPrincipal(userDetails.getUserDto().getEmail(),
+                    (Long) attributes.get(HttpHandshakeInterceptor.USER_ID_ATTRIBUTE),
+                    userDetails.getUserDto().getRoles());
         }
         return null;
     }
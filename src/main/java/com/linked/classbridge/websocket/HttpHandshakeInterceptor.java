@@ -2,6 +2,7 @@ package com.linked.classbridge.websocket;
 
 import com.linked.classbridge.dto.user.UserDto;
 import com.linked.classbridge.exception.WebsocketException;
+import com.linked.classbridge.repository.UserRepository;
 import com.linked.classbridge.security.CustomUserDetails;
 import com.linked.classbridge.service.JWTService;
 import com.linked.classbridge.type.ErrorCode;
@@ -20,8 +21,12 @@ import org.springframework.web.socket.server.HandshakeInterceptor;
 @Component
 public class HttpHandshakeInterceptor implements HandshakeInterceptor {
 
+    public static final String USER_ID_ATTRIBUTE = "userId";
+
     private final JWTService jwtService;
 
+    private final UserRepository userRepository;
+
     @Override
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler,
                                    Map<String, Object> attributes) throws Exception {
@@ -32,11 +37,17 @@ public class HttpHandshakeInterceptor implements HandshakeInterceptor {
                 user.setEmail(jwtService.getEmail(token));
                 user.setRoles(jwtService.getRoles(token));
 
+                // 토큰에는 이메일만 있으므로 userId 는 연결할 때 한 번만 조회해 세션 속성에 보관
+                Long userId = userRepository.findByEmail(user.getEmail())
+                        .orElseThrow(() -> new WebsocketException(ErrorCode.USER_NOT_FOUND))
+                        .getUserId();
+
                 CustomUserDetails userDetails = new CustomUserDetails(user);
                 Authentication authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
                 attributes.put("user", authentication);
+                attributes.put(USER_ID_ATTRIBUTE, userId);
             }
             return true;
         }
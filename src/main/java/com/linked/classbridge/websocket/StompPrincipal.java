@@ -5,11 +5,18 @@ import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 웹소켓 세션의 인증 정보
+ * <p>
+ * 핸드셰이크에서 한 번 확인한 사용자 정보를 세션 동안 유지해 프레임마다 토큰을 파싱하거나 사용자를 조회하지 않는다.
+ */
 @RequiredArgsConstructor
 @Getter
 public class StompPrincipal implements Principal {
 
     private final String name;
 
+    private final Long userId;
+
     private final List<String> roles;
 }
@@ -0,0 +1,73 @@
+package com.linked.classbridge.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class OneDayClassKeysetReaderTest {
+
+    @Mock
+    private OneDayClassRepository classRepository;
+
+    @Test
+    void read_fetches_next_chunk_after_last_class_id() {
+        // Given
+        OneDayClassKeysetReader reader = new OneDayClassKeysetReader(classRepository, 1L, 100L, 2);
+        given(classRepository.findNextChunkForReindex(eq(0L), eq(100L), any(Pageable.class)))
+                .willReturn(List.of(createClass(3L), createClass(7L)));
+        given(classRepository.findNextChunkForReindex(eq(7L), eq(100L), any(Pageable.class)))
+                .willReturn(List.of(createClass(9L)));
+        given(classRepository.findNextChunkForReindex(eq(9L), eq(100L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // When
+        reader.open(new ExecutionContext());
+
+        // Then
+        assertThat(reader.read().getClassId()).isEqualTo(3L);
+        assertThat(reader.read().getClassId()).isEqualTo(7L);
+        assertThat(reader.read().getClassId()).isEqualTo(9L);
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void open_resumes_after_committed_class_id() {
+        // Given
+        OneDayClassKeysetReader reader = new OneDayClassKeysetReader(classRepository, 1L, 100L, 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        given(classRepository.findNextChunkForReindex(eq(0L), eq(100L), any(Pageable.class)))
+                .willReturn(List.of(createClass(3L), createClass(7L)));
+
+        reader.open(executionContext);
+        reader.read();
+        reader.update(executionContext);    // 3번까지 커밋된 뒤 실패
+
+        given(classRepository.findNextChunkForReindex(eq(3L), eq(100L), any(Pageable.class)))
+                .willReturn(List.of(createClass(7L)));
+
+        // When
+        OneDayClassKeysetReader restarted = new OneDayClassKeysetReader(classRepository, 1L, 100L, 2);
+        restarted.open(executionContext);
+
+        // Then
+        assertThat(restarted.read().getClassId()).isEqualTo(7L);
+        verify(classRepository).findNextChunkForReindex(eq(3L), eq(100L), any(Pageable.class));
+    }
+
+    private OneDayClass createClass(Long classId) {
+        return OneDayClass.builder().classId(classId).build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.linked.classbridge.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.linked.classbridge.dto.oneDayClass.UserClassIdProjection;
+import com.linked.classbridge.repository.ReservationRepository;
+import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.repository.WishRepository;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class UserBasketReaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private WishRepository wishRepository;
+
+    @Test
+    void read_groups_reservations_and_wishes_by_user() {
+        // Given
+        UserBasketReader reader = new UserBasketReader(userRepository, reservationRepository, wishRepository, 2, 10, 0.5f);
+        given(userRepository.findNextUserIds(eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(userRepository.findNextUserIds(eq(2L), any(Pageable.class))).willReturn(List.of(5L));
+        given(userRepository.findNextUserIds(eq(5L), any(Pageable.class))).willReturn(List.of());
+        given(reservationRepository.findUserClassIdsByUserIdIn(eq(List.of(1L, 2L)), any()))
+                .willReturn(List.of(row(1L, 10L), row(1L, 20L)));
+        given(wishRepository.findUserClassIdsByUserIdIn(List.of(1L, 2L)))
+                .willReturn(List.of(row(1L, 20L), row(1L, 30L)));
+        given(reservationRepository.findUserClassIdsByUserIdIn(eq(List.of(5L)), any()))
+                .willReturn(List.of(row(5L, 10L)));
+        given(wishRepository.findUserClassIdsByUserIdIn(List.of(5L))).willReturn(List.of());
+
+        // When
+        UserBasket first = reader.read();
+        UserBasket second = reader.read();
+        UserBasket end = reader.read();
+
+        // Then
+        assertThat(first.userId()).isEqualTo(1L);
+        assertThat(first.classIds()).containsExactly(10L, 20L, 30L);
+        assertThat(first.weights()).containsExactly(1f, 1f, 0.5f);
+        assertThat(second.userId()).isEqualTo(5L);      // 예약/찜이 없는 2번 사용자는 건너뜀
+        assertThat(second.classIds()).containsExactly(10L);
+        assertThat(end).isNull();
+    }
+
+    private static UserClassIdProjection row(Long userId, Long classId) {
+        return new UserClassIdProjection() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+        };
+    }
+}
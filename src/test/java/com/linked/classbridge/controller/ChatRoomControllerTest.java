@@ -132,7 +132,7 @@ class ChatRoomControllerTest {
         ChatMessageDto chatMessageDto = new ChatMessageDto("messageId", mockUser.getUserId(), "message", false, null);
         JoinChatRoom.Response response = new JoinChatRoom.Response(1L,
                 mockUser.getUserId(), mockUser.getUserId(), mockTutor.getUserId(),
-                null, null, List.of(chatMessageDto));
+                null, null, List.of(chatMessageDto), null, false);
 
         given(chatService.enterChatRoomProcess(mockUser, 1L))
                 .willReturn(response);
@@ -13,8 +13,10 @@ import com.linked.classbridge.dto.review.GetReviewImageDto;
 import com.linked.classbridge.dto.review.GetReviewResponse;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.service.OneDayClassService;
+import com.linked.classbridge.service.RecommendationService;
 import com.linked.classbridge.service.ReviewService;
 import com.linked.classbridge.service.UserService;
+import com.linked.classbridge.service.search.ClassMapClusterService;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -47,6 +49,12 @@ class OneDayClassControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private ClassMapClusterService classMapClusterService;
+
+    @MockBean
+    private RecommendationService recommendationService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -115,8 +115,7 @@ public class RecommendationControllerTest {
         OneDayClass oneDayClass = new OneDayClass();
         oneDayClass.setClassId(1L);
 
-        given(oneDayClassRepository.getTopClassesId(PageRequest.of(0, 5))).willReturn(Arrays.asList(1L, 2L, 3L));
-        given(oneDayClassRepository.findAllByClassIdIn(Arrays.asList(1L, 2L, 3L), PageRequest.of(0, 5))).willReturn(new PageImpl<>(Arrays.asList(oneDayClass)));
+        given(oneDayClassRepository.findAllByClassIdIn(Arrays.asList(1L), PageRequest.of(0, 1))).willReturn(new PageImpl<>(Arrays.asList(oneDayClass)));
 
         // when & then
         mockMvc.perform(get("/api/class/recommend/basic")
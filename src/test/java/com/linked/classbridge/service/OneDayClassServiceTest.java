@@ -9,7 +9,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.linked.classbridge.config.SearchCacheProperties;
+import com.linked.classbridge.config.SearchMetricsProperties;
 import com.linked.classbridge.domain.ClassFAQ;
 import com.linked.classbridge.domain.ClassTag;
 import com.linked.classbridge.domain.Lesson;
@@ -17,6 +21,7 @@ import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.document.OneDayClassDocument;
 import com.linked.classbridge.dto.oneDayClass.ClassFAQDto;
+import com.linked.classbridge.dto.oneDayClass.ClassSearchCursorDto;
 import com.linked.classbridge.dto.oneDayClass.ClassSearchDto;
 import com.linked.classbridge.dto.oneDayClass.ClassTagDto;
 import com.linked.classbridge.dto.oneDayClass.LessonDtoDetail;
@@ -27,11 +32,21 @@ import com.linked.classbridge.repository.ClassFAQRepository;
 import com.linked.classbridge.repository.ClassImageRepository;
 import com.linked.classbridge.repository.ClassTagRepository;
 import com.linked.classbridge.repository.LessonRepository;
-import com.linked.classbridge.repository.OneDayClassDocumentRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
 import com.linked.classbridge.repository.UserRepository;
-import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassFeatureStore;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.recommendation.SimilarClassIndex;
+import com.linked.classbridge.service.search.AutoCompleteIndex;
+import com.linked.classbridge.service.search.ClassSearchCache;
+import com.linked.classbridge.service.search.OneDayClassIndexingService;
+import com.linked.classbridge.service.search.SearchMetrics;
+import com.linked.classbridge.service.search.SearchRequestCoalescer;
+import com.linked.classbridge.service.wish.UserWishCache;
+import com.linked.classbridge.type.ErrorCode;
 import com.linked.classbridge.type.OrderType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -41,8 +56,10 @@ import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
@@ -57,6 +74,7 @@ import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchHitsImpl;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.web.client.RestTemplate;
 
@@ -98,17 +116,41 @@ class OneDayClassServiceTest {
     private ClassTagRepository tagRepository;
 
     @Mock
-    private OneDayClassDocumentRepository oneDayClassDocumentRepository;
+    private OneDayClassIndexingService oneDayClassIndexingService;
+
+    @Mock
+    private AutoCompleteIndex autoCompleteIndex;
 
     @Mock
     private ElasticsearchOperations operations;
 
     @Mock
-    private WishRepository wishRepository;
+    private UserWishCache userWishCache;
+
+    @Mock
+    private ClassFeatureStore classFeatureStore;
+
+    @Mock
+    private ClassLeaderboard classLeaderboard;
+
+    @Mock
+    private SimilarClassIndex similarClassIndex;
+
+    @Mock
+    private ClassDtoHydrator classDtoHydrator;
 
     @Mock
     private RestHighLevelClient client;
 
+    @Spy
+    private ClassSearchCache classSearchCache = new ClassSearchCache(new SearchCacheProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private SearchRequestCoalescer searchRequestCoalescer = new SearchRequestCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private SearchMetrics searchMetrics = new SearchMetrics(new SimpleMeterRegistry(), new SearchMetricsProperties());
+
     @Test
     void registerFAQ() {
         // Given
@@ -352,14 +394,11 @@ class OneDayClassServiceTest {
                 .oneDayClass(oneDayClass)
                 .build();
 
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).tagList(new ArrayList<>()).build();
 
         // When
         given(userRepository.findByEmail(tutor.getEmail())).willReturn(Optional.of(tutor));
         given(classRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClass));
         given(tagRepository.save(any(ClassTag.class))).willReturn(responseTag);
-        given(oneDayClassDocumentRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClassDocument));
-        given(operations.save(oneDayClassDocument)).willReturn(oneDayClassDocument);
 
         // Execute the service method
         ClassTagDto response = oneDayClassService.registerTag(tutor.getEmail(), request, 1L);
@@ -367,6 +406,7 @@ class OneDayClassServiceTest {
         // Then
         assertThat(response.getTagId()).isEqualTo(1L);
         assertThat(response.getName()).isEqualTo(request.getName());
+        verify(oneDayClassIndexingService).markChanged(1L);
     }
 
     @Test
@@ -418,14 +458,11 @@ class OneDayClassServiceTest {
                 .oneDayClass(oneDayClass)
                 .build();
 
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).tagList(List.of("tag")).build();
 
         // When
         given(userRepository.findByEmail(tutor.getEmail())).willReturn(Optional.of(tutor));
         given(tagRepository.findById(1L)).willReturn(Optional.of(originTag));
         given(tagRepository.save(any(ClassTag.class))).willReturn(responseTag);
-        given(oneDayClassDocumentRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClassDocument));
-        given(operations.save(oneDayClassDocument)).willReturn(oneDayClassDocument);
 
         // Execute the service method
         ClassTagDto response = oneDayClassService.updateTag(tutor.getEmail(), request, 1L, 1L);
@@ -441,18 +478,17 @@ class OneDayClassServiceTest {
         User tutor = User.builder().userId(1L).email("example@example.com").build();
         OneDayClass oneDayClass = OneDayClass.builder().classId(1L).tutor(tutor).build();
 
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).tagList(List.of("tag입니다.")).build();
 
         // When
         given(userRepository.findByEmail(tutor.getEmail())).willReturn(Optional.of(tutor));
         given(tagRepository.findById(1L)).willReturn(Optional.of(ClassTag.builder().tagId(1L).name("tag입니다.").oneDayClass(oneDayClass).build()));
-        given(oneDayClassDocumentRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClassDocument));
 
         // Execute the service method
         boolean response = oneDayClassService.deleteTag(tutor.getEmail(), 1L, 1L);
 
         // Then
         assertThat(response).isEqualTo(true);
+        verify(oneDayClassIndexingService).markChanged(1L);
     }
 
     @Test
@@ -493,6 +529,43 @@ class OneDayClassServiceTest {
 
     }
 
+    @Test
+    void searchByCursor() {
+        // Given
+        List<SearchHit<OneDayClassDocument>> list = new ArrayList<>();
+        for (long classId = 1; classId <= 20; classId++) {
+            OneDayClassDocument document = OneDayClassDocument.builder().classId(classId).totalWish(3).className("클래스 이름" + classId).location(new GeoPoint(37.5, 127.0)).endDate(LocalDate.now().plusDays(1)).build();
+            list.add(new SearchHit<>("1", String.valueOf(classId), null, 0, new Object[]{3, String.valueOf(classId)}, null, null, null, null, null, document));
+        }
+        SearchHits<OneDayClassDocument> hits = new SearchHitsImpl<>(25, null, 1, null, null, list, null, null);
+
+        given(operations.search(any(NativeSearchQuery.class), eq(OneDayClassDocument.class))).willReturn(hits);
+
+        // When
+        ClassSearchCursorDto firstPage = oneDayClassService.searchClassByCursor(null, null, null, 0.0, 0.0, null, OrderType.WISH, "");
+        ClassSearchCursorDto secondPage = oneDayClassService.searchClassByCursor(null, null, null, 0.0, 0.0, null, OrderType.WISH, firstPage.getNextCursor());
+
+        // Then
+        assertThat(firstPage.getContent()).hasSize(20);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextCursor()).isNotBlank();
+        assertThat(secondPage.getTotalElements()).isEqualTo(25);
+
+        ArgumentCaptor<NativeSearchQuery> queryCaptor = ArgumentCaptor.forClass(NativeSearchQuery.class);
+        verify(operations, times(2)).search(queryCaptor.capture(), eq(OneDayClassDocument.class));
+        assertThat(queryCaptor.getAllValues().get(0).getSearchAfter()).isNull();
+        assertThat(queryCaptor.getAllValues().get(1).getSearchAfter()).containsExactly(3, "20");
+        assertThat(queryCaptor.getAllValues().get(1).getPageable().getOffset()).isZero();
+    }
+
+    @Test
+    void searchByCursor_invalid_cursor() {
+        // When & Then
+        RestApiException exception = assertThrows(RestApiException.class, () ->
+                oneDayClassService.searchClassByCursor(null, null, null, 0.0, 0.0, null, OrderType.WISH, "잘못된 커서"));
+        assertEquals(ErrorCode.INVALID_SEARCH_CURSOR, exception.getErrorCode());
+    }
+
     @Test
     void autoCompleteSearch() throws IOException {
         org.opensearch.search.SearchHit hit1 = new org.opensearch.search.SearchHit(1);
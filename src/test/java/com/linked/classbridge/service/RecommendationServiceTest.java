@@ -1,13 +1,15 @@
 package com.linked.classbridge.service;
 
+import com.linked.classbridge.config.ClassLeaderboardProperties;
 import com.linked.classbridge.domain.Category;
 import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.dto.oneDayClass.ClassDto;
-import com.linked.classbridge.dto.oneDayClass.OneDayClassProjection;
-import com.linked.classbridge.repository.ClassImageRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
 import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.recommendation.RecommendationSegmentCache;
 import com.linked.classbridge.type.CategoryType;
 import com.linked.classbridge.type.Gender;
 import java.util.List;
@@ -17,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
@@ -24,7 +27,11 @@ import java.util.Collections;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,7 +47,16 @@ public class RecommendationServiceTest {
     private OneDayClassRepository oneDayClassRepository;
 
     @Mock
-    private ClassImageRepository classImageRepository;
+    private RecommendationSegmentCache recommendationSegmentCache;
+
+    @Mock
+    private ClassDtoHydrator classDtoHydrator;
+
+    @Mock
+    private ClassLeaderboard classLeaderboard;
+
+    @Spy
+    private ClassLeaderboardProperties leaderboardProperties = new ClassLeaderboardProperties();
 
 
     @Test
@@ -65,41 +81,53 @@ public class RecommendationServiceTest {
         oneDayClass.setFemaleCount(5L);
         oneDayClass.setCategory(category);
 
-        OneDayClassProjection oneDayClassProjection = new OneDayClassProjection() {
-            @Override
-            public Long getClassId() {
-                return 1L;
-            }
-
-            @Override
-            public Double getAverageAge() {
-                return 20.0;
-            }
-
-            @Override
-            public Long getMaleCount() {
-                return 10L;
-            }
-
-            @Override
-            public Long getFemaleCount() {
-                return 5L;
-            }
-
-            @Override
-            public Category getCategory() {
-                return category;
-            }
-        };
+        OneDayClass topClass = new OneDayClass();
+        topClass.setClassId(2L);
+        topClass.setTotalStarRate(4.8);
+        topClass.setTotalReviews(5);
+        topClass.setTotalWish(30);
+        topClass.setCategory(category);
 
         given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(user));
-        given(oneDayClassRepository.findAllWithSelectedColumns()).willReturn(Arrays.asList(oneDayClassProjection));
-        given(oneDayClassRepository.findAllByClassIdIn(Arrays.asList(1L), PageRequest.of(0, 5)))
-                .willReturn(new PageImpl<>(Arrays.asList(oneDayClass)));
+        given(recommendationSegmentCache.topClassIds(anyInt(), eq(Gender.MALE), any())).willReturn(List.of(2L, 1L));
+        given(oneDayClassRepository.findAllByClassIdIn(Arrays.asList(2L, 1L), PageRequest.of(0, 2)))
+                .willReturn(new PageImpl<>(Arrays.asList(oneDayClass, topClass)));
+        given(classDtoHydrator.hydrate(any(), eq(user.getUserId())))
+                .willAnswer(invocation -> invocation.getArgument(0));
 
         List<ClassDto> result = recommendationService.recommendClassesForUser("test@test.com");
 
+        // DB 조회 순서가 아니라 추천 순위 순서
+        assertEquals(2, result.size());
+        assertEquals(topClass.getClassId(), result.get(0).getClassId());
+        assertEquals(oneDayClass.getClassId(), result.get(1).getClassId());
+    }
+
+    @Test
+    public void getTopClassesDropsDeletedClassesFromLeaderboard() {
+
+        Category category = new Category();
+        category.setName(CategoryType.COOKING);
+
+        OneDayClass oneDayClass = new OneDayClass();
+        oneDayClass.setClassId(2L);
+        oneDayClass.setTotalStarRate(4.5);
+        oneDayClass.setTotalReviews(10);
+        oneDayClass.setTotalWish(20);
+        oneDayClass.setCategory(category);
+
+        // 클래스 1 은 순위표에 반영되기 전에 삭제됨
+        given(classLeaderboard.topClassIds(5)).willReturn(List.of(1L, 2L), List.of(2L));
+        given(oneDayClassRepository.findAllByClassIdIn(Arrays.asList(1L, 2L), PageRequest.of(0, 2)))
+                .willReturn(new PageImpl<>(Arrays.asList(oneDayClass)));
+        given(oneDayClassRepository.findAllByClassIdIn(Arrays.asList(2L), PageRequest.of(0, 1)))
+                .willReturn(new PageImpl<>(Arrays.asList(oneDayClass)));
+        given(classDtoHydrator.hydrate(any(), eq(null))).willAnswer(invocation -> invocation.getArgument(0));
+
+        List<ClassDto> result = recommendationService.getTopClasses();
+
         assertEquals(1, result.size());
-        assertEquals(oneDayClassProjection.getClassId(), result.get(0).getClassId());
+        assertEquals(oneDayClass.getClassId(), result.get(0).getClassId());
+        verify(classLeaderboard).remove(1L);
     }
 }
@@ -22,6 +22,7 @@ import com.linked.classbridge.dto.reservation.GetReservationResponse;
 import com.linked.classbridge.dto.reservation.RegisterReservationDto;
 import com.linked.classbridge.repository.AttendanceRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.service.recommendation.ClassFeatureStore;
 import com.linked.classbridge.type.Gender;
 import com.linked.classbridge.type.ReservationStatus;
 import com.linked.classbridge.exception.RestApiException;
@@ -64,6 +65,9 @@ public class ReservationServiceTest {
     @Mock
     private OneDayClassRepository oneDayClassRepository;
 
+    @Mock
+    private ClassFeatureStore classFeatureStore;
+
     private RegisterReservationDto.Request request;
     private Lesson lesson;
     private User user;
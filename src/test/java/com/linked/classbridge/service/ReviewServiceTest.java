@@ -23,7 +23,6 @@ import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.Review;
 import com.linked.classbridge.domain.ReviewImage;
 import com.linked.classbridge.domain.User;
-import com.linked.classbridge.domain.document.OneDayClassDocument;
 import com.linked.classbridge.dto.review.DeleteReviewResponse;
 import com.linked.classbridge.dto.review.GetReviewResponse;
 import com.linked.classbridge.dto.review.RegisterReviewDto;
@@ -31,10 +30,11 @@ import com.linked.classbridge.dto.review.RegisterReviewDto.Request;
 import com.linked.classbridge.dto.review.UpdateReviewDto;
 import com.linked.classbridge.dto.review.UpdateReviewImageDto;
 import com.linked.classbridge.exception.RestApiException;
-import com.linked.classbridge.repository.OneDayClassDocumentRepository;
 import com.linked.classbridge.repository.ReviewImageRepository;
 import com.linked.classbridge.repository.ReviewRepository;
 import com.linked.classbridge.repository.UserRepository;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.search.OneDayClassIndexingService;
 import com.linked.classbridge.type.ErrorCode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,7 +53,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,9 +72,9 @@ class ReviewServiceTest {
     @InjectMocks
     private ReviewService reviewService;
     @Mock
-    private OneDayClassDocumentRepository oneDayClassDocumentRepository;
+    private OneDayClassIndexingService oneDayClassIndexingService;
     @Mock
-    private ElasticsearchOperations operations;
+    private ClassLeaderboard classLeaderboard;
     private User mockUser1;
     private User mockUser2;
     private User tutor;
@@ -303,7 +302,6 @@ class ReviewServiceTest {
                 mockOneDayClass1, request);
         Review savedReview = mockReview1;
 
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).build();
 
         given(reviewRepository.findByLessonAndUser(mockLesson1, mockUser1))
                 .willReturn(Optional.empty());
@@ -311,8 +309,6 @@ class ReviewServiceTest {
         given(s3Service.uploadReviewImage(image1)).willReturn(url1);
         given(reviewRepository.save(reviewToSave)).willReturn(savedReview);
 
-        given(oneDayClassDocumentRepository.findById(mockOneDayClass1.getClassId())).willReturn(
-                Optional.of(oneDayClassDocument));
 
         // when
         RegisterReviewDto.Response response = reviewService.registerReview(mockUser1, request, images);
@@ -323,6 +319,7 @@ class ReviewServiceTest {
 
         verify(reviewRepository, times(1)).save(reviewToSave);
         verify(s3Service, times(1)).uploadReviewImage(image1);
+        verify(oneDayClassIndexingService, times(1)).markCountersChanged(mockOneDayClass1.getClassId());
 
         ArgumentCaptor<ReviewImage> reviewImageCaptor = ArgumentCaptor.forClass(ReviewImage.class);
         verify(reviewImageRepository, times(1)).save(reviewImageCaptor.capture());
@@ -400,12 +397,9 @@ class ReviewServiceTest {
         Long reviewId = 1L;
 
         UpdateReviewDto.Request request = createUpdateReviewDtoRequest();
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).build();
         Review savedReview = mockReview1;
 
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(savedReview));
-        given(oneDayClassDocumentRepository.findById(mockOneDayClass1.getClassId())).willReturn(
-                Optional.of(oneDayClassDocument));
 
         // when
         UpdateReviewDto.Response response = reviewService.updateReview(mockUser1, request,
@@ -495,13 +489,10 @@ class ReviewServiceTest {
         Long reviewId = 1L;
 
         Review savedReview = mockReview1;
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).build();
 
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(savedReview));
         given(reviewImageRepository.findByReviewOrderBySequenceAsc(savedReview))
                 .willReturn(savedReview.getReviewImageList());
-        given(oneDayClassDocumentRepository.findById(mockOneDayClass1.getClassId())).willReturn(
-                Optional.of(oneDayClassDocument));
         // when
         DeleteReviewResponse response = reviewService.deleteReview(mockUser1, reviewId);
 
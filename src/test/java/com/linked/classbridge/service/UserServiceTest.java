@@ -8,25 +8,28 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import com.linked.classbridge.domain.Category;
 import com.linked.classbridge.domain.ClassImage;
 import com.linked.classbridge.domain.OneDayClass;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.Wish;
-import com.linked.classbridge.domain.document.OneDayClassDocument;
 import com.linked.classbridge.dto.user.WishDto;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.repository.CategoryRepository;
-import com.linked.classbridge.repository.ClassImageRepository;
-import com.linked.classbridge.repository.OneDayClassDocumentRepository;
 import com.linked.classbridge.repository.OneDayClassRepository;
 import com.linked.classbridge.repository.UserRepository;
 import com.linked.classbridge.repository.WishRepository;
+import com.linked.classbridge.service.hydration.ClassDtoHydrator;
+import com.linked.classbridge.service.recommendation.ClassLeaderboard;
+import com.linked.classbridge.service.search.OneDayClassIndexingService;
+import com.linked.classbridge.service.wish.UserWishCache;
 import com.linked.classbridge.type.CategoryType;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -36,7 +39,6 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.TestPropertySource;
@@ -69,13 +71,17 @@ class UserServiceTest {
     private WishRepository wishRepository;
 
     @Mock
-    private ClassImageRepository classImageRepository;
+    private ClassDtoHydrator classDtoHydrator;
 
     @Mock
-    private OneDayClassDocumentRepository oneDayClassDocumentRepository;
+    private OneDayClassIndexingService oneDayClassIndexingService;
 
     @Mock
-    private ElasticsearchOperations operations;
+    private UserWishCache userWishCache;
+
+    @Mock
+    private ClassLeaderboard classLeaderboard;
+
 
     @Test
     @WithMockUser
@@ -157,7 +163,8 @@ class UserServiceTest {
         given(userService.findByEmail(user.getEmail())).willReturn(Optional.of(user));
         given(wishRepository.findByUserUserId(user.getUserId())).willReturn(wishList);
         given(oneDayClassRepository.findAllByClassIdIn(wishList.stream().map(wish -> wish.getOneDayClass().getClassId()).toList(), pageable)).willReturn(classPage);
-        given(classImageRepository.findAllByOneDayClassClassIdInAndSequence(classList.stream().map(OneDayClass::getClassId).toList(), 1)).willReturn(imageList);
+        given(classDtoHydrator.firstImageUrls(classList.stream().map(OneDayClass::getClassId).toList()))
+                .willReturn(imageList.stream().collect(Collectors.toMap(image -> image.getOneDayClass().getClassId(), ClassImage::getUrl)));
 
         // when
         Page<WishDto> response = userService.getWishList(user.getEmail(), pageable);
@@ -190,16 +197,15 @@ class UserServiceTest {
                 .category(category)
                 .tutor(tutor).build();
 
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).totalWish(0).build();
 
         given(userRepository.findByEmail(user.getEmail())).willReturn(Optional.of(user));
         given(oneDayClassRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClass));
         given(wishRepository.existsByUserUserIdAndOneDayClassClassId(user.getUserId(), oneDayClass.getClassId())).willReturn(false);
-        given(oneDayClassDocumentRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClassDocument));
 
         boolean response = userService.addWish(user.getEmail(), oneDayClass.getClassId());
 
         assertTrue(response);
+        verify(oneDayClassIndexingService).markCountersChanged(oneDayClass.getClassId());
     }
 
     @Test
@@ -289,12 +295,10 @@ class UserServiceTest {
                 .tutor(tutor).build();
 
         Wish wish = Wish.builder().user(user).oneDayClass(oneDayClass).id(1L).build();
-        OneDayClassDocument oneDayClassDocument = OneDayClassDocument.builder().classId(1L).totalWish(0).build();
 
         given(userRepository.findByEmail(user.getEmail())).willReturn(Optional.of(user));
         given(oneDayClassRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClass));
         given(wishRepository.findById(wish.getId())).willReturn(Optional.of(wish));
-        given(oneDayClassDocumentRepository.findById(oneDayClass.getClassId())).willReturn(Optional.of(oneDayClassDocument));
 
         // when
         boolean response = userService.deleteWish(user.getEmail(), wish.getId());
@@ -0,0 +1,173 @@
+package com.linked.classbridge.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.domain.ChatRoom;
+import com.linked.classbridge.domain.User;
+import com.linked.classbridge.domain.UserChatRoom;
+import com.linked.classbridge.dto.chat.ChatRoomUnreadCountInfoDto;
+import com.linked.classbridge.service.chat.presence.ChatPresenceRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageBatchWriterTest {
+    @InjectMocks
+    private ChatMessageBatchWriter chatMessageBatchWriter;
+    @Mock
+    private ChatMessageService chatMessageService;
+    @Mock
+    private ChatRoomService chatRoomService;
+    @Mock
+    private UserChatRoomService userChatRoomService;
+    @Mock
+    private MessageSendingService messageSendingService;
+    @Mock
+    private ChatPresenceRegistry chatPresenceRegistry;
+    private User user;
+    private User tutor;
+    private ChatRoom chatRoom;
+    private UserChatRoom userChatRoom;
+    private UserChatRoom tutorChatRoom;
+    private ChatMessage chatMessage1;
+    private ChatMessage chatMessage2;
+    private ChatMessage chatMessage3;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().userId(1L).email("user@mail.com").build();
+        tutor = User.builder().userId(2L).email("tutor@mail.com").build();
+        chatRoom = ChatRoom.builder().chatRoomId(1L).initiatedBy(user).initiatedTo(tutor).build();
+        userChatRoom = UserChatRoom.builder().user(user).chatRoom(chatRoom).unreadMessageCount(0).build();
+        tutorChatRoom = UserChatRoom.builder().user(tutor).chatRoom(chatRoom).unreadMessageCount(1).build();
+        chatMessage1 = chatMessage("665f1c2e9b1e8a3d4c5b6a71", user, "Hello", 0);
+        chatMessage2 = chatMessage("665f1c2e9b1e8a3d4c5b6a72", user, "Are you there?", 1);
+        chatMessage3 = chatMessage("665f1c2e9b1e8a3d4c5b6a73", tutor, "Hi", 2);
+    }
+
+    @Test
+    void updateChatRoomsOncePerChatRoom() {
+        // given
+        when(userChatRoomService.findAllUserChatRoomsByChatRoomIncludingDeleted(chatRoom.getChatRoomId()))
+                .thenReturn(List.of(userChatRoom, tutorChatRoom));
+
+        // when
+        chatMessageBatchWriter.updateChatRooms(List.of(chatMessage1, chatMessage2, chatMessage3));
+
+        // then
+        verify(chatRoomService, times(1)).updateLastMessage(chatRoom.getChatRoomId(), chatMessage3.getMessage(),
+                chatMessage3.getSendTime());
+        verify(userChatRoomService, times(1)).increaseUnreadMessageCount(userChatRoom, 1);
+        verify(userChatRoomService, times(1)).increaseUnreadMessageCount(tutorChatRoom, 2);
+
+        ArgumentCaptor<Long> receiverCaptor = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<ChatRoomUnreadCountInfoDto> unreadCountInfoCaptor =
+                ArgumentCaptor.forClass(ChatRoomUnreadCountInfoDto.class);
+        verify(messageSendingService, times(2)).sendUnreadCountInfo(receiverCaptor.capture(),
+                unreadCountInfoCaptor.capture());
+        assertEquals(List.of(user.getUserId(), tutor.getUserId()), receiverCaptor.getAllValues());
+        assertEquals(1, unreadCountInfoCaptor.getAllValues().get(0).getUnreadMessageCount());
+        assertEquals(3, unreadCountInfoCaptor.getAllValues().get(1).getUnreadMessageCount());
+        assertEquals(chatMessage3.getMessage(), unreadCountInfoCaptor.getAllValues().get(1).getLatestMessage());
+    }
+
+    @Test
+    public void testHandleUserChatRoomWhenDeleted() {
+        // given
+        tutorChatRoom.setDeletedAt(LocalDateTime.now());
+
+        // when
+        chatMessageBatchWriter.handleUserChatRoom(tutorChatRoom, chatRoom.getChatRoomId(), List.of(chatMessage1));
+
+        // then
+        ArgumentCaptor<ChatRoomUnreadCountInfoDto> unreadCountInfoCaptor =
+                ArgumentCaptor.forClass(ChatRoomUnreadCountInfoDto.class);
+        verify(messageSendingService, times(1)).sendUnreadCountInfo(eq(tutor.getUserId()),
+                unreadCountInfoCaptor.capture());
+        assertNull(tutorChatRoom.getDeletedAt());
+        assertEquals(2, unreadCountInfoCaptor.getValue().getUnreadMessageCount());
+        assertEquals(chatMessage1.getMessage(), unreadCountInfoCaptor.getValue().getLatestMessage());
+        verify(userChatRoomService, times(1)).increaseUnreadMessageCount(tutorChatRoom, 1);
+    }
+
+    @Test
+    public void testCalculateUnreadMessageCountOnline() {
+        // given
+        when(chatPresenceRegistry.isOnline(tutor.getUserId(), chatRoom.getChatRoomId())).thenReturn(true);
+
+        // when
+        int unreadCount = chatMessageBatchWriter.calculateUnreadMessageCount(tutorChatRoom, chatRoom.getChatRoomId(),
+                tutor.getUserId(), 2);
+
+        // then
+        assertEquals(0, unreadCount);
+        verify(userChatRoomService, never()).increaseUnreadMessageCount(any(), anyInt());
+    }
+
+    @Test
+    public void testCalculateUnreadMessageCountNothingReceived() {
+        // when
+        int unreadCount = chatMessageBatchWriter.calculateUnreadMessageCount(userChatRoom, chatRoom.getChatRoomId(),
+                user.getUserId(), 0);
+
+        // then
+        assertEquals(0, unreadCount);
+        verify(chatPresenceRegistry, never()).isOnline(any(), any());
+    }
+
+    @Test
+    public void testCalculateUnreadMessageCountOffline() {
+        // when
+        int unreadCount = chatMessageBatchWriter.calculateUnreadMessageCount(tutorChatRoom, chatRoom.getChatRoomId(),
+                tutor.getUserId(), 2);
+
+        // then
+        assertEquals(3, unreadCount);
+        verify(userChatRoomService, times(1)).increaseUnreadMessageCount(tutorChatRoom, 2);
+        verify(chatMessageService, never()).countMessagesUserNotRead(any(), any());
+    }
+
+    @Test
+    public void testCalculateUnreadMessageCountOfflineWithoutCounter() {
+        // given
+        tutorChatRoom = UserChatRoom.builder().user(tutor).chatRoom(chatRoom).unreadMessageCount(null).build();
+        when(chatMessageService.countMessagesUserNotRead(chatRoom.getChatRoomId(), tutor.getUserId()))
+                .thenReturn(4);
+
+        // when
+        int unreadCount = chatMessageBatchWriter.calculateUnreadMessageCount(tutorChatRoom, chatRoom.getChatRoomId(),
+                tutor.getUserId(), 2);
+
+        // then
+        assertEquals(4, unreadCount);
+        verify(userChatRoomService, times(1)).updateUnreadMessageCount(tutorChatRoom, 4);
+        verify(userChatRoomService, never()).increaseUnreadMessageCount(any(), anyInt());
+    }
+
+    private ChatMessage chatMessage(String id, User sender, String message, int minute) {
+        return ChatMessage.builder()
+                .id(id)
+                .senderId(sender.getUserId())
+                .chatRoomId(chatRoom.getChatRoomId())
+                .message(message)
+                .sendTime(LocalDateTime.of(2024, 1, 1, 0, minute))
+                .isRead(false)
+                .build();
+    }
+}
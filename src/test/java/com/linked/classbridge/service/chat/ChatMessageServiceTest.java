@@ -2,23 +2,30 @@ package com.linked.classbridge.service.chat;
 
 import static com.linked.classbridge.type.ErrorCode.CHAT_MESSAGE_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.linked.classbridge.domain.ChatMessage;
+import com.linked.classbridge.dto.chat.ChatRoomMessageSummary;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.repository.ChatMessageRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 
 @ExtendWith(MockitoExtension.class)
 class ChatMessageServiceTest {
@@ -51,44 +58,76 @@ class ChatMessageServiceTest {
     }
 
     @Test
-    void saveMessage() {
+    void saveMessages() {
+        // when
+        chatService.saveMessages(List.of(chatMessage, chatMessage2));
+
+        // then
+        verify(chatMessageRepository, times(1)).insert(List.of(chatMessage, chatMessage2));
+        verify(chatMessageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void saveMessagesAlreadyPartlySaved() {
         // given
-        when(chatMessageRepository.save(chatMessage)).thenReturn(chatMessage);
+        when(chatMessageRepository.insert(List.of(chatMessage, chatMessage2)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
 
         // when
-        ChatMessage savedChatMessage = chatService.saveMessage(chatMessage);
+        chatService.saveMessages(List.of(chatMessage, chatMessage2));
 
         // then
-        verify(chatMessageRepository, times(1)).save(chatMessage);
-        assertEquals(chatMessage.getMessage(), savedChatMessage.getMessage());
+        verify(chatMessageRepository, times(1)).saveAll(List.of(chatMessage, chatMessage2));
     }
 
     @Test
     void findLatestChatMessagesByChatRoom() {
         // given
-        when(chatMessageRepository.findByChatRoomIdOrderBySendTimeAsc(chatRoomId)).thenReturn(List.of(chatMessage));
+        when(chatMessageRepository.findByChatRoomIdOrderBySendTimeDescIdDesc(chatRoomId, PageRequest.of(0, 20)))
+                .thenReturn(List.of(chatMessage));
 
         // when
-        List<ChatMessage> result = chatService.findLatestChatMessagesByChatRoom(chatRoomId);
+        List<ChatMessage> result = chatService.findLatestChatMessagesByChatRoom(chatRoomId, 20);
 
         // then
-        verify(chatMessageRepository, times(1)).findByChatRoomIdOrderBySendTimeAsc(chatRoomId);
+        verify(chatMessageRepository, times(1)).findByChatRoomIdOrderBySendTimeDescIdDesc(chatRoomId,
+                PageRequest.of(0, 20));
         assertEquals(1, result.size());
     }
 
     @Test
-    void findUnreadMessages() {
+    void findChatMessagesBefore() {
         // given
-        when(chatMessageRepository.findByChatRoomIdAndSenderIdNotAndIsReadFalse(chatRoomId, userId))
-                .thenReturn(List.of(chatMessage));
+        String messageId = "665f1c2e9b1e8a3d4c5b6a79";
+        LocalDateTime sendTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        ChatMessageCursor cursor = new ChatMessageCursor(sendTime, messageId);
+        when(chatMessageRepository.findByChatRoomIdBefore(chatRoomId, sendTime, new ObjectId(messageId),
+                PageRequest.of(0, 20))).thenReturn(List.of(chatMessage2));
 
         // when
-        List<ChatMessage> result = chatService.findMessagesUserNotRead(chatRoomId, userId);
+        List<ChatMessage> result = chatService.findChatMessagesBefore(chatRoomId, cursor, 20);
 
         // then
-        verify(chatMessageRepository, times(1))
-                .findByChatRoomIdAndSenderIdNotAndIsReadFalse(chatRoomId, userId);
-        assertEquals(1, result.size());
+        assertEquals(List.of(chatMessage2), result);
+    }
+
+    @Test
+    void countMessagesUserNotReadAfter() {
+        // given
+        ChatMessage lastReadMessage = ChatMessage.builder()
+                .id("665f1c2e9b1e8a3d4c5b6a79")
+                .chatRoomId(chatRoomId)
+                .senderId(2L)
+                .sendTime(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+        when(chatMessageRepository.countByChatRoomIdAfter(chatRoomId, userId, lastReadMessage.getSendTime(),
+                new ObjectId(lastReadMessage.getId()))).thenReturn(3L);
+
+        // when
+        int result = chatService.countMessagesUserNotReadAfter(chatRoomId, userId, lastReadMessage);
+
+        // then
+        assertEquals(3, result);
     }
 
     @Test
@@ -119,40 +158,40 @@ class ChatMessageServiceTest {
     }
 
     @Test
-    void findAllMessageByChatRoomIdOrderBySendTimeDesc() {
+    void summarizeChatRooms() {
         // given
-        when(chatMessageRepository.findByChatRoomIdOrderBySendTimeDesc(chatRoomId)).thenReturn(List.of(chatMessage));
-
-        // when
-        ChatMessage result = chatService.findAllMessageByChatRoomIdOrderBySendTimeDesc(chatRoomId);
-
-        // then
-        verify(chatMessageRepository, times(1)).findByChatRoomIdOrderBySendTimeDesc(chatRoomId);
-        assertEquals(chatMessage.getId(), result.getId());
-    }
+        ChatRoomMessageSummary summary = ChatRoomMessageSummary.builder()
+                .chatRoomId(chatRoomId)
+                .latestMessage("Hi")
+                .unreadMessageCount(1)
+                .build();
+        when(chatMessageRepository.summarizeByChatRoomIdIn(List.of(chatRoomId, 2L), userId))
+                .thenReturn(List.of(summary));
 
-    @Test
-    void markAsReadAndSave() {
         // when
-        chatService.markAsReadAndSave(chatMessage);
+        Map<Long, ChatRoomMessageSummary> result = chatService.summarizeChatRooms(List.of(chatRoomId, 2L), userId);
 
         // then
-        assertTrue(chatMessage.isRead());
-        verify(chatMessageRepository, times(1)).save(chatMessage);
+        assertEquals(1, result.size());
+        assertEquals(summary, result.get(chatRoomId));
+        assertTrue(chatService.summarizeChatRooms(List.of(), userId).isEmpty());
     }
 
     @Test
-    void markSentByOtherChatMessagesAsRead() {
+    void markAsReadUpTo() {
         // given
-        List<ChatMessage> chatMessages = List.of(chatMessage, chatMessage2);
+        ChatMessage lastReadMessage = ChatMessage.builder()
+                .id("665f1c2e9b1e8a3d4c5b6a79")
+                .chatRoomId(chatRoomId)
+                .senderId(2L)
+                .sendTime(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
 
         // when
-        List<ChatMessage> result = chatService.markSentByOtherChatMessagesAsRead(chatMessages, userId);
+        chatService.markAsReadUpTo(chatRoomId, userId, lastReadMessage);
 
         // then
-        assertFalse(chatMessage.isRead());
-        assertTrue(chatMessage2.isRead());
-        verify(chatMessageRepository, times(1)).save(chatMessage2);
-        assertEquals(1, result.size());
+        verify(chatMessageRepository, times(1)).markAsReadUpTo(chatRoomId, userId, lastReadMessage.getSendTime(),
+                new ObjectId(lastReadMessage.getId()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,210 @@
+package com.linked.classbridge.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linked.classbridge.config.ChatWriteBehindProperties;
+import com.linked.classbridge.domain.ChatMessage;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBehindTest {
+    @Mock
+    private ChatMessageBatchWriter chatMessageBatchWriter;
+    private ChatWriteBehindProperties chatWriteBehindProperties;
+    private ChatMessageWriteBehind chatMessageWriteBehind;
+    private final List<String> savedMessageIds = new CopyOnWriteArrayList<>();
+    private final List<String> updatedMessageIds = new CopyOnWriteArrayList<>();
+    private final CountDownLatch saveReleased = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        chatWriteBehindProperties = new ChatWriteBehindProperties();
+        chatWriteBehindProperties.setWorkers(2);
+        chatWriteBehindProperties.setQueueCapacity(1);
+        chatWriteBehindProperties.setBatchSize(10);
+        chatMessageWriteBehind = new ChatMessageWriteBehind(chatMessageBatchWriter, chatWriteBehindProperties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        saveReleased.countDown();
+        chatMessageWriteBehind.stop();
+    }
+
+    @Test
+    void writeSynchronouslyWhenDisabled() {
+        // given
+        chatWriteBehindProperties.setEnabled(false);
+        chatMessageWriteBehind.start();
+        ChatMessage chatMessage = chatMessage("665f1c2e9b1e8a3d4c5b6a71", 1L);
+
+        // when
+        chatMessageWriteBehind.write(chatMessage);
+
+        // then
+        verify(chatMessageBatchWriter).saveMessages(List.of(chatMessage));
+        verify(chatMessageBatchWriter).updateChatRooms(List.of(chatMessage));
+        assertTrue(chatMessageWriteBehind.findPendingMessage(chatMessage.getId()).isEmpty());
+    }
+
+    @Test
+    void saveInOrderAndBlockWhenQueueIsFull() throws InterruptedException {
+        // given
+        blockSaveUntilReleased();
+        chatMessageWriteBehind.start();
+        ChatMessage first = chatMessage("665f1c2e9b1e8a3d4c5b6a71", 1L);
+        ChatMessage second = chatMessage("665f1c2e9b1e8a3d4c5b6a72", 1L);
+        ChatMessage third = chatMessage("665f1c2e9b1e8a3d4c5b6a73", 1L);
+
+        // when
+        chatMessageWriteBehind.write(first);
+        verify(chatMessageBatchWriter, timeout(1000)).saveMessages(List.of(first));
+        chatMessageWriteBehind.write(second);
+
+        // 저장 스레드가 첫 메시지를 저장하는 중이고 대기열(1개)이 찼으므로 세 번째 전송은 기다림
+        CountDownLatch thirdWritten = new CountDownLatch(1);
+        Thread sender = new Thread(() -> {
+            chatMessageWriteBehind.write(third);
+            thirdWritten.countDown();
+        });
+        sender.start();
+
+        // then
+        assertFalse(thirdWritten.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(second, chatMessageWriteBehind.findPendingMessage(second.getId()).orElseThrow());
+
+        saveReleased.countDown();
+        assertTrue(thirdWritten.await(1, TimeUnit.SECONDS));
+        // 대기 중이던 메시지들은 한 배치로 묶일 수 있으므로 호출 횟수 대신 반영된 메시지로 확인
+        awaitUpdatedMessages(3);
+        assertEquals(List.of(first.getId(), second.getId(), third.getId()), savedMessageIds);
+        assertEquals(savedMessageIds, updatedMessageIds);
+        assertTrue(chatMessageWriteBehind.findPendingMessage(third.getId()).isEmpty());
+    }
+
+    @Test
+    void markPendingMessageAsReadAgainAfterSave() {
+        // given
+        blockSaveUntilReleased();
+        chatMessageWriteBehind.start();
+        ChatMessage chatMessage = chatMessage("665f1c2e9b1e8a3d4c5b6a71", 1L);
+        chatMessageWriteBehind.write(chatMessage);
+        verify(chatMessageBatchWriter, timeout(1000)).saveMessages(List.of(chatMessage));
+
+        // when
+        chatMessageWriteBehind.markAsReadUpTo(1L, 2L, chatMessage);
+
+        // then
+        // 저장 전이라 이번 표시는 메시지에 닿지 않으므로 저장을 마친 뒤 한 번 더 표시
+        verify(chatMessageBatchWriter, times(1)).markAsReadUpTo(1L, 2L, chatMessage);
+        saveReleased.countDown();
+        verify(chatMessageBatchWriter, timeout(1000).times(2)).markAsReadUpTo(1L, 2L, chatMessage);
+        assertEquals(List.of(chatMessage.getId()), savedMessageIds);
+    }
+
+    @Test
+    void markSavedMessageAsReadOnce() {
+        // given
+        chatMessageWriteBehind.start();
+        ChatMessage chatMessage = chatMessage("665f1c2e9b1e8a3d4c5b6a71", 1L);
+
+        // when
+        chatMessageWriteBehind.markAsReadUpTo(1L, 2L, chatMessage);
+
+        // then
+        verify(chatMessageBatchWriter, times(1)).markAsReadUpTo(1L, 2L, chatMessage);
+        assertTrue(chatMessageWriteBehind.findPendingMessage(chatMessage.getId()).isEmpty());
+    }
+
+    @Test
+    void writeSynchronouslyAfterStop() throws InterruptedException {
+        // given
+        chatMessageWriteBehind.start();
+        chatMessageWriteBehind.stop();
+        ChatMessage chatMessage = chatMessage("665f1c2e9b1e8a3d4c5b6a71", 1L);
+
+        // when
+        chatMessageWriteBehind.write(chatMessage);
+
+        // then
+        verify(chatMessageBatchWriter).saveMessages(List.of(chatMessage));
+        verify(chatMessageBatchWriter).updateChatRooms(List.of(chatMessage));
+        assertTrue(chatMessageWriteBehind.findPendingMessage(chatMessage.getId()).isEmpty());
+    }
+
+    @Test
+    void saveQueuedMessagesWhenShutdownTimesOut() throws InterruptedException {
+        // given
+        chatWriteBehindProperties.setWorkers(1);
+        chatWriteBehindProperties.setShutdownTimeout(100);
+        ChatMessage first = chatMessage("665f1c2e9b1e8a3d4c5b6a71", 1L);
+        ChatMessage second = chatMessage("665f1c2e9b1e8a3d4c5b6a72", 1L);
+        // 저장 스레드는 첫 메시지 저장에서 멈춰 있음
+        doAnswer(invocation -> {
+            if (invocation.<List<ChatMessage>>getArgument(0).contains(first)) {
+                saveReleased.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(chatMessageBatchWriter).saveMessages(any());
+        chatMessageWriteBehind.start();
+        chatMessageWriteBehind.write(first);
+        verify(chatMessageBatchWriter, timeout(1000)).saveMessages(List.of(first));
+        chatMessageWriteBehind.write(second);
+
+        // when
+        chatMessageWriteBehind.stop();
+
+        // then
+        verify(chatMessageBatchWriter).saveMessages(List.of(second));
+        verify(chatMessageBatchWriter).updateChatRooms(List.of(second));
+        assertTrue(chatMessageWriteBehind.findPendingMessage(second.getId()).isEmpty());
+    }
+
+    private void blockSaveUntilReleased() {
+        doAnswer(invocation -> {
+            saveReleased.await(5, TimeUnit.SECONDS);
+            List<ChatMessage> chatMessages = invocation.getArgument(0);
+            chatMessages.forEach(chatMessage -> savedMessageIds.add(chatMessage.getId()));
+            return null;
+        }).when(chatMessageBatchWriter).saveMessages(any());
+        doAnswer(invocation -> {
+            List<ChatMessage> chatMessages = invocation.getArgument(0);
+            chatMessages.forEach(chatMessage -> updatedMessageIds.add(chatMessage.getId()));
+            return null;
+        }).when(chatMessageBatchWriter).updateChatRooms(any());
+    }
+
+    private void awaitUpdatedMessages(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (updatedMessageIds.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private ChatMessage chatMessage(String id, Long chatRoomId) {
+        return ChatMessage.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderId(1L)
+                .message("Hello")
+                .sendTime(LocalDateTime.now())
+                .build();
+    }
+}
@@ -3,38 +3,50 @@ package com.linked.classbridge.service.chat;
 import static com.linked.classbridge.type.ErrorCode.USER_NOT_IN_CHAT_ROOM;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.linked.classbridge.config.ChatHistoryProperties;
 import com.linked.classbridge.domain.ChatMessage;
 import com.linked.classbridge.domain.ChatRoom;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.UserChatRoom;
-import com.linked.classbridge.dto.chat.ChatRoomUnreadCountInfoDto;
+import com.linked.classbridge.dto.chat.ChatMessageCursorDto;
+import com.linked.classbridge.dto.chat.ChatMessageDto;
+import com.linked.classbridge.dto.chat.ChatRoomMessageSummary;
 import com.linked.classbridge.dto.chat.CreateChatRoom;
 import com.linked.classbridge.dto.chat.GetChatRoomsResponse;
 import com.linked.classbridge.dto.chat.JoinChatRoom;
 import com.linked.classbridge.dto.chat.ReadReceipt;
-import com.linked.classbridge.dto.chat.ReadReceiptList;
 import com.linked.classbridge.exception.RestApiException;
 import com.linked.classbridge.service.UserService;
+import com.linked.classbridge.service.chat.presence.ChatPresenceRegistry;
 import com.linked.classbridge.type.ErrorCode;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +63,12 @@ class ChatServiceTest {
     private UserChatRoomService userChatRoomService;
     @Mock
     private MessageSendingService messageSendingService;
+    @Spy
+    private ChatHistoryProperties chatHistoryProperties = new ChatHistoryProperties();
+    @Mock
+    private ChatPresenceRegistry chatPresenceRegistry;
+    @Mock
+    private ChatMessageWriteBehind chatMessageWriteBehind;
     private User user;
     private User tutor;
     private User otherUser;
@@ -107,12 +125,10 @@ class ChatServiceTest {
         userChatRoom1 = UserChatRoom.builder()
                 .user(user)
                 .chatRoom(chatRoom1)
-                .isOnline(true)
                 .build();
         userChatRoom2 = UserChatRoom.builder()
                 .user(tutor)
                 .chatRoom(chatRoom1)
-                .isOnline(true)
                 .build();
 
         chatRoom1.getUserChatRooms().add(userChatRoom1);
@@ -152,20 +168,13 @@ class ChatServiceTest {
         // given
         Long chatRoomId = 1L;
 
-        List<ChatMessage> chatMessages = new ArrayList<>(List.of(chatMessage1, chatMessage2));
-        List<ChatMessage> markedMessages = new ArrayList<>(List.of(chatMessage2));
-
-        ReadReceiptList receiptList = ReadReceiptList.builder()
-                .readReceipts(markedMessages.stream()
-                        .map(chatMessage -> new ReadReceipt(chatMessage.getId(), user.getUserId()))
-                        .toList())
-                .build();
-
         given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
-        given(chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId)).willReturn(chatMessages);
-        given(chatMessageService.markSentByOtherChatMessagesAsRead(chatMessages, user.getUserId()))
-                .willReturn(markedMessages);
-        doNothing().when(messageSendingService).sendReadReceipt(chatRoomId, receiptList);
+        given(chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId,
+                chatHistoryProperties.getPageSize() + 1)).willReturn(List.of(chatMessage2, chatMessage1));
+        given(chatMessageService.countMessagesUserNotReadAfter(chatRoomId, user.getUserId(), chatMessage2))
+                .willReturn(0);
+        given(userChatRoomService.updateReadWatermark(chatRoomId, user.getUserId(), chatMessage2, 0))
+                .willReturn(true);
 
         // when
         JoinChatRoom.Response response = chatService.enterChatRoomProcess(user, chatRoomId);
@@ -174,6 +183,120 @@ class ChatServiceTest {
         assertEquals(chatRoom1.getChatRoomId(), response.chatRoomId());
         assertEquals(user.getUserId(), response.senderId());
         assertEquals(chatRoom1.getInitiatedBy().getUserId(), response.initiatedBy());
+        assertEquals(List.of("1", "2"), response.messages().stream().map(ChatMessageDto::messageId).toList());
+        assertTrue(response.messages().get(1).isRead());
+        assertFalse(response.hasNext());
+        assertNull(response.nextCursor());
+        verify(chatMessageWriteBehind, times(1)).markAsReadUpTo(chatRoomId, user.getUserId(), chatMessage2);
+        verify(messageSendingService, times(1)).sendReadReceipt(chatRoomId,
+                ReadReceipt.of(user.getUserId(), chatMessage2));
+    }
+
+    @Test
+    void enterChatRoomProcessAlreadyRead() {
+        // given
+        Long chatRoomId = 1L;
+
+        given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
+        given(chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId,
+                chatHistoryProperties.getPageSize() + 1)).willReturn(List.of(chatMessage2, chatMessage1));
+        given(userChatRoomService.updateReadWatermark(chatRoomId, user.getUserId(), chatMessage2, 0))
+                .willReturn(false);
+
+        // when
+        chatService.enterChatRoomProcess(user, chatRoomId);
+
+        // then
+        verify(chatMessageWriteBehind, never()).markAsReadUpTo(any(), any(), any());
+        verify(messageSendingService, never()).sendReadReceipt(any(), any());
+    }
+
+    @Test
+    void getChatMessagesProcessFirstPage() {
+        // given
+        Long chatRoomId = chatRoom1.getChatRoomId();
+        given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
+        given(chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId,
+                chatHistoryProperties.getPageSize() + 1)).willReturn(List.of(chatMessage2, chatMessage1));
+
+        // when
+        ChatMessageCursorDto result = chatService.getChatMessagesProcess(user, chatRoomId, null, null);
+
+        // then
+        assertEquals(List.of("1", "2"), result.getMessages().stream().map(ChatMessageDto::messageId).toList());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    void getChatMessagesProcessUserNotInChatRoom() {
+        // given
+        Long chatRoomId = chatRoom1.getChatRoomId();
+        given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
+
+        // when
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> chatService.getChatMessagesProcess(otherUser, chatRoomId, null, null));
+
+        // then
+        assertEquals(USER_NOT_IN_CHAT_ROOM, exception.getErrorCode());
+        verify(chatMessageService, never()).findLatestChatMessagesByChatRoom(any(), anyInt());
+    }
+
+    @Test
+    void getChatMessagesProcessWithCursor() {
+        // given
+        Long chatRoomId = chatRoom1.getChatRoomId();
+        ChatMessageCursor cursor = new ChatMessageCursor(LocalDateTime.of(2024, 1, 1, 0, 5),
+                "665f1c2e9b1e8a3d4c5b6a79");
+        ChatMessage chatMessage0 = ChatMessage.builder()
+                .id("0")
+                .senderId(tutor.getUserId())
+                .chatRoomId(chatRoomId)
+                .message("Hey")
+                .sendTime(LocalDateTime.of(2023, 12, 31, 23, 59))
+                .build();
+
+        given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
+        given(chatMessageService.findChatMessagesBefore(chatRoomId, cursor, 3))
+                .willReturn(List.of(chatMessage2, chatMessage1, chatMessage0));
+
+        // when
+        ChatMessageCursorDto result = chatService.getChatMessagesProcess(user, chatRoomId, cursor.encode(), 2);
+
+        // then
+        assertEquals(List.of("1", "2"), result.getMessages().stream().map(ChatMessageDto::messageId).toList());
+        assertTrue(result.isHasNext());
+        assertEquals(ChatMessageCursor.from(chatMessage1).encode(), result.getNextCursor());
+    }
+
+    @Test
+    void getChatMessagesProcessLimitsPageSize() {
+        // given
+        Long chatRoomId = chatRoom1.getChatRoomId();
+        given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
+        given(chatMessageService.findLatestChatMessagesByChatRoom(chatRoomId,
+                chatHistoryProperties.getMaxPageSize() + 1)).willReturn(List.of());
+
+        // when
+        ChatMessageCursorDto result = chatService.getChatMessagesProcess(user, chatRoomId, null, 10_000);
+
+        // then
+        assertTrue(result.getMessages().isEmpty());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    void getChatMessagesProcessInvalidCursor() {
+        // given
+        Long chatRoomId = chatRoom1.getChatRoomId();
+        given(chatRoomService.findChatRoomById(chatRoomId)).willReturn(chatRoom1);
+
+        // when
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> chatService.getChatMessagesProcess(user, chatRoomId, "not-a-cursor", null));
+
+        // then
+        assertEquals(ErrorCode.INVALID_CHAT_MESSAGE_CURSOR, exception.getErrorCode());
     }
 
     @Test
@@ -195,19 +318,17 @@ class ChatServiceTest {
     @Test
     void getChatRoomListProcess() {
         // given
-        List<ChatRoom> chatRooms = new ArrayList<>(List.of(chatRoom1, chatRoom2));
-
-        given(chatRoomService.findAllChatRoomsByUser(user)).willReturn(chatRooms);
-
-        given(chatMessageService.findAllMessageByChatRoomIdOrderBySendTimeDesc(chatRoom1.getChatRoomId()))
-                .willReturn(chatMessage2);
-        given(chatMessageService.findMessagesUserNotRead(chatRoom1.getChatRoomId(), user.getUserId()))
-                .willReturn(List.of(chatMessage2));
+        chatRoom1.updateLastMessage(chatMessage2.getMessage(), chatMessage2.getSendTime());
+        chatRoom2.updateLastMessage(chatMessage3.getMessage(), chatMessage3.getSendTime());
+        UserChatRoom userChatRoomOfChatRoom2 = UserChatRoom.builder()
+                .user(user)
+                .chatRoom(chatRoom2)
+                .unreadMessageCount(3)
+                .build();
+        userChatRoom1.updateUnreadMessageCount(1);
 
-        given(chatMessageService.findAllMessageByChatRoomIdOrderBySendTimeDesc(chatRoom2.getChatRoomId()))
-                .willReturn(chatMessage3);
-        given(chatMessageService.findMessagesUserNotRead(chatRoom2.getChatRoomId(), user.getUserId()))
-                .willReturn(List.of(chatMessage3));
+        given(userChatRoomService.findAllUserChatRoomsByUser(user))
+                .willReturn(List.of(userChatRoom1, userChatRoomOfChatRoom2));
 
         // when
         GetChatRoomsResponse result = chatService.getChatRoomListProcess(user);
@@ -218,20 +339,61 @@ class ChatServiceTest {
         assertEquals(chatRoom1.getChatRoomId(), result.getChatRooms().get(0).getChatRoomId());
         assertEquals(tutor.getUserId(), result.getChatRooms().get(0).getChatPartnerId());
         assertEquals(chatMessage2.getMessage(), result.getChatRooms().get(0).getUnreadCountInfo().getLatestMessage());
+        assertEquals(1, result.getChatRooms().get(0).getUnreadCountInfo().getUnreadMessageCount());
         assertEquals(chatRoom2.getChatRoomId(), result.getChatRooms().get(1).getChatRoomId());
         assertEquals(otherUser.getUserId(), result.getChatRooms().get(1).getChatPartnerId());
         assertEquals(chatMessage3.getMessage(), result.getChatRooms().get(1).getUnreadCountInfo().getLatestMessage());
+        assertEquals(3, result.getChatRooms().get(1).getUnreadCountInfo().getUnreadMessageCount());
+        verify(chatMessageService, never()).summarizeChatRooms(any(), any());
+    }
 
+    @Test
+    void getChatRoomListProcessFillsMissingSummaries() {
+        // given
+        ChatRoom legacyChatRoom = ChatRoom.builder()
+                .chatRoomId(2L)
+                .initiatedBy(otherUser)
+                .initiatedTo(user)
+                .lastMessageAt(chatMessage3.getSendTime())
+                .build();
+        UserChatRoom legacyUserChatRoom = UserChatRoom.builder()
+                .user(user)
+                .chatRoom(legacyChatRoom)
+                .unreadMessageCount(null)
+                .build();
+        ChatRoomMessageSummary summary = ChatRoomMessageSummary.builder()
+                .chatRoomId(legacyChatRoom.getChatRoomId())
+                .latestMessage(chatMessage3.getMessage())
+                .latestMessageTime(chatMessage3.getSendTime())
+                .unreadMessageCount(1)
+                .build();
+
+        given(userChatRoomService.findAllUserChatRoomsByUser(user))
+                .willReturn(List.of(userChatRoom1, legacyUserChatRoom));
+        given(chatMessageService.summarizeChatRooms(List.of(legacyChatRoom.getChatRoomId()), user.getUserId()))
+                .willReturn(Map.of(legacyChatRoom.getChatRoomId(), summary));
+
+        // when
+        GetChatRoomsResponse result = chatService.getChatRoomListProcess(user);
+
+        // then
+        verify(userChatRoomService, times(1)).updateUnreadMessageCount(legacyUserChatRoom, 1);
+        verify(chatRoomService, times(1)).updateLastMessageIfAbsent(legacyChatRoom, chatMessage3.getMessage(),
+                chatMessage3.getSendTime());
+        assertEquals("", result.getChatRooms().get(0).getUnreadCountInfo().getLatestMessage());
+        assertEquals(0, result.getChatRooms().get(0).getUnreadCountInfo().getUnreadMessageCount());
     }
 
     @Test
     void closeChatRoomProcess() {
         // given
         given(chatRoomService.findChatRoomById(chatRoom1.getChatRoomId())).willReturn(chatRoom1);
-        doNothing().when(userChatRoomService).setUserToOffline(user, chatRoom1.getUserChatRooms());
 
-        // then
+        // when
         assertDoesNotThrow(() -> chatService.closeChatRoomProcess(user, chatRoom1.getChatRoomId()));
+
+        // then
+        verify(chatPresenceRegistry, times(1)).closeChatRoom(user.getUserId(), chatRoom1.getChatRoomId());
     }
 
     @Test
@@ -241,14 +403,13 @@ class ChatServiceTest {
         UserChatRoom userChatRoomToDelete = userChatRooms.get(0);
 
         when(chatRoomService.findChatRoomById(chatRoom1.getChatRoomId())).thenReturn(chatRoom1);
-        doNothing().when(userChatRoomService).setUserToOffline(user, userChatRooms);
         when(userChatRoomService.deleteUserChatRoom(userChatRoomToDelete)).thenReturn(userChatRoomToDelete);
 
         // when
         chatService.leaveChatRoomProcess(user, chatRoom1.getChatRoomId());
 
         // then
-        verify(userChatRoomService, times(1)).setUserToOffline(user, userChatRooms);
+        verify(chatPresenceRegistry, times(1)).closeChatRoom(user.getUserId(), chatRoom1.getChatRoomId());
         verify(userChatRoomService, times(1)).deleteUserChatRoom(userChatRoomToDelete);
         verify(chatRoomService, times(0)).deleteChatRoom(chatRoom1);
         assertEquals(1, chatRoom1.getUserChatRooms().size());
@@ -262,7 +423,6 @@ class ChatServiceTest {
         UserChatRoom userChatRoomToDelete = userChatRooms.get(0);
 
         when(chatRoomService.findChatRoomById(chatRoom1.getChatRoomId())).thenReturn(chatRoom1);
-        doNothing().when(userChatRoomService).setUserToOffline(user, userChatRooms);
         when(userChatRoomService.deleteUserChatRoom(userChatRoomToDelete)).thenReturn(userChatRoomToDelete);
 
         // when
@@ -274,126 +434,66 @@ class ChatServiceTest {
     }
 
     @Test
-    public void testSaveChatMessage() {
-        String message = "Hello";
-
-        ChatMessage chatMessage = ChatMessage.builder()
-                .senderId(user.getUserId())
-                .chatRoomId(chatRoom1.getChatRoomId())
-                .message(message)
-                .sendTime(LocalDateTime.now())
-                .isRead(false)
-                .build();
-
-        when(chatMessageService.saveMessage(any(ChatMessage.class))).thenReturn(chatMessage);
-
-        ChatMessage result = chatService.saveChatMessage(user, chatRoom1, message);
-
-        assertEquals(chatMessage, result);
-    }
-
-    @Test
-    public void testCreateUnreadCountInfo() {
-        ChatMessage chatMessage = new ChatMessage();
-        chatMessage.setMessage("Hello");
-        chatMessage.setSendTime(LocalDateTime.now());
-
-        ChatRoomUnreadCountInfoDto result = chatService.createUnreadCountInfo(chatRoom1, chatMessage);
+    public void testCreateChatMessage() {
+        ChatMessage result = chatService.createChatMessage(user.getUserId(), chatRoom1, "Hello");
 
+        assertTrue(ObjectId.isValid(result.getId()));
+        assertEquals(user.getUserId(), result.getSenderId());
         assertEquals(chatRoom1.getChatRoomId(), result.getChatRoomId());
-        assertEquals(chatMessage.getMessage(), result.getLatestMessage());
-        assertEquals(chatMessage.getSendTime(), result.getLatestMessageTime());
+        assertEquals("Hello", result.getMessage());
+        assertFalse(result.isRead());
+        assertEquals(result.getSendTime().truncatedTo(ChronoUnit.MILLIS), result.getSendTime());
     }
 
     @Test
-    public void testCalculateUnreadMessageCountOnline() {
-        userChatRoom2 = UserChatRoom.builder()
-                .user(tutor)
-                .chatRoom(chatRoom1)
-                .isOnline(true)
-                .build();
-
-        int unreadCount = chatService.calculateUnreadMessageCount(userChatRoom2, chatRoom1, user.getUserId(),
-                tutor.getUserId());
-
-        assertEquals(0, unreadCount);
-    }
-
-    @Test
-    public void testCalculateUnreadMessageCountSenderAndReceiverIsSame() {
-        int unreadCount = chatService.calculateUnreadMessageCount(userChatRoom1, chatRoom1, user.getUserId(),
-                user.getUserId());
-
-        assertEquals(0, unreadCount);
-    }
-
-    @Test
-    public void testHandleUserChatRoomWhenDeleted() {
-        User sender = user;
-        User receiver = tutor;
-
-        UserChatRoom userChatRoom = UserChatRoom.builder()
-                .user(tutor)
-                .chatRoom(chatRoom1)
-                .isOnline(false)
-                .build();
-        userChatRoom.setDeletedAt(LocalDateTime.now());
-
-        ChatRoom chatRoom = ChatRoom.builder()
-                .chatRoomId(1L)
-                .initiatedBy(sender)
-                .initiatedTo(receiver)
-                .userChatRooms(new ArrayList<>(List.of(userChatRoom)))
-                .build();
-
-        ChatRoomUnreadCountInfoDto unreadCountInfo = ChatRoomUnreadCountInfoDto.builder()
-                .chatRoomId(chatRoom.getChatRoomId())
-                .latestMessage("Hello")
-                .latestMessageTime(LocalDateTime.now())
-                .build();
-
-        when(chatMessageService.findMessagesUserNotRead(chatRoom.getChatRoomId(), receiver.getUserId()))
-                .thenReturn(Collections.emptyList());
+    void sendMessageProcess() {
+        // given
+        when(chatRoomService.findChatRoomById(chatRoom1.getChatRoomId())).thenReturn(chatRoom1);
 
-        chatService.handleUserChatRoom(userChatRoom, chatRoom, sender.getUserId(), unreadCountInfo);
+        // when
+        chatService.sendMessageProcess(user.getUserId(), chatRoom1.getChatRoomId(), "Hello");
 
-        assertNull(userChatRoom.getDeletedAt());
-        assertEquals(0, unreadCountInfo.getUnreadMessageCount());
-        verify(messageSendingService, times(1)).sendUnreadCountInfo(receiver.getUserId(), unreadCountInfo);
+        // then
+        ArgumentCaptor<ChatMessage> chatMessageCaptor = ArgumentCaptor.forClass(ChatMessage.class);
+        InOrder inOrder = inOrder(chatMessageWriteBehind, messageSendingService);
+        inOrder.verify(chatMessageWriteBehind).write(chatMessageCaptor.capture());
+        inOrder.verify(messageSendingService).broadcastNewMessage(chatRoom1.getChatRoomId(),
+                chatMessageCaptor.getValue());
+        assertEquals("Hello", chatMessageCaptor.getValue().getMessage());
+        assertEquals(user.getUserId(), chatMessageCaptor.getValue().getSenderId());
+        verify(chatMessageService, never()).saveMessages(any());
+        verify(userService, never()).getUserByEmail(any());
     }
 
     @Test
-    public void testCalculateUnreadMessageCountOffline() {
-        userChatRoom2 = UserChatRoom.builder()
-                .user(tutor)
-                .chatRoom(chatRoom1)
-                .isOnline(false)
+    void markPendingMessageAsRead() {
+        // given
+        ChatMessage pendingMessage = ChatMessage.builder()
+                .id("665f1c2e9b1e8a3d4c5b6a79")
+                .senderId(tutor.getUserId())
+                .chatRoomId(chatRoom1.getChatRoomId())
+                .message("Hi")
+                .sendTime(LocalDateTime.of(2024, 1, 1, 0, 3))
                 .build();
 
-        when(chatMessageService.findMessagesUserNotRead(chatRoom1.getChatRoomId(), tutor.getUserId()))
-                .thenReturn(Arrays.asList(new ChatMessage(), new ChatMessage()));
-
-        int unreadCount = chatService.calculateUnreadMessageCount(userChatRoom2, chatRoom1, user.getUserId(),
-                tutor.getUserId());
-
-        assertEquals(2, unreadCount);
-    }
-
-    @Test
-    void sendMessageProcess() {
-        when(userService.getUserByEmail(user.getEmail())).thenReturn(user);
+        when(chatMessageWriteBehind.findPendingMessage(pendingMessage.getId()))
+                .thenReturn(Optional.of(pendingMessage));
         when(chatRoomService.findChatRoomById(chatRoom1.getChatRoomId())).thenReturn(chatRoom1);
-        when(chatMessageService.saveMessage(any(ChatMessage.class))).thenReturn(chatMessage1);
+        when(userChatRoomService.updateReadWatermark(chatRoom1.getChatRoomId(), user.getUserId(), pendingMessage,
+                0)).thenReturn(true);
 
-        chatService.sendMessageProcess(user.getEmail(), chatRoom1.getChatRoomId(), chatMessage1.getMessage());
+        // when
+        chatService.markMessageAsReadAndSendReceipt(user.getUserId(), pendingMessage.getId());
 
-        verify(chatMessageService, times(1)).saveMessage(any(ChatMessage.class));
+        // then
+        verify(chatMessageService, never()).findChatMessageById(any());
+        verify(messageSendingService, times(1)).sendReadReceipt(chatRoom1.getChatRoomId(),
+                ReadReceipt.of(user.getUserId(), pendingMessage));
     }
 
     @Test
     void markMessageAsReadAndSendReceipt() {
         // given
-        String email = user.getEmail();
         String messageId = "1";
 
         chatMessage1 = ChatMessage.builder()
@@ -405,22 +505,22 @@ class ChatServiceTest {
                 .isRead(false)
                 .build();
 
-        ReadReceiptList readReceiptList = ReadReceiptList.builder()
-                .readReceipts(Collections.singletonList(new ReadReceipt(messageId, user.getUserId())))
-                .build();
+        ReadReceipt readReceipt = ReadReceipt.of(user.getUserId(), chatMessage1);
 
-        when(userService.getUserByEmail(email)).thenReturn(user);
         when(chatMessageService.findChatMessageById(messageId)).thenReturn(chatMessage1);
         when(chatRoomService.findChatRoomById(chatMessage1.getChatRoomId())).thenReturn(chatRoom1);
-        doNothing().when(chatMessageService).markAsReadAndSave(chatMessage1);
-        doNothing().when(messageSendingService).sendReadReceipt(chatRoom1.getChatRoomId(), readReceiptList);
+        when(chatMessageService.countMessagesUserNotReadAfter(chatRoom1.getChatRoomId(), user.getUserId(),
+                chatMessage1)).thenReturn(2);
+        when(userChatRoomService.updateReadWatermark(chatRoom1.getChatRoomId(), user.getUserId(), chatMessage1, 2))
+                .thenReturn(true);
 
         // when
-        chatService.markMessageAsReadAndSendReceipt(email, messageId);
+        chatService.markMessageAsReadAndSendReceipt(user.getUserId(), messageId);
 
         // then
-        verify(chatMessageService, times(1)).markAsReadAndSave(chatMessage1);
-        verify(messageSendingService, times(1)).sendReadReceipt(chatRoom1.getChatRoomId(), readReceiptList);
+        verify(chatMessageWriteBehind, times(1)).markAsReadUpTo(chatRoom1.getChatRoomId(), user.getUserId(),
+                chatMessage1);
+        verify(messageSendingService, times(1)).sendReadReceipt(chatRoom1.getChatRoomId(), readReceipt);
 
     }
 }
\ No newline at end of file
@@ -7,17 +7,14 @@ import com.linked.classbridge.domain.ChatMessage;
 import com.linked.classbridge.dto.chat.ChatMessageDto;
 import com.linked.classbridge.dto.chat.ChatRoomUnreadCountInfoDto;
 import com.linked.classbridge.dto.chat.ReadReceipt;
-import com.linked.classbridge.dto.chat.ReadReceiptList;
+import com.linked.classbridge.service.chat.broadcast.ChatBroadcaster;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class MessageSendingServiceTest {
@@ -25,10 +22,10 @@ class MessageSendingServiceTest {
     @InjectMocks
     private MessageSendingService messageSendingService;
     @Mock
-    private SimpMessagingTemplate simpMessagingTemplate;
+    private ChatBroadcaster chatBroadcaster;
 
     private ChatMessage chatMessage;
-    private ReadReceiptList readReceiptList;
+    private ReadReceipt readReceipt;
     private ChatRoomUnreadCountInfoDto unreadCountInfo;
 
     @BeforeEach
@@ -41,13 +38,10 @@ class MessageSendingServiceTest {
                 .sendTime(LocalDateTime.of(2024, 1, 1, 0, 0))
                 .build();
 
-        ReadReceipt readReceipt = ReadReceipt.builder()
-                .userId(1L)
-                .chatMessageId("1")
-                .build();
-
-        readReceiptList = ReadReceiptList.builder()
-                .readReceipts(new ArrayList<>(List.of(readReceipt)))
+        readReceipt = ReadReceipt.builder()
+                .userId(2L)
+                .lastReadMessageId("1")
+                .lastReadMessageTime(LocalDateTime.of(2024, 1, 1, 0, 0))
                 .build();
 
         unreadCountInfo = ChatRoomUnreadCountInfoDto.builder()
@@ -62,7 +56,8 @@ class MessageSendingServiceTest {
     void broadcastNewMessage() {
         messageSendingService.broadcastNewMessage(chatMessage.getChatRoomId(), chatMessage);
 
-        verify(simpMessagingTemplate).convertAndSend(
+        verify(chatBroadcaster).broadcast(
+                eq(chatMessage.getChatRoomId()),
                 eq("/chatRoom/" + chatMessage.getChatRoomId()),
                 eq(ChatMessageDto.fromEntity(chatMessage))
         );
@@ -70,11 +65,12 @@ class MessageSendingServiceTest {
 
     @Test
     void sendReadReceipt() {
-        messageSendingService.sendReadReceipt(chatMessage.getChatRoomId(), readReceiptList);
+        messageSendingService.sendReadReceipt(chatMessage.getChatRoomId(), readReceipt);
 
-        verify(simpMessagingTemplate).convertAndSend(
+        verify(chatBroadcaster).broadcast(
+                eq(chatMessage.getChatRoomId()),
                 eq("/read/" + chatMessage.getChatRoomId()),
-                eq(readReceiptList)
+                eq(readReceipt)
         );
     }
 
@@ -82,7 +78,8 @@ class MessageSendingServiceTest {
     void sendUnreadCountInfo() {
         messageSendingService.sendUnreadCountInfo(chatMessage.getSenderId(), unreadCountInfo);
 
-        verify(simpMessagingTemplate).convertAndSend(
+        verify(chatBroadcaster).broadcast(
+                eq(unreadCountInfo.getChatRoomId()),
                 eq("/chatRooms/" + chatMessage.getSenderId() + "/unreadCountInfo"),
                 eq(unreadCountInfo)
         );
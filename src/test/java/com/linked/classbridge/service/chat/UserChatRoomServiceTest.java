@@ -5,11 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.linked.classbridge.domain.ChatMessage;
 import com.linked.classbridge.domain.ChatRoom;
 import com.linked.classbridge.domain.User;
 import com.linked.classbridge.domain.UserChatRoom;
 import com.linked.classbridge.repository.UserChatRoomRepository;
-import java.util.List;
+import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -61,53 +62,20 @@ class UserChatRoomServiceTest {
     }
 
     @Test
-    void leaveAllChatRoomsByEmail() {
-
-        userChatRoomService.leaveAllChatRoomsByEmail(user);
-
-        verify(userChatRoomRepository).updateIsOnlineByUser_Email(user.getEmail(), false);
-    }
-
-    @Test
-    void setUserToOnline() {
-        // given
-        userChatRoom = UserChatRoom.builder()
-                .user(user)
-                .chatRoom(chatRoom)
-                .isOnline(false)
-                .build();
-
-        List<UserChatRoom> userChatRooms = List.of(userChatRoom);
-
-        when(userChatRoomRepository.save(userChatRoom)).thenReturn(userChatRoom);
-
-        // when
-        userChatRoomService.setUserToOnline(user, userChatRooms);
-
-        // then
-        assertTrue(userChatRoom.isOnline());
-        verify(userChatRoomRepository).save(userChatRoom);
-    }
-
-    @Test
-    void setUSerOffline() {
+    void updateReadWatermark() {
         // given
-        userChatRoom = UserChatRoom.builder()
-                .user(user)
-                .chatRoom(chatRoom)
-                .isOnline(true)
+        ChatMessage lastReadMessage = ChatMessage.builder()
+                .id("665f1c2e9b1e8a3d4c5b6a79")
+                .sendTime(LocalDateTime.of(2024, 1, 1, 0, 0))
                 .build();
-
-        List<UserChatRoom> userChatRooms = List.of(userChatRoom);
-
-        when(userChatRoomRepository.save(userChatRoom)).thenReturn(userChatRoom);
-
-        // when
-        userChatRoomService.setUserToOffline(user, userChatRooms);
-
-        // then
-        assertFalse(userChatRoom.isOnline());
-        verify(userChatRoomRepository).save(userChatRoom);
+        when(userChatRoomRepository.updateReadWatermark(chatRoom.getChatRoomId(), user.getUserId(),
+                lastReadMessage.getId(), lastReadMessage.getSendTime(), 2)).thenReturn(1, 0);
+
+        // when & then
+        assertTrue(userChatRoomService.updateReadWatermark(chatRoom.getChatRoomId(), user.getUserId(),
+                lastReadMessage, 2));
+        assertFalse(userChatRoomService.updateReadWatermark(chatRoom.getChatRoomId(), user.getUserId(),
+                lastReadMessage, 2));
     }
 
-}
\ No newline at end of file
+}
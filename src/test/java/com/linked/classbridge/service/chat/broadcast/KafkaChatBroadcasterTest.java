@@ -0,0 +1,129 @@
+package com.linked.classbridge.service.chat.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linked.classbridge.config.ChatBroadcastKafkaConfig;
+import com.linked.classbridge.config.ChatBroadcastProperties;
+import com.linked.classbridge.dto.chat.ReadReceipt;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.util.MimeTypeUtils;
+
+@SpringJUnitConfig
+@EmbeddedKafka(partitions = 3, topics = "chat-broadcast-test")
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "chat.broadcast.type=kafka",
+        "chat.broadcast.topic=chat-broadcast-test",
+        "chat.broadcast.partitions=3"
+})
+class KafkaChatBroadcasterTest {
+
+    @Configuration
+    @ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @EnableConfigurationProperties
+    @Import({ChatBroadcastProperties.class, ChatBroadcastKafkaConfig.class, KafkaChatBroadcaster.class,
+            KafkaChatBroadcastListener.class})
+    static class Config {
+    }
+
+    @MockBean
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Autowired
+    private KafkaChatBroadcaster kafkaChatBroadcaster;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    private final ReadReceipt readReceipt = ReadReceipt.builder()
+            .userId(2L)
+            .lastReadMessageId("665f1c2e9b1e8a3d4c5b6a79")
+            .lastReadMessageTime(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .build();
+
+    // 리스너는 시작한 뒤의 이벤트만 받으므로 파티션을 배정받은 뒤에 발행
+    @BeforeEach
+    void waitForAssignment() {
+        kafkaListenerEndpointRegistry.getListenerContainers().forEach(container ->
+                ContainerTestUtils.waitForAssignment(container, embeddedKafkaBroker.getPartitionsPerTopic()));
+    }
+
+    @Test
+    void broadcastPublishesRecordKeyedByChatRoomId() throws Exception {
+        // given
+        Map<String, Object> consumerProperties =
+                KafkaTestUtils.consumerProps("chat-broadcast-test-reader", "false", embeddedKafkaBroker);
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(consumerProperties,
+                new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            embeddedKafkaBroker.consumeFromAnEmbeddedTopic(consumer, "chat-broadcast-test");
+
+            // when
+            kafkaChatBroadcaster.broadcast(7L, "/read/7", readReceipt);
+
+            // then
+            ConsumerRecord<String, byte[]> record = StreamSupport.stream(
+                            KafkaTestUtils.getRecords(consumer).records("chat-broadcast-test").spliterator(), false)
+                    .filter(consumerRecord -> "7".equals(consumerRecord.key()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals("7", record.key());
+            assertEquals("/read/7", new String(
+                    record.headers().lastHeader(KafkaChatBroadcaster.DESTINATION_HEADER).value(),
+                    StandardCharsets.UTF_8));
+            assertEquals(readReceipt, objectMapper.readValue(record.value(), ReadReceipt.class));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listenerDeliversToLocalSubscribers() throws Exception {
+        // when
+        kafkaChatBroadcaster.broadcast(1L, "/read/1", readReceipt);
+
+        // then
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(simpMessagingTemplate, timeout(30_000)).send(eq("/read/1"), captor.capture());
+        Message<byte[]> message = captor.getValue();
+        assertEquals(MimeTypeUtils.APPLICATION_JSON, message.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+        assertEquals(readReceipt, objectMapper.readValue(message.getPayload(), ReadReceipt.class));
+    }
+}
@@ -0,0 +1,111 @@
+package com.linked.classbridge.service.chat.presence;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceRegistryTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long CHAT_ROOM_ID = 10L;
+    private static final Long OTHER_CHAT_ROOM_ID = 20L;
+
+    @InjectMocks
+    private ChatPresenceRegistry chatPresenceRegistry;
+    @Mock
+    private ChatPresenceStore chatPresenceStore;
+
+    @Test
+    void onlineUntilLastSessionDisconnects() {
+        // given
+        chatPresenceRegistry.connect("session-1", USER_ID);
+        chatPresenceRegistry.connect("session-2", USER_ID);
+        chatPresenceRegistry.subscribe("session-1", "sub-0", CHAT_ROOM_ID);
+        chatPresenceRegistry.subscribe("session-2", "sub-0", CHAT_ROOM_ID);
+
+        // when
+        chatPresenceRegistry.disconnect("session-1");
+
+        // then
+        assertTrue(chatPresenceRegistry.isOnline(USER_ID, CHAT_ROOM_ID));
+        verify(chatPresenceStore, times(1)).opened(USER_ID, CHAT_ROOM_ID);
+        verify(chatPresenceStore, never()).closed(any(), any());
+
+        // when
+        chatPresenceRegistry.disconnect("session-2");
+
+        // then
+        assertFalse(chatPresenceRegistry.isOnline(USER_ID, CHAT_ROOM_ID));
+        verify(chatPresenceStore, times(1)).closed(USER_ID, CHAT_ROOM_ID);
+    }
+
+    @Test
+    void unsubscribe() {
+        // given
+        chatPresenceRegistry.connect("session-1", USER_ID);
+        chatPresenceRegistry.subscribe("session-1", "sub-0", CHAT_ROOM_ID);
+        chatPresenceRegistry.subscribe("session-1", "sub-1", OTHER_CHAT_ROOM_ID);
+
+        // when
+        chatPresenceRegistry.unsubscribe("session-1", "sub-0");
+        chatPresenceRegistry.unsubscribe("session-1", "sub-0");
+
+        // then
+        assertFalse(chatPresenceRegistry.isOnline(USER_ID, CHAT_ROOM_ID));
+        assertTrue(chatPresenceRegistry.isOnline(USER_ID, OTHER_CHAT_ROOM_ID));
+        verify(chatPresenceStore, times(1)).closed(USER_ID, CHAT_ROOM_ID);
+    }
+
+    @Test
+    void closeChatRoomClosesEverySessionOfUser() {
+        // given
+        chatPresenceRegistry.connect("session-1", USER_ID);
+        chatPresenceRegistry.connect("session-2", USER_ID);
+        chatPresenceRegistry.subscribe("session-1", "sub-0", CHAT_ROOM_ID);
+        chatPresenceRegistry.subscribe("session-2", "sub-0", CHAT_ROOM_ID);
+        chatPresenceRegistry.subscribe("session-2", "sub-1", OTHER_CHAT_ROOM_ID);
+
+        // when
+        chatPresenceRegistry.closeChatRoom(USER_ID, CHAT_ROOM_ID);
+
+        // then
+        assertFalse(chatPresenceRegistry.isOnline(USER_ID, CHAT_ROOM_ID));
+        assertTrue(chatPresenceRegistry.isOnline(USER_ID, OTHER_CHAT_ROOM_ID));
+        verify(chatPresenceStore, times(1)).closed(USER_ID, CHAT_ROOM_ID);
+
+        // 이미 닫은 구독은 연결 종료 시 다시 닫지 않음
+        chatPresenceRegistry.disconnect("session-2");
+        verify(chatPresenceStore, times(1)).closed(USER_ID, CHAT_ROOM_ID);
+        verify(chatPresenceStore, times(1)).closed(USER_ID, OTHER_CHAT_ROOM_ID);
+    }
+
+    @Test
+    void subscribeWithoutConnectIgnored() {
+        // when
+        chatPresenceRegistry.subscribe("unknown", "sub-0", CHAT_ROOM_ID);
+
+        // then
+        assertFalse(chatPresenceRegistry.isOnline(USER_ID, CHAT_ROOM_ID));
+        verify(chatPresenceStore, never()).opened(any(), any());
+    }
+
+    @Test
+    void isOnlineOnOtherServer() {
+        // given
+        when(chatPresenceStore.isOnline(USER_ID, CHAT_ROOM_ID)).thenReturn(true);
+
+        // when & then
+        assertTrue(chatPresenceRegistry.isOnline(USER_ID, CHAT_ROOM_ID));
+    }
+}
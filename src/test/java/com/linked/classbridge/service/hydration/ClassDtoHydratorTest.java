@@ -0,0 +1,110 @@
+package com.linked.classbridge.service.hydration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.linked.classbridge.dto.oneDayClass.ClassDto;
+import com.linked.classbridge.dto.oneDayClass.ClassImageUrlProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTutorNameProjection;
+import com.linked.classbridge.repository.ClassImageRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.service.wish.UserWishCache;
+import com.linked.classbridge.service.wish.WishClassIds;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClassDtoHydratorTest {
+
+    @InjectMocks
+    private ClassDtoHydrator classDtoHydrator;
+
+    @Mock
+    private ClassImageRepository classImageRepository;
+
+    @Mock
+    private OneDayClassRepository oneDayClassRepository;
+
+    @Mock
+    private UserWishCache userWishCache;
+
+    @Test
+    void hydrate_resolves_images_tutor_names_and_wishes_in_bulk() {
+        // Given
+        List<ClassDto> classDtos = List.of(classDto(1L), classDto(2L), classDto(3L));
+        given(classImageRepository.findImageUrlsByClassIdInAndSequence(List.of(1L, 2L, 3L), 1))
+                .willReturn(List.of(image(1L, "url1"), image(3L, "url3")));
+        given(oneDayClassRepository.findTutorNamesByClassIdIn(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(tutorName(1L, "tutor1"), tutorName(2L, "tutor2"), tutorName(3L, "tutor1")));
+        given(userWishCache.get(10L)).willReturn(WishClassIds.of(List.of(2L)));
+
+        // When
+        classDtoHydrator.hydrate(classDtos, 10L);
+
+        // Then
+        assertEquals("url1", classDtos.get(0).getClassImageUrl());
+        assertNull(classDtos.get(1).getClassImageUrl());
+        assertEquals("tutor2", classDtos.get(1).getTutorName());
+        assertEquals("tutor1", classDtos.get(2).getTutorName());
+        assertFalse(classDtos.get(0).isWish());
+        assertTrue(classDtos.get(1).isWish());
+        verify(classImageRepository, times(1)).findImageUrlsByClassIdInAndSequence(any(), anyInt());
+        verify(oneDayClassRepository, times(1)).findTutorNamesByClassIdIn(any());
+    }
+
+    @Test
+    void hydrate_empty_list_skips_queries() {
+        // When
+        List<ClassDto> result = classDtoHydrator.hydrate(List.of(), 10L);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(classImageRepository, oneDayClassRepository, userWishCache);
+    }
+
+    private static ClassDto classDto(Long classId) {
+        ClassDto classDto = new ClassDto();
+        classDto.setClassId(classId);
+        return classDto;
+    }
+
+    private static ClassImageUrlProjection image(Long classId, String url) {
+        return new ClassImageUrlProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public String getUrl() {
+                return url;
+            }
+        };
+    }
+
+    private static ClassTutorNameProjection tutorName(Long classId, String tutorName) {
+        return new ClassTutorNameProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public String getTutorName() {
+                return tutorName;
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.linked.classbridge.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.linked.classbridge.config.RecommendationProperties;
+import com.linked.classbridge.config.RecommendationSegmentProperties;
+import com.linked.classbridge.dto.oneDayClass.ClassFeatureProjection;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.type.Gender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClassFeatureStoreTest {
+
+    @Mock
+    private OneDayClassRepository classRepository;
+
+    private ClassFeatureStore classFeatureStore;
+
+    private RecommendationSegmentCache recommendationSegmentCache;
+
+    @BeforeEach
+    void setUp() {
+        RecommendationSegmentProperties segmentProperties = new RecommendationSegmentProperties();
+        segmentProperties.setTopN(1);
+        classFeatureStore = new ClassFeatureStore(classRepository, new RecommendationProperties(), segmentProperties);
+        recommendationSegmentCache = new RecommendationSegmentCache(classFeatureStore, segmentProperties,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void segment_lookup_during_change_is_not_cached_under_new_version() {
+        // Given
+        given(classRepository.findAllFeatures()).willReturn(List.of(row(1L, 1L), row(2L, 2L)));
+        classFeatureStore.rebuild();
+        assertThat(recommendationSegmentCache.topClassIds(30, Gender.MALE, List.of(2L))).containsExactly(2L);
+
+        // When
+        // 변경을 반영하는 도중에 같은 세그먼트를 조회
+        classFeatureStore.apply(current -> {
+            recommendationSegmentCache.topClassIds(30, Gender.MALE, List.of(2L));
+            return current.with(1L, 30.0, 1L, 0L, 2L);
+        }, current -> current.isSignificantChange(1L, 30.0, 1L, 0L, 2L, 1.0));
+
+        // Then
+        assertThat(recommendationSegmentCache.topClassIds(30, Gender.MALE, List.of(2L))).containsExactly(1L);
+    }
+
+    private static ClassFeatureProjection row(Long classId, Long categoryId) {
+        return new ClassFeatureProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public Double getAverageAge() {
+                return 30.0;
+            }
+
+            @Override
+            public Long getMaleCount() {
+                return 1L;
+            }
+
+            @Override
+            public Long getFemaleCount() {
+                return 0L;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+        };
+    }
+}
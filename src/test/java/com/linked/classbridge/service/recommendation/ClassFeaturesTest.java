@@ -0,0 +1,171 @@
+package com.linked.classbridge.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.linked.classbridge.dto.oneDayClass.ClassFeatureProjection;
+import com.linked.classbridge.type.Gender;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
+import org.junit.jupiter.api.Test;
+
+class ClassFeaturesTest {
+
+    @Test
+    void correlation_matches_pearsons_correlation() {
+        // Given
+        Random random = new Random(42);
+        PearsonsCorrelation pearsons = new PearsonsCorrelation();
+
+        for (int i = 0; i < 100; i++) {
+            double[] x = {10 + random.nextInt(50), random.nextInt(2), random.nextInt(2)};
+            double[] y = {10 + random.nextInt(50), random.nextInt(2), 1};
+
+            // When
+            double score = ClassFeatures.correlation(x[0], x[1], x[2], y[0], y[1], y[2]);
+
+            // Then
+            assertEquals(pearsons.correlation(x, y), score, 1e-9);
+        }
+    }
+
+    @Test
+    void topClassIds_orders_by_score() {
+        // Given
+        ClassFeatures features = ClassFeatures.of(List.of(
+                row(1L, 4.0, 3L, 1L, 2L),
+                row(2L, 5.0, 0L, 2L, 1L),
+                row(3L, 1.0, 2L, 0L, 3L),
+                row(4L, null, null, null, null)));
+
+        // When
+        List<Long> top = features.topClassIds(2, Gender.MALE, new long[]{1L}, 3);
+
+        // Then
+        assertThat(top).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    void with_and_without_keep_class_ids_sorted() {
+        // Given
+        ClassFeatures features = ClassFeatures.of(List.of(row(1L, 30.0, 1L, 0L, 1L), row(5L, 30.0, 1L, 0L, 1L)));
+
+        // When
+        ClassFeatures added = features.with(3L, 24.0, 3L, 1L, 2L).with(7L, null, null, null, null);
+        ClassFeatures updated = added.with(5L, 24.0, 3L, 1L, 2L);
+        ClassFeatures removed = updated.without(1L);
+
+        // Then
+        assertEquals(2, features.size());
+        assertEquals(4, added.size());
+        assertEquals(4, updated.size());
+        assertThat(removed.topClassIds(24, Gender.MALE, new long[]{2L}, 10)).containsExactly(3L, 5L, 7L);
+    }
+
+    @Test
+    void update_changes_existing_class_in_place() {
+        // Given
+        ClassFeatures features = ClassFeatures.of(List.of(row(1L, 30.0, 1L, 0L, 1L), row(5L, 30.0, 1L, 0L, 1L)));
+
+        // When
+        boolean updated = features.update(5L, 24.0, 0L, 3L, 2L);
+        boolean missing = features.update(3L, 24.0, 0L, 3L, 2L);
+
+        // Then
+        assertThat(updated).isTrue();
+        assertThat(missing).isFalse();
+        assertEquals(2, features.size());
+        assertThat(features.isSignificantChange(5L, 24.0, 0L, 3L, 2L, 1.0)).isFalse();
+        assertThat(features.topClassIds(24, Gender.FEMALE, new long[]{2L}, 1)).containsExactly(5L);
+    }
+
+    @Test
+    void parallel_topClassIds_matches_sequential() {
+        // Given
+        Random random = new Random(7);
+        List<ClassFeatureProjection> rows = new ArrayList<>();
+        for (long classId = 1; classId <= 20_000; classId++) {
+            rows.add(row(classId, 10.0 + random.nextInt(50), (long) random.nextInt(10), (long) random.nextInt(10),
+                    1L + random.nextInt(8)));
+        }
+        ClassFeatures features = ClassFeatures.of(rows);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // When
+            List<Long> sequential = features.topClassIds(27, Gender.FEMALE, new long[]{2L, 5L}, 5);
+            List<Long> parallel = features.topClassIds(27, Gender.FEMALE, new long[]{2L, 5L}, 5, pool, 1_000);
+
+            // Then
+            assertThat(parallel).hasSize(5).isEqualTo(sequential);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void topK_keeps_highest_scores_and_breaks_ties_by_class_id() {
+        // Given
+        TopK top = new TopK(3);
+
+        // When
+        top.offer(0.5, 10L);
+        top.offer(0.9, 20L);
+        top.offer(Double.NEGATIVE_INFINITY, 30L);
+        top.offer(0.9, 5L);
+        top.offer(0.1, 40L);
+        TopK other = new TopK(3);
+        other.offer(0.7, 50L);
+        top.merge(other);
+
+        // Then
+        assertEquals(3, top.size());
+        assertThat(top.toList()).containsExactly(5L, 20L, 50L);
+    }
+
+    @Test
+    void isSignificantChange_detects_ranking_inputs() {
+        // Given
+        ClassFeatures features = ClassFeatures.of(List.of(row(1L, 30.0, 3L, 1L, 2L)));
+
+        // When & Then
+        assertThat(features.isSignificantChange(1L, 30.5, 4L, 1L, 2L, 1.0)).isFalse();
+        assertThat(features.isSignificantChange(1L, 31.0, 3L, 1L, 2L, 1.0)).isTrue();
+        assertThat(features.isSignificantChange(1L, 30.0, 1L, 3L, 2L, 1.0)).isTrue();
+        assertThat(features.isSignificantChange(1L, 30.0, 3L, 1L, 5L, 1.0)).isTrue();
+        assertThat(features.isSignificantChange(2L, 30.0, 3L, 1L, 2L, 1.0)).isTrue();
+    }
+
+    private static ClassFeatureProjection row(Long classId, Double averageAge, Long maleCount, Long femaleCount,
+                                              Long categoryId) {
+        return new ClassFeatureProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public Double getAverageAge() {
+                return averageAge;
+            }
+
+            @Override
+            public Long getMaleCount() {
+                return maleCount;
+            }
+
+            @Override
+            public Long getFemaleCount() {
+                return femaleCount;
+            }
+
+            @Override
+            public Long getCategoryId() {
+                return categoryId;
+            }
+        };
+    }
+}
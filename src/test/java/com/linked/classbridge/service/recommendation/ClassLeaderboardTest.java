@@ -0,0 +1,159 @@
+package com.linked.classbridge.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linked.classbridge.config.ClassLeaderboardProperties;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.dto.oneDayClass.OneDayClassCounterProjection;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.type.LeaderboardScoreType;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClassLeaderboardTest {
+
+    @Mock
+    private OneDayClassRepository classRepository;
+
+    private ClassLeaderboardProperties properties;
+
+    private ClassLeaderboard classLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ClassLeaderboardProperties();
+        classLeaderboard = new ClassLeaderboard(classRepository, properties);
+    }
+
+    @Test
+    void orders_by_total_star_rate_then_wish() {
+        // Given
+        given(classRepository.findAllCounters()).willReturn(List.of(
+                counters(1L, 10.0, 2, 3),
+                counters(2L, 20.0, 5, 1),
+                counters(3L, 10.0, 4, 7),
+                counters(4L, null, null, null)));
+
+        // When
+        List<Long> top = classLeaderboard.topClassIds(3);
+
+        // Then
+        assertThat(top).containsExactly(2L, 3L, 1L);
+        verify(classRepository, times(1)).findAllCounters();
+    }
+
+    @Test
+    void orders_by_average_rating() {
+        // Given
+        properties.setScore(LeaderboardScoreType.AVERAGE_RATING);
+        properties.setMinReviews(2);
+        given(classRepository.findAllCounters()).willReturn(List.of(
+                counters(1L, 10.0, 2, 3),
+                counters(2L, 20.0, 5, 1),
+                counters(3L, 5.0, 1, 7)));
+
+        // When
+        List<Long> top = classLeaderboard.topClassIds(5);
+
+        // Then
+        assertThat(top).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void update_and_remove_reorder_without_reloading() {
+        // Given
+        given(classRepository.findAllCounters()).willReturn(List.of(
+                counters(1L, 10.0, 2, 3),
+                counters(2L, 20.0, 5, 1)));
+        classLeaderboard.rebuild();
+
+        OneDayClass oneDayClass = new OneDayClass();
+        oneDayClass.setClassId(1L);
+        oneDayClass.setTotalStarRate(25.0);
+        oneDayClass.setTotalReviews(3);
+        oneDayClass.setTotalWish(3);
+
+        // When
+        classLeaderboard.update(oneDayClass);
+        List<Long> afterUpdate = classLeaderboard.topClassIds(5);
+        classLeaderboard.remove(1L);
+        List<Long> afterRemove = classLeaderboard.topClassIds(5);
+
+        // Then
+        assertThat(afterUpdate).containsExactly(1L, 2L);
+        assertThat(afterRemove).containsExactly(2L);
+        assertThat(classLeaderboard.size()).isEqualTo(1);
+        verify(classRepository, times(1)).findAllCounters();
+    }
+
+    @Test
+    void rebuild_drops_classes_no_longer_in_database() {
+        // Given
+        given(classRepository.findAllCounters()).willReturn(
+                List.of(counters(1L, 10.0, 2, 3), counters(2L, 20.0, 5, 1)),
+                List.of(counters(2L, 20.0, 5, 1)));
+        classLeaderboard.rebuild();
+
+        // When
+        classLeaderboard.rebuild();
+
+        // Then
+        assertThat(classLeaderboard.topClassIds(5)).containsExactly(2L);
+    }
+
+    @Test
+    void class_removed_while_loading_is_not_added_back() throws InterruptedException {
+        // Given
+        Thread remover = new Thread(() -> classLeaderboard.remove(1L));
+        given(classRepository.findAllCounters()).willAnswer(invocation -> {
+            // 목록을 읽은 직후 다른 스레드에서 클래스 1 이 삭제됨
+            remover.start();
+            long deadline = System.currentTimeMillis() + 1000;
+            while (remover.getState() != Thread.State.BLOCKED && remover.isAlive()
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            return List.of(counters(1L, 10.0, 2, 3), counters(2L, 20.0, 5, 1));
+        });
+
+        // When
+        classLeaderboard.rebuild();
+        remover.join(1000);
+
+        // Then
+        assertThat(classLeaderboard.topClassIds(5)).containsExactly(2L);
+    }
+
+    private static OneDayClassCounterProjection counters(Long classId, Double totalStarRate, Integer totalReviews,
+                                                         Integer totalWish) {
+        return new OneDayClassCounterProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public Integer getTotalWish() {
+                return totalWish;
+            }
+
+            @Override
+            public Integer getTotalReviews() {
+                return totalReviews;
+            }
+
+            @Override
+            public Double getTotalStarRate() {
+                return totalStarRate;
+            }
+        };
+    }
+}
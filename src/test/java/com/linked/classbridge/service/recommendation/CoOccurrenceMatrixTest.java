@@ -0,0 +1,73 @@
+package com.linked.classbridge.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.linked.classbridge.domain.RelatedClass;
+import com.linked.classbridge.util.LongFloatHashMap;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void topNeighbors_ranks_by_normalized_co_occurrence() {
+        // Given
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10);
+        matrix.add(new long[]{1L, 2L}, new float[]{1f, 1f}, 2);
+        matrix.add(new long[]{1L, 2L, 3L}, new float[]{1f, 1f, 1f}, 3);
+        matrix.add(new long[]{1L, 4L}, new float[]{1f, 0.5f}, 2);
+        for (int i = 0; i < 5; i++) {
+            // 3번은 인기 클래스지만 1번과는 한 번만 함께 등장
+            matrix.add(new long[]{3L, 100L + i}, new float[]{1f, 1f}, 2);
+        }
+        long[] neighborIds = new long[2];
+        float[] scores = new float[2];
+
+        // When
+        int count = matrix.topNeighbors(1L, 2, neighborIds, scores);
+
+        // Then
+        assertEquals(2, count);
+        assertThat(neighborIds).containsExactly(2L, 4L);
+        assertThat(scores[0]).isGreaterThan(scores[1]);
+        assertEquals(0, matrix.topNeighbors(999L, 2, neighborIds, scores));
+    }
+
+    @Test
+    void related_class_rows_round_trip_through_index() {
+        // Given
+        RelatedClass first = RelatedClass.of(7L, new long[]{3L, 5L, 9L}, new float[]{0.9f, 0.5f, 0.1f}, 3);
+        RelatedClass second = RelatedClass.of(2L, new long[]{7L}, new float[]{0.4f}, 1);
+
+        // When
+        RelatedClassIndex index = RelatedClassIndex.of(List.of(first, second));
+
+        // Then
+        assertEquals(2, index.size());
+        assertEquals(0.5f, first.score(1));
+        assertThat(index.relatedClassIds(7L, 2)).containsExactly(3L, 5L);
+        assertThat(index.relatedClassIds(2L, 10)).containsExactly(7L);
+        assertThat(index.relatedClassIds(4L, 10)).isEmpty();
+    }
+
+    @Test
+    void longFloatHashMap_grows_and_keeps_top_entries() {
+        // Given
+        LongFloatHashMap map = new LongFloatHashMap();
+        for (long key = 1; key <= 1_000; key++) {
+            map.addTo(key, key % 10);
+        }
+        map.addTo(5L, 100f);
+
+        // When
+        map.retainTop(3);
+
+        // Then
+        assertEquals(3, map.size());
+        assertEquals(105f, map.get(5L));
+        assertEquals(9f, map.get(9L));
+        assertEquals(9f, map.get(19L));
+        assertEquals(0f, map.get(29L));
+    }
+}
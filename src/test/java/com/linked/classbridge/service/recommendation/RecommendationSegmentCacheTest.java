@@ -0,0 +1,86 @@
+package com.linked.classbridge.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.linked.classbridge.config.RecommendationSegmentProperties;
+import com.linked.classbridge.type.Gender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationSegmentCacheTest {
+
+    @Mock
+    private ClassFeatureStore classFeatureStore;
+
+    private RecommendationSegmentProperties properties;
+
+    private RecommendationSegmentCache recommendationSegmentCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RecommendationSegmentProperties();
+        recommendationSegmentCache = new RecommendationSegmentCache(classFeatureStore, properties,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void same_segment_is_scored_once() {
+        // Given
+        given(classFeatureStore.version()).willReturn(1L);
+        given(classFeatureStore.topClassIds(eq(25.0), eq(Gender.MALE), eq(new long[]{1L, 3L}), eq(5)))
+                .willReturn(List.of(10L, 20L));
+
+        // When
+        List<Long> first = recommendationSegmentCache.topClassIds(25, Gender.MALE, List.of(3L, 1L));
+        List<Long> second = recommendationSegmentCache.topClassIds(25, Gender.MALE, Arrays.asList(1L, null, 3L, 1L));
+
+        // Then
+        assertThat(first).containsExactly(10L, 20L);
+        assertThat(second).containsExactly(10L, 20L);
+        verify(classFeatureStore, times(1)).topClassIds(anyDouble(), any(), any(), eq(5));
+    }
+
+    @Test
+    void segment_is_rescored_when_features_change() {
+        // Given
+        given(classFeatureStore.version()).willReturn(1L, 2L);
+        given(classFeatureStore.topClassIds(anyDouble(), eq(Gender.FEMALE), any(), eq(5)))
+                .willReturn(List.of(10L), List.of(30L));
+
+        // When
+        List<Long> before = recommendationSegmentCache.topClassIds(31, Gender.FEMALE, List.of(2L));
+        List<Long> after = recommendationSegmentCache.topClassIds(31, Gender.FEMALE, List.of(2L));
+
+        // Then
+        assertThat(before).containsExactly(10L);
+        assertThat(after).containsExactly(30L);
+    }
+
+    @Test
+    void age_bucket_uses_representative_age() {
+        // Given
+        properties.setAgeBucketYears(5);
+        given(classFeatureStore.version()).willReturn(1L);
+        given(classFeatureStore.topClassIds(eq(22.0), eq(Gender.MALE), any(), eq(5))).willReturn(List.of(10L));
+
+        // When
+        recommendationSegmentCache.topClassIds(20, Gender.MALE, List.of(1L));
+        recommendationSegmentCache.topClassIds(24, Gender.MALE, List.of(1L));
+
+        // Then
+        verify(classFeatureStore, times(1)).topClassIds(anyDouble(), any(), any(), eq(5));
+    }
+}
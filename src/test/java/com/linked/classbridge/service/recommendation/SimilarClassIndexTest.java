@@ -0,0 +1,126 @@
+package com.linked.classbridge.service.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.linked.classbridge.config.SimilarClassProperties;
+import com.linked.classbridge.domain.ClassTag;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.dto.oneDayClass.ClassTagNameProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTextProjection;
+import com.linked.classbridge.repository.ClassTagRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SimilarClassIndexTest {
+
+    @Mock
+    private OneDayClassRepository classRepository;
+
+    @Mock
+    private ClassTagRepository classTagRepository;
+
+    private SimilarClassIndex similarClassIndex;
+
+    @BeforeEach
+    void setUp() {
+        SimilarClassProperties properties = new SimilarClassProperties();
+        properties.setChunkSize(2);
+        similarClassIndex = new SimilarClassIndex(classRepository, classTagRepository, properties);
+    }
+
+    @Test
+    void returns_classes_with_similar_text() {
+        // Given
+        givenClasses();
+
+        // When
+        similarClassIndex.rebuild();
+
+        // Then
+        assertThat(similarClassIndex.similarClassIds(1L, 1)).containsExactly(2L);
+        assertThat(similarClassIndex.similarClassIds(3L, 1)).containsExactly(4L);
+        assertThat(similarClassIndex.similarClassIds(3L, 10)).doesNotContain(3L).hasSize(3);
+        assertThat(similarClassIndex.similarClassIds(99L, 10)).isEmpty();
+    }
+
+    @Test
+    void update_and_remove_are_applied_without_rebuild() {
+        // Given
+        givenClasses();
+        similarClassIndex.rebuild();
+
+        OneDayClass oneDayClass = new OneDayClass();
+        oneDayClass.setClassId(5L);
+        oneDayClass.setClassName("마카롱 베이킹 클래스");
+        oneDayClass.setIntroduction("마카롱 굽기");
+        oneDayClass.setTagList(List.of(ClassTag.builder().name("베이킹").build()));
+
+        // When
+        similarClassIndex.update(oneDayClass);
+        similarClassIndex.remove(4L);
+
+        // Then
+        assertThat(similarClassIndex.similarClassIds(5L, 1)).containsExactly(3L);
+        assertThat(similarClassIndex.similarClassIds(3L, 10)).contains(5L).doesNotContain(4L);
+    }
+
+    @Test
+    void tokenize_splits_hangul_into_syllable_bigrams() {
+        assertThat(ClassTextVectorizer.tokenize("도자기를 K-POP 댄스!"))
+                .containsExactly("도자", "자기", "기를", "pop", "댄스");
+    }
+
+    private void givenClasses() {
+        given(classRepository.findTextsByClassIdGreaterThan(eq(0L), any())).willReturn(List.of(
+                text(1L, "초보자를 위한 도자기 공방", "물레로 컵과 그릇을 만들어요"),
+                text(2L, "주말 도자기 원데이 클래스", "도자기 그릇 만들기")));
+        given(classRepository.findTextsByClassIdGreaterThan(eq(2L), any())).willReturn(List.of(
+                text(3L, "홈베이킹 마카롱", "마카롱과 쿠키를 굽는 베이킹 수업"),
+                text(4L, "Baking basics", "쿠키 베이킹")));
+        given(classRepository.findTextsByClassIdGreaterThan(eq(4L), any())).willReturn(List.of());
+        given(classTagRepository.findTagNamesByClassIdIn(any())).willReturn(List.of(
+                tagName(1L, "도예"), tagName(2L, "도예"), tagName(3L, "베이킹")));
+    }
+
+    private static ClassTextProjection text(Long classId, String className, String introduction) {
+        return new ClassTextProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public String getClassName() {
+                return className;
+            }
+
+            @Override
+            public String getIntroduction() {
+                return introduction;
+            }
+        };
+    }
+
+    private static ClassTagNameProjection tagName(Long classId, String name) {
+        return new ClassTagNameProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
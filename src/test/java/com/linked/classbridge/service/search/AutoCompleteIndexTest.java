@@ -0,0 +1,179 @@
+package com.linked.classbridge.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import com.linked.classbridge.dto.oneDayClass.ClassAutoCompleteProjection;
+import com.linked.classbridge.dto.oneDayClass.ClassTagNameProjection;
+import com.linked.classbridge.repository.ClassTagRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AutoCompleteIndexTest {
+
+    @Mock
+    private OneDayClassRepository classRepository;
+
+    @Mock
+    private ClassTagRepository tagRepository;
+
+    private AutoCompleteIndex autoCompleteIndex;
+
+    @BeforeEach
+    void setUp() {
+        autoCompleteIndex = new AutoCompleteIndex(classRepository, tagRepository);
+    }
+
+    @Test
+    void suggest_orders_by_length_then_lexicographically() {
+        // Given
+        given(classRepository.findAutoCompleteTermsByEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createClass(1L, "한식 요리 클래스", "요리왕"),
+                createClass(2L, "요리 기초", "김강사"),
+                createClass(3L, "요가 클래스", "요정")));
+        given(tagRepository.findTagNamesByClassEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createTag(1L, "요리"),
+                createTag(2L, "요리")));
+
+        // When
+        autoCompleteIndex.rebuild();
+
+        // Then
+        assertThat(autoCompleteIndex.isReady()).isTrue();
+        assertThat(autoCompleteIndex.suggest("요리"))
+                .containsExactly("요리", "요리왕", "요리 기초", "한식 요리 클래스");
+        assertThat(autoCompleteIndex.suggest("요")).hasSize(5)
+                .containsExactly("요리", "요정", "요리왕", "요리 기초", "요가 클래스");
+        assertThat(autoCompleteIndex.suggest("클래스")).containsExactly("요가 클래스", "한식 요리 클래스");
+        assertThat(autoCompleteIndex.suggest("없는")).isEmpty();
+    }
+
+    @Test
+    void suggest_matches_chosung_input() {
+        // Given
+        given(classRepository.findAutoCompleteTermsByEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createClass(1L, "한식 요리 클래스", "Chef Kim")));
+        given(tagRepository.findTagNamesByClassEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of());
+
+        // When
+        autoCompleteIndex.rebuild();
+
+        // Then
+        assertThat(autoCompleteIndex.suggest("ㅎㅅ")).containsExactly("한식 요리 클래스");
+        assertThat(autoCompleteIndex.suggest("ㅇㄹ ㅋ")).containsExactly("한식 요리 클래스");
+        assertThat(autoCompleteIndex.suggest("한ㅅ")).containsExactly("한식 요리 클래스");
+        assertThat(autoCompleteIndex.suggest("chef")).containsExactly("Chef Kim");
+    }
+
+    @Test
+    void update_replaces_terms_of_class_and_keeps_shared_terms() {
+        // Given
+        given(classRepository.findAutoCompleteTermsByEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createClass(1L, "도자기 공방", "강사1"),
+                createClass(2L, "도자기 원데이", "강사2")));
+        given(tagRepository.findTagNamesByClassEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createTag(1L, "도예"),
+                createTag(2L, "도예")));
+        autoCompleteIndex.rebuild();
+
+        // When
+        autoCompleteIndex.update(OneDayClassDocument.builder()
+                .classId(1L)
+                .className("가죽 공방")
+                .tutorName("강사1")
+                .tagList(List.of("가죽"))
+                .endDate(LocalDate.now().plusDays(1))
+                .build());
+        autoCompleteIndex.remove(2L);
+
+        // Then
+        assertThat(autoCompleteIndex.suggest("도")).isEmpty();
+        assertThat(autoCompleteIndex.suggest("가")).containsExactly("가죽", "가죽 공방");
+        assertThat(autoCompleteIndex.suggest("강사")).containsExactly("강사1");
+    }
+
+    @Test
+    void update_removes_ended_class() {
+        // Given
+        given(classRepository.findAutoCompleteTermsByEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createClass(1L, "도자기 공방", "강사1")));
+        given(tagRepository.findTagNamesByClassEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of());
+        autoCompleteIndex.rebuild();
+
+        // When
+        autoCompleteIndex.update(OneDayClassDocument.builder()
+                .classId(1L)
+                .className("도자기 공방")
+                .tutorName("강사1")
+                .endDate(LocalDate.now().minusDays(1))
+                .build());
+
+        // Then
+        assertThat(autoCompleteIndex.suggest("도자기")).isEmpty();
+        assertThat(autoCompleteIndex.suggest("강사")).isEmpty();
+    }
+
+    @Test
+    void replaceAll_replaces_terms_of_each_class() {
+        // Given
+        given(classRepository.findAutoCompleteTermsByEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of(
+                createClass(1L, "도자기 공방", "강사1"),
+                createClass(2L, "도자기 원데이", "강사2")));
+        given(tagRepository.findTagNamesByClassEndDateGreaterThanEqual(any(LocalDate.class))).willReturn(List.of());
+        autoCompleteIndex.rebuild();
+
+        // When
+        autoCompleteIndex.replaceAll(Map.of(
+                1L, Set.of("가죽 공방", "강사1"),
+                2L, Set.of()));
+
+        // Then
+        assertThat(autoCompleteIndex.suggest("도")).isEmpty();
+        assertThat(autoCompleteIndex.suggest("가")).containsExactly("가죽 공방");
+        assertThat(autoCompleteIndex.suggest("강사")).containsExactly("강사1");
+    }
+
+    private ClassAutoCompleteProjection createClass(Long classId, String className, String tutorName) {
+        return new ClassAutoCompleteProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public String getClassName() {
+                return className;
+            }
+
+            @Override
+            public String getTutorName() {
+                return tutorName;
+            }
+        };
+    }
+
+    private ClassTagNameProjection createTag(Long classId, String name) {
+        return new ClassTagNameProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.linked.classbridge.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.linked.classbridge.config.SearchMapProperties;
+import com.linked.classbridge.dto.oneDayClass.ClassMapClusterDto;
+import com.linked.classbridge.exception.RestApiException;
+import com.linked.classbridge.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.aggregations.Aggregate;
+import org.opensearch.client.opensearch._types.aggregations.GeoHashGridBucket;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.geometry.utils.Geohash;
+
+@ExtendWith(MockitoExtension.class)
+class ClassMapClusterServiceTest {
+
+    // 서울 시청 부근 (줌 13 → 길이 6 셀, 길이 4 타일)
+    private static final double SW_LAT = 37.55;
+    private static final double SW_LNG = 126.96;
+    private static final double NE_LAT = 37.58;
+    private static final double NE_LNG = 127.00;
+    private static final int ZOOM = 13;
+
+    @Mock
+    private OpenSearchClient openSearchClient;
+
+    private ClassMapClusterService classMapClusterService;
+
+    @BeforeEach
+    void setUp() {
+        classMapClusterService = new ClassMapClusterService(openSearchClient, new SearchMapProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getClusters_groups_by_geohash_and_caches_tiles() throws Exception {
+        // Given
+        String inside = Geohash.stringEncode(126.978, 37.566, 6);
+        String outside = Geohash.stringEncode(127.05, 37.566, 6);
+        given(openSearchClient.search(any(SearchRequest.class), eq(Void.class)))
+                .willReturn(response(bucket(inside, 3, 37.566, 126.978), bucket(outside, 2, 37.566, 127.05)));
+
+        // When
+        ClassMapClusterDto first = classMapClusterService.getClusters(SW_LAT, SW_LNG, NE_LAT, NE_LNG, ZOOM, null, null);
+        ClassMapClusterDto second = classMapClusterService.getClusters(SW_LAT, SW_LNG, NE_LAT, NE_LNG, ZOOM, null, null);
+
+        // Then
+        assertEquals(6, first.getPrecision());
+        assertThat(first.getClusters()).extracting(ClassMapClusterDto.Cluster::getGeohash).containsExactly(inside);
+        assertEquals(3, first.getTotalCount());
+        assertThat(second.getClusters()).hasSize(1);
+        verify(openSearchClient, times(1)).search(any(SearchRequest.class), eq(Void.class));
+    }
+
+    @Test
+    void getClusters_invalid_bounds() {
+        // When
+        RestApiException exception = assertThrows(RestApiException.class,
+                () -> classMapClusterService.getClusters(NE_LAT, SW_LNG, SW_LAT, NE_LNG, ZOOM, null, null));
+
+        // Then
+        assertEquals(ErrorCode.INVALID_MAP_BOUNDS, exception.getErrorCode());
+        verifyNoInteractions(openSearchClient);
+    }
+
+    @Test
+    void coveringTiles_cover_viewport() {
+        // When
+        List<String> tiles = ClassMapTiles.coveringTiles(SW_LAT, SW_LNG, NE_LAT, NE_LNG, 4);
+
+        // Then
+        assertThat(tiles).contains(Geohash.stringEncode(SW_LNG, SW_LAT, 4), Geohash.stringEncode(NE_LNG, NE_LAT, 4));
+        assertThat(tiles).doesNotHaveDuplicates();
+    }
+
+    private static GeoHashGridBucket bucket(String geohash, long count, double lat, double lng) {
+        return GeoHashGridBucket.of(b -> b
+                .key(geohash)
+                .docCount(count)
+                .aggregations("centroid", Aggregate.of(a -> a.geoCentroid(c -> c
+                        .count(count)
+                        .location(l -> l.latlon(ll -> ll.lat(lat).lon(lng)))))));
+    }
+
+    private static SearchResponse<Void> response(GeoHashGridBucket... buckets) {
+        return SearchResponse.searchResponseOf(r -> r
+                .took(1)
+                .timedOut(false)
+                .shards(s -> s.total(1).successful(1).failed(0))
+                .hits(h -> h.hits(List.of()))
+                .aggregations("cells", Aggregate.of(a -> a.geohashGrid(g -> g.buckets(b -> b.array(List.of(buckets)))))));
+    }
+}
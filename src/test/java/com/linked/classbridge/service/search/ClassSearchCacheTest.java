@@ -0,0 +1,105 @@
+package com.linked.classbridge.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linked.classbridge.config.SearchCacheProperties;
+import com.linked.classbridge.dto.oneDayClass.ClassSearchDto;
+import com.linked.classbridge.type.CategoryType;
+import com.linked.classbridge.type.OrderType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ClassSearchCacheTest {
+
+    private ClassSearchCache classSearchCache;
+
+    @BeforeEach
+    void setUp() {
+        classSearchCache = new ClassSearchCache(new SearchCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void createKey_normalizes_search_parameters() {
+        // When
+        ClassSearchKey key1 = classSearchCache.createKey(" 요리 ", CategoryType.COOKING, 37.56651, 126.97801, null, null, 0);
+        ClassSearchKey key2 = classSearchCache.createKey("요리", CategoryType.COOKING, 37.56688, 126.97849, null, OrderType.WISH, 1);
+
+        // Then
+        assertThat(key1).isEqualTo(key2);
+        assertThat(key1.lat()).isEqualTo(37.567);
+        assertThat(key1.page()).isEqualTo(1);
+    }
+
+    @Test
+    void get_returns_cached_result_for_same_key() {
+        // Given
+        ClassSearchKey key = classSearchCache.createKey("요리", null, 0.0, 0.0, null, OrderType.WISH, 1);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        classSearchCache.get(key, () -> load(loadCount));
+        ClassSearchResult result = classSearchCache.get(key, () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(result.totalHits()).isEqualTo(1);
+        assertThat(classSearchCache.stats().hitCount()).isEqualTo(1);
+        assertThat(classSearchCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void copyDocuments_does_not_share_wish_flag() {
+        // Given
+        ClassSearchKey key = classSearchCache.createKey("요리", null, 0.0, 0.0, null, OrderType.WISH, 1);
+        ClassSearchResult result = classSearchCache.get(key, () -> load(new AtomicInteger()));
+
+        // When
+        result.copyDocuments().get(0).setWish(true);
+
+        // Then
+        assertThat(classSearchCache.get(key, () -> null).copyDocuments().get(0).isWish()).isFalse();
+    }
+
+    @Test
+    void evictAll_evicts_all_entries() {
+        // Given
+        ClassSearchKey key = classSearchCache.createKey("요리", null, 0.0, 0.0, null, OrderType.WISH, 1);
+        AtomicInteger loadCount = new AtomicInteger();
+        classSearchCache.get(key, () -> load(loadCount));
+
+        // When
+        classSearchCache.evictAll();
+        classSearchCache.get(key, () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_does_not_cache_result_loaded_before_evictAll() {
+        // Given
+        ClassSearchKey key = classSearchCache.createKey("요리", null, 0.0, 0.0, null, OrderType.WISH, 1);
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When
+        // 검색 도중 색인 반영으로 캐시가 비워짐
+        classSearchCache.get(key, () -> {
+            ClassSearchResult result = load(loadCount);
+            classSearchCache.evictAll();
+            return result;
+        });
+        classSearchCache.get(key, () -> load(loadCount));
+
+        // Then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private ClassSearchResult load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        ClassSearchDto document = ClassSearchDto.builder().classId(1L).className("요리 클래스").build();
+        return new ClassSearchResult(List.of(document), 1, List.of());
+    }
+}
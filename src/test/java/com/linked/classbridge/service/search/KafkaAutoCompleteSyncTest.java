@@ -0,0 +1,84 @@
+package com.linked.classbridge.service.search;
+
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import com.linked.classbridge.config.AutoCompleteSyncKafkaConfig;
+import com.linked.classbridge.config.AutoCompleteSyncProperties;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig
+@EmbeddedKafka(partitions = 1, topics = "autocomplete-sync-test")
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "search.autocomplete.sync.type=kafka",
+        "search.autocomplete.sync.topic=autocomplete-sync-test"
+})
+class KafkaAutoCompleteSyncTest {
+
+    @Configuration
+    @ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @EnableConfigurationProperties
+    @Import({AutoCompleteSyncProperties.class, AutoCompleteSyncKafkaConfig.class, KafkaAutoCompleteSync.class,
+            KafkaAutoCompleteSyncListener.class})
+    static class Config {
+    }
+
+    @MockBean
+    private AutoCompleteIndex autoCompleteIndex;
+
+    @Autowired
+    private KafkaAutoCompleteSync kafkaAutoCompleteSync;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @BeforeEach
+    void waitForAssignment() {
+        kafkaListenerEndpointRegistry.getListenerContainers().forEach(container ->
+                ContainerTestUtils.waitForAssignment(container, embeddedKafkaBroker.getPartitionsPerTopic()));
+    }
+
+    @Test
+    void publish_applies_terms_through_listener() throws InterruptedException {
+        // Given
+        Map<Long, Set<String>> terms = Map.of(1L, Set.of("도자기 공방", "강사1"), 2L, Set.of());
+
+        // When
+        // 리스너는 시작한 뒤의 변경만 받고 배정 직후에는 읽기 시작 위치가 정해지지 않았을 수 있으므로, 반영될 때까지 다시 발행
+        for (int attempt = 0; attempt < 30 && !applied(terms); attempt++) {
+            kafkaAutoCompleteSync.publish(terms);
+            Thread.sleep(1000);
+        }
+
+        // Then
+        verify(autoCompleteIndex, atLeastOnce()).replaceAll(terms);
+    }
+
+    private boolean applied(Map<Long, Set<String>> terms) {
+        return Mockito.mockingDetails(autoCompleteIndex).getInvocations().stream()
+                .anyMatch(invocation -> invocation.getMethod().getName().equals("replaceAll")
+                        && terms.equals(invocation.getArgument(0)));
+    }
+}
@@ -0,0 +1,332 @@
+package com.linked.classbridge.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.linked.classbridge.config.SearchIndexingProperties;
+import com.linked.classbridge.domain.Category;
+import com.linked.classbridge.domain.OneDayClass;
+import com.linked.classbridge.domain.OneDayClassIndexDeadLetter;
+import com.linked.classbridge.domain.OneDayClassIndexEvent;
+import com.linked.classbridge.domain.User;
+import com.linked.classbridge.domain.document.OneDayClassDocument;
+import com.linked.classbridge.repository.ClassImageRepository;
+import com.linked.classbridge.repository.ClassTagRepository;
+import com.linked.classbridge.repository.OneDayClassIndexDeadLetterRepository;
+import com.linked.classbridge.repository.OneDayClassIndexEventRepository;
+import com.linked.classbridge.repository.OneDayClassRepository;
+import com.linked.classbridge.dto.oneDayClass.OneDayClassCounterProjection;
+import com.linked.classbridge.type.CategoryType;
+import com.linked.classbridge.type.IndexEventType;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteRequest.OpType;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.core.rest.RestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+@ExtendWith(MockitoExtension.class)
+class OneDayClassIndexingServiceTest {
+
+    @Mock
+    private OneDayClassIndexEventRepository indexEventRepository;
+
+    @Mock
+    private OneDayClassIndexDeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private OneDayClassRepository classRepository;
+
+    @Mock
+    private ClassTagRepository tagRepository;
+
+    @Mock
+    private ClassImageRepository imageRepository;
+
+    @Mock
+    private ElasticsearchOperations operations;
+
+    @Mock
+    private ElasticsearchConverter converter;
+
+    @Mock
+    private RestHighLevelClient client;
+
+    @Mock
+    private ClassSearchCache classSearchCache;
+
+    @Mock
+    private AutoCompleteSync autoCompleteSync;
+
+    @Mock
+    private OneDayClassIndexManager indexManager;
+
+    private OneDayClassIndexingService indexingService;
+
+    @BeforeEach
+    void setUp() {
+        indexingService = new OneDayClassIndexingService(indexEventRepository, deadLetterRepository, classRepository,
+                operations, client, classSearchCache, autoCompleteSync,
+                new OneDayClassDocumentAssembler(tagRepository, imageRepository), indexManager,
+                new SearchIndexingProperties());
+    }
+
+    @Test
+    void flush_coalesces_events_per_class_into_one_bulk_request() throws IOException {
+        // Given
+        List<OneDayClassIndexEvent> events = List.of(
+                new OneDayClassIndexEvent(1L, 10L, IndexEventType.DOCUMENT, null, 0),
+                new OneDayClassIndexEvent(2L, 10L, IndexEventType.DOCUMENT, null, 0),
+                new OneDayClassIndexEvent(3L, 10L, IndexEventType.DOCUMENT, null, 0),
+                new OneDayClassIndexEvent(4L, 20L, IndexEventType.DOCUMENT, null, 0));
+
+        given(indexEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).willReturn(events);
+        given(operations.getIndexCoordinatesFor(OneDayClassDocument.class)).willReturn(IndexCoordinates.of("onedayclass"));
+        given(operations.getElasticsearchConverter()).willReturn(converter);
+        given(converter.mapObject(any())).willReturn(Document.create());
+        given(tagRepository.findTagNamesByClassIdIn(anyList())).willReturn(List.of());
+        given(imageRepository.findImageUrlsByClassIdInOrderBySequence(anyList())).willReturn(List.of());
+        // 20번 클래스는 삭제되어 조회되지 않음
+        given(classRepository.findAllWithTutorAndCategoryByClassIdIn(anyList())).willReturn(List.of(createClass(10L)));
+        given(client.bulk(any(BulkRequest.class), eq(RequestOptions.DEFAULT)))
+                .willReturn(new BulkResponse(new BulkItemResponse[0], 1));
+
+        // When
+        indexingService.flush();
+
+        // Then
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), eq(RequestOptions.DEFAULT));
+        BulkRequest bulkRequest = bulkCaptor.getValue();
+
+        assertThat(bulkRequest.numberOfActions()).isEqualTo(2);
+        assertThat(bulkRequest.requests().get(0).opType()).isEqualTo(OpType.INDEX);
+        assertThat(bulkRequest.requests().get(0).id()).isEqualTo("10");
+        assertThat(bulkRequest.requests().get(1).opType()).isEqualTo(OpType.DELETE);
+        assertThat(bulkRequest.requests().get(1).id()).isEqualTo("20");
+
+        verify(indexEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        verify(classSearchCache).evictAll();
+        verify(autoCompleteSync).publish(Map.of(10L, Set.of("클래스", "강사"), 20L, Set.of()));
+    }
+
+    @Test
+    void flush_keeps_events_when_bulk_request_fails() throws IOException {
+        // Given
+        given(indexEventRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(new OneDayClassIndexEvent(1L, 10L, IndexEventType.DOCUMENT, null, 0)));
+        given(operations.getIndexCoordinatesFor(OneDayClassDocument.class)).willReturn(IndexCoordinates.of("onedayclass"));
+        given(client.bulk(any(BulkRequest.class), eq(RequestOptions.DEFAULT))).willThrow(new IOException("timeout"));
+
+        // When
+        indexingService.flush();
+
+        // Then
+        verify(indexEventRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(classSearchCache, never()).evictAll();
+    }
+
+    @Test
+    void flush_sends_partial_updates_for_counter_only_events() throws IOException {
+        // Given
+        List<OneDayClassIndexEvent> events = List.of(
+                new OneDayClassIndexEvent(1L, 10L, IndexEventType.COUNTERS, null, 0),
+                new OneDayClassIndexEvent(2L, 10L, IndexEventType.COUNTERS, null, 0),
+                new OneDayClassIndexEvent(3L, 30L, IndexEventType.COUNTERS, null, 0),
+                new OneDayClassIndexEvent(4L, 30L, IndexEventType.DOCUMENT, null, 0));
+
+        given(indexEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).willReturn(events);
+        given(operations.getIndexCoordinatesFor(OneDayClassDocument.class)).willReturn(IndexCoordinates.of("onedayclass"));
+        given(operations.getElasticsearchConverter()).willReturn(converter);
+        given(converter.mapObject(any())).willReturn(Document.create());
+        given(classRepository.findCountersByClassIdIn(anyCollection()))
+                .willReturn(List.of(createCounters(10L, 5, 2, 9.0)));
+        given(tagRepository.findTagNamesByClassIdIn(anyList())).willReturn(List.of());
+        given(imageRepository.findImageUrlsByClassIdInOrderBySequence(anyList())).willReturn(List.of());
+        given(classRepository.findAllWithTutorAndCategoryByClassIdIn(anyList())).willReturn(List.of(createClass(30L)));
+        given(client.bulk(any(BulkRequest.class), eq(RequestOptions.DEFAULT)))
+                .willReturn(new BulkResponse(new BulkItemResponse[0], 1));
+
+        // When
+        indexingService.flush();
+
+        // Then
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), eq(RequestOptions.DEFAULT));
+        BulkRequest bulkRequest = bulkCaptor.getValue();
+
+        assertThat(bulkRequest.numberOfActions()).isEqualTo(2);
+        UpdateRequest updateRequest = (UpdateRequest) bulkRequest.requests().get(0);
+        assertThat(updateRequest.id()).isEqualTo("10");
+        assertThat(updateRequest.doc().sourceAsMap())
+                .containsEntry("totalWish", 5)
+                .containsEntry("totalReviews", 2)
+                .containsEntry("starRate", 4.5);
+        assertThat(bulkRequest.requests().get(1).opType()).isEqualTo(OpType.INDEX);
+        assertThat(bulkRequest.requests().get(1).id()).isEqualTo("30");
+
+        verify(classRepository).findCountersByClassIdIn(Set.of(10L));
+        verify(indexEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+    }
+
+    @Test
+    void flush_writes_full_documents_to_reindex_target_while_reindexing() throws IOException {
+        // Given
+        given(indexEventRepository.findAllByOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(new OneDayClassIndexEvent(1L, 10L, IndexEventType.COUNTERS, null, 0)));
+        given(indexManager.findReindexTarget()).willReturn(Optional.of("onedayclass_v20261017000000"));
+        given(operations.getIndexCoordinatesFor(OneDayClassDocument.class)).willReturn(IndexCoordinates.of("onedayclass"));
+        given(operations.getElasticsearchConverter()).willReturn(converter);
+        given(converter.mapObject(any())).willReturn(Document.create());
+        given(tagRepository.findTagNamesByClassIdIn(anyList())).willReturn(List.of());
+        given(imageRepository.findImageUrlsByClassIdInOrderBySequence(anyList())).willReturn(List.of());
+        given(classRepository.findAllWithTutorAndCategoryByClassIdIn(anyList())).willReturn(List.of(createClass(10L)));
+        given(client.bulk(any(BulkRequest.class), eq(RequestOptions.DEFAULT)))
+                .willReturn(new BulkResponse(new BulkItemResponse[0], 1));
+
+        // When
+        indexingService.flush();
+
+        // Then
+        ArgumentCaptor<BulkRequest> bulkCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkCaptor.capture(), eq(RequestOptions.DEFAULT));
+        BulkRequest bulkRequest = bulkCaptor.getValue();
+
+        assertThat(bulkRequest.numberOfActions()).isEqualTo(2);
+        assertThat(bulkRequest.requests().get(0).opType()).isEqualTo(OpType.INDEX);
+        assertThat(bulkRequest.requests().get(0).index()).isEqualTo("onedayclass");
+        assertThat(bulkRequest.requests().get(1).opType()).isEqualTo(OpType.INDEX);
+        assertThat(bulkRequest.requests().get(1).index()).isEqualTo("onedayclass_v20261017000000");
+        verify(classRepository, never()).findCountersByClassIdIn(anyCollection());
+    }
+
+    @Test
+    void flush_keeps_one_event_with_attempts_for_failed_class() throws IOException {
+        // Given
+        List<OneDayClassIndexEvent> events = List.of(
+                new OneDayClassIndexEvent(1L, 10L, IndexEventType.COUNTERS, null, 1),
+                new OneDayClassIndexEvent(2L, 10L, IndexEventType.DOCUMENT, null, 0),
+                new OneDayClassIndexEvent(3L, 10L, IndexEventType.COUNTERS, null, 0));
+
+        given(indexEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).willReturn(events);
+        givenDocumentOf(10L);
+        given(client.bulk(any(BulkRequest.class), eq(RequestOptions.DEFAULT)))
+                .willReturn(new BulkResponse(new BulkItemResponse[]{failedItem(10L)}, 1));
+
+        // When
+        indexingService.flush();
+
+        // Then
+        // 전체 재색인 이벤트를 남기고 실패 횟수는 가장 많이 실패한 이벤트 기준으로 늘림
+        verify(indexEventRepository).updateAttempts(2L, 2);
+        verify(indexEventRepository).deleteAllByIdInBatch(List.of(1L, 3L));
+        verify(deadLetterRepository, never()).save(any());
+    }
+
+    @Test
+    void flush_moves_events_to_dead_letter_after_max_attempts() throws IOException {
+        // Given
+        List<OneDayClassIndexEvent> events = List.of(
+                new OneDayClassIndexEvent(1L, 10L, IndexEventType.DOCUMENT, null, 4),
+                new OneDayClassIndexEvent(2L, 10L, IndexEventType.COUNTERS, null, 0),
+                new OneDayClassIndexEvent(3L, 20L, IndexEventType.DOCUMENT, null, 0));
+
+        given(indexEventRepository.findAllByOrderByIdAsc(any(Pageable.class))).willReturn(events);
+        givenDocumentOf(10L);
+        given(client.bulk(any(BulkRequest.class), eq(RequestOptions.DEFAULT)))
+                .willReturn(new BulkResponse(new BulkItemResponse[]{failedItem(10L)}, 1));
+
+        // When
+        indexingService.flush();
+
+        // Then
+        ArgumentCaptor<OneDayClassIndexDeadLetter> deadLetterCaptor =
+                ArgumentCaptor.forClass(OneDayClassIndexDeadLetter.class);
+        verify(deadLetterRepository).save(deadLetterCaptor.capture());
+        assertThat(deadLetterCaptor.getValue().getClassId()).isEqualTo(10L);
+        assertThat(deadLetterCaptor.getValue().getType()).isEqualTo(IndexEventType.DOCUMENT);
+        assertThat(deadLetterCaptor.getValue().getAttempts()).isEqualTo(5);
+        verify(indexEventRepository, never()).updateAttempts(any(), anyInt());
+        verify(indexEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+    }
+
+    private void givenDocumentOf(Long classId) {
+        given(operations.getIndexCoordinatesFor(OneDayClassDocument.class)).willReturn(IndexCoordinates.of("onedayclass"));
+        given(operations.getElasticsearchConverter()).willReturn(converter);
+        given(converter.mapObject(any())).willReturn(Document.create());
+        given(tagRepository.findTagNamesByClassIdIn(anyList())).willReturn(List.of());
+        given(imageRepository.findImageUrlsByClassIdInOrderBySequence(anyList())).willReturn(List.of());
+        given(classRepository.findAllWithTutorAndCategoryByClassIdIn(anyList()))
+                .willReturn(List.of(createClass(classId)));
+    }
+
+    private BulkItemResponse failedItem(Long classId) {
+        return new BulkItemResponse(0, OpType.INDEX, new BulkItemResponse.Failure("onedayclass",
+                String.valueOf(classId), new IllegalArgumentException("mapper_parsing_exception"),
+                RestStatus.BAD_REQUEST));
+    }
+
+    private OneDayClassCounterProjection createCounters(Long classId, int totalWish, int totalReviews,
+                                                        double totalStarRate) {
+        return new OneDayClassCounterProjection() {
+            @Override
+            public Long getClassId() {
+                return classId;
+            }
+
+            @Override
+            public Integer getTotalWish() {
+                return totalWish;
+            }
+
+            @Override
+            public Integer getTotalReviews() {
+                return totalReviews;
+            }
+
+            @Override
+            public Double getTotalStarRate() {
+                return totalStarRate;
+            }
+        };
+    }
+
+    private OneDayClass createClass(Long classId) {
+        return OneDayClass.builder()
+                .classId(classId)
+                .className("클래스")
+                .tutor(User.builder().userId(1L).nickname("강사").build())
+                .category(Category.builder().name(CategoryType.COOKING).build())
+                .totalStarRate(0.0)
+                .totalReviews(0)
+                .totalWish(3)
+                .endDate(LocalDate.now().plusDays(1))
+                .build();
+    }
+}
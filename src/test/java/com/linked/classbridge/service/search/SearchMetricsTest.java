@@ -0,0 +1,74 @@
+package com.linked.classbridge.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linked.classbridge.config.SearchMetricsProperties;
+import com.linked.classbridge.type.CategoryType;
+import com.linked.classbridge.type.OrderType;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SearchMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SearchMetrics searchMetrics;
+
+    @BeforeEach
+    void setUp() {
+        SearchMetricsProperties properties = new SearchMetricsProperties();
+        properties.setSlowQueryThreshold(Duration.ofMillis(100));
+        properties.setSlowQuerySamples(2);
+        searchMetrics = new SearchMetrics(meterRegistry, properties);
+    }
+
+    @Test
+    void recordClassSearch_tags_by_order_and_filters() {
+        // Given
+        ClassSearchKey key = ClassSearchKey.of("도자기", CategoryType.HANDMADE, 0.0, 0.0, null, OrderType.STAR, 12, 3);
+
+        // When
+        searchMetrics.recordClassSearch(searchMetrics.start(), key, false);
+
+        // Then
+        Timer timer = meterRegistry.find(SearchMetrics.CLASS_SEARCH_TIMER)
+                .tags("order", "STAR", "query", "true", "category", "true", "geo", "false", "page", "11+")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordOpenSearch_separates_took_from_round_trip() {
+        // When
+        searchMetrics.recordOpenSearch("search", OrderType.WISH, TimeUnit.MILLISECONDS.toNanos(30), 12, 7,
+                () -> "{}");
+
+        // Then
+        Timer roundTrip = meterRegistry.find(SearchMetrics.ROUND_TRIP_TIMER).tags("order", "WISH").timer();
+        Timer took = meterRegistry.find(SearchMetrics.TOOK_TIMER).tags("order", "WISH").timer();
+        assertThat(roundTrip.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30);
+        assertThat(took.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12);
+        assertThat(meterRegistry.find(SearchMetrics.HITS_SUMMARY).summary().totalAmount()).isEqualTo(7);
+        assertThat(searchMetrics.slowQueries()).isEmpty();
+    }
+
+    @Test
+    void recordOpenSearch_keeps_latest_slow_queries() {
+        // When
+        for (int i = 1; i <= 3; i++) {
+            String query = "{\"query\":" + i + "}";
+            searchMetrics.recordOpenSearch("search", OrderType.DATE, TimeUnit.MILLISECONDS.toNanos(150), 140, i,
+                    () -> query);
+        }
+
+        // Then
+        assertThat(searchMetrics.slowQueries())
+                .extracting(SearchMetrics.SlowQuery::query)
+                .containsExactly("{\"query\":3}", "{\"query\":2}");
+    }
+}
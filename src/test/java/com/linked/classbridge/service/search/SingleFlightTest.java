@@ -0,0 +1,122 @@
+package com.linked.classbridge.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>("search", meterRegistry);
+
+    @Test
+    void concurrent_identical_requests_share_one_execution() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "result";
+        })));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 1; i < callers; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                executions.incrementAndGet();
+                return "other";
+            })));
+        }
+        // 나머지 요청이 모두 실행 중인 쿼리에 합류할 때까지 대기
+        while (meterRegistry.counter("search.requests.coalesced", "operation", "search").count() < callers - 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("search.requests.executed", "operation", "search").count()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    void sequential_requests_execute_again() {
+        // When
+        singleFlight.execute("key", () -> "first");
+        String second = singleFlight.execute("key", () -> "second");
+
+        // Then
+        assertThat(second).isEqualTo("second");
+        assertThat(meterRegistry.counter("search.requests.executed", "operation", "search").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("search.requests.coalesced", "operation", "search").count()).isZero();
+    }
+
+    @Test
+    void failure_is_propagated_and_key_released() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("timeout");
+        }));
+        assertThat(singleFlight.execute("key", () -> "retry")).isEqualTo("retry");
+    }
+
+    @Test
+    void error_is_propagated_to_waiting_requests() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<String> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw new StackOverflowError();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("key", () -> "other"));
+        while (meterRegistry.counter("search.requests.coalesced", "operation", "search").count() < 1) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // Then
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class,
+                () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class,
+                () -> follower.get(5, TimeUnit.SECONDS));
+        assertThat(leaderFailure.getCause()).isInstanceOf(StackOverflowError.class);
+        assertThat(followerFailure.getCause()).isInstanceOf(StackOverflowError.class);
+        assertThat(singleFlight.execute("key", () -> "retry")).isEqualTo("retry");
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
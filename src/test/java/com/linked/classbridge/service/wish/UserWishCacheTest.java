@@ -0,0 +1,100 @@
+package com.linked.classbridge.service.wish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.linked.classbridge.config.WishCacheProperties;
+import com.linked.classbridge.repository.WishRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class UserWishCacheTest {
+
+    @Mock
+    private WishRepository wishRepository;
+
+    private UserWishCache userWishCache;
+
+    @BeforeEach
+    void setUp() {
+        userWishCache = new UserWishCache(wishRepository, new WishCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_loads_once_per_user() {
+        // Given
+        given(wishRepository.findClassIdsByUserId(1L)).willReturn(List.of(7L, 3L, 5L));
+
+        // When
+        WishClassIds first = userWishCache.get(1L);
+        WishClassIds second = userWishCache.get(1L);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.size()).isEqualTo(3);
+        assertThat(first.contains(3L)).isTrue();
+        assertThat(first.contains(4L)).isFalse();
+        verify(wishRepository, times(1)).findClassIdsByUserId(1L);
+    }
+
+    @Test
+    void get_anonymous_user_returns_empty() {
+        // When
+        WishClassIds wishClassIds = userWishCache.get(null);
+
+        // Then
+        assertThat(wishClassIds).isSameAs(WishClassIds.EMPTY);
+        verifyNoInteractions(wishRepository);
+    }
+
+    @Test
+    void added_and_removed_update_cached_set() {
+        // Given
+        given(wishRepository.findClassIdsByUserId(1L)).willReturn(List.of(3L));
+        userWishCache.get(1L);
+
+        // When
+        userWishCache.added(1L, 1L);
+        userWishCache.added(1L, 9L);
+        userWishCache.removed(1L, 3L);
+
+        // Then
+        WishClassIds wishClassIds = userWishCache.get(1L);
+        assertThat(wishClassIds.size()).isEqualTo(2);
+        assertThat(wishClassIds.contains(1L)).isTrue();
+        assertThat(wishClassIds.contains(9L)).isTrue();
+        assertThat(wishClassIds.contains(3L)).isFalse();
+        verify(wishRepository, times(1)).findClassIdsByUserId(1L);
+    }
+
+    @Test
+    void added_in_transaction_applies_after_commit() {
+        // Given
+        given(wishRepository.findClassIdsByUserId(1L)).willReturn(List.of());
+        userWishCache.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            userWishCache.added(1L, 5L);
+
+            // Then
+            assertThat(userWishCache.get(1L).contains(5L)).isFalse();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(userWishCache.get(1L).contains(5L)).isTrue();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.linked.classbridge.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    void search_recall_is_close_to_brute_force() {
+        // Given
+        Random random = new Random(7);
+        int count = 2000;
+        float[][] vectors = new float[count + 1][];
+        HnswIndex index = new HnswIndex(DIMENSION, 16, 100, 42L);
+        for (int key = 1; key <= count; key++) {
+            vectors[key] = randomUnitVector(random);
+            index.add(key, vectors[key]);
+        }
+
+        // When
+        int k = 10;
+        int hits = 0;
+        int queries = 100;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomUnitVector(random);
+            Set<Long> expected = new HashSet<>(bruteForce(vectors, query, k));
+            hits += (int) index.search(query, k, 64).stream().filter(expected::contains).count();
+        }
+
+        // Then
+        assertThat((double) hits / (queries * k)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void replaced_and_removed_keys_are_not_returned() {
+        // Given
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(DIMENSION, 4, 20, 42L);
+        for (long key = 1; key <= 50; key++) {
+            index.add(key, randomUnitVector(random));
+        }
+        float[] replacement = randomUnitVector(random);
+
+        // When
+        index.add(1L, replacement);
+        index.remove(2L);
+
+        // Then
+        assertThat(index.search(replacement, 1, 20)).containsExactly(1L);
+        assertThat(index.search(replacement, 50, 50)).doesNotContain(2L).hasSize(49);
+        assertThat(index.vector(1L)).isSameAs(replacement);
+        assertThat(index.vector(2L)).isNull();
+        assertThat(index.size()).isEqualTo(49);
+        assertThat(index.deletedCount()).isEqualTo(2);
+    }
+
+    private static List<Long> bruteForce(float[][] vectors, float[] query, int k) {
+        return LongStream.range(1, vectors.length).boxed()
+                .sorted(Comparator.comparingDouble(key -> -HnswIndex.dot(query, vectors[key.intValue()])))
+                .limit(k)
+                .toList();
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+}